@@ -0,0 +1,271 @@
+package com.minecolonies.api.colony.buildings;
+
+import com.minecolonies.api.util.Tuple;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.MutableBoundingBox;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.function.Predicate;
+
+/**
+ * Immutable, chunk bucketed spatial index over the buildings of a colony.
+ * <p>
+ * Answers which building contains a position and which buildings are within a range, looking only at the chunk columns involved. A snapshot is never modified after
+ * creation, so it can be read from pathfinding threads while the colony changes.
+ */
+public final class BuildingBoundsIndex
+{
+    /**
+     * Index without any buildings.
+     */
+    public static final BuildingBoundsIndex EMPTY = new BuildingBoundsIndex(Collections.emptyList());
+
+    /**
+     * Empty bucket, returned for chunks without buildings.
+     */
+    private static final BoundsEntry[] NO_BOUNDS = new BoundsEntry[0];
+
+    /**
+     * Empty bucket, returned for chunks without buildings.
+     */
+    private static final IBuilding[] NO_BUILDINGS = new IBuilding[0];
+
+    /**
+     * The bounds overlapping each chunk column, by chunk key.
+     */
+    private final Long2ObjectMap<BoundsEntry[]> boundsByChunk = new Long2ObjectOpenHashMap<>();
+
+    /**
+     * The buildings positioned in each chunk column, by chunk key.
+     */
+    private final Long2ObjectMap<IBuilding[]> buildingsByChunk = new Long2ObjectOpenHashMap<>();
+
+    /**
+     * All guard buildings of the colony.
+     */
+    private final List<IBuilding> guardBuildings;
+
+    /**
+     * Create a new snapshot of the given buildings.
+     *
+     * @param buildings the buildings to index.
+     */
+    public BuildingBoundsIndex(@NotNull final Collection<IBuilding> buildings)
+    {
+        final Long2ObjectMap<List<BoundsEntry>> tempBounds = new Long2ObjectOpenHashMap<>();
+        final Long2ObjectMap<List<IBuilding>> tempBuildings = new Long2ObjectOpenHashMap<>();
+        final List<IBuilding> tempGuards = new ArrayList<>();
+
+        for (final IBuilding building : buildings)
+        {
+            final BoundsEntry entry = new BoundsEntry(building, building.getCorners());
+            for (int chunkX = entry.minX >> 4; chunkX <= entry.maxX >> 4; chunkX++)
+            {
+                for (int chunkZ = entry.minZ >> 4; chunkZ <= entry.maxZ >> 4; chunkZ++)
+                {
+                    tempBounds.computeIfAbsent(ChunkPos.asLong(chunkX, chunkZ), key -> new ArrayList<>()).add(entry);
+                }
+            }
+
+            final BlockPos pos = building.getPosition();
+            tempBuildings.computeIfAbsent(ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4), key -> new ArrayList<>()).add(building);
+
+            if (building instanceof IGuardBuilding)
+            {
+                tempGuards.add(building);
+            }
+        }
+
+        for (final Long2ObjectMap.Entry<List<BoundsEntry>> bucket : tempBounds.long2ObjectEntrySet())
+        {
+            boundsByChunk.put(bucket.getLongKey(), bucket.getValue().toArray(NO_BOUNDS));
+        }
+
+        for (final Long2ObjectMap.Entry<List<IBuilding>> bucket : tempBuildings.long2ObjectEntrySet())
+        {
+            buildingsByChunk.put(bucket.getLongKey(), bucket.getValue().toArray(NO_BUILDINGS));
+        }
+
+        guardBuildings = Collections.unmodifiableList(tempGuards);
+    }
+
+    /**
+     * Get the first building whose bounds contain the given position.
+     *
+     * @param pos the position to check.
+     * @return the building or null if the position is not within any building.
+     */
+    @Nullable
+    public IBuilding getBuildingAt(@NotNull final BlockPos pos)
+    {
+        return getBuildingAt(pos, null);
+    }
+
+    /**
+     * Get the first building matching the filter whose bounds contain the given position.
+     *
+     * @param pos    the position to check.
+     * @param filter the filter the building has to match, may be null.
+     * @return the building or null if there is no matching building at the position.
+     */
+    @Nullable
+    public IBuilding getBuildingAt(@NotNull final BlockPos pos, @Nullable final Predicate<IBuilding> filter)
+    {
+        final BoundsEntry[] bucket = boundsByChunk.getOrDefault(ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4), NO_BOUNDS);
+        for (final BoundsEntry entry : bucket)
+        {
+            if (entry.contains(pos) && (filter == null || filter.test(entry.building)))
+            {
+                return entry.building;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Check if the given position is within the bounds of any building.
+     *
+     * @param pos the position to check.
+     * @return true if so.
+     */
+    public boolean isInBuilding(@NotNull final BlockPos pos)
+    {
+        return getBuildingAt(pos) != null;
+    }
+
+    /**
+     * Check if any building positioned within the given horizontal range matches the predicate.
+     *
+     * @param center    the center of the range.
+     * @param range     the max x and z distance of the building position to the center.
+     * @param predicate the predicate to test.
+     * @return true if any building in range matches.
+     */
+    public boolean anyBuildingInRange(@NotNull final BlockPos center, final int range, @NotNull final Predicate<IBuilding> predicate)
+    {
+        final int minX = center.getX() - range;
+        final int maxX = center.getX() + range;
+        final int minZ = center.getZ() - range;
+        final int maxZ = center.getZ() + range;
+
+        for (int chunkX = minX >> 4; chunkX <= maxX >> 4; chunkX++)
+        {
+            for (int chunkZ = minZ >> 4; chunkZ <= maxZ >> 4; chunkZ++)
+            {
+                for (final IBuilding building : buildingsByChunk.getOrDefault(ChunkPos.asLong(chunkX, chunkZ), NO_BUILDINGS))
+                {
+                    final BlockPos pos = building.getPosition();
+                    if (pos.getX() >= minX && pos.getX() <= maxX && pos.getZ() >= minZ && pos.getZ() <= maxZ && predicate.test(building))
+                    {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Get all buildings positioned within the given horizontal radius.
+     *
+     * @param center the center of the radius.
+     * @param radius the radius.
+     * @return a new list of the buildings.
+     */
+    @NotNull
+    public List<IBuilding> getBuildingsInRadius(@NotNull final BlockPos center, final int radius)
+    {
+        final long radiusSq = (long) radius * radius;
+        final List<IBuilding> result = new ArrayList<>();
+        for (int chunkX = (center.getX() - radius) >> 4; chunkX <= (center.getX() + radius) >> 4; chunkX++)
+        {
+            for (int chunkZ = (center.getZ() - radius) >> 4; chunkZ <= (center.getZ() + radius) >> 4; chunkZ++)
+            {
+                for (final IBuilding building : buildingsByChunk.getOrDefault(ChunkPos.asLong(chunkX, chunkZ), NO_BUILDINGS))
+                {
+                    final long xDiff = building.getPosition().getX() - center.getX();
+                    final long zDiff = building.getPosition().getZ() - center.getZ();
+                    if (xDiff * xDiff + zDiff * zDiff <= radiusSq)
+                    {
+                        result.add(building);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Get all buildings positioned within the given box.
+     *
+     * @param box the box to check.
+     * @return a new list of the buildings.
+     */
+    @NotNull
+    public List<IBuilding> getBuildingsWithin(@NotNull final MutableBoundingBox box)
+    {
+        final List<IBuilding> result = new ArrayList<>();
+        for (int chunkX = box.x0 >> 4; chunkX <= box.x1 >> 4; chunkX++)
+        {
+            for (int chunkZ = box.z0 >> 4; chunkZ <= box.z1 >> 4; chunkZ++)
+            {
+                for (final IBuilding building : buildingsByChunk.getOrDefault(ChunkPos.asLong(chunkX, chunkZ), NO_BUILDINGS))
+                {
+                    if (box.isInside(building.getPosition()))
+                    {
+                        result.add(building);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Get all guard buildings of the colony.
+     *
+     * @return an unmodifiable list of the guard buildings.
+     */
+    @NotNull
+    public List<IBuilding> getGuardBuildings()
+    {
+        return guardBuildings;
+    }
+
+    /**
+     * The bounds of a single building, with the same one block margin as {@link IBuilding#isInBuilding(BlockPos)}.
+     */
+    private static final class BoundsEntry
+    {
+        private final IBuilding building;
+        private final int       minX;
+        private final int       minY;
+        private final int       minZ;
+        private final int       maxX;
+        private final int       maxY;
+        private final int       maxZ;
+
+        private BoundsEntry(final IBuilding building, final Tuple<BlockPos, BlockPos> corners)
+        {
+            this.building = building;
+            this.minX = corners.getA().getX() - 1;
+            this.minY = corners.getA().getY() - 1;
+            this.minZ = corners.getA().getZ() - 1;
+            this.maxX = corners.getB().getX() + 1;
+            this.maxY = corners.getB().getY() + 1;
+            this.maxZ = corners.getB().getZ() + 1;
+        }
+
+        private boolean contains(final BlockPos pos)
+        {
+            return pos.getX() >= minX && pos.getX() <= maxX
+                     && pos.getY() >= minY && pos.getY() <= maxY
+                     && pos.getZ() >= minZ && pos.getZ() <= maxZ;
+        }
+    }
+}
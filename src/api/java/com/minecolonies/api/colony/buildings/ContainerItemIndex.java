@@ -0,0 +1,234 @@
+package com.minecolonies.api.colony.buildings;
+
+import com.minecolonies.api.crafting.ItemStorage;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.util.math.BlockPos;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+import java.util.function.Predicate;
+
+/**
+ * Incremental index over the content of the racks of a building.
+ * <p>
+ * Racks report their content whenever it changes, so counting and locating items is a lookup in the bucket of the item instead of a scan over every container.
+ */
+public class ContainerItemIndex
+{
+    /**
+     * The last reported content of every indexed container.
+     */
+    private final Map<BlockPos, Map<ItemStorage, Integer>> contents = new HashMap<>();
+
+    /**
+     * The amount of every stored item per container, bucketed by item.
+     */
+    private final Map<Item, Map<ItemStorage, Object2IntMap<BlockPos>>> items = new HashMap<>();
+
+    /**
+     * Replace the indexed content of a container.
+     *
+     * @param pos     the position of the container.
+     * @param content the complete new content of it.
+     */
+    public void update(@NotNull final BlockPos pos, @NotNull final Map<ItemStorage, Integer> content)
+    {
+        removeContent(pos);
+
+        final Map<ItemStorage, Integer> copy = new HashMap<>(content);
+        contents.put(pos, copy);
+        for (final Map.Entry<ItemStorage, Integer> entry : copy.entrySet())
+        {
+            items.computeIfAbsent(entry.getKey().getItem(), item -> new HashMap<>())
+              .computeIfAbsent(entry.getKey(), storage -> new Object2IntOpenHashMap<>())
+              .put(pos, (int) entry.getValue());
+        }
+    }
+
+    /**
+     * Remove a container from the index.
+     *
+     * @param pos the position of the container.
+     */
+    public void remove(@NotNull final BlockPos pos)
+    {
+        removeContent(pos);
+    }
+
+    /**
+     * Remove all containers from the index.
+     */
+    public void clear()
+    {
+        for (final BlockPos pos : new ArrayList<>(contents.keySet()))
+        {
+            remove(pos);
+        }
+    }
+
+    /**
+     * Check if the content of a container is indexed.
+     *
+     * @param pos the position of the container.
+     * @return true if so.
+     */
+    public boolean contains(@NotNull final BlockPos pos)
+    {
+        return contents.containsKey(pos);
+    }
+
+    /**
+     * Count the items matching a storage, respecting its damage and nbt settings.
+     *
+     * @param storage the storage to match.
+     * @return the total amount in all indexed containers.
+     */
+    public int getCount(@NotNull final ItemStorage storage)
+    {
+        final Map<ItemStorage, Object2IntMap<BlockPos>> bucket = items.get(storage.getItem());
+        if (bucket == null)
+        {
+            return 0;
+        }
+
+        int count = 0;
+        for (final Map.Entry<ItemStorage, Object2IntMap<BlockPos>> entry : bucket.entrySet())
+        {
+            if (entry.getKey().equals(storage))
+            {
+                count += sum(entry.getValue());
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Count the items matching a predicate. The predicate is tested once per distinct item type, not once per container.
+     *
+     * @param predicate the predicate to test the stacks against.
+     * @return the total amount in all indexed containers.
+     */
+    public int getCount(@NotNull final Predicate<ItemStack> predicate)
+    {
+        int count = 0;
+        for (final Map<ItemStorage, Object2IntMap<BlockPos>> bucket : items.values())
+        {
+            for (final Map.Entry<ItemStorage, Object2IntMap<BlockPos>> entry : bucket.entrySet())
+            {
+                if (predicate.test(entry.getKey().getItemStack()))
+                {
+                    count += sum(entry.getValue());
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Get the containers holding items matching a storage.
+     *
+     * @param storage the storage to match.
+     * @return the positions of the containers.
+     */
+    @NotNull
+    public Set<BlockPos> getLocations(@NotNull final ItemStorage storage)
+    {
+        final Map<ItemStorage, Object2IntMap<BlockPos>> bucket = items.get(storage.getItem());
+        if (bucket == null)
+        {
+            return Collections.emptySet();
+        }
+
+        final Set<BlockPos> locations = new HashSet<>();
+        for (final Map.Entry<ItemStorage, Object2IntMap<BlockPos>> entry : bucket.entrySet())
+        {
+            if (entry.getKey().equals(storage))
+            {
+                locations.addAll(entry.getValue().keySet());
+            }
+        }
+        return locations;
+    }
+
+    /**
+     * Get the containers holding items matching a predicate.
+     *
+     * @param predicate the predicate to test the stacks against.
+     * @return the positions of the containers.
+     */
+    @NotNull
+    public Set<BlockPos> getLocations(@NotNull final Predicate<ItemStack> predicate)
+    {
+        final Set<BlockPos> locations = new HashSet<>();
+        for (final Map<ItemStorage, Object2IntMap<BlockPos>> bucket : items.values())
+        {
+            for (final Map.Entry<ItemStorage, Object2IntMap<BlockPos>> entry : bucket.entrySet())
+            {
+                if (predicate.test(entry.getKey().getItemStack()))
+                {
+                    locations.addAll(entry.getValue().keySet());
+                }
+            }
+        }
+        return locations;
+    }
+
+    /**
+     * Remove the content of a container from the item buckets.
+     *
+     * @param pos the position of the container.
+     * @return true if the container was indexed.
+     */
+    private boolean removeContent(@NotNull final BlockPos pos)
+    {
+        final Map<ItemStorage, Integer> old = contents.remove(pos);
+        if (old == null)
+        {
+            return false;
+        }
+
+        for (final ItemStorage storage : old.keySet())
+        {
+            final Map<ItemStorage, Object2IntMap<BlockPos>> bucket = items.get(storage.getItem());
+            if (bucket == null)
+            {
+                continue;
+            }
+
+            final Object2IntMap<BlockPos> locations = bucket.get(storage);
+            if (locations != null)
+            {
+                locations.removeInt(pos);
+                if (locations.isEmpty())
+                {
+                    bucket.remove(storage);
+                }
+            }
+
+            if (bucket.isEmpty())
+            {
+                items.remove(storage.getItem());
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Sum up the amounts of all containers.
+     *
+     * @param locations the amount per container.
+     * @return the sum.
+     */
+    private static int sum(@NotNull final Object2IntMap<BlockPos> locations)
+    {
+        int count = 0;
+        for (final int amount : locations.values())
+        {
+            count += amount;
+        }
+        return count;
+    }
+}
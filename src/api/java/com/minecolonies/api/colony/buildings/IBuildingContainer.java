@@ -58,6 +58,14 @@ public interface IBuildingContainer extends ISchematicProvider, ICapabilityProvi
      */
     List<BlockPos> getContainers();
 
+    /**
+     * Get the index over the content of the racks of the building.
+     *
+     * @return the item index.
+     */
+    @NotNull
+    ContainerItemIndex getItemIndex();
+
     /**
      * Register a blockState and position. We suppress this warning since this parameter will be used in child classes which override this method.
      *
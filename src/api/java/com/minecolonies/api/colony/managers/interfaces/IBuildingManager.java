@@ -1,6 +1,7 @@
 package com.minecolonies.api.colony.managers.interfaces;
 
 import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.colony.buildings.BuildingBoundsIndex;
 import com.minecolonies.api.colony.buildings.IBuilding;
 import com.minecolonies.api.colony.buildings.IMysticalSite;
 import com.minecolonies.api.colony.buildings.workerbuildings.ITownHall;
@@ -93,6 +94,23 @@ public interface IBuildingManager
     @NotNull
     Map<BlockPos, IBuilding> getBuildings();
 
+    /**
+     * Get the spatial index over the bounds of all buildings in the colony.
+     * The returned snapshot is immutable and may be read from any thread. It is rebuilt on the server thread after the buildings change, other threads
+     * get the last published snapshot until then.
+     *
+     * @return the current index snapshot.
+     */
+    @NotNull
+    BuildingBoundsIndex getBoundsIndex();
+
+    /**
+     * Called when the corners of a building changed, to keep the spatial index up to date.
+     *
+     * @param building the building whose corners changed.
+     */
+    void onBuildingBoundsChanged(@NotNull IBuilding building);
+
     /**
      * Get the townhall from the colony.
      *
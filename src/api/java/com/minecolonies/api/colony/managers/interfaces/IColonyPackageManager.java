@@ -94,6 +94,13 @@ public interface IColonyPackageManager
      */
     void removeCloseSubscriber(@NotNull final ServerPlayerEntity player);
 
+    /**
+     * Send the next request system update to a subscriber as a full snapshot, because it missed a delta.
+     *
+     * @param subscriber the subscriber.
+     */
+    void addRequestSystemResync(@NotNull ServerPlayerEntity subscriber);
+
     /**
      * Returns the global subscribers.
      *
@@ -5,6 +5,7 @@ import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.BiMap;
 import com.google.common.collect.HashBiMap;
 import com.google.common.reflect.TypeToken;
+import com.minecolonies.api.MinecoloniesAPIProxy;
 import com.minecolonies.api.colony.requestsystem.factory.FactoryVoidInput;
 import com.minecolonies.api.colony.requestsystem.factory.IFactory;
 import com.minecolonies.api.colony.requestsystem.factory.IFactoryController;
@@ -19,6 +20,7 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 
 /**
@@ -30,6 +32,7 @@ public final class StandardFactoryController implements IFactoryController
     ////// --------------------------- NBTConstants --------------------------- \\\\\\
     public static final String NBT_TYPE = "Type";
     public static final String NBT_DATA = "Data";
+    public static final String NBT_ID   = "Id";
     ////// --------------------------- NBTConstants --------------------------- \\\\\\
 
     /**
@@ -76,6 +79,18 @@ public final class StandardFactoryController implements IFactoryController
      */
     private Map<Short, IFactory<?, ?>> serializationMappings = new HashMap<>();
 
+    /**
+     * The factory used to serialize each class, filled on first use.
+     */
+    @NotNull
+    private final Map<Class<?>, IFactory<?, ?>> factoriesByClass = new ConcurrentHashMap<>();
+
+    /**
+     * The factory for each class name found in data saved with class names, filled on first use.
+     */
+    @NotNull
+    private final Map<String, IFactory<?, ?>> factoriesByClassName = new ConcurrentHashMap<>();
+
     /**
      * Private constructor. Throws IllegalStateException if already created.
      * <p>
@@ -100,6 +115,7 @@ public final class StandardFactoryController implements IFactoryController
         getInstance().primaryInputMappings.clear();
         getInstance().primaryOutputMappings.clear();
         getInstance().secondaryOutputMappings.clear();
+        getInstance().clearLookupCaches();
     }
 
     /**
@@ -233,6 +249,7 @@ public final class StandardFactoryController implements IFactoryController
             throw new IllegalArgumentException("Cannot register two factories with the same serialization id!");
         }
         serializationMappings.put(factory.getSerializationId(), factory);
+        clearLookupCaches();
 
         final Set<IFactory<?, ?>> primaryInputFactories = primaryInputMappings.get(factory.getFactoryInputType());
         final Set<IFactory<?, ?>> primaryOutputFactories = primaryOutputMappings.get(factory.getFactoryOutputType());
@@ -264,33 +281,49 @@ public final class StandardFactoryController implements IFactoryController
     }
 
     @Override
-    @SuppressWarnings(Suppression.UNCHECKED)
     public <OUTPUT> CompoundNBT serialize(@NotNull final OUTPUT object) throws IllegalArgumentException
     {
         final CompoundNBT compound = new CompoundNBT();
 
-        final IFactory<?, OUTPUT> factory = getFactoryForOutput((TypeToken<? extends OUTPUT>) TypeToken.of(object.getClass()));
-        compound.putString(NBT_TYPE, object.getClass().getName());
+        final IFactory<?, OUTPUT> factory = getFactoryForClass(object.getClass());
+        if (MinecoloniesAPIProxy.getInstance().getConfig().getServer().compactRequestSystemStorage.get())
+        {
+            compound.putShort(NBT_ID, factory.getSerializationId());
+        }
+        else
+        {
+            compound.putString(NBT_TYPE, object.getClass().getName());
+        }
         compound.put(NBT_DATA, factory.serialize(this, object));
 
         return compound;
     }
 
     @Override
+    @SuppressWarnings(Suppression.UNCHECKED)
     public <OUTPUT> OUTPUT deserialize(@NotNull final CompoundNBT compound) throws IllegalArgumentException
     {
-        String className = compound.getString(NBT_TYPE);
-        className = processClassRenaming(className);
-
         final IFactory<?, OUTPUT> factory;
-
-        try
+        if (compound.contains(NBT_ID))
         {
-            factory = getFactoryForOutput(className);
+            final short id = compound.getShort(NBT_ID);
+            factory = getFactoryForSerializationId(id);
+            if (factory == null)
+            {
+                throw new IllegalArgumentException("The given compound holds an unknown serialization id for this Controller: " + id);
+            }
         }
-        catch (final IllegalArgumentException e)
+        else
         {
-            throw (IllegalArgumentException) new IllegalArgumentException("The given compound holds an unknown output type for this Controller: " + className).initCause(e);
+            final String className = compound.getString(NBT_TYPE);
+            try
+            {
+                factory = (IFactory<?, OUTPUT>) factoriesByClassName.computeIfAbsent(className, name -> getFactoryForOutput(processClassRenaming(name)));
+            }
+            catch (final IllegalArgumentException e)
+            {
+                throw (IllegalArgumentException) new IllegalArgumentException("The given compound holds an unknown output type for this Controller: " + className).initCause(e);
+            }
         }
 
         try
@@ -304,6 +337,29 @@ public final class StandardFactoryController implements IFactoryController
         }
     }
 
+    /**
+     * Get the factory which serializes the given class, without resolving the type tokens again for every object.
+     *
+     * @param clazz    the class of the object to serialize.
+     * @param <OUTPUT> the type of the object.
+     * @return the factory.
+     * @throws IllegalArgumentException if no factory produces the class.
+     */
+    @SuppressWarnings(Suppression.UNCHECKED)
+    private <OUTPUT> IFactory<?, OUTPUT> getFactoryForClass(@NotNull final Class<?> clazz) throws IllegalArgumentException
+    {
+        return (IFactory<?, OUTPUT>) factoriesByClass.computeIfAbsent(clazz, c -> getFactoryForOutput((TypeToken<? extends OUTPUT>) TypeToken.of(c)));
+    }
+
+    /**
+     * Drops the cached factory lookups, used when the registered factories or mappings change.
+     */
+    private void clearLookupCaches()
+    {
+        factoriesByClass.clear();
+        factoriesByClassName.clear();
+    }
+
     private String processClassRenaming(@NotNull final String previousClassName)
     {
         if (!this.classRenamingHandlers.containsKey(previousClassName))
@@ -318,7 +374,7 @@ public final class StandardFactoryController implements IFactoryController
     @Override
     public <OUTPUT> void serialize(@NotNull final PacketBuffer buffer, @NotNull final OUTPUT object) throws IllegalArgumentException
     {
-        final IFactory<?, OUTPUT> factory = getFactoryForOutput((TypeToken<? extends OUTPUT>) TypeToken.of(object.getClass()));
+        final IFactory<?, OUTPUT> factory = getFactoryForClass(object.getClass());
         buffer.writeShort(factory.getSerializationId());
         factory.serialize(this, object, buffer);
     }
@@ -370,11 +426,13 @@ public final class StandardFactoryController implements IFactoryController
     public <OUTPUT> void registerNewTypeOverrideHandler(@NotNull final ITypeOverrideHandler<OUTPUT> overrideHandler)
     {
         this.typeOverrideHandlers.add(overrideHandler);
+        clearLookupCaches();
     }
 
     @Override
     public void registerNewClassRenaming(@NotNull final String previousName, @NotNull final String newName)
     {
         this.classRenamingHandlers.put(previousName, newName);
+        clearLookupCaches();
     }
 }
@@ -8,6 +8,7 @@ import com.minecolonies.api.colony.requestsystem.resolver.IRequestResolver;
 import com.minecolonies.api.colony.requestsystem.token.IToken;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.function.Predicate;
 
 public interface IResolverHandler
@@ -164,6 +165,15 @@ public interface IResolverHandler
      */
     void onColonyUpdate(Predicate<IRequest<?>> shouldTriggerReassign);
 
+    /**
+     * Get the resolvers which can be assigned a request, in the order in which they should be tried. The list is cached per requestable type, and rebuilt after
+     * resolvers are registered or removed.
+     *
+     * @param request the request to get the resolvers for.
+     * @return an immutable list of resolvers, sorted by priority.
+     */
+    List<IRequestResolver<?>> getResolversForRequest(IRequest<?> request);
+
     /**
      * Check if a resolver is in the progress of being removed.
      * @param id the id of the resolver to check.
@@ -0,0 +1,226 @@
+package com.minecolonies.api.compatibility;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.minecolonies.api.items.ModTags;
+import com.minecolonies.api.util.Log;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.crafting.IRecipe;
+import net.minecraft.item.crafting.Ingredient;
+import net.minecraft.item.crafting.RecipeManager;
+import net.minecraft.nbt.CompoundNBT;
+import net.minecraft.nbt.CompressedStreamTools;
+import net.minecraft.tags.ITag;
+import net.minecraft.tags.ItemTags;
+import net.minecraft.util.ResourceLocation;
+import net.minecraftforge.fml.ModList;
+import net.minecraftforge.fml.loading.FMLPaths;
+import net.minecraftforge.registries.ForgeRegistries;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.minecolonies.api.util.constant.Constants.MOD_ID;
+
+/**
+ * Stores the results of the item discovery of the {@link CompatibilityManager} on disk.
+ * <p>
+ * The cache is keyed by a fingerprint of everything the discovery depends on: the installed mods, the item and entity registries, all item tags (the
+ * categories and the vanilla fuel values are taken from them), the hostile entity tag and the recipes with their ingredients. As long as the fingerprint matches, the discovery is skipped and the cached results are used instead.
+ */
+final class CompatibilityCache
+{
+    /**
+     * Version of the cache format, bump it when the cached data changes.
+     */
+    private static final int CACHE_VERSION = 2;
+
+    /**
+     * Name of the cache file.
+     */
+    private static final String CACHE_FILE = "compatibility_cache.dat";
+
+    /**
+     * Suffix of the temporary file.
+     */
+    private static final String TMP_SUFFIX = ".tmp";
+
+    /**
+     * Tag of the fingerprint in the cache file.
+     */
+    private static final String TAG_FINGERPRINT = "fingerprint";
+
+    /**
+     * Private constructor to hide the implicit one.
+     */
+    private CompatibilityCache()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Calculate the fingerprint of the current registries, tags and recipes.
+     *
+     * @param recipeManager the vanilla recipe manager.
+     * @return the fingerprint.
+     */
+    @NotNull
+    static String fingerprint(@NotNull final RecipeManager recipeManager)
+    {
+        final Hasher hasher = Hashing.sha256().newHasher();
+        hasher.putInt(CACHE_VERSION);
+        putSorted(hasher, ModList.get().getMods().stream().map(mod -> mod.getModId() + "@" + mod.getVersion()));
+        putSorted(hasher, ForgeRegistries.ITEMS.getKeys().stream().map(ResourceLocation::toString));
+        putSorted(hasher, ForgeRegistries.ENTITIES.getKeys().stream().map(ResourceLocation::toString));
+        putSorted(hasher, ItemTags.getAllTags().getAllTags().entrySet().stream().map(CompatibilityCache::describeTag));
+        putSorted(hasher, ModTags.hostile.getValues().stream().map(type -> String.valueOf(type.getRegistryName())));
+        putSorted(hasher, recipeManager.getRecipes().stream().map(CompatibilityCache::describeRecipe));
+        return hasher.hash().toString();
+    }
+
+    /**
+     * Read the cache if it matches a fingerprint.
+     *
+     * @param fingerprint the expected fingerprint.
+     * @return the cached compound or null if there is no matching cache.
+     */
+    @Nullable
+    static CompoundNBT read(@NotNull final String fingerprint)
+    {
+        final Path file = getFile();
+        if (!Files.exists(file))
+        {
+            return null;
+        }
+
+        try (InputStream stream = Files.newInputStream(file))
+        {
+            final CompoundNBT compound = CompressedStreamTools.readCompressed(stream);
+            return fingerprint.equals(compound.getString(TAG_FINGERPRINT)) ? compound : null;
+        }
+        catch (final IOException | RuntimeException e)
+        {
+            Log.getLogger().warn("Could not read the compatibility cache " + file + ", discovering again", e);
+            return null;
+        }
+    }
+
+    /**
+     * Write the cache.
+     *
+     * @param fingerprint the fingerprint the data belongs to.
+     * @param compound    the data to cache.
+     */
+    static void write(@NotNull final String fingerprint, @NotNull final CompoundNBT compound)
+    {
+        final Path file = getFile();
+        final Path tmpFile = file.resolveSibling(CACHE_FILE + TMP_SUFFIX);
+        compound.putString(TAG_FINGERPRINT, fingerprint);
+        try
+        {
+            Files.createDirectories(file.getParent());
+            try (OutputStream stream = Files.newOutputStream(tmpFile))
+            {
+                CompressedStreamTools.writeCompressed(compound, stream);
+            }
+            Files.move(tmpFile, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+        catch (final IOException e)
+        {
+            Log.getLogger().warn("Could not write the compatibility cache " + file, e);
+        }
+    }
+
+    /**
+     * Get the cache file, shared by all worlds of the instance.
+     *
+     * @return the path of the file.
+     */
+    @NotNull
+    private static Path getFile()
+    {
+        return FMLPaths.GAMEDIR.get().resolve(MOD_ID).resolve(CACHE_FILE);
+    }
+
+    /**
+     * Describe an item tag by its id and its items.
+     *
+     * @param tag the id and the tag.
+     * @return the description.
+     */
+    @NotNull
+    private static String describeTag(@NotNull final Map.Entry<ResourceLocation, ITag<Item>> tag)
+    {
+        return tag.getKey() + "=" + tag.getValue().getValues().stream().map(item -> String.valueOf(item.getRegistryName())).sorted().collect(Collectors.joining(","));
+    }
+
+    /**
+     * Describe a recipe by its id, type, ingredients and result.
+     *
+     * @param recipe the recipe.
+     * @return the description.
+     */
+    @NotNull
+    private static String describeRecipe(@NotNull final IRecipe<?> recipe)
+    {
+        final StringBuilder description = new StringBuilder();
+        description.append(recipe.getId()).append('|').append(recipe.getType()).append('|').append(recipe.getSerializer().getRegistryName());
+        for (final Ingredient ingredient : recipe.getIngredients())
+        {
+            description.append('|');
+            for (final ItemStack stack : ingredient.getItems())
+            {
+                describeStack(description.append(','), stack);
+            }
+        }
+        return describeStack(description.append('='), recipe.getResultItem()).toString();
+    }
+
+    /**
+     * Describe a stack by its item, count and tag.
+     *
+     * @param description the description to append to.
+     * @param stack       the stack.
+     * @return the description.
+     */
+    @NotNull
+    private static StringBuilder describeStack(@NotNull final StringBuilder description, @NotNull final ItemStack stack)
+    {
+        description.append(stack.getItem().getRegistryName()).append('x').append(stack.getCount());
+        if (stack.hasTag())
+        {
+            description.append(stack.getTag());
+        }
+        return description;
+    }
+
+    /**
+     * Add entries to the fingerprint in a stable order.
+     *
+     * @param hasher  the hasher.
+     * @param entries the entries.
+     */
+    private static void putSorted(@NotNull final Hasher hasher, @NotNull final Stream<String> entries)
+    {
+        final List<String> sorted = entries.sorted().collect(Collectors.toList());
+        hasher.putInt(sorted.size());
+        for (final String entry : sorted)
+        {
+            hasher.putString(entry, StandardCharsets.UTF_8).putByte((byte) 0);
+        }
+    }
+}
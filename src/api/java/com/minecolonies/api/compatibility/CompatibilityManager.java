@@ -21,6 +21,7 @@ import net.minecraft.item.crafting.RecipeManager;
 import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.nbt.ListNBT;
 import net.minecraft.nbt.NBTUtil;
+import net.minecraft.nbt.StringNBT;
 import net.minecraft.state.BooleanProperty;
 import net.minecraft.state.IntegerProperty;
 import net.minecraft.state.Property;
@@ -37,7 +38,10 @@ import net.minecraftforge.registries.ForgeRegistries;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static com.minecolonies.api.util.ItemStackUtils.*;
 import static com.minecolonies.api.util.constant.Constants.ONE_HUNDRED_PERCENT;
@@ -157,6 +161,25 @@ public class CompatibilityManager implements ICompatibilityManager
      */
     private ImmutableSet<ResourceLocation> monsters = ImmutableSet.of();
 
+    /**
+     * Tags of the discovered items in the compatibility cache.
+     */
+    private static final String TAG_ALL_ITEMS      = "allItems";
+    private static final String TAG_SAPLINGS       = "saplings";
+    private static final String TAG_ORES           = "ores";
+    private static final String TAG_SMELTABLE_ORES = "smeltableOres";
+    private static final String TAG_PLANTABLES     = "plantables";
+    private static final String TAG_FOOD           = "food";
+    private static final String TAG_EDIBLES        = "edibles";
+    private static final String TAG_FUEL           = "fuel";
+    private static final String TAG_MONSTERS       = "monsters";
+
+    /**
+     * Tags of the item categories, indexing into the list of all items.
+     */
+    private static final List<String> ITEM_CATEGORIES =
+      ImmutableList.of(TAG_SAPLINGS, TAG_ORES, TAG_SMELTABLE_ORES, TAG_PLANTABLES, TAG_FOOD, TAG_EDIBLES, TAG_FUEL);
+
     /**
      * Instantiates the compatibilityManager.
      */
@@ -169,6 +192,12 @@ public class CompatibilityManager implements ICompatibilityManager
 
     @Override
     public void discover(@NotNull final RecipeManager recipeManager)
+    {
+        discover(recipeManager, false);
+    }
+
+    @Override
+    public void discover(@NotNull final RecipeManager recipeManager, final boolean force)
     {
         saplings.clear();
         oreBlocks.clear();
@@ -187,14 +216,20 @@ public class CompatibilityManager implements ICompatibilityManager
         freePositions.clear();
         monsters = ImmutableSet.of();
 
-        discoverAllItems();
-
-        discoverSaplings();
-        discoverOres();
-        discoverPlantables();
-        discoverFood();
-        discoverFuel();
-        discoverMobs();
+        final String fingerprint = CompatibilityCache.fingerprint(recipeManager);
+        final CompoundNBT cached = force ? null : CompatibilityCache.read(fingerprint);
+        if (cached != null && readAllItems(cached))
+        {
+            Log.getLogger().info("Loaded discovered items from the compatibility cache");
+            applyDiscoveredItems(cached);
+        }
+        else
+        {
+            discoverAllItems();
+            final CompoundNBT discovered = discoverItemCategories();
+            applyDiscoveredItems(discovered);
+            CompatibilityCache.write(fingerprint, discovered);
+        }
         discoverCompostRecipes(recipeManager);
 
         discoverLuckyOres();
@@ -410,24 +445,21 @@ public class CompatibilityManager implements ICompatibilityManager
 
     /**
      * Calculate all monsters.
+     *
+     * @return the ids of the monsters.
      */
-    private void discoverMobs()
+    @NotNull
+    private static ListNBT findMonsters()
     {
-        Set<ResourceLocation> monsterSet = new HashSet<>();
-
+        final ListNBT monsterList = new ListNBT();
         for (final Map.Entry<RegistryKey<EntityType<?>>, EntityType<?>> entry : ForgeRegistries.ENTITIES.getEntries())
         {
-            if (entry.getValue().getCategory() == EntityClassification.MONSTER)
-            {
-                monsterSet.add(entry.getKey().location());
-            }
-            else if (ModTags.hostile.contains(entry.getValue()))
+            if (entry.getValue().getCategory() == EntityClassification.MONSTER || ModTags.hostile.contains(entry.getValue()))
             {
-                monsterSet.add(entry.getKey().location());
+                monsterList.add(StringNBT.valueOf(entry.getKey().location().toString()));
             }
         }
-
-        monsters = ImmutableSet.copyOf(monsterSet);
+        return monsterList;
     }
 
     /**
@@ -436,153 +468,210 @@ public class CompatibilityManager implements ICompatibilityManager
     private void discoverAllItems()
     {
         final ImmutableList.Builder<ItemStack> listBuilder = new ImmutableList.Builder<>();
-        final ImmutableSet.Builder<ItemStorage> setBuilder = new ImmutableSet.Builder<>();
 
         for (final Item item : ForgeRegistries.ITEMS.getValues())
         {
             final NonNullList<ItemStack> list = NonNullList.create();
             item.fillItemCategory(ItemGroup.TAB_SEARCH, list);
             listBuilder.addAll(list);
+        }
 
-            for (final ItemStack stack : list)
-            {
-                setBuilder.add(new ItemStorage(stack, true));
-            }
+        setAllItems(listBuilder.build());
+    }
+
+    /**
+     * Set the list of all items and build the matching set.
+     *
+     * @param items the items.
+     */
+    private static void setAllItems(@NotNull final ImmutableList<ItemStack> items)
+    {
+        final ImmutableSet.Builder<ItemStorage> setBuilder = new ImmutableSet.Builder<>();
+        for (final ItemStack stack : items)
+        {
+            setBuilder.add(new ItemStorage(stack, true));
         }
 
-        allItems = listBuilder.build();
+        allItems = items;
         allItemsSet = setBuilder.build();
     }
 
     /**
-     * Discover ores for the Smelter and Miners.
+     * Read the list of all items from the compatibility cache.
+     *
+     * @param compound the cached compound.
+     * @return false if the cache holds items which do not exist anymore.
      */
-    private void discoverOres()
+    private static boolean readAllItems(@NotNull final CompoundNBT compound)
     {
-        if (smeltableOres.isEmpty())
+        final ListNBT itemList = compound.getList(TAG_ALL_ITEMS, Constants.NBT.TAG_COMPOUND);
+        final ImmutableList.Builder<ItemStack> listBuilder = new ImmutableList.Builder<>();
+        for (int i = 0; i < itemList.size(); i++)
         {
-            for(Item item : Tags.Items.ORES.getValues())
+            final ItemStack stack = ItemStack.of(itemList.getCompound(i));
+            if (stack.isEmpty())
             {
-                final NonNullList<ItemStack> list = NonNullList.create();
-                item.fillItemCategory(ItemGroup.TAB_SEARCH, list);
+                return false;
+            }
+            listBuilder.add(stack);
+        }
 
-                for (final ItemStack stack : list)
+        final ImmutableList<ItemStack> items = listBuilder.build();
+        for (final String category : ITEM_CATEGORIES)
+        {
+            for (final int index : compound.getIntArray(category))
+            {
+                if (index < 0 || index >= items.size())
                 {
-                    if (stack.getItem() instanceof BlockItem)
-                    {
-                        oreBlocks.add(((BlockItem) stack.getItem()).getBlock());
-                    }
-                    if (!MinecoloniesAPIProxy.getInstance().getFurnaceRecipes().getSmeltingResult(stack).isEmpty())
-                    {
-                        smeltableOres.add(new ItemStorage(stack));
-                    }
+                    return false;
                 }
             }
         }
-        Log.getLogger().info("Finished discovering Ores " + oreBlocks.size() + " " + smeltableOres.size());
+
+        setAllItems(items);
+        return true;
     }
 
     /**
-     * Discover saplings from the vanilla Saplings tag, used for the Forester
-     */
-    private void discoverSaplings()
-    {
-        for (final Item item : ItemTags.SAPLINGS.getValues())
+     * Sort all items into the categories the colony needs.
+     * <p>
+     * The categories only read the item list, tags and smelting results, so each is filtered on its own thread. Fuel stays on the calling thread, burn times are
+     * provided by other mods through an event.
+     *
+     * @return the items and the indices of the items of each category, in the format of the compatibility cache.
+     */
+    @NotNull
+    private CompoundNBT discoverItemCategories()
+    {
+        final CompletableFuture<int[]> saplingItems = findItemsAsync(stack -> stack.getItem().is(ItemTags.SAPLINGS));
+        final CompletableFuture<int[]> oreItems = findItemsAsync(stack -> stack.getItem() instanceof BlockItem && stack.getItem().is(Tags.Items.ORES));
+        final CompletableFuture<int[]> smeltableOreItems = findItemsAsync(
+          stack -> stack.getItem().is(Tags.Items.ORES) && !MinecoloniesAPIProxy.getInstance().getFurnaceRecipes().getSmeltingResult(stack).isEmpty());
+        final CompletableFuture<int[]> plantableItems = findItemsAsync(stack -> stack.getItem() instanceof BlockItem && stack.getItem().is(ModTags.floristFlowers));
+        final CompletableFuture<int[]> foodItems = findItemsAsync(stack -> ISFOOD.test(stack) || ISCOOKABLE.test(stack));
+        final CompletableFuture<int[]> edibleItems = findItemsAsync(CAN_EAT);
+        final CompletableFuture<ListNBT> monsterList = CompletableFuture.supplyAsync(CompatibilityManager::findMonsters);
+        final int[] fuelItems = findItems(FurnaceTileEntity::isFuel);
+
+        final ListNBT itemList = new ListNBT();
+        for (final ItemStack stack : allItems)
         {
-            final NonNullList<ItemStack> list = NonNullList.create();
-            item.fillItemCategory(ItemGroup.TAB_SEARCH, list);
-            for (final ItemStack stack : list)
-            {
-                saplings.add(new ItemStorage(stack, false, true));
-            }
+            itemList.add(stack.save(new CompoundNBT()));
         }
-        Log.getLogger().info("Finished discovering saplings " + saplings.size());
+
+        final CompoundNBT compound = new CompoundNBT();
+        compound.put(TAG_ALL_ITEMS, itemList);
+        compound.putIntArray(TAG_SAPLINGS, saplingItems.join());
+        compound.putIntArray(TAG_ORES, oreItems.join());
+        compound.putIntArray(TAG_SMELTABLE_ORES, smeltableOreItems.join());
+        compound.putIntArray(TAG_PLANTABLES, plantableItems.join());
+        compound.putIntArray(TAG_FOOD, foodItems.join());
+        compound.putIntArray(TAG_EDIBLES, edibleItems.join());
+        compound.putIntArray(TAG_FUEL, fuelItems);
+        compound.put(TAG_MONSTERS, monsterList.join());
+        return compound;
     }
 
     /**
-     * Create complete list of compost recipes.
-     * @param recipeManager
+     * Find the indices of all items matching a predicate on another thread.
+     *
+     * @param predicate the predicate.
+     * @return the future of the indices.
      */
-    @SuppressWarnings("ConditionalExpression")
-    private void discoverCompostRecipes(@NotNull final RecipeManager recipeManager)
+    @NotNull
+    private static CompletableFuture<int[]> findItemsAsync(@NotNull final Predicate<ItemStack> predicate)
     {
-        if (compostRecipes.isEmpty())
-        {
-            for (final IRecipe<?> r : recipeManager.byType(CompostRecipe.TYPE).values())
-            {
-                final CompostRecipe recipe = (CompostRecipe) r;
-                for (final ItemStack stack : recipe.getInput().getItems())
-                {
-                    // there can be duplicates due to overlapping tags.  weakest one wins.
-                    compostRecipes.merge(stack.getItem(), recipe,
-                            (r1, r2) -> r1.getStrength() < r2.getStrength() ? r1 : r2);
-                }
-            }
-            Log.getLogger().info("Finished discovering compostables " + compostRecipes.size());
-        }
+        return CompletableFuture.supplyAsync(() -> findItems(predicate));
     }
 
     /**
-     * Create complete list of plantable items, from the "minecolonies:florist_flowers" tag, for the Florist.
+     * Find the indices of all items matching a predicate.
+     *
+     * @param predicate the predicate.
+     * @return the indices.
      */
-    private void discoverPlantables()
+    @NotNull
+    private static int[] findItems(@NotNull final Predicate<ItemStack> predicate)
     {
-        if (plantables.isEmpty())
-        {
-            for (final Item item : ModTags.floristFlowers.getValues())
-            {
-                final NonNullList<ItemStack> list = NonNullList.create();
-                item.fillItemCategory(ItemGroup.TAB_SEARCH, list);
-                for (final ItemStack stack : list)
-                {
-                    if (stack.getItem() instanceof BlockItem)
-                    {
-                        plantables.add(new ItemStorage(stack));
-                    }
-                }
-            }
-        }
-        Log.getLogger().info("Finished discovering plantables " + plantables.size());
+        final List<ItemStack> items = allItems;
+        return IntStream.range(0, items.size()).filter(i -> predicate.test(items.get(i))).toArray();
     }
 
     /**
-     * Create complete list of fuel items.
+     * Fill the item categories from discovered or cached indices.
+     *
+     * @param compound the compound holding the indices.
      */
-    private void discoverFuel()
+    private void applyDiscoveredItems(@NotNull final CompoundNBT compound)
     {
-        if (fuel.isEmpty())
+        for (final int index : compound.getIntArray(TAG_SAPLINGS))
         {
-            for(ItemStack item : allItems)
-            {
-                if(FurnaceTileEntity.isFuel(item))
-                {
-                    fuel.add(new ItemStorage(item));
-                }
-            }
+            saplings.add(new ItemStorage(allItems.get(index), false, true));
+        }
+        Log.getLogger().info("Finished discovering saplings " + saplings.size());
+
+        for (final int index : compound.getIntArray(TAG_ORES))
+        {
+            oreBlocks.add(((BlockItem) allItems.get(index).getItem()).getBlock());
+        }
+        for (final int index : compound.getIntArray(TAG_SMELTABLE_ORES))
+        {
+            smeltableOres.add(new ItemStorage(allItems.get(index)));
+        }
+        Log.getLogger().info("Finished discovering Ores " + oreBlocks.size() + " " + smeltableOres.size());
+
+        for (final int index : compound.getIntArray(TAG_PLANTABLES))
+        {
+            plantables.add(new ItemStorage(allItems.get(index)));
+        }
+        Log.getLogger().info("Finished discovering plantables " + plantables.size());
+
+        for (final int index : compound.getIntArray(TAG_FOOD))
+        {
+            food.add(new ItemStorage(allItems.get(index)));
+        }
+        for (final int index : compound.getIntArray(TAG_EDIBLES))
+        {
+            edibles.add(new ItemStorage(allItems.get(index)));
+        }
+        Log.getLogger().info("Finished discovering food " + edibles.size() + " " + food.size());
+
+        for (final int index : compound.getIntArray(TAG_FUEL))
+        {
+            fuel.add(new ItemStorage(allItems.get(index)));
         }
         Log.getLogger().info("Finished discovering fuel " + fuel.size());
+
+        final ImmutableSet.Builder<ResourceLocation> monsterBuilder = new ImmutableSet.Builder<>();
+        final ListNBT monsterList = compound.getList(TAG_MONSTERS, Constants.NBT.TAG_STRING);
+        for (int i = 0; i < monsterList.size(); i++)
+        {
+            monsterBuilder.add(new ResourceLocation(monsterList.getString(i)));
+        }
+        monsters = monsterBuilder.build();
     }
 
     /**
-     * Create complete list of food items.
+     * Create complete list of compost recipes.
+     * @param recipeManager
      */
-    private void discoverFood()
+    @SuppressWarnings("ConditionalExpression")
+    private void discoverCompostRecipes(@NotNull final RecipeManager recipeManager)
     {
-        if (food.isEmpty())
+        if (compostRecipes.isEmpty())
         {
-            for(ItemStack item : allItems)
+            for (final IRecipe<?> r : recipeManager.byType(CompostRecipe.TYPE).values())
             {
-                if(ISFOOD.test(item) || ISCOOKABLE.test(item))
+                final CompostRecipe recipe = (CompostRecipe) r;
+                for (final ItemStack stack : recipe.getInput().getItems())
                 {
-                    food.add(new ItemStorage(item));
-                    if(CAN_EAT.test(item))
-                    {
-                        edibles.add(new ItemStorage(item));
-                    }
+                    // there can be duplicates due to overlapping tags.  weakest one wins.
+                    compostRecipes.merge(stack.getItem(), recipe,
+                            (r1, r2) -> r1.getStrength() < r2.getStrength() ? r1 : r2);
                 }
             }
+            Log.getLogger().info("Finished discovering compostables " + compostRecipes.size());
         }
-        Log.getLogger().info("Finished discovering food " + edibles.size() + " " + food.size());
     }
 
     /**
@@ -31,6 +31,14 @@ public interface ICompatibilityManager
      */
     void discover(@NotNull final RecipeManager recipeManager);
 
+    /**
+     * Method called to instantiate internal data.
+     *
+     * @param recipeManager The vanilla recipe manager.
+     * @param force         true to ignore the compatibility cache and discover all items again.
+     */
+    void discover(@NotNull final RecipeManager recipeManager, final boolean force);
+
     /**
      * Gets the sapling matching a leave.
      *
@@ -6,6 +6,13 @@ public class CommonConfiguration extends AbstractConfiguration
 {
     public final ForgeConfigSpec.BooleanValue generateSupplyLoot;
 
+    /*  --------------------------------------------------------------------------- *
+     *  ------------------- ######## Network settings ######## ------------------- *
+     *  --------------------------------------------------------------------------- */
+
+    public final ForgeConfigSpec.BooleanValue networkCompression;
+    public final ForgeConfigSpec.IntValue     networkCompressionThreshold;
+
     /**
      * Builds client configuration.
      *
@@ -15,6 +22,10 @@ public class CommonConfiguration extends AbstractConfiguration
     {
         createCategory(builder, "gameplay");
         generateSupplyLoot = defineBoolean(builder, "generatesupplyloot", true);
+
+        swapToCategory(builder, "network");
+        networkCompression = defineBoolean(builder, "networkcompression", true);
+        networkCompressionThreshold = defineInteger(builder, "networkcompressionthreshold", 65536, 1024, Integer.MAX_VALUE);
         finishCategory(builder);
     }
 }
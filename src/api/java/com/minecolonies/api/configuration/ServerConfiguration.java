@@ -44,6 +44,7 @@ public class ServerConfiguration extends AbstractConfiguration
     public final ForgeConfigSpec.IntValue     allowGlobalNameChanges;
     public final ForgeConfigSpec.BooleanValue holidayFeatures;
     public final ForgeConfigSpec.IntValue     updateRate;
+    public final ForgeConfigSpec.IntValue     colonyTickBudget;
     public final ForgeConfigSpec.IntValue     dirtFromCompost;
     public final ForgeConfigSpec.IntValue     luckyBlockChance;
     public final ForgeConfigSpec.BooleanValue restrictBuilderUnderground;
@@ -122,6 +123,7 @@ public class ServerConfiguration extends AbstractConfiguration
     public final ForgeConfigSpec.ConfigValue<List<? extends String>> freeToInteractBlocks;
     public final ForgeConfigSpec.IntValue                            secondsBetweenPermissionMessages;
     public final ForgeConfigSpec.IntValue                            maxkeptbackups;
+    public final ForgeConfigSpec.BooleanValue                        colonyFileStorage;
 
     /*  -------------------------------------------------------------------------------- *
      *  ------------------- ######## Compatibility Settings ######## ------------------- *
@@ -146,6 +148,8 @@ public class ServerConfiguration extends AbstractConfiguration
     public final ForgeConfigSpec.IntValue pathfindingDebugVerbosity;
     public final ForgeConfigSpec.IntValue pathfindingMaxThreadCount;
     public final ForgeConfigSpec.IntValue minimumRailsToPath;
+    public final ForgeConfigSpec.BooleanValue pathfindingSnapshotChunks;
+    public final ForgeConfigSpec.BooleanValue pathfindingHierarchical;
 
     /*  --------------------------------------------------------------------------------- *
      *  ------------------- ######## Request System Settings ######## ------------------- *
@@ -156,6 +160,7 @@ public class ServerConfiguration extends AbstractConfiguration
     public final ForgeConfigSpec.IntValue     delayBetweenRetries;
     public final ForgeConfigSpec.BooleanValue creativeResolve;
     public final ForgeConfigSpec.BooleanValue canPlayerUseResetCommand;
+    public final ForgeConfigSpec.BooleanValue compactRequestSystemStorage;
 
     /**
      * Builds server configuration.
@@ -190,6 +195,7 @@ public class ServerConfiguration extends AbstractConfiguration
         allowGlobalNameChanges = defineInteger(builder, "allowglobalnamechanges", 1, -1, 1);
         holidayFeatures = defineBoolean(builder, "holidayfeatures", true);
         updateRate = defineInteger(builder, "updaterate", 1, 1, 100);
+        colonyTickBudget = defineInteger(builder, "colonytickbudget", 5, 1, 50);
         dirtFromCompost = defineInteger(builder, "dirtfromcompost", 1, 0, 100);
         luckyBlockChance = defineInteger(builder, "luckyblockchance", 1, 0, 100);
         restrictBuilderUnderground = defineBoolean(builder, "restrictbuilderunderground", true);
@@ -255,6 +261,7 @@ public class ServerConfiguration extends AbstractConfiguration
 
         enableColonyProtection = defineBoolean(builder, "enablecolonyprotection", true);
         maxkeptbackups = defineInteger(builder, "maxkeptbackups", 50, 3, 5000);
+        colonyFileStorage = defineBoolean(builder, "colonyfilestorage", true);
         turnOffExplosionsInColonies = defineEnum(builder, "turnoffexplosionsincolonies", Explosions.DAMAGE_ENTITIES);
         specialPermGroup = defineList(builder, "specialpermgroup",
           Arrays.asList
@@ -483,6 +490,8 @@ public class ServerConfiguration extends AbstractConfiguration
         pathfindingDebugVerbosity = defineInteger(builder, "pathfindingdebugverbosity", 0, 0, 10);
         minimumRailsToPath = defineInteger(builder, "minimumrailstopath", 8, 5, 100);
         pathfindingMaxThreadCount = defineInteger(builder, "pathfindingmaxthreadcount", 2, 1, 10);
+        pathfindingSnapshotChunks = defineBoolean(builder, "pathfindingsnapshotchunks", true);
+        pathfindingHierarchical = defineBoolean(builder, "pathfindinghierarchical", false);
 
         swapToCategory(builder, "requestSystem");
 
@@ -491,6 +500,7 @@ public class ServerConfiguration extends AbstractConfiguration
         delayBetweenRetries = defineInteger(builder, "delaybetweenretries", 1200, 30, 10000);
         creativeResolve = defineBoolean(builder, "creativeresolve", false);
         canPlayerUseResetCommand = defineBoolean(builder, "canplayeruseresetcommand", false);
+        compactRequestSystemStorage = defineBoolean(builder, "compactrequestsystemstorage", true);
 
         finishCategory(builder);
     }
@@ -1,21 +1,41 @@
 package com.minecolonies.api.crafting;
 
-import com.google.common.collect.ImmutableMap;
 import com.minecolonies.api.colony.requestsystem.token.IToken;
+import net.minecraft.item.Item;
 import net.minecraft.nbt.CompoundNBT;
+import net.minecraft.tags.ITag;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Map;
+import java.util.Set;
+
 /**
  * The Interface describing the recipeManager which takes care of the recipes discovered by the colonies in this world.
  */
 public interface IRecipeManager
 {
     /**
-     * Get a unmodifiable copy of the recipes map.
+     * Get an unmodifiable view of the recipes map.
      *
      * @return a map of Token, RecipeStorage.
      */
-    ImmutableMap<IToken<?>, IRecipeStorage> getRecipes();
+    Map<IToken<?>, IRecipeStorage> getRecipes();
+
+    /**
+     * Get the recipes which produce an item as primary or alternate output.
+     *
+     * @param item the output item.
+     * @return an unmodifiable set of the recipe tokens.
+     */
+    Set<IToken<?>> getRecipesForOutput(@NotNull final Item item);
+
+    /**
+     * Get the recipes which produce any item of a tag as primary or alternate output.
+     *
+     * @param tag the output tag.
+     * @return the set of recipe tokens.
+     */
+    Set<IToken<?>> getRecipesForOutput(@NotNull final ITag<Item> tag);
 
     /**
      * Get a recipe from the storage.
@@ -0,0 +1,47 @@
+package com.minecolonies.api.crafting;
+
+import com.minecolonies.api.util.ItemStackUtils;
+import net.minecraft.item.ItemStack;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.Predicate;
+
+/**
+ * Predicate matching recipe outputs against a given stack, ignoring the stack size.
+ * <p>
+ * Crafting modules recognize it and only test the recipes indexed under the item of the stack, instead of every recipe they know.
+ */
+public class RecipeOutputPredicate implements Predicate<ItemStack>
+{
+    /**
+     * The stack to match.
+     */
+    private final ItemStack stack;
+
+    /**
+     * Create a new predicate.
+     *
+     * @param stack the stack to match.
+     */
+    public RecipeOutputPredicate(@NotNull final ItemStack stack)
+    {
+        this.stack = stack;
+    }
+
+    /**
+     * Get the stack to match.
+     *
+     * @return the stack.
+     */
+    @NotNull
+    public ItemStack getStack()
+    {
+        return stack;
+    }
+
+    @Override
+    public boolean test(final ItemStack itemStack)
+    {
+        return !itemStack.isEmpty() && ItemStackUtils.compareItemStacksIgnoreStackSize(itemStack, stack, true, true);
+    }
+}
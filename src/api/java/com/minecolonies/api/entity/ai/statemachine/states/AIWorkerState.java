@@ -45,6 +45,10 @@ public enum AIWorkerState implements IAIState
      * Load the structure and requirements.
      */
     LOAD_STRUCTURE(false),
+    /**
+     * Wait for the blueprint of the structure to be prepared in the background.
+     */
+    PREPARE_STRUCTURE(false),
     /**
      * Creates the solid structure.
      */
@@ -34,4 +34,17 @@ public interface ITickRateStateMachine<S extends IState> extends IStateMachine<I
      * @param tickRate the tick rate to set.
      */
     void setTickRate(final int tickRate);
+
+    /**
+     * Sets the counter the tickrates of the transitions are checked against, shifting the ticks they run at relative to other statemachines. Does nothing by
+     * default, for implementations without a shared tick counter.
+     *
+     * @param tickCounter the counter, between 0 and the max tickrate.
+     */
+    default void setTickCounter(final int tickCounter)
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
 }
@@ -141,4 +141,10 @@ public class TickRateStateMachine<S extends IState> extends BasicStateMachine<IT
         this.tickRate = tickRate;
         tickRateCounter = new Random().nextInt(tickRate);
     }
+
+    @Override
+    public void setTickCounter(final int tickCounter)
+    {
+        this.tickCounter = tickCounter % MAX_TICKRATE;
+    }
 }
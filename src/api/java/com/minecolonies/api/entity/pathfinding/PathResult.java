@@ -5,8 +5,8 @@ import net.minecraft.pathfinding.Path;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 
 /**
@@ -159,16 +159,14 @@ public class PathResult<T extends Callable<Path>>
     }
 
     /**
-     * Starts the job by queing it to an executor
+     * Starts the job with a calculation that was started elsewhere, e.g. a shared or already finished one. Jobs are queued through the pathfinding executor,
+     * which only accepts its own prioritized tasks.
      *
-     * @param executorService executor
+     * @param calculation the calculation future.
      */
-    public void startJob(final ExecutorService executorService)
+    public void startJob(final Future<Path> calculation)
     {
-        if (job != null)
-        {
-            pathCalculation = executorService.submit(job);
-        }
+        pathCalculation = calculation;
     }
 
     /**
@@ -191,6 +189,12 @@ public class PathResult<T extends Callable<Path>>
         {
             Log.getLogger().catching(e);
         }
+        catch (CancellationException e)
+        {
+            // Dropped by the pathfinding queue, finish without a path.
+            pathCalculation = null;
+            setStatus(PathFindingStatus.CALCULATION_COMPLETE);
+        }
     }
 
     /**
@@ -1,5 +1,7 @@
 package com.minecolonies.api.entity.pathfinding;
 
+import java.util.Objects;
+
 /**
  * Configuration values for pathing, used by pathjobs and normally set through the navigator
  */
@@ -200,4 +202,77 @@ public class PathingOptions
         setEnterDoors(canEnter);
         return this;
     }
+
+    /**
+     * Create a detached copy of these options.
+     *
+     * @return the new options.
+     */
+    public PathingOptions copy()
+    {
+        final PathingOptions copy = new PathingOptions();
+        copy.jumpCost = jumpCost;
+        copy.dropCost = dropCost;
+        copy.onPathCost = onPathCost;
+        copy.onRailCost = onRailCost;
+        copy.railsExitCost = railsExitCost;
+        copy.swimCost = swimCost;
+        copy.swimCostEnter = swimCostEnter;
+        copy.traverseToggleAbleCost = traverseToggleAbleCost;
+        copy.vineCost = vineCost;
+        copy.canUseRails = canUseRails;
+        copy.canSwim = canSwim;
+        copy.enterDoors = enterDoors;
+        copy.canOpenDoors = canOpenDoors;
+        copy.canClimbVines = canClimbVines;
+        return copy;
+    }
+
+    @Override
+    public boolean equals(final Object o)
+    {
+        if (this == o)
+        {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass())
+        {
+            return false;
+        }
+
+        final PathingOptions that = (PathingOptions) o;
+        return Double.compare(that.jumpCost, jumpCost) == 0
+                 && Double.compare(that.dropCost, dropCost) == 0
+                 && Double.compare(that.onPathCost, onPathCost) == 0
+                 && Double.compare(that.onRailCost, onRailCost) == 0
+                 && Double.compare(that.railsExitCost, railsExitCost) == 0
+                 && Double.compare(that.swimCost, swimCost) == 0
+                 && Double.compare(that.swimCostEnter, swimCostEnter) == 0
+                 && Double.compare(that.traverseToggleAbleCost, traverseToggleAbleCost) == 0
+                 && Double.compare(that.vineCost, vineCost) == 0
+                 && canUseRails == that.canUseRails
+                 && canSwim == that.canSwim
+                 && enterDoors == that.enterDoors
+                 && canOpenDoors == that.canOpenDoors
+                 && canClimbVines == that.canClimbVines;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Objects.hash(jumpCost,
+          dropCost,
+          onPathCost,
+          onRailCost,
+          railsExitCost,
+          swimCost,
+          swimCostEnter,
+          traverseToggleAbleCost,
+          vineCost,
+          canUseRails,
+          canSwim,
+          enterDoors,
+          canOpenDoors,
+          canClimbVines);
+    }
 }
@@ -2,7 +2,9 @@ package com.minecolonies.api.inventory;
 
 import com.minecolonies.api.colony.ICitizenData;
 import com.minecolonies.api.util.ItemStackUtils;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
 import net.minecraft.entity.LivingEntity;
+import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.nbt.ListNBT;
@@ -17,6 +19,8 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import javax.annotation.Nonnull;
+import java.util.BitSet;
+import java.util.Map;
 import java.util.function.Consumer;
 
 import static com.minecolonies.api.research.util.ResearchConstants.CITIZEN_INV_SLOTS;
@@ -48,6 +52,12 @@ public class InventoryCitizen implements IItemHandlerModifiable, INameable
      */
     private NonNullList<ItemStack> mainInventory = NonNullList.withSize(DEFAULT_INV_SIZE, ItemStackUtils.EMPTY);
 
+    /**
+     * The slots holding each item. Stacks can be emptied from outside through {@link #getStackInSlot(int)}, so this may contain slots which are empty or hold
+     * another item by now. Those are dropped when looked up.
+     */
+    private final Map<Item, BitSet> itemSlots = new Reference2ObjectOpenHashMap<>();
+
     /**
      * The index of the currently held items (0-8).
      */
@@ -329,6 +339,7 @@ public class InventoryCitizen implements IItemHandlerModifiable, INameable
                 markDirty();
                 freeSlots--;
                 mainInventory.set(slot, copy);
+                indexSlot(slot, copy);
                 return ItemStack.EMPTY;
             }
             else
@@ -344,6 +355,7 @@ public class InventoryCitizen implements IItemHandlerModifiable, INameable
             {
                 markDirty();
                 inSlot.setCount(inSlot.getCount() + copy.getCount());
+                indexSlot(slot, inSlot);
             }
             return ItemStack.EMPTY;
         }
@@ -353,6 +365,7 @@ public class InventoryCitizen implements IItemHandlerModifiable, INameable
             {
                 markDirty();
                 inSlot.setCount(inSlot.getCount() + avail);
+                indexSlot(slot, inSlot);
             }
             copy.setCount(copy.getCount() - avail);
             return copy;
@@ -374,6 +387,7 @@ public class InventoryCitizen implements IItemHandlerModifiable, INameable
             {
                 markDirty();
                 freeSlots++;
+                unindexSlot(slot, inSlot);
                 mainInventory.set(slot, ItemStack.EMPTY);
             }
             return inSlot;
@@ -481,6 +495,7 @@ public class InventoryCitizen implements IItemHandlerModifiable, INameable
         }
 
         freeSlots = mainInventory.size();
+        itemSlots.clear();
 
         for (int i = 1; i < nbtTagList.size(); ++i)
         {
@@ -494,6 +509,7 @@ public class InventoryCitizen implements IItemHandlerModifiable, INameable
                 if (j < this.mainInventory.size())
                 {
                     this.mainInventory.set(j, itemstack);
+                    indexSlot(j, itemstack);
                     freeSlots--;
                 }
             }
@@ -515,6 +531,71 @@ public class InventoryCitizen implements IItemHandlerModifiable, INameable
             freeSlots++;
         }
 
+        unindexSlot(slot, mainInventory.get(slot));
         mainInventory.set(slot, stack);
+        indexSlot(slot, stack);
+    }
+
+    /**
+     * Find the next slot holding an item, using the slot index instead of checking every slot.
+     *
+     * @param item     the item to look for.
+     * @param fromSlot the first slot to check.
+     * @return the slot, or -1 if none.
+     */
+    public int findNextSlotWith(@NotNull final Item item, final int fromSlot)
+    {
+        final BitSet slots = itemSlots.get(item);
+        if (slots == null)
+        {
+            return NO_SLOT;
+        }
+
+        for (int slot = slots.nextSetBit(fromSlot); slot >= 0; slot = slots.nextSetBit(slot + 1))
+        {
+            if (slot < mainInventory.size())
+            {
+                final ItemStack stack = mainInventory.get(slot);
+                if (!stack.isEmpty() && stack.getItem() == item)
+                {
+                    return slot;
+                }
+            }
+            // Emptied or replaced from outside since it was indexed.
+            slots.clear(slot);
+        }
+        return NO_SLOT;
+    }
+
+    /**
+     * Add a slot to the slot index of its item.
+     *
+     * @param slot  the slot.
+     * @param stack the stack now in the slot.
+     */
+    private void indexSlot(final int slot, @NotNull final ItemStack stack)
+    {
+        if (!stack.isEmpty())
+        {
+            itemSlots.computeIfAbsent(stack.getItem(), item -> new BitSet()).set(slot);
+        }
+    }
+
+    /**
+     * Remove a slot from the slot index of its item.
+     *
+     * @param slot  the slot.
+     * @param stack the stack leaving the slot.
+     */
+    private void unindexSlot(final int slot, @NotNull final ItemStack stack)
+    {
+        if (!stack.isEmpty())
+        {
+            final BitSet slots = itemSlots.get(stack.getItem());
+            if (slots != null)
+            {
+                slots.clear(slot);
+            }
+        }
     }
 }
@@ -161,7 +161,7 @@ public interface IGlobalResearchTree
     IMessage handleGlobalResearchTreeMessage(final PacketBuffer buf);
 
     /**
-     * Sends messages to the client from the server describing the Global Research Tree.
+     * Sends the hash of the Global Research Tree to the client, the client applies its cached copy or requests the full tree.
      * Only used for dedicated servers.
      * @param player        the player to send the message
      *                      all players should be updated on a data pack reload.
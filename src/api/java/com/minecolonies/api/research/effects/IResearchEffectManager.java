@@ -27,6 +27,15 @@ public interface IResearchEffectManager
      */
      double getEffectStrength(final ResourceLocation id);
 
+    /**
+     * Get the research effect strength for an effect slot resolved through {@link ResearchEffectSlots#getSlot(ResourceLocation)},
+     * or zero, if no matching effect is present. Prefer this for lookups on hot paths.
+     *
+     * @param slot the slot of the effect.
+     * @return the strength of the effect, or zero if it isn't present.
+     */
+    double getEffectStrength(final int slot);
+
     /**
      * Apply the effect to the research effects class.
      *
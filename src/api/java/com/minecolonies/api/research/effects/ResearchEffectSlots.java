@@ -0,0 +1,62 @@
+package com.minecolonies.api.research.effects;
+
+import net.minecraft.util.ResourceLocation;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Assigns every research effect id a dense int slot.
+ * <p>
+ * Effect managers keep the strengths of their effects in an array indexed by these slots, so callers which resolve the slot of an effect once can read its
+ * strength without any map lookup. Slots are assigned when the research tree is loaded from the datapacks, or on first use for ids no research provides. They
+ * never change while the game runs, so resolved slots can be kept in static fields.
+ */
+public final class ResearchEffectSlots
+{
+    /**
+     * The slot of every known effect id.
+     */
+    private static final Map<ResourceLocation, Integer> slots = new ConcurrentHashMap<>();
+
+    /**
+     * Private constructor to hide the implicit one.
+     */
+    private ResearchEffectSlots()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Get the slot of an effect id, assigning a new one if the id is unknown.
+     *
+     * @param id the id of the effect.
+     * @return the slot.
+     */
+    public static int getSlot(@NotNull final ResourceLocation id)
+    {
+        final Integer slot = slots.get(id);
+        if (slot != null)
+        {
+            return slot;
+        }
+
+        synchronized (slots)
+        {
+            return slots.computeIfAbsent(id, key -> slots.size());
+        }
+    }
+
+    /**
+     * Get the amount of assigned slots.
+     *
+     * @return the amount.
+     */
+    public static int getSlotCount()
+    {
+        return slots.size();
+    }
+}
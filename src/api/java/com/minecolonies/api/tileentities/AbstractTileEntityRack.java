@@ -4,6 +4,7 @@ import com.minecolonies.api.blocks.AbstractBlockMinecoloniesRack;
 import com.minecolonies.api.blocks.ModBlocks;
 import com.minecolonies.api.colony.IColony;
 import com.minecolonies.api.colony.IColonyManager;
+import com.minecolonies.api.colony.buildings.ContainerItemIndex;
 import com.minecolonies.api.colony.buildings.IBuilding;
 import com.minecolonies.api.colony.requestsystem.requestable.IDeliverable;
 import com.minecolonies.api.crafting.ItemStorage;
@@ -16,6 +17,7 @@ import net.minecraft.util.math.BlockPos;
 import net.minecraftforge.items.IItemHandlerModifiable;
 import net.minecraftforge.items.ItemStackHandler;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import javax.annotation.Nonnull;
 import java.util.function.Predicate;
@@ -214,11 +216,57 @@ public abstract class AbstractTileEntityRack extends TileEntity implements IName
     {
         if (level != null && (buildingPos == null || !buildingPos.equals(pos)))
         {
+            removeFromItemIndex();
             setChanged();
         }
         this.buildingPos = pos;
     }
 
+    /**
+     * Get the pos of the building the rack belongs to.
+     *
+     * @return the pos, or {@link BlockPos#ZERO} if none.
+     */
+    public BlockPos getBuildingPos()
+    {
+        return buildingPos;
+    }
+
+    /**
+     * Get the item index of the building the rack belongs to.
+     *
+     * @return the index or null if the rack has no building on this side.
+     */
+    @Nullable
+    protected ContainerItemIndex getBuildingItemIndex()
+    {
+        if (level == null || level.isClientSide || buildingPos == null || buildingPos.equals(BlockPos.ZERO))
+        {
+            return null;
+        }
+
+        final IColony colony = IColonyManager.getInstance().getClosestColony(level, worldPosition);
+        if (colony == null)
+        {
+            return null;
+        }
+
+        final IBuilding building = colony.getBuildingManager().getBuilding(buildingPos);
+        return building == null ? null : building.getItemIndex();
+    }
+
+    /**
+     * Drop the rack from the item index of its building, it will be indexed again the next time the building queries its content.
+     */
+    protected void removeFromItemIndex()
+    {
+        final ContainerItemIndex index = getBuildingItemIndex();
+        if (index != null)
+        {
+            index.remove(worldPosition);
+        }
+    }
+
     /* Get the amount of items matching a predicate in the inventory.
      * @param predicate the predicate.
      * @return the total count.
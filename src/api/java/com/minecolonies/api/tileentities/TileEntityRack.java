@@ -2,6 +2,7 @@ package com.minecolonies.api.tileentities;
 
 import com.minecolonies.api.blocks.AbstractBlockMinecoloniesRack;
 import com.minecolonies.api.blocks.types.RackType;
+import com.minecolonies.api.colony.buildings.ContainerItemIndex;
 import com.minecolonies.api.crafting.ItemStorage;
 import com.minecolonies.api.inventory.api.CombinedItemHandler;
 import com.minecolonies.api.inventory.container.ContainerRack;
@@ -216,6 +217,7 @@ public class TileEntityRack extends AbstractTileEntityRack
         {
             final boolean empty = content.isEmpty();
             updateContent();
+            updateItemIndex();
 
             if ((empty && !content.isEmpty()) || !empty && content.isEmpty())
             {
@@ -252,6 +254,18 @@ public class TileEntityRack extends AbstractTileEntityRack
         }
     }
 
+    /**
+     * Report the new content to the item index of the building, if the rack is indexed already.
+     */
+    private void updateItemIndex()
+    {
+        final ContainerItemIndex index = getBuildingItemIndex();
+        if (index != null && index.contains(worldPosition))
+        {
+            index.update(worldPosition, content);
+        }
+    }
+
     @Override
     public void updateBlockState()
     {
@@ -631,6 +645,14 @@ public class TileEntityRack extends AbstractTileEntityRack
     {
         super.setRemoved();
         invalidateCap();
+        removeFromItemIndex();
+    }
+
+    @Override
+    public void onChunkUnloaded()
+    {
+        super.onChunkUnloaded();
+        removeFromItemIndex();
     }
 
     @Override
@@ -3,8 +3,10 @@ package com.minecolonies.api.util;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
+import com.minecolonies.api.colony.buildings.ContainerItemIndex;
 import com.minecolonies.api.colony.buildings.IBuilding;
 import com.minecolonies.api.crafting.ItemStorage;
+import com.minecolonies.api.inventory.InventoryCitizen;
 import com.minecolonies.api.tileentities.TileEntityColonyBuilding;
 import com.minecolonies.api.tileentities.TileEntityRack;
 import com.minecolonies.api.util.constant.IToolType;
@@ -154,7 +156,63 @@ public class InventoryUtils
      */
     public static int findFirstSlotInItemHandlerWith(@NotNull final IItemHandler itemHandler, @NotNull final Item targetItem)
     {
-        return findFirstSlotInItemHandlerWith(itemHandler, (ItemStack stack) -> compareItems(stack, targetItem));
+        if (itemHandler instanceof InventoryCitizen)
+        {
+            return ((InventoryCitizen) itemHandler).findNextSlotWith(targetItem, 0);
+        }
+
+        for (int slot = 0; slot < itemHandler.getSlots(); slot++)
+        {
+            if (compareItems(itemHandler.getStackInSlot(slot), targetItem))
+            {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the first occurrence of a stack matching the given storage in the {@link IItemHandler}, respecting its damage and nbt settings.
+     *
+     * @param itemHandler {@link IItemHandler} to check.
+     * @param storage     the storage to match.
+     * @return Index of the first occurrence, or -1.
+     */
+    public static int findFirstSlotInItemHandlerWith(@NotNull final IItemHandler itemHandler, @NotNull final ItemStorage storage)
+    {
+        if (itemHandler instanceof InventoryCitizen)
+        {
+            final InventoryCitizen inventory = (InventoryCitizen) itemHandler;
+            for (int slot = inventory.findNextSlotWith(storage.getItem(), 0); slot >= 0; slot = inventory.findNextSlotWith(storage.getItem(), slot + 1))
+            {
+                if (matchesStorage(inventory.getStackInSlot(slot), storage))
+                {
+                    return slot;
+                }
+            }
+            return -1;
+        }
+
+        for (int slot = 0; slot < itemHandler.getSlots(); slot++)
+        {
+            if (matchesStorage(itemHandler.getStackInSlot(slot), storage))
+            {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Check if a stack matches a storage, respecting its damage and nbt settings.
+     *
+     * @param stack   the stack.
+     * @param storage the storage.
+     * @return true if so.
+     */
+    private static boolean matchesStorage(@NotNull final ItemStack stack, @NotNull final ItemStorage storage)
+    {
+        return !ItemStackUtils.isEmpty(stack) && ItemStackUtils.compareItemStacksIgnoreStackSize(stack, storage.getItemStack(), !storage.ignoreDamageValue(), !storage.ignoreNBT());
     }
 
     /**
@@ -250,9 +308,60 @@ public class InventoryUtils
         {
             Log.getLogger().error("This is not supposed to happen, please notify the developers!", new Exception("getItemCountInItemHandler got a null itemHandler"));
         }
+        if (itemHandler instanceof InventoryCitizen)
+        {
+            final InventoryCitizen inventory = (InventoryCitizen) itemHandler;
+            int count = 0;
+            for (int slot = inventory.findNextSlotWith(targetItem, 0); slot >= 0; slot = inventory.findNextSlotWith(targetItem, slot + 1))
+            {
+                count += inventory.getStackInSlot(slot).getCount();
+            }
+            return count;
+        }
         return itemHandler == null ? 0 : getItemCountInItemHandler(itemHandler, (ItemStack stack) -> compareItems(stack, targetItem));
     }
 
+    /**
+     * Returns the amount of items matching the given storage in the {@link IItemHandler}, respecting its damage and nbt settings.
+     *
+     * @param itemHandler {@link IItemHandler} to scan.
+     * @param storage     the storage to match.
+     * @return Amount of matching items.
+     */
+    public static int getItemCountInItemHandler(@Nullable final IItemHandler itemHandler, @NotNull final ItemStorage storage)
+    {
+        if (itemHandler == null)
+        {
+            Log.getLogger().error("This is not supposed to happen, please notify the developers!", new Exception("getItemCountInItemHandler got a null itemHandler"));
+            return 0;
+        }
+
+        int count = 0;
+        if (itemHandler instanceof InventoryCitizen)
+        {
+            final InventoryCitizen inventory = (InventoryCitizen) itemHandler;
+            for (int slot = inventory.findNextSlotWith(storage.getItem(), 0); slot >= 0; slot = inventory.findNextSlotWith(storage.getItem(), slot + 1))
+            {
+                final ItemStack stack = inventory.getStackInSlot(slot);
+                if (matchesStorage(stack, storage))
+                {
+                    count += stack.getCount();
+                }
+            }
+            return count;
+        }
+
+        for (int slot = 0; slot < itemHandler.getSlots(); slot++)
+        {
+            final ItemStack stack = itemHandler.getStackInSlot(slot);
+            if (matchesStorage(stack, storage))
+            {
+                count += stack.getCount();
+            }
+        }
+        return count;
+    }
+
     /**
      * Returns the amount of occurrences in the {@link IItemHandler}.
      *
@@ -266,7 +375,21 @@ public class InventoryUtils
         {
             Log.getLogger().error("This is not supposed to happen, please notify the developers!", new Exception("getItemCountInItemHandler got a null itemHandler"));
         }
-        return itemHandler == null ? 0 : filterItemHandler(itemHandler, itemStackSelectionPredicate).stream().mapToInt(ItemStackUtils::getSize).sum();
+        if (itemHandler == null)
+        {
+            return 0;
+        }
+
+        int count = 0;
+        for (int slot = 0; slot < itemHandler.getSlots(); slot++)
+        {
+            final ItemStack stack = itemHandler.getStackInSlot(slot);
+            if (!ItemStackUtils.isEmpty(stack) && itemStackSelectionPredicate.test(stack))
+            {
+                count += stack.getCount();
+            }
+        }
+        return count;
     }
 
     public static int getItemCountInItemHandlers(@Nullable final Collection<IItemHandler> itemHandlers, @NotNull final Predicate<ItemStack> itemStackPredicate)
@@ -317,7 +440,23 @@ public class InventoryUtils
         {
             Log.getLogger().error("This is not supposed to happen, please notify the developers!", new Exception("hasItemInItemHandler got a null itemHandler"));
         }
-        return itemHandler != null && hasItemInItemHandler(itemHandler, (ItemStack stack) -> compareItems(stack, item));
+        return itemHandler != null && findFirstSlotInItemHandlerWith(itemHandler, item) > -1;
+    }
+
+    /**
+     * Checks if an item matching the given storage is in the {@link IItemHandler}, respecting its damage and nbt settings.
+     *
+     * @param itemHandler {@link IItemHandler} to scan
+     * @param storage     the storage to match.
+     * @return True when in {@link IItemHandler}, otherwise false
+     */
+    public static boolean hasItemInItemHandler(@Nullable final IItemHandler itemHandler, @NotNull final ItemStorage storage)
+    {
+        if (itemHandler == null)
+        {
+            Log.getLogger().error("This is not supposed to happen, please notify the developers!", new Exception("hasItemInItemHandler got a null itemHandler"));
+        }
+        return itemHandler != null && findFirstSlotInItemHandlerWith(itemHandler, storage) > -1;
     }
 
     /**
@@ -730,27 +869,27 @@ public class InventoryUtils
      */
     public static int hasBuildingEnoughElseCount(@NotNull final IBuilding provider, @NotNull final ItemStorage stack, final int count)
     {
-        int totalCount = 0;
-        final World world = provider.getColony().getWorld();
+        final List<TileEntity> unindexed = indexBuildingContainers(provider);
+        int totalCount = provider.getItemIndex().getCount(stack);
+        if (totalCount > count)
+        {
+            return Integer.MAX_VALUE;
+        }
 
-        for (final BlockPos pos : provider.getContainers())
+        for (final TileEntity entity : unindexed)
         {
-            if (WorldUtil.isBlockLoaded(world, pos))
+            if (entity instanceof TileEntityRack)
             {
-                final TileEntity entity = world.getBlockEntity(pos);
-                if (entity instanceof TileEntityRack)
-                {
-                    totalCount += ((TileEntityRack) entity).getCount(stack);
-                }
-                else if (entity instanceof ChestTileEntity)
-                {
-                    totalCount += getItemCountInProvider(entity, itemStack -> ItemStackUtils.compareItemStacksIgnoreStackSize(itemStack, stack.getItemStack(), !stack.ignoreDamageValue(), !stack.ignoreNBT() ));
-                }
+                totalCount += ((TileEntityRack) entity).getCount(stack);
+            }
+            else
+            {
+                totalCount += getItemCountInProvider(entity, itemStack -> ItemStackUtils.compareItemStacksIgnoreStackSize(itemStack, stack.getItemStack(), !stack.ignoreDamageValue(), !stack.ignoreNBT() ));
+            }
 
-                if (totalCount > count)
-                {
-                    return Integer.MAX_VALUE;
-                }
+            if (totalCount > count)
+            {
+                return Integer.MAX_VALUE;
             }
         }
 
@@ -786,25 +925,54 @@ public class InventoryUtils
     public static int getCountFromBuilding(@NotNull final IBuilding provider, @NotNull final ItemStorage stack)
     {
         int totalCount = 0;
+        for (final TileEntity entity : indexBuildingContainers(provider))
+        {
+            if (entity instanceof TileEntityRack)
+            {
+                totalCount += ((TileEntityRack) entity).getCount(stack);
+            }
+            else
+            {
+                totalCount += getItemCountInProvider(entity, itemStack -> ItemStackUtils.compareItemStacksIgnoreStackSize(itemStack, stack.getItemStack()));
+            }
+        }
+
+        return totalCount + provider.getItemIndex().getCount(stack);
+    }
+
+    /**
+     * Bring the item index of a building up to date with its loaded containers. Racks of the building which are not indexed yet are added to it, chests and racks
+     * belonging to other buildings can't be kept up to date and are returned to be scanned directly.
+     *
+     * @param provider the building.
+     * @return the loaded containers which are not part of the index.
+     */
+    @NotNull
+    public static List<TileEntity> indexBuildingContainers(@NotNull final IBuilding provider)
+    {
+        final List<TileEntity> unindexed = new ArrayList<>();
+        final ContainerItemIndex index = provider.getItemIndex();
         final World world = provider.getColony().getWorld();
 
         for (final BlockPos pos : provider.getContainers())
         {
-            if (WorldUtil.isBlockLoaded(world, pos))
+            if (index.contains(pos) || !WorldUtil.isBlockLoaded(world, pos))
             {
-                final TileEntity entity = world.getBlockEntity(pos);
-                if (entity instanceof TileEntityRack)
-                {
-                    totalCount += ((TileEntityRack) entity).getCount(stack);
-                }
-                else if (entity instanceof ChestTileEntity)
-                {
-                    totalCount += getItemCountInProvider(entity, itemStack -> ItemStackUtils.compareItemStacksIgnoreStackSize(itemStack, stack.getItemStack()));
-                }
+                continue;
+            }
+
+            final TileEntity entity = world.getBlockEntity(pos);
+            if (entity instanceof TileEntityRack && provider.getID().equals(((TileEntityRack) entity).getBuildingPos()))
+            {
+                index.update(pos, ((TileEntityRack) entity).getAllContent());
+            }
+            else if (entity instanceof TileEntityRack || entity instanceof ChestTileEntity)
+            {
+                unindexed.add(entity);
             }
         }
 
-        return totalCount;
+        return unindexed;
     }
 
     /**
@@ -842,25 +1010,19 @@ public class InventoryUtils
     public static int getCountFromBuilding(@NotNull final IBuilding provider, @NotNull final Predicate<ItemStack> predicate)
     {
         int totalCount = 0;
-        final World world = provider.getColony().getWorld();
-
-        for (final BlockPos pos : provider.getContainers())
+        for (final TileEntity entity : indexBuildingContainers(provider))
         {
-            if (WorldUtil.isBlockLoaded(world, pos))
+            if (entity instanceof TileEntityRack)
             {
-                final TileEntity entity = world.getBlockEntity(pos);
-                if (entity instanceof TileEntityRack)
-                {
-                    totalCount += ((TileEntityRack) entity).getItemCount(predicate);
-                }
-                else if (entity instanceof ChestTileEntity)
-                {
-                    totalCount += getItemCountInProvider(entity, predicate);
-                }
+                totalCount += ((TileEntityRack) entity).getItemCount(predicate);
+            }
+            else
+            {
+                totalCount += getItemCountInProvider(entity, predicate);
             }
         }
 
-        return totalCount;
+        return totalCount + provider.getItemIndex().getCount(predicate);
     }
 
     /**
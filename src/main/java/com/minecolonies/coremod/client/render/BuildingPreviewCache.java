@@ -0,0 +1,336 @@
+package com.minecolonies.coremod.client.render;
+
+import com.ldtteam.structures.blueprints.v1.Blueprint;
+import com.ldtteam.structurize.management.Structures;
+import com.ldtteam.structurize.placement.structure.IStructureHandler;
+import com.ldtteam.structurize.util.PlacementSettings;
+import com.minecolonies.api.util.BlockPosUtil;
+import com.minecolonies.api.util.LoadOnlyStructureHandler;
+import com.minecolonies.api.util.Log;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.world.ClientWorld;
+import net.minecraft.util.Mirror;
+import net.minecraft.util.math.BlockPos;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.api.distmarker.OnlyIn;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Prepares the blueprints of the building previews shown with the build tool on a background thread.
+ * <p>
+ * The render thread only asks for previews and draws the ones which are ready. Reading the schematic and the md5 check happen on the loader thread, only the
+ * rotation, which reads the world, is handed back to the client thread. The prepared previews are kept in a small access ordered cache, so walking around a
+ * colony does not load the same buildings again and again.
+ */
+@OnlyIn(Dist.CLIENT)
+public final class BuildingPreviewCache
+{
+    /**
+     * Max amount of cached previews.
+     */
+    private static final int MAX_ENTRIES = 64;
+
+    /**
+     * Time after which a preview of a missing schematic is loaded again, the schematic might have been received from the server meanwhile.
+     */
+    private static final long RETRY_NANOS = TimeUnit.SECONDS.toNanos(5);
+
+    /**
+     * The previews in access order, the eldest entry is evicted first. Only accessed from the render thread.
+     */
+    private static final Map<Key, Preview> cache = new LinkedHashMap<Key, Preview>(MAX_ENTRIES, 0.75F, true)
+    {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<Key, Preview> eldest)
+        {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    /**
+     * The world the cached previews belong to.
+     */
+    @Nullable
+    private static ClientWorld cachedWorld;
+
+    /**
+     * The loader thread.
+     */
+    private static final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        final Thread thread = new Thread(runnable, "Minecolonies Preview Loader");
+        thread.setDaemon(true);
+        thread.setUncaughtExceptionHandler((thread1, throwable) -> Log.getLogger().error("Minecolonies Preview Loader errored! ", throwable));
+        return thread;
+    });
+
+    /**
+     * Private constructor to hide the implicit one.
+     */
+    private BuildingPreviewCache()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Get the preview of a building, queueing it to be prepared if it is not cached yet.
+     *
+     * @param world         the world.
+     * @param pos           the position of the building.
+     * @param structureName the name of the structure to preview.
+     * @param rotation      the rotation of the building.
+     * @param isMirrored    if the building is mirrored.
+     * @return the preview, which might not be ready yet.
+     */
+    @NotNull
+    public static Preview getPreview(@NotNull final ClientWorld world, @NotNull final BlockPos pos, @NotNull final String structureName, final int rotation, final boolean isMirrored)
+    {
+        if (world != cachedWorld)
+        {
+            cache.clear();
+            cachedWorld = world;
+        }
+
+        final Key key = new Key(pos, structureName, rotation, isMirrored);
+        Preview preview = cache.get(key);
+        if (preview == null || preview.isExpired())
+        {
+            final Preview newPreview = new Preview();
+            cache.put(key, newPreview);
+            executor.execute(() -> newPreview.load(world, key));
+            preview = newPreview;
+        }
+        return preview;
+    }
+
+    /**
+     * Drop the previews of an unloaded world, called on the client thread.
+     *
+     * @param world the unloaded world.
+     */
+    public static void onWorldUnloaded(@NotNull final ClientWorld world)
+    {
+        if (world == cachedWorld)
+        {
+            cache.clear();
+            cachedWorld = null;
+        }
+    }
+
+    /**
+     * The state of a preview.
+     */
+    public enum State
+    {
+        LOADING,
+        READY,
+        MISSING
+    }
+
+    /**
+     * A building preview, filled by the loader and the client thread.
+     */
+    public static final class Preview
+    {
+        /**
+         * The state, written last so the other fields are visible once it is ready.
+         */
+        private volatile State state = State.LOADING;
+
+        /**
+         * The rotated blueprint.
+         */
+        private Blueprint blueprint;
+
+        /**
+         * The offset from the building position to the lower corner of the blueprint.
+         */
+        private BlockPos startOffset;
+
+        /**
+         * The offset from the building position to the upper corner of the blueprint.
+         */
+        private BlockPos endOffset;
+
+        /**
+         * When the schematic was found missing.
+         */
+        private long missingSince;
+
+        /**
+         * Load the schematic of the preview, runs on the loader thread. The rotation is handed to the client thread.
+         *
+         * @param world the world.
+         * @param key   the key of the preview.
+         */
+        private void load(@NotNull final ClientWorld world, @NotNull final Key key)
+        {
+            try
+            {
+                final IStructureHandler wrapper = new LoadOnlyStructureHandler(world, key.pos, key.structureName, new PlacementSettings(), true);
+                if (!wrapper.hasBluePrint() || !wrapper.isCorrectMD5(Structures.getMD5(key.structureName)))
+                {
+                    setMissing();
+                    return;
+                }
+
+                final Blueprint loaded = wrapper.getBluePrint();
+                Minecraft.getInstance().execute(() -> prepare(world, key, loaded));
+            }
+            catch (final RuntimeException e)
+            {
+                Log.getLogger().error("Failed to load the preview of: " + key.structureName, e);
+                setMissing();
+            }
+        }
+
+        /**
+         * Rotate the loaded blueprint, runs on the client thread.
+         *
+         * @param world  the world the preview was requested in.
+         * @param key    the key of the preview.
+         * @param loaded the loaded blueprint.
+         */
+        private void prepare(@NotNull final ClientWorld world, @NotNull final Key key, @NotNull final Blueprint loaded)
+        {
+            if (world != cachedWorld)
+            {
+                // The world was left meanwhile, the preview is not cached anymore.
+                return;
+            }
+
+            try
+            {
+                loaded.rotateWithMirror(BlockPosUtil.getRotationFromRotations(key.rotation), key.isMirrored ? Mirror.FRONT_BACK : Mirror.NONE, world);
+                loaded.setRenderSource(key.pos);
+
+                blueprint = loaded;
+                startOffset = BlockPos.ZERO.subtract(loaded.getPrimaryBlockOffset());
+                endOffset = startOffset.offset(loaded.getSizeX() - 1, loaded.getSizeY() - 1, loaded.getSizeZ() - 1);
+                state = State.READY;
+            }
+            catch (final RuntimeException e)
+            {
+                Log.getLogger().error("Failed to prepare the preview of: " + key.structureName, e);
+                setMissing();
+            }
+        }
+
+        /**
+         * Mark the schematic as missing, so it is loaded again after a while.
+         */
+        private void setMissing()
+        {
+            missingSince = System.nanoTime();
+            state = State.MISSING;
+        }
+
+        /**
+         * Check if the preview should be loaded again.
+         *
+         * @return true if the schematic was missing a while ago.
+         */
+        private boolean isExpired()
+        {
+            return state == State.MISSING && System.nanoTime() - missingSince > RETRY_NANOS;
+        }
+
+        /**
+         * Get the state of the preview.
+         *
+         * @return the state.
+         */
+        @NotNull
+        public State getState()
+        {
+            return state;
+        }
+
+        /**
+         * Get the rotated blueprint, only valid once ready.
+         *
+         * @return the blueprint.
+         */
+        public Blueprint getBlueprint()
+        {
+            return blueprint;
+        }
+
+        /**
+         * Get the offset from the building position to the lower corner of the blueprint, only valid once ready.
+         *
+         * @return the offset.
+         */
+        public BlockPos getStartOffset()
+        {
+            return startOffset;
+        }
+
+        /**
+         * Get the offset from the building position to the upper corner of the blueprint, only valid once ready.
+         *
+         * @return the offset.
+         */
+        public BlockPos getEndOffset()
+        {
+            return endOffset;
+        }
+    }
+
+    /**
+     * The key of a building preview.
+     */
+    private static final class Key
+    {
+        private final BlockPos pos;
+        private final String   structureName;
+        private final int      rotation;
+        private final boolean  isMirrored;
+
+        /**
+         * Create a new key.
+         *
+         * @param pos           the position of the building.
+         * @param structureName the name of the structure.
+         * @param rotation      the rotation.
+         * @param isMirrored    if it is mirrored.
+         */
+        private Key(@NotNull final BlockPos pos, @NotNull final String structureName, final int rotation, final boolean isMirrored)
+        {
+            this.pos = pos;
+            this.structureName = structureName;
+            this.rotation = rotation;
+            this.isMirrored = isMirrored;
+        }
+
+        @Override
+        public boolean equals(final Object o)
+        {
+            if (this == o)
+            {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass())
+            {
+                return false;
+            }
+            final Key key = (Key) o;
+            return rotation == key.rotation && isMirrored == key.isMirrored && pos.equals(key.pos) && structureName.equals(key.structureName);
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return Objects.hash(pos, structureName, rotation, isMirrored);
+        }
+    }
+}
@@ -33,6 +33,7 @@ import com.minecolonies.coremod.colony.pvp.AttackingPlayer;
 import com.minecolonies.coremod.colony.requestsystem.management.manager.StandardRequestManager;
 import com.minecolonies.coremod.colony.workorders.WorkManager;
 import com.minecolonies.coremod.network.messages.client.colony.ColonyViewRemoveWorkOrderMessage;
+import com.minecolonies.coremod.permissions.ColonyPermissionEventDispatcher;
 import com.minecolonies.coremod.permissions.ColonyPermissionEventHandler;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockState;
@@ -57,7 +58,6 @@ import net.minecraft.world.World;
 import net.minecraft.world.chunk.Chunk;
 import net.minecraft.world.server.ServerChunkProvider;
 import net.minecraft.world.server.ServerWorld;
-import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.common.util.Constants.NBT;
 import net.minecraftforge.event.TickEvent;
 import net.minecraftforge.registries.ForgeRegistries;
@@ -271,6 +271,11 @@ public class Colony implements IColony
      */
     private boolean isActive = true;
 
+    /**
+     * If the colony changed since its tag was written last, clean colonies reuse their tag when saving.
+     */
+    private boolean isSaveDirty = true;
+
     /**
      * The colony team color.
      */
@@ -353,6 +358,7 @@ public class Colony implements IColony
         this.permissions = new Permissions(this);
         researchManager = new ResearchManager(this);
         colonyStateMachine = new TickRateStateMachine<>(INACTIVE, e -> {});
+        colonyStateMachine.setTickCounter(ColonyTickScheduler.getTickPhase(id));
 
         colonyStateMachine.addTransition(new TickingTransition<>(INACTIVE, () -> true, this::updateState, UPDATE_STATE_INTERVAL));
         colonyStateMachine.addTransition(new TickingTransition<>(UNLOADED, () -> true, this::updateState, UPDATE_STATE_INTERVAL));
@@ -386,6 +392,8 @@ public class Colony implements IColony
         if (!packageManager.getCloseSubscribers().isEmpty() || (loadedChunks.size() > 40 && !packageManager.getImportantColonyPlayers().isEmpty()))
         {
             isActive = true;
+            // Loaded colonies run their citizens, buildings and requests, which change a lot of state without marking the colony dirty.
+            isSaveDirty = true;
             return ACTIVE;
         }
 
@@ -542,10 +550,12 @@ public class Colony implements IColony
         if (hasChilds && additionalChildTime < maxAdditionalChildTime)
         {
             additionalChildTime += MAX_TICKRATE;
+            isSaveDirty = true;
         }
-        else
+        else if (additionalChildTime != 0)
         {
             additionalChildTime = 0;
+            isSaveDirty = true;
         }
     }
 
@@ -923,6 +933,7 @@ public class Colony implements IColony
         this.colonyTag = compound;
 
         isActive = false;
+        isSaveDirty = false;
         return compound;
     }
 
@@ -963,8 +974,8 @@ public class Colony implements IColony
             if (eventHandler == null)
             {
                 eventHandler = new ColonyPermissionEventHandler(this);
-                MinecraftForge.EVENT_BUS.register(eventHandler);
             }
+            ColonyPermissionEventDispatcher.register(this, eventHandler);
             setColonyColor(this.colonyTeamColor);
         }
     }
@@ -986,10 +997,7 @@ public class Colony implements IColony
             return;
         }
 
-        if (eventHandler != null)
-        {
-            MinecraftForge.EVENT_BUS.unregister(eventHandler);
-        }
+        ColonyPermissionEventDispatcher.unregister(this);
         world = null;
     }
 
@@ -1278,6 +1286,15 @@ public class Colony implements IColony
     {
         packageManager.setDirty();
         isActive = true;
+        isSaveDirty = true;
+    }
+
+    /**
+     * Marks the colony as changed since its last save, without resending the colony view.
+     */
+    public void markSaveDirty()
+    {
+        isSaveDirty = true;
     }
 
     @Override
@@ -1620,7 +1637,7 @@ public class Colony implements IColony
     {
         try
         {
-            if (this.colonyTag == null || this.isActive)
+            if (this.colonyTag == null || this.isSaveDirty)
             {
                 this.write(new CompoundNBT());
             }
@@ -17,7 +17,9 @@ import com.minecolonies.coremod.MineColonies;
 import com.minecolonies.coremod.Network;
 import com.minecolonies.coremod.colony.requestsystem.management.manager.StandardRecipeManager;
 import com.minecolonies.coremod.network.messages.client.colony.ColonyViewRemoveMessage;
+import com.minecolonies.coremod.permissions.ColonyPermissionEventDispatcher;
 import com.minecolonies.coremod.util.BackUpHelper;
+import com.minecolonies.coremod.util.ColonySaveWriter;
 import com.minecolonies.coremod.util.ChunkDataHelper;
 import net.minecraft.client.Minecraft;
 import net.minecraft.entity.player.PlayerEntity;
@@ -179,14 +181,7 @@ public final class ColonyManager implements IColonyManager
                 }
             }
 
-            try
-            {
-                MinecraftForge.EVENT_BUS.unregister(colony.getEventHandler());
-            }
-            catch (final NullPointerException e)
-            {
-                Log.getLogger().warn("Can't unregister the event handler twice");
-            }
+            ColonyPermissionEventDispatcher.unregister(colony);
 
             Log.getLogger().info("Deleting colony: " + colony.getID());
 
@@ -198,6 +193,7 @@ public final class ColonyManager implements IColonyManager
             }
 
             cap.deleteColony(id);
+            ColonyTickScheduler.forget(colony);
             BackUpHelper.markColonyDeleted(colony.getID(), colony.getDimension());
             colony.getImportantMessageEntityPlayers()
               .forEach(player -> Network.getNetwork().sendToPlayer(new ColonyViewRemoveMessage(colony.getID(), colony.getDimension()), (ServerPlayerEntity) player));
@@ -646,7 +642,7 @@ public final class ColonyManager implements IColonyManager
     {
         if (event.phase == TickEvent.Phase.END)
         {
-            getColonies(event.world).forEach(c -> c.onWorldTick(event));
+            ColonyTickScheduler.tick(event, getColonies(event.world));
         }
     }
 
@@ -703,6 +699,11 @@ public final class ColonyManager implements IColonyManager
                 c.onWorldUnload(world);
             }
 
+            ColonyTickScheduler.forget(getColonies(world), world);
+
+            // Make sure the colony files of this world are written before it goes away.
+            ColonySaveWriter.flush();
+
             if (hasColonies)
             {
                 BackUpHelper.backupColonyData();
@@ -0,0 +1,241 @@
+package com.minecolonies.coremod.colony;
+
+import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.util.Log;
+import com.minecolonies.coremod.MineColonies;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import net.minecraft.util.RegistryKey;
+import net.minecraft.world.World;
+import net.minecraftforge.event.TickEvent;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static com.minecolonies.api.entity.ai.statemachine.tickratestatemachine.TickRateConstants.MAX_TICKRATE;
+import static com.minecolonies.api.util.constant.Constants.TICKS_SECOND;
+
+/**
+ * Ticks the colonies of a world within a time budget and keeps track of how long each colony takes.
+ * <p>
+ * Colonies are ticked round robin, once the budget of a world tick is used up the remaining colonies are deferred and go first on the next tick. A colony is
+ * never deferred for more than a second in a row, so a heavy colony slows the others down a little instead of stalling them. The colony state machines are
+ * staggered by colony id, so the slow colony updates of different colonies do not all land on the same tick.
+ */
+public final class ColonyTickScheduler
+{
+    /**
+     * Step between the tick phases of consecutive colony ids, coprime to the max tickrate so the phases spread over the whole window.
+     */
+    private static final int STAGGER_STEP = 193;
+
+    /**
+     * Max amount of ticks in a row a colony may be deferred.
+     */
+    private static final int MAX_DEFERRED_TICKS = TICKS_SECOND;
+
+    /**
+     * Weight of the latest tick in the moving average.
+     */
+    private static final double AVERAGE_WEIGHT = 0.05;
+
+    /**
+     * Single colony ticks taking longer than this are logged.
+     */
+    private static final long SLOW_TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+    /**
+     * Amount of colonies listed in the statistics.
+     */
+    private static final int STATISTICS_ENTRIES = 10;
+
+    /**
+     * The tick statistics of each colony.
+     */
+    private static final Map<IColony, ColonyTickStats> stats = new Reference2ObjectOpenHashMap<>();
+
+    /**
+     * The index of the colony to start with on the next tick, per world.
+     */
+    private static final Object2IntOpenHashMap<RegistryKey<World>> cursors = new Object2IntOpenHashMap<>();
+
+    /**
+     * Private constructor to hide the implicit one.
+     */
+    private ColonyTickScheduler()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Get the tick phase of a colony, used as initial counter of its state machine.
+     *
+     * @param colonyId the id of the colony.
+     * @return the phase, between 0 and the max tickrate.
+     */
+    public static int getTickPhase(final int colonyId)
+    {
+        return Math.floorMod(colonyId * STAGGER_STEP, MAX_TICKRATE);
+    }
+
+    /**
+     * Tick the colonies of a world, deferring the ones over the budget.
+     *
+     * @param event    the world tick event.
+     * @param colonies the colonies of the world.
+     */
+    public static void tick(@NotNull final TickEvent.WorldTickEvent event, @NotNull final List<IColony> colonies)
+    {
+        final int size = colonies.size();
+        if (size == 0)
+        {
+            return;
+        }
+
+        final long budget = TimeUnit.MILLISECONDS.toNanos(MineColonies.getConfig().getServer().colonyTickBudget.get());
+        final RegistryKey<World> dimension = event.world.dimension();
+        final int start = cursors.getInt(dimension) % size;
+        int nextStart = -1;
+
+        final long tickStart = System.nanoTime();
+        long now = tickStart;
+        for (int i = 0; i < size; i++)
+        {
+            final int index = (start + i) % size;
+            final IColony colony = colonies.get(index);
+            final ColonyTickStats colonyStats = stats.computeIfAbsent(colony, key -> new ColonyTickStats());
+
+            if (now - tickStart >= budget && colonyStats.deferredTicks < MAX_DEFERRED_TICKS)
+            {
+                colonyStats.deferredTicks++;
+                colonyStats.totalDeferred++;
+                if (nextStart < 0)
+                {
+                    nextStart = index;
+                }
+                continue;
+            }
+
+            colony.onWorldTick(event);
+
+            final long end = System.nanoTime();
+            colonyStats.record(end - now);
+            if (end - now > SLOW_TICK_NANOS)
+            {
+                Log.getLogger().warn("Colony " + colony.getID() + " in " + dimension.location() + " took " + TimeUnit.NANOSECONDS.toMillis(end - now) + "ms to tick");
+            }
+            now = end;
+        }
+
+        cursors.put(dimension, nextStart < 0 ? start : nextStart);
+    }
+
+    /**
+     * Drop the statistics of a colony, called when it is deleted.
+     *
+     * @param colony the colony.
+     */
+    public static void forget(@NotNull final IColony colony)
+    {
+        stats.remove(colony);
+    }
+
+    /**
+     * Drop the statistics of all colonies of a world, called when it unloads.
+     *
+     * @param colonies the colonies of the world.
+     * @param world    the world.
+     */
+    public static void forget(@NotNull final List<IColony> colonies, @NotNull final World world)
+    {
+        for (final IColony colony : colonies)
+        {
+            stats.remove(colony);
+        }
+        cursors.removeInt(world.dimension());
+    }
+
+    /**
+     * Get a readable summary of the colony tick times, listing the slowest colonies first.
+     *
+     * @return the lines of the summary.
+     */
+    @NotNull
+    public static List<String> getStatistics()
+    {
+        final List<Map.Entry<IColony, ColonyTickStats>> entries = new ArrayList<>(stats.entrySet());
+        entries.sort((entry1, entry2) -> Double.compare(entry2.getValue().averageNanos, entry1.getValue().averageNanos));
+
+        double totalAverage = 0;
+        long totalDeferred = 0;
+        for (final Map.Entry<IColony, ColonyTickStats> entry : entries)
+        {
+            totalAverage += entry.getValue().averageNanos;
+            totalDeferred += entry.getValue().totalDeferred;
+        }
+
+        final List<String> lines = new ArrayList<>();
+        lines.add(String.format("Colony ticks: %d colonies, %.3fms per tick on average, %d deferred ticks",
+          entries.size(),
+          totalAverage / TimeUnit.MILLISECONDS.toNanos(1),
+          totalDeferred));
+
+        for (int i = 0; i < Math.min(STATISTICS_ENTRIES, entries.size()); i++)
+        {
+            final IColony colony = entries.get(i).getKey();
+            final ColonyTickStats colonyStats = entries.get(i).getValue();
+            lines.add(String.format("#%d %s (%s): %.3fms average, %.3fms max, %.1f%% of colony tick time, %d deferred ticks",
+              colony.getID(),
+              colony.getName(),
+              colony.getDimension().location(),
+              colonyStats.averageNanos / TimeUnit.MILLISECONDS.toNanos(1),
+              colonyStats.maxNanos / (double) TimeUnit.MILLISECONDS.toNanos(1),
+              totalAverage == 0 ? 0 : colonyStats.averageNanos * 100 / totalAverage,
+              colonyStats.totalDeferred));
+        }
+        return lines;
+    }
+
+    /**
+     * The tick statistics of one colony.
+     */
+    private static class ColonyTickStats
+    {
+        /**
+         * Moving average of the tick time.
+         */
+        private double averageNanos;
+
+        /**
+         * Longest tick so far.
+         */
+        private long maxNanos;
+
+        /**
+         * Ticks deferred in a row.
+         */
+        private int deferredTicks;
+
+        /**
+         * Ticks deferred in total.
+         */
+        private long totalDeferred;
+
+        /**
+         * Record a tick.
+         *
+         * @param nanos the time the tick took.
+         */
+        private void record(final long nanos)
+        {
+            averageNanos += (nanos - averageNanos) * AVERAGE_WEIGHT;
+            maxNanos = Math.max(maxNanos, nanos);
+            deferredTicks = 0;
+        }
+    }
+}
@@ -24,10 +24,13 @@ import com.minecolonies.coremod.colony.buildings.views.AbstractBuildingView;
 import com.minecolonies.coremod.colony.buildings.workerbuildings.BuildingTownHall;
 import com.minecolonies.coremod.colony.managers.ResearchManager;
 import com.minecolonies.coremod.colony.permissions.PermissionsView;
+import com.minecolonies.coremod.colony.requestsystem.management.IStandardRequestManager;
+import com.minecolonies.coremod.colony.requestsystem.management.manager.RequestSyncLog;
 import com.minecolonies.coremod.colony.requestsystem.management.manager.StandardRequestManager;
 import com.minecolonies.coremod.colony.workorders.AbstractWorkOrder;
 import com.minecolonies.coremod.network.messages.PermissionsMessage;
 import com.minecolonies.coremod.network.messages.server.colony.ColonyFlagChangeMessage;
+import com.minecolonies.coremod.network.messages.server.colony.RequestSystemResyncMessage;
 import com.minecolonies.coremod.network.messages.server.colony.TownHallRenameMessage;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockState;
@@ -165,6 +168,16 @@ public final class ColonyView implements IColonyView
      */
     private IRequestManager requestManager;
 
+    /**
+     * The request system sync version the local request manager is at.
+     */
+    private int requestSyncVersion;
+
+    /**
+     * Whether a full request system snapshot was asked for and did not arrive yet.
+     */
+    private boolean awaitingRequestSync = false;
+
     /**
      * Wether the colony is raided
      */
@@ -250,8 +263,9 @@ public final class ColonyView implements IColonyView
      * @param colony            Colony to write data about.
      * @param buf               {@link PacketBuffer} to write data in.
      * @param hasNewSubscribers true if there is a new subscription.
+     * @param fullRequestSync   true if the request system has to be sent as a full snapshot instead of a delta.
      */
-    public static void serializeNetworkData(@NotNull Colony colony, @NotNull PacketBuffer buf, boolean hasNewSubscribers)
+    public static void serializeNetworkData(@NotNull Colony colony, @NotNull PacketBuffer buf, boolean hasNewSubscribers, boolean fullRequestSync)
     {
         //  General Attributes
         buf.writeUtf(colony.getName());
@@ -294,20 +308,30 @@ public final class ColonyView implements IColonyView
 
         //  Citizens are sent as a separate packet
 
-        if (colony.getRequestManager() != null && (colony.getRequestManager().isDirty() || hasNewSubscribers))
+        final IStandardRequestManager requestManager = (IStandardRequestManager) colony.getRequestManager();
+        if (requestManager != null && fullRequestSync)
         {
+            // Bring the change log up to date first, so the snapshot matches its version exactly.
+            requestManager.getSyncLog().update(StandardFactoryController.getInstance());
+
             final int preSize = buf.writerIndex();
-            buf.writeBoolean(true);
-            colony.getRequestManager().serialize(StandardFactoryController.getInstance(), buf);
+            buf.writeByte(RequestSyncLog.SYNC_FULL);
+            buf.writeInt(requestManager.getSyncLog().getVersion());
+            requestManager.serialize(StandardFactoryController.getInstance(), buf);
             final int postSize = buf.writerIndex();
             if ((postSize - preSize) >= ColonyView.REQUEST_MANAGER_MAX_SIZE)
             {
                 Log.getLogger().warn("Colony " + colony.getID() + " has a very big memory imprint, this could be a memory leak, please contact the mod author!");
             }
         }
+        else if (requestManager != null && requestManager.isDirty())
+        {
+            buf.writeByte(RequestSyncLog.SYNC_DELTA);
+            requestManager.getSyncLog().writeDelta(StandardFactoryController.getInstance(), buf);
+        }
         else
         {
-            buf.writeBoolean(false);
+            buf.writeByte(RequestSyncLog.SYNC_NONE);
         }
 
         buf.writeInt(colony.getRaiderManager().getLastSpawnPoints().size());
@@ -815,10 +839,17 @@ public final class ColonyView implements IColonyView
         this.moveIn = buf.readBoolean();
         this.textureStyle = buf.readUtf(32767);
 
-        if (buf.readBoolean())
+        final byte requestSync = buf.readByte();
+        if (requestSync == RequestSyncLog.SYNC_FULL)
         {
+            this.requestSyncVersion = buf.readInt();
             this.requestManager = new StandardRequestManager(this);
             this.requestManager.deserialize(StandardFactoryController.getInstance(), buf);
+            this.awaitingRequestSync = false;
+        }
+        else if (requestSync == RequestSyncLog.SYNC_DELTA)
+        {
+            handleRequestSyncDelta(buf);
         }
 
         final int barbSpawnListSize = buf.readInt();
@@ -872,6 +903,38 @@ public final class ColonyView implements IColonyView
         return null;
     }
 
+    /**
+     * Apply a request system delta, or ask the server for a full snapshot if it does not fit the local version.
+     *
+     * @param buf the buffer positioned at the delta.
+     */
+    private void handleRequestSyncDelta(@NotNull final PacketBuffer buf)
+    {
+        final int fromVersion = buf.readInt();
+        final int toVersion = buf.readInt();
+        final PacketBuffer entries = new PacketBuffer(buf.readSlice(buf.readInt()));
+
+        if (!awaitingRequestSync && requestManager instanceof IStandardRequestManager && fromVersion == requestSyncVersion)
+        {
+            try
+            {
+                RequestSyncLog.applyDelta((IStandardRequestManager) requestManager, StandardFactoryController.getInstance(), entries);
+                requestSyncVersion = toVersion;
+                return;
+            }
+            catch (final RuntimeException ex)
+            {
+                Log.getLogger().warn("Failed to apply request system update of colony " + id + ", requesting a full update", ex);
+            }
+        }
+
+        if (!awaitingRequestSync)
+        {
+            awaitingRequestSync = true;
+            Network.getNetwork().sendToServer(new RequestSystemResyncMessage(this));
+        }
+    }
+
     /**
      * Update permissions.
      *
@@ -6,22 +6,28 @@ import com.minecolonies.api.colony.IColony;
 import com.minecolonies.api.colony.IColonyManager;
 import com.minecolonies.api.util.Log;
 import com.minecolonies.api.util.NBTUtils;
+import com.minecolonies.coremod.MineColonies;
 import com.minecolonies.coremod.util.BackUpHelper;
+import com.minecolonies.coremod.util.ColonySaveWriter;
 import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.nbt.INBT;
+import net.minecraft.nbt.ListNBT;
+import net.minecraft.util.RegistryKey;
+import net.minecraft.util.ResourceLocation;
 import net.minecraft.util.Direction;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.registry.Registry;
 import net.minecraft.world.World;
 import net.minecraftforge.common.capabilities.Capability;
 import net.minecraftforge.common.util.Constants;
 import org.jetbrains.annotations.NotNull;
 
 import javax.annotation.Nullable;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 
-import static com.minecolonies.api.util.constant.NbtTagConstants.TAG_COLONIES;
-import static com.minecolonies.api.util.constant.NbtTagConstants.TAG_COLONY_MANAGER;
+import static com.minecolonies.api.util.constant.NbtTagConstants.*;
 
 /**
  * Capability for the colony tag for chunks
@@ -132,7 +138,32 @@ public interface IColonyManagerCapability
         public INBT writeNBT(@NotNull final Capability<IColonyManagerCapability> capability, @NotNull final IColonyManagerCapability instance, @Nullable final Direction side)
         {
             final CompoundNBT compound = new CompoundNBT();
-            compound.put(TAG_COLONIES, instance.getColonies().stream().map(IColony::getColonyTag).filter(Objects::nonNull).collect(NBTUtils.toListNBT()));
+            if (MineColonies.getConfig().getServer().colonyFileStorage.get())
+            {
+                // Colonies go to their own files, only the ones which changed are written again.
+                final ListNBT colonyFiles = new ListNBT();
+                for (final IColony colony : instance.getColonies())
+                {
+                    final CompoundNBT colonyCompound = colony.getColonyTag();
+                    if (colonyCompound == null)
+                    {
+                        continue;
+                    }
+
+                    final ResourceLocation dimension = colony.getDimension().location();
+                    ColonySaveWriter.save(BackUpHelper.getColonyFile(colony.getID(), dimension), colonyCompound);
+
+                    final CompoundNBT fileCompound = new CompoundNBT();
+                    fileCompound.putInt(TAG_ID, colony.getID());
+                    fileCompound.putString(TAG_DIMENSION, dimension.toString());
+                    colonyFiles.add(fileCompound);
+                }
+                compound.put(TAG_COLONY_FILES, colonyFiles);
+            }
+            else
+            {
+                compound.put(TAG_COLONIES, instance.getColonies().stream().map(IColony::getColonyTag).filter(Objects::nonNull).collect(NBTUtils.toListNBT()));
+            }
             final CompoundNBT managerCompound = new CompoundNBT();
             IColonyManager.getInstance().write(managerCompound);
             compound.put(TAG_COLONY_MANAGER, managerCompound);
@@ -150,18 +181,40 @@ public interface IColonyManagerCapability
             {
                 final CompoundNBT compound = (CompoundNBT) nbt;
 
-                if (!compound.contains(TAG_COLONIES) || !compound.contains(TAG_COLONY_MANAGER))
+                if ((!compound.contains(TAG_COLONIES) && !compound.contains(TAG_COLONY_FILES)) || !compound.contains(TAG_COLONY_MANAGER))
                 {
                     BackUpHelper.loadMissingColonies();
                     BackUpHelper.loadManagerBackup();
                     return;
                 }
 
+                final List<CompoundNBT> colonyCompounds = new ArrayList<>();
+                for (final INBT tag : compound.getList(TAG_COLONIES, Constants.NBT.TAG_COMPOUND))
+                {
+                    colonyCompounds.add((CompoundNBT) tag);
+                }
+
+                // Colonies saved to their own files
+                for (final INBT tag : compound.getList(TAG_COLONY_FILES, Constants.NBT.TAG_COMPOUND))
+                {
+                    final CompoundNBT fileCompound = (CompoundNBT) tag;
+                    final int id = fileCompound.getInt(TAG_ID);
+                    final ResourceLocation dimension = new ResourceLocation(fileCompound.getString(TAG_DIMENSION));
+                    final CompoundNBT colonyCompound = BackUpHelper.loadNBTFromPath(BackUpHelper.getColonyFile(id, dimension));
+                    if (colonyCompound == null)
+                    {
+                        Log.getLogger().warn("Missing save file of colony " + id + ", trying to restore it from the latest backup.");
+                        BackUpHelper.loadColonyBackup(id, RegistryKey.create(Registry.DIMENSION_REGISTRY, dimension), false, false);
+                        continue;
+                    }
+                    colonyCompounds.add(colonyCompound);
+                }
+
                 // Load all colonies from Nbt
                 Multimap<BlockPos, IColony> tempColonies = ArrayListMultimap.create();
-                for (final INBT tag : compound.getList(TAG_COLONIES, Constants.NBT.TAG_COMPOUND))
+                for (final CompoundNBT colonyCompound : colonyCompounds)
                 {
-                    final IColony colony = Colony.loadColony((CompoundNBT) tag, null);
+                    final IColony colony = Colony.loadColony(colonyCompound, null);
                     if (colony != null)
                     {
                         tempColonies.put(colony.getCenter(), colony);
@@ -4,8 +4,8 @@ import com.google.common.collect.ImmutableCollection;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
 import com.google.common.reflect.TypeToken;
+import com.ldtteam.structures.blueprints.v1.Blueprint;
 import com.ldtteam.structurize.util.LanguageHandler;
-import com.ldtteam.structurize.util.PlacementSettings;
 import com.minecolonies.api.MinecoloniesAPIProxy;
 import com.minecolonies.api.blocks.AbstractBlockHut;
 import com.minecolonies.api.colony.ICitizenData;
@@ -39,6 +39,7 @@ import com.minecolonies.api.util.constant.TypeConstants;
 import com.minecolonies.coremod.colony.Colony;
 import com.minecolonies.coremod.colony.buildings.modules.AbstractAssignedCitizenModule;
 import com.minecolonies.coremod.colony.buildings.modules.LivingBuildingModule;
+import com.minecolonies.coremod.colony.buildings.modules.ModuleContainer;
 import com.minecolonies.coremod.colony.buildings.modules.WorkerBuildingModule;
 import com.minecolonies.coremod.colony.buildings.modules.settings.BoolSetting;
 import com.minecolonies.coremod.colony.buildings.modules.settings.SettingKey;
@@ -52,6 +53,7 @@ import com.minecolonies.coremod.colony.workorders.WorkOrderBuildBuilding;
 import com.minecolonies.coremod.colony.workorders.WorkOrderBuildRemoval;
 import com.minecolonies.coremod.entity.ai.citizen.builder.ConstructionTapeHelper;
 import com.minecolonies.coremod.entity.ai.citizen.deliveryman.EntityAIWorkDeliveryman;
+import com.minecolonies.coremod.util.BlueprintCache;
 import com.minecolonies.coremod.util.ChunkDataHelper;
 import com.minecolonies.coremod.util.ColonyUtils;
 import net.minecraft.block.AirBlock;
@@ -152,7 +154,7 @@ public abstract class AbstractBuilding extends AbstractBuildingContainer
     /**
      * Set of building modules this building has.
      */
-    protected List<IBuildingModule> modules = new ArrayList<>();
+    protected final ModuleContainer modules = new ModuleContainer();
 
     /**
      * Constructor for a AbstractBuilding.
@@ -171,26 +173,17 @@ public abstract class AbstractBuilding extends AbstractBuildingContainer
     @Override
     public boolean hasModule(final Class<? extends IBuildingModule> clazz)
     {
-        for (final IBuildingModule module : modules)
-        {
-            if (clazz.isInstance(module))
-            {
-                return true;
-            }
-        }
-        return false;
+        return modules.has(clazz);
     }
 
     @NotNull
     @Override
     public <T extends IBuildingModule> T getFirstModuleOccurance(final Class<T> clazz)
     {
-        for (final IBuildingModule module : modules)
+        final T module = modules.getFirst(clazz);
+        if (module != null)
         {
-            if (clazz.isInstance(module))
-            {
-                return (T) module;
-            }
+            return module;
         }
 
         throw new IllegalStateException("The module of class: " + clazz.toString() + "should never be null!");
@@ -200,25 +193,18 @@ public abstract class AbstractBuilding extends AbstractBuildingContainer
     @Override
     public <T extends IBuildingModule> Optional<T> getFirstOptionalModuleOccurance(final Class<T> clazz)
     {
-        for (final IBuildingModule module : modules)
-        {
-            if (clazz.isInstance(module))
-            {
-                return Optional.of((T) module);
-            }
-        }
-        return Optional.empty();
+        return Optional.ofNullable(modules.getFirst(clazz));
     }
 
     @NotNull
     @Override
     public <T extends IBuildingModule> T getModuleMatching(final Class<T> clazz, final Predicate<? super T> modulePredicate)
     {
-        for (final IBuildingModule module : modules)
+        for (final T module : modules.getModules(clazz))
         {
-            if (clazz.isInstance(module) && modulePredicate.test((T) module))
+            if (modulePredicate.test(module))
             {
-                return (T) module;
+                return module;
             }
         }
         return null;
@@ -228,16 +214,13 @@ public abstract class AbstractBuilding extends AbstractBuildingContainer
     @Override
     public <T extends IBuildingModule> List<T> getModules(final Class<T> clazz)
     {
-        return this.modules.stream()
-                .filter(clazz::isInstance)
-                .map(c -> (T) c)
-                .collect(Collectors.toList());
+        return modules.getModules(clazz);
     }
 
     @Override
     public void registerModule(@NotNull final IBuildingModule module)
     {
-        this.modules.add(module);
+        this.modules.register(module);
     }
 
     /**
@@ -262,7 +245,10 @@ public abstract class AbstractBuilding extends AbstractBuildingContainer
     @Override
     public void onWakeUp()
     {
-        getModules(IBuildingEventsModule.class).forEach(IBuildingEventsModule::onWakeUp);
+        for (final IBuildingEventsModule module : modules.getEventModules())
+        {
+            module.onWakeUp();
+        }
     }
 
     /**
@@ -292,7 +278,10 @@ public abstract class AbstractBuilding extends AbstractBuildingContainer
     @Override
     public void onPlayerEnterBuilding(final PlayerEntity player)
     {
-        getModules(IBuildingEventsModule.class).forEach(module -> module.onPlayerEnterBuilding(player));
+        for (final IBuildingEventsModule module : modules.getEventModules())
+        {
+            module.onPlayerEnterBuilding(player);
+        }
     }
 
     @Override
@@ -348,7 +337,10 @@ public abstract class AbstractBuilding extends AbstractBuildingContainer
             this.customName = compound.getString(TAG_CUSTOM_NAME);
         }
 
-        getModules(IPersistentModule.class).forEach(module -> module.deserializeNBT(compound));
+        for (final IPersistentModule module : modules.getPersistentModules())
+        {
+            module.deserializeNBT(compound);
+        }
     }
 
     @Override
@@ -366,7 +358,10 @@ public abstract class AbstractBuilding extends AbstractBuildingContainer
         compound.putBoolean(TAG_IS_BUILT, isBuilt);
         compound.putString(TAG_CUSTOM_NAME, customName);
 
-        getModules(IPersistentModule.class).forEach(module -> module.serializeNBT(compound));
+        for (final IPersistentModule module : modules.getPersistentModules())
+        {
+            module.serializeNBT(compound);
+        }
         return compound;
     }
 
@@ -410,7 +405,10 @@ public abstract class AbstractBuilding extends AbstractBuildingContainer
         ChunkDataHelper.claimColonyChunks(colony, false, this.getID(), getClaimRadius(getBuildingLevel()));
         ConstructionTapeHelper.removeConstructionTape(getCorners(), world);
 
-        getModules(IBuildingEventsModule.class).forEach(IBuildingEventsModule::onDestroyed);
+        for (final IBuildingEventsModule module : modules.getEventModules())
+        {
+            module.onDestroyed();
+        }
     }
 
     /**
@@ -530,7 +528,7 @@ public abstract class AbstractBuilding extends AbstractBuildingContainer
     @Override
     public final boolean isDirty()
     {
-        for (final IBuildingModule module : modules)
+        for (final IBuildingModule module : modules.getAll())
         {
             if (module.checkDirty())
             {
@@ -544,7 +542,7 @@ public abstract class AbstractBuilding extends AbstractBuildingContainer
     public final void clearDirty()
     {
         dirty = false;
-        for (final IBuildingModule module : modules)
+        for (final IBuildingModule module : modules.getAll())
         {
             module.clearDirty();
         }
@@ -700,7 +698,10 @@ public abstract class AbstractBuilding extends AbstractBuildingContainer
 
         buf.writeBoolean(isDeconstructed());
 
-        getModules(IPersistentModule.class).forEach(module -> module.serializeToView(buf));
+        for (final IPersistentModule module : modules.getPersistentModules())
+        {
+            module.serializeToView(buf);
+        }
     }
 
 
@@ -712,7 +713,10 @@ public abstract class AbstractBuilding extends AbstractBuildingContainer
     @Override
     public void onColonyTick(final IColony colony)
     {
-        getModules(ITickingModule.class).forEach(module -> module.onColonyTick(colony));
+        for (final ITickingModule module : modules.getTickingModules())
+        {
+            module.onColonyTick(colony);
+        }
     }
 
     /**
@@ -929,7 +933,10 @@ public abstract class AbstractBuilding extends AbstractBuildingContainer
         calculateCorners();
         this.isBuilt = true;
 
-        getModules(IBuildingEventsModule.class).forEach(module -> module.onUpgradeComplete(newLevel));
+        for (final IBuildingEventsModule module : modules.getEventModules())
+        {
+            module.onUpgradeComplete(newLevel);
+        }
         colony.getResearchManager().checkAutoStartResearch();
     }
 
@@ -944,19 +951,14 @@ public abstract class AbstractBuilding extends AbstractBuildingContainer
         }
 
         final WorkOrderBuildBuilding workOrder = new WorkOrderBuildBuilding(this, Math.max(1, getBuildingLevel()));
-        final LoadOnlyStructureHandler wrapper = new LoadOnlyStructureHandler(colony.getWorld(), getPosition(), workOrder.getStructureName(), new PlacementSettings(), true);
-        if (!wrapper.hasBluePrint())
+        final Blueprint blueprint = BlueprintCache.getBlueprintNow(colony.getWorld(), workOrder.getStructureName(), workOrder.getRotation(colony.getWorld()), workOrder.isMirrored());
+        if (blueprint == null)
         {
             setCorners(getPosition(), getPosition());
             return;
         }
 
-        final Tuple<BlockPos, BlockPos> corners
-          = ColonyUtils.calculateCorners(this.getPosition(),
-          colony.getWorld(),
-          wrapper.getBluePrint(),
-          workOrder.getRotation(colony.getWorld()),
-          workOrder.isMirrored());
+        final Tuple<BlockPos, BlockPos> corners = ColonyUtils.calculateCorners(this.getPosition(), blueprint);
         this.setCorners(corners.getA(), corners.getB());
     }
 
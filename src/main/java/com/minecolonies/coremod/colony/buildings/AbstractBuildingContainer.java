@@ -3,6 +3,7 @@ package com.minecolonies.coremod.colony.buildings;
 import com.minecolonies.api.blocks.AbstractBlockHut;
 import com.minecolonies.api.colony.ICitizenData;
 import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.colony.buildings.ContainerItemIndex;
 import com.minecolonies.api.colony.buildings.IBuilding;
 import com.minecolonies.api.colony.buildings.IBuildingContainer;
 import com.minecolonies.api.tileentities.AbstractTileEntityColonyBuilding;
@@ -63,6 +64,11 @@ public abstract class AbstractBuildingContainer extends AbstractSchematicProvide
      */
     private int unscaledPickUpPriority = 1;
 
+    /**
+     * Index over the content of the racks of the building.
+     */
+    private final ContainerItemIndex itemIndex = new ContainerItemIndex();
+
     /**
      * The constructor for the building container.
      *
@@ -140,6 +146,7 @@ public abstract class AbstractBuildingContainer extends AbstractSchematicProvide
     public void removeContainerPosition(final BlockPos pos)
     {
         containerList.remove(pos);
+        getItemIndex().remove(pos);
     }
 
     @Override
@@ -150,6 +157,13 @@ public abstract class AbstractBuildingContainer extends AbstractSchematicProvide
         return list;
     }
 
+    @NotNull
+    @Override
+    public ContainerItemIndex getItemIndex()
+    {
+        return itemIndex;
+    }
+
     @Override
     public void registerBlockPosition(@NotNull final BlockState blockState, @NotNull final BlockPos pos, @NotNull final World world)
     {
@@ -239,8 +239,15 @@ public abstract class AbstractSchematicProvider implements ISchematicProvider, I
     @Override
     public void setCorners(final BlockPos pos1, final BlockPos pos2)
     {
+        final BlockPos oldLowerCorner = this.lowerCorner;
+        final BlockPos oldHigherCorner = this.higherCorner;
         this.lowerCorner = new BlockPos(Math.min(pos1.getX(), pos2.getX()), Math.min(pos1.getY(), pos2.getY()), Math.min(pos1.getZ(), pos2.getZ()));
         this.higherCorner = new BlockPos(Math.max(pos1.getX(), pos2.getX()), Math.max(pos1.getY(), pos2.getY()), Math.max(pos1.getZ(), pos2.getZ()));
+
+        if (!lowerCorner.equals(oldLowerCorner) || !higherCorner.equals(oldHigherCorner))
+        {
+            colony.getBuildingManager().onBuildingBoundsChanged(this);
+        }
     }
 
     @Override
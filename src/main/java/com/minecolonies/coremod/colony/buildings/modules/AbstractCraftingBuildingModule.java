@@ -30,6 +30,7 @@ import com.minecolonies.coremod.colony.requestsystem.resolvers.PublicWorkerCraft
 import com.minecolonies.coremod.colony.requestsystem.resolvers.PublicWorkerCraftingRequestResolver;
 import net.minecraft.block.Blocks;
 import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.loot.LootContext;
 import net.minecraft.loot.LootParameters;
@@ -87,6 +88,11 @@ public abstract class AbstractCraftingBuildingModule extends AbstractBuildingMod
      */
     protected final List<IToken<?>> recipes = new ArrayList<>();
 
+    /**
+     * The recipes of this module by the items of their outputs, in the order of the recipe list. Null if it has to be rebuilt.
+     */
+    private Map<Item, List<IToken<?>>> outputIndex = null;
+
     /**
      * The job entry that works at this module.
      */
@@ -219,6 +225,7 @@ public abstract class AbstractCraftingBuildingModule extends AbstractBuildingMod
                 IColonyManager.getInstance().getRecipeManager().registerUse(token);
             }
         }
+        outputIndex = null;
     }
 
     @Override
@@ -241,7 +248,7 @@ public abstract class AbstractCraftingBuildingModule extends AbstractBuildingMod
         final Map<ResourceLocation, CustomRecipe> crafterRecipes = CustomRecipeManager.getInstance().getAllRecipes().getOrDefault(getCustomRecipeKey(), Collections.emptyMap());
         for (final IToken<?> token : new ArrayList<>(recipes))
         {
-            final IRecipeStorage storage = IColonyManager.getInstance().getRecipeManager().getRecipes().get(token);
+            final IRecipeStorage storage = IColonyManager.getInstance().getRecipeManager().getRecipe(token);
 
             if (storage == null || (storage.getRecipeSource() != null && !crafterRecipes.containsKey(storage.getRecipeSource())) || (!isRecipeCompatibleWithCraftingModule(token) && !isPreTaughtRecipe(storage, crafterRecipes)))
             {
@@ -329,7 +336,7 @@ public abstract class AbstractCraftingBuildingModule extends AbstractBuildingMod
                 for (final IToken<?> taskToken : assignedTasks)
                 {
                     final IRequest<? extends PublicCrafting> request = (IRequest<? extends PublicCrafting>) building.getColony().getRequestManager().getRequestForToken(taskToken);
-                    final IRecipeStorage recipeStorage = IColonyManager.getInstance().getRecipeManager().getRecipes().get(request.getRequest().getRecipeID());
+                    final IRecipeStorage recipeStorage = IColonyManager.getInstance().getRecipeManager().getRecipe(request.getRequest().getRecipeID());
                     if (holdsRecipe(request.getRequest().getRecipeID()) && recipeStorage != null)
                     {
                         recipes.add(new Tuple<>(recipeStorage, request.getRequest().getCount()));
@@ -359,7 +366,7 @@ public abstract class AbstractCraftingBuildingModule extends AbstractBuildingMod
                 return true;
             }
 
-            final IRecipeStorage recipeStorage = IColonyManager.getInstance().getRecipeManager().getRecipes().get(token);
+            final IRecipeStorage recipeStorage = IColonyManager.getInstance().getRecipeManager().getRecipe(token);
             if (recipeStorage != null)
             {
                 building.getColony().getRequestManager().onColonyUpdate(request -> request.getRequest() instanceof IDeliverable && ((IDeliverable) request.getRequest()).matches(recipeStorage.getPrimaryOutput()));
@@ -395,7 +402,7 @@ public abstract class AbstractCraftingBuildingModule extends AbstractBuildingMod
                         duplicateFound = token;
                         break;
                     }
-                    final IRecipeStorage storage = recipeManager.getRecipes().get(token);
+                    final IRecipeStorage storage = recipeManager.getRecipe(token);
 
                     //Let's verify that this recipe doesn't exist in an improved form
                     if(storage != null && storage.getPrimaryOutput().equals(recipeStorage.getPrimaryOutput(), true))
@@ -456,7 +463,7 @@ public abstract class AbstractCraftingBuildingModule extends AbstractBuildingMod
                     final List<ItemStack> alternates = recipeStorage.getAlternateOutputs();
                     for(IToken<?> token : recipes)
                     {
-                        final IRecipeStorage storage = recipeManager.getRecipes().get(token);
+                        final IRecipeStorage storage = recipeManager.getRecipe(token);
                         if(storage.getRecipeType() instanceof ClassicRecipe && ItemStackUtils.compareItemStackListIgnoreStackSize(alternates, storage.getPrimaryOutput(), false, true))
                         {
                             removeRecipe(token);
@@ -481,6 +488,7 @@ public abstract class AbstractCraftingBuildingModule extends AbstractBuildingMod
     public void clearRecipes()
     {
         recipes.clear();
+        outputIndex = null;
     }
 
     @Override
@@ -545,7 +553,7 @@ public abstract class AbstractCraftingBuildingModule extends AbstractBuildingMod
     @Nullable
     public IRecipeStorage getFirstRecipe(final ItemStack stack)
     {
-        return getFirstRecipe(itemStack -> !itemStack.isEmpty() && ItemStackUtils.compareItemStacksIgnoreStackSize(itemStack, stack, true, true));
+        return getFirstRecipe(new RecipeOutputPredicate(stack));
     }
 
     @Override
@@ -555,10 +563,10 @@ public abstract class AbstractCraftingBuildingModule extends AbstractBuildingMod
         IRecipeStorage foundRecipe = null;
         final HashMap<IRecipeStorage, Integer> candidates = new HashMap<>();
         //Scan through and collect all possible recipes that could fulfill this, taking special note of the first one
-        for (final IToken<?> token : recipes)
+        for (final IToken<?> token : getCandidateRecipes(stackPredicate))
         {
-            final IRecipeStorage storage = IColonyManager.getInstance().getRecipeManager().getRecipes().get(token);
-            if (storage != null && (stackPredicate.test(storage.getPrimaryOutput()) || storage.getAlternateOutputs().stream().anyMatch(stackPredicate::test)))
+            final IRecipeStorage storage = IColonyManager.getInstance().getRecipeManager().getRecipe(token);
+            if (storage != null && matchesOutput(storage, stackPredicate))
             {
                 if(foundRecipe == null)
                 {
@@ -582,7 +590,7 @@ public abstract class AbstractCraftingBuildingModule extends AbstractBuildingMod
         if(foundRecipe != null && foundRecipe.getRecipeType() instanceof MultiOutputRecipe)
         {
             IToken<?> token = IColonyManager.getInstance().getRecipeManager().checkOrAddRecipe(foundRecipe.getClassicForMultiOutput(stackPredicate));
-            foundRecipe = IColonyManager.getInstance().getRecipeManager().getRecipes().get(token);
+            foundRecipe = IColonyManager.getInstance().getRecipeManager().getRecipe(token);
         }
 
         return foundRecipe;
@@ -617,6 +625,87 @@ public abstract class AbstractCraftingBuildingModule extends AbstractBuildingMod
         return false;
     }
 
+    /**
+     * Get the recipes which may match a predicate, in the order of the recipe list.
+     * Predicates matching a known output stack only get the recipes indexed under its item, any other predicate gets all recipes.
+     *
+     * @param stackPredicate the predicate the outputs will be tested against.
+     * @return the candidate recipe tokens.
+     */
+    protected List<IToken<?>> getCandidateRecipes(final Predicate<ItemStack> stackPredicate)
+    {
+        if (!(stackPredicate instanceof RecipeOutputPredicate))
+        {
+            return recipes;
+        }
+
+        if (outputIndex == null)
+        {
+            outputIndex = buildOutputIndex();
+            if (outputIndex == null)
+            {
+                return recipes;
+            }
+        }
+        return outputIndex.getOrDefault(((RecipeOutputPredicate) stackPredicate).getStack().getItem(), Collections.emptyList());
+    }
+
+    /**
+     * Build the output index of the recipe list.
+     *
+     * @return the index, or null if not all recipes are known to the recipe manager yet.
+     */
+    @Nullable
+    private Map<Item, List<IToken<?>>> buildOutputIndex()
+    {
+        final Map<Item, List<IToken<?>>> index = new HashMap<>();
+        for (final IToken<?> token : recipes)
+        {
+            final IRecipeStorage storage = IColonyManager.getInstance().getRecipeManager().getRecipe(token);
+            if (storage == null)
+            {
+                return null;
+            }
+
+            final Set<Item> outputs = new HashSet<>();
+            outputs.add(storage.getPrimaryOutput().getItem());
+            for (final ItemStack output : storage.getAlternateOutputs())
+            {
+                outputs.add(output.getItem());
+            }
+
+            for (final Item output : outputs)
+            {
+                index.computeIfAbsent(output, item -> new ArrayList<>()).add(token);
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Check if the primary or any alternate output of a recipe matches a predicate.
+     *
+     * @param storage        the recipe.
+     * @param stackPredicate the predicate.
+     * @return true if so.
+     */
+    private static boolean matchesOutput(final IRecipeStorage storage, final Predicate<ItemStack> stackPredicate)
+    {
+        if (stackPredicate.test(storage.getPrimaryOutput()))
+        {
+            return true;
+        }
+
+        for (final ItemStack output : storage.getAlternateOutputs())
+        {
+            if (stackPredicate.test(output))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Get the count of items in all the warehouses
      */
@@ -635,10 +724,10 @@ public abstract class AbstractCraftingBuildingModule extends AbstractBuildingMod
     @Override
     public IRecipeStorage getFirstFulfillableRecipe(final Predicate<ItemStack> stackPredicate, final int count, final boolean considerReservation)
     {
-        for (final IToken<?> token : recipes)
+        for (final IToken<?> token : getCandidateRecipes(stackPredicate))
         {
-            final IRecipeStorage storage = IColonyManager.getInstance().getRecipeManager().getRecipes().get(token);
-            if (storage != null && (stackPredicate.test(storage.getPrimaryOutput()) || storage.getAlternateOutputs().stream().anyMatch(i -> stackPredicate.test(i))))
+            final IRecipeStorage storage = IColonyManager.getInstance().getRecipeManager().getRecipe(token);
+            if (storage != null && matchesOutput(storage, stackPredicate))
             {
                 final Set<IItemHandler> handlers = new HashSet<>();
                 for (final ICitizenData workerEntity : building.getAllAssignedCitizen())
@@ -696,7 +785,7 @@ public abstract class AbstractCraftingBuildingModule extends AbstractBuildingMod
     {
         for (final IToken<?> token : recipes)
         {
-            final IRecipeStorage recipeStorage = IColonyManager.getInstance().getRecipeManager().getRecipes().get(token);
+            final IRecipeStorage recipeStorage = IColonyManager.getInstance().getRecipeManager().getRecipe(token);
             if (recipeStorage != null)
             {
                 building.getColony().getRequestManager().onColonyUpdate(request -> request.getRequest() instanceof IDeliverable && ((IDeliverable) request.getRequest()).matches(recipeStorage.getPrimaryOutput()));
@@ -712,6 +801,7 @@ public abstract class AbstractCraftingBuildingModule extends AbstractBuildingMod
             int oldIndex = recipes.indexOf(oldRecipe);
             recipes.add(oldIndex, newRecipe);
             recipes.remove(oldRecipe);
+            outputIndex = null;
             markDirty();
         }
     }
@@ -728,6 +818,7 @@ public abstract class AbstractCraftingBuildingModule extends AbstractBuildingMod
             Log.getLogger().warn("Failure to remove recipe, please tell the mod authors about this");
             recipes.clear();
         }
+        outputIndex = null;
     }
 
     @Override
@@ -743,6 +834,7 @@ public abstract class AbstractCraftingBuildingModule extends AbstractBuildingMod
             {
                 recipes.add(token);
             }
+            outputIndex = null;
         }
     }
 
@@ -754,6 +846,7 @@ public abstract class AbstractCraftingBuildingModule extends AbstractBuildingMod
             final IToken<?> storage = recipes.get(i);
             recipes.set(i, recipes.get(j));
             recipes.set(j, storage);
+            outputIndex = null;
             markDirty();
         }
     }
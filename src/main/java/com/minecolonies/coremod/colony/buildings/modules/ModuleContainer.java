@@ -0,0 +1,172 @@
+package com.minecolonies.coremod.colony.buildings.modules;
+
+import com.minecolonies.api.colony.buildings.modules.IBuildingEventsModule;
+import com.minecolonies.api.colony.buildings.modules.IBuildingModule;
+import com.minecolonies.api.colony.buildings.modules.IPersistentModule;
+import com.minecolonies.api.colony.buildings.modules.ITickingModule;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The modules of a building, indexed by every class and interface they implement.
+ * <p>
+ * The index is filled when modules are registered, so type lookups are a single map access instead of an instanceof scan over all modules. The modules of the
+ * lifecycle interfaces are additionally kept in plain arrays for the building to dispatch to without any lookup at all.
+ */
+public class ModuleContainer
+{
+    /**
+     * All supertypes of each module class seen so far, shared between all buildings.
+     */
+    private static final Map<Class<?>, List<Class<?>>> typeClosures = new ConcurrentHashMap<>();
+
+    /**
+     * All modules in registration order.
+     */
+    private final List<IBuildingModule> modules = new ArrayList<>();
+
+    /**
+     * The modules of every type, in registration order.
+     */
+    private final Map<Class<?>, List<IBuildingModule>> modulesByType = new HashMap<>();
+
+    /**
+     * The lifecycle dispatch arrays.
+     */
+    private ITickingModule[]        tickingModules    = new ITickingModule[0];
+    private IBuildingEventsModule[] eventModules      = new IBuildingEventsModule[0];
+    private IPersistentModule[]     persistentModules = new IPersistentModule[0];
+
+    /**
+     * Register a module.
+     *
+     * @param module the module to register.
+     */
+    public void register(@NotNull final IBuildingModule module)
+    {
+        modules.add(module);
+        for (final Class<?> type : typeClosures.computeIfAbsent(module.getClass(), ModuleContainer::computeTypeClosure))
+        {
+            modulesByType.computeIfAbsent(type, key -> new ArrayList<>()).add(module);
+        }
+
+        tickingModules = getModules(ITickingModule.class).toArray(new ITickingModule[0]);
+        eventModules = getModules(IBuildingEventsModule.class).toArray(new IBuildingEventsModule[0]);
+        persistentModules = getModules(IPersistentModule.class).toArray(new IPersistentModule[0]);
+    }
+
+    /**
+     * Get all modules.
+     *
+     * @return an unmodifiable list of the modules, in registration order.
+     */
+    @NotNull
+    public List<IBuildingModule> getAll()
+    {
+        return Collections.unmodifiableList(modules);
+    }
+
+    /**
+     * Check if any module has a particular class or interface.
+     *
+     * @param clazz the class or interface.
+     * @return true if so.
+     */
+    public boolean has(@NotNull final Class<? extends IBuildingModule> clazz)
+    {
+        return modulesByType.containsKey(clazz);
+    }
+
+    /**
+     * Get the first module with a particular class or interface.
+     *
+     * @param clazz the class or interface.
+     * @param <T>   the type of the module.
+     * @return the module or null if none.
+     */
+    @Nullable
+    public <T extends IBuildingModule> T getFirst(@NotNull final Class<T> clazz)
+    {
+        final List<IBuildingModule> list = modulesByType.get(clazz);
+        return list == null ? null : (T) list.get(0);
+    }
+
+    /**
+     * Get all modules with a particular class or interface.
+     *
+     * @param clazz the class or interface.
+     * @param <T>   the type of the modules.
+     * @return an unmodifiable list of the modules, in registration order.
+     */
+    @NotNull
+    public <T extends IBuildingModule> List<T> getModules(@NotNull final Class<T> clazz)
+    {
+        final List<IBuildingModule> list = modulesByType.get(clazz);
+        return list == null ? Collections.emptyList() : (List<T>) Collections.unmodifiableList(list);
+    }
+
+    /**
+     * Get the ticking modules.
+     *
+     * @return the modules, the array must not be modified.
+     */
+    @NotNull
+    public ITickingModule[] getTickingModules()
+    {
+        return tickingModules;
+    }
+
+    /**
+     * Get the modules listening to building events.
+     *
+     * @return the modules, the array must not be modified.
+     */
+    @NotNull
+    public IBuildingEventsModule[] getEventModules()
+    {
+        return eventModules;
+    }
+
+    /**
+     * Get the persistent modules.
+     *
+     * @return the modules, the array must not be modified.
+     */
+    @NotNull
+    public IPersistentModule[] getPersistentModules()
+    {
+        return persistentModules;
+    }
+
+    /**
+     * Collect a class, all its superclasses and all interfaces they implement.
+     *
+     * @param clazz the class.
+     * @return the list of types.
+     */
+    @NotNull
+    private static List<Class<?>> computeTypeClosure(@NotNull final Class<?> clazz)
+    {
+        final Set<Class<?>> types = new LinkedHashSet<>();
+        final Deque<Class<?>> toVisit = new ArrayDeque<>();
+        toVisit.add(clazz);
+        while (!toVisit.isEmpty())
+        {
+            final Class<?> type = toVisit.poll();
+            if (!types.add(type))
+            {
+                continue;
+            }
+
+            if (type.getSuperclass() != null)
+            {
+                toVisit.add(type.getSuperclass());
+            }
+            toVisit.addAll(Arrays.asList(type.getInterfaces()));
+        }
+        return new ArrayList<>(types);
+    }
+}
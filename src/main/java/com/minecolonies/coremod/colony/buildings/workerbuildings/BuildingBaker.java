@@ -132,7 +132,7 @@ public class BuildingBaker extends AbstractBuilding
             final Map<Predicate<ItemStack>, Tuple<Integer, Boolean>> map = super.getRequiredItemsAndAmount();
             for (final IToken<?> token : getRecipes())
             {
-                final IRecipeStorage storage = IColonyManager.getInstance().getRecipeManager().getRecipes().get(token);
+                final IRecipeStorage storage = IColonyManager.getInstance().getRecipeManager().getRecipe(token);
                 for (final ItemStorage itemStorage : storage.getCleanedInput())
                 {
                     final ItemStack stack = itemStorage.getItemStack();
@@ -1,6 +1,5 @@
 package com.minecolonies.coremod.colony.buildings.workerbuildings;
 
-import com.google.common.collect.ImmutableMap;
 import com.ldtteam.blockout.views.Window;
 import com.minecolonies.api.colony.IColony;
 import com.minecolonies.api.colony.IColonyManager;
@@ -104,10 +103,9 @@ public class BuildingCrusher extends AbstractBuilding
         final CraftingModule module =  getFirstModuleOccurance(CraftingModule.class);
 
         this.crusherRecipes.clear();
-        final ImmutableMap<IToken<?>, IRecipeStorage> recipes = IColonyManager.getInstance().getRecipeManager().getRecipes();
         for (final IToken<?> token : module.getRecipes())
         {
-            final IRecipeStorage storage = recipes.get(token);
+            final IRecipeStorage storage = IColonyManager.getInstance().getRecipeManager().getRecipe(token);
             if (storage == null) continue; //wat
 
             final ItemStorage key = storage.getCleanedInput().get(0);
@@ -5,9 +5,8 @@ import com.minecolonies.api.colony.buildings.registry.BuildingEntry;
 import com.minecolonies.api.colony.requestsystem.StandardFactoryController;
 import com.minecolonies.api.crafting.ItemStorage;
 import com.minecolonies.api.loot.ModLootTables;
-import com.minecolonies.coremod.Network;
 import com.minecolonies.coremod.colony.buildings.modules.AnimalHerdingModule;
-import io.netty.buffer.Unpooled;
+import com.minecolonies.coremod.network.SyncedDataCache;
 import net.minecraft.entity.player.ServerPlayerEntity;
 import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
@@ -55,6 +54,12 @@ public class CustomRecipeManager
      */
     private final Map<ResourceLocation, List<LootTableAnalyzer.LootDrop>> lootTables = new HashMap<>();
 
+    /**
+     * The recipes serialized for the clients, built on first use after each change.
+     */
+    @Nullable
+    private SyncedDataCache.Payload networkPayload;
+
     private CustomRecipeManager()
     {
     }
@@ -75,6 +80,7 @@ public class CustomRecipeManager
      */
     public void addRecipe(@NotNull final CustomRecipe recipe)
     {
+        networkPayload = null;
         if(!recipeMap.containsKey(recipe.getCrafter()))
         {
             recipeMap.put(recipe.getCrafter(), new HashMap<>());
@@ -115,6 +121,7 @@ public class CustomRecipeManager
      */
     public void reset()
     {
+        networkPayload = null;
         recipeMap.clear();
     }
 
@@ -215,6 +222,7 @@ public class CustomRecipeManager
     {
         if (!removedRecipes.isEmpty())
         {
+            networkPayload = null;
             for (final ResourceLocation toRemove : removedRecipes)
             {
                 recipeMap.values().stream()
@@ -258,6 +266,7 @@ public class CustomRecipeManager
         lootIds.add(ModLootTables.FISHING);
         lootIds.addAll(ModLootTables.FISHERMAN_BONUS.values());
 
+        networkPayload = null;
         lootTables.clear();
         lootTables.putAll(lootIds.stream()
                 .filter(Objects::nonNull)   // just in case
@@ -267,14 +276,27 @@ public class CustomRecipeManager
     }
 
     /**
-     * Sends relevant Custom Recipes loaded from the Custom Recipe Manager to the client.
+     * Sends the hash of the Custom Recipes loaded from the Custom Recipe Manager to the client.
+     * The client applies its cached copy or requests the full recipes.
      * @param player the player to send the new data to.
      */
     public void sendCustomRecipeManagerPackets(final ServerPlayerEntity player)
     {
-        final PacketBuffer recipeMgrPacketBuffer = new PacketBuffer(Unpooled.buffer());
-        serializeNetworkData(recipeMgrPacketBuffer);
-        Network.getNetwork().sendToPlayer(new CustomRecipeManagerMessage(recipeMgrPacketBuffer), player);
+        SyncedDataCache.announce(SyncedDataCache.Type.CUSTOM_RECIPES, player);
+    }
+
+    /**
+     * Get the recipes serialized for the clients, serializing them only if they changed since the last time.
+     * @return the serialized recipes.
+     */
+    @NotNull
+    public SyncedDataCache.Payload getNetworkPayload()
+    {
+        if (networkPayload == null)
+        {
+            networkPayload = SyncedDataCache.Payload.serialize(this::serializeNetworkData);
+        }
+        return networkPayload;
     }
 
     /**
@@ -318,6 +340,7 @@ public class CustomRecipeManager
      */
     public void handleCustomRecipeManagerMessage(final PacketBuffer buff)
     {
+        networkPayload = null;
         recipeOutputMap.clear();
         recipeMap.clear();
         lootTables.clear();
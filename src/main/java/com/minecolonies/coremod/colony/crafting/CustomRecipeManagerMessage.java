@@ -1,6 +1,7 @@
 package com.minecolonies.coremod.colony.crafting;
 
 import com.minecolonies.api.network.IMessage;
+import com.minecolonies.coremod.network.SyncedDataCache;
 import net.minecraft.client.Minecraft;
 import net.minecraft.network.PacketBuffer;
 import net.minecraftforge.api.distmarker.Dist;
@@ -11,7 +12,7 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 /**
- * The message used to synchronize crafter recipes from a server to a client.
+ * The message carrying the full data used to synchronize crafter recipes from a server to a client.
  */
 public class CustomRecipeManagerMessage implements IMessage
 {
@@ -63,6 +64,7 @@ public class CustomRecipeManagerMessage implements IMessage
     {
         if (Minecraft.getInstance().level != null)
         {
+            SyncedDataCache.store(SyncedDataCache.Type.CUSTOM_RECIPES, managerBuffer);
             CustomRecipeManager.getInstance().handleCustomRecipeManagerMessage(managerBuffer);
         }
         managerBuffer.release();
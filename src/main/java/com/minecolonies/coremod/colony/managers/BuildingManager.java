@@ -5,8 +5,8 @@ import com.ldtteam.structurize.util.LanguageHandler;
 import com.minecolonies.api.colony.ICitizenData;
 import com.minecolonies.api.colony.IColony;
 import com.minecolonies.api.colony.IColonyTagCapability;
+import com.minecolonies.api.colony.buildings.BuildingBoundsIndex;
 import com.minecolonies.api.colony.buildings.IBuilding;
-import com.minecolonies.api.colony.buildings.IGuardBuilding;
 import com.minecolonies.api.colony.buildings.IMysticalSite;
 import com.minecolonies.api.colony.buildings.IRSComponent;
 import com.minecolonies.api.colony.buildings.registry.IBuildingDataManager;
@@ -39,12 +39,15 @@ import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.entity.player.ServerPlayerEntity;
 import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.nbt.ListNBT;
+import net.minecraft.server.MinecraftServer;
 import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.concurrent.TickDelayedTask;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.MutableBoundingBox;
 import net.minecraft.world.World;
 import net.minecraft.world.chunk.Chunk;
 import net.minecraftforge.common.util.Constants;
+import net.minecraftforge.fml.server.ServerLifecycleHooks;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -106,6 +109,17 @@ public class BuildingManager implements IBuildingManager
     private int minChunkZ;
     private int maxChunkZ;
 
+    /**
+     * The published spatial index snapshot of the building bounds. Only replaced on the server thread, other threads only ever read it.
+     */
+    @NotNull
+    private volatile BuildingBoundsIndex boundsIndex = BuildingBoundsIndex.EMPTY;
+
+    /**
+     * If the buildings or their bounds changed since the bounds index was built.
+     */
+    private volatile boolean boundsIndexDirty = false;
+
     /**
      * Creates the BuildingManager for a colony.
      *
@@ -120,6 +134,7 @@ public class BuildingManager implements IBuildingManager
     public void read(@NotNull final CompoundNBT compound)
     {
         buildings = ImmutableMap.of();
+        invalidateBoundsIndex();
         maxChunkX = colony.getCenter().getX() >> 4;
         minChunkX = colony.getCenter().getX() >> 4;
         maxChunkZ = colony.getCenter().getZ() >> 4;
@@ -240,6 +255,7 @@ public class BuildingManager implements IBuildingManager
     public void markBuildingsDirty()
     {
         isBuildingsDirty = true;
+        colony.markSaveDirty();
     }
 
     @Override
@@ -519,6 +535,7 @@ public class BuildingManager implements IBuildingManager
             }
 
             buildings = builder.build();
+            invalidateBoundsIndex();
 
             for (final ServerPlayerEntity player : subscribers)
             {
@@ -626,15 +643,12 @@ public class BuildingManager implements IBuildingManager
             return true;
         }
 
-        for (final IBuilding colonyBuilding : getBuildings().values())
+        for (final IBuilding colonyBuilding : getBoundsIndex().getGuardBuildings())
         {
-            if (colonyBuilding instanceof IGuardBuilding)
+            final MutableBoundingBox guardedRegion = BlockPosUtil.getChunkAlignedBB(colonyBuilding.getPosition(), colonyBuilding.getClaimRadius(colonyBuilding.getBuildingLevel()));
+            if (guardedRegion.isInside(building.getPosition()))
             {
-                final MutableBoundingBox guardedRegion = BlockPosUtil.getChunkAlignedBB(colonyBuilding.getPosition(), colonyBuilding.getClaimRadius(colonyBuilding.getBuildingLevel()));
-                if (guardedRegion.isInside(building.getPosition()))
-                {
-                    return true;
-                }
+                return true;
             }
         }
 
@@ -646,12 +660,9 @@ public class BuildingManager implements IBuildingManager
     {
         final int claimRadius = guardBuilding.getClaimRadius(Math.max(guardBuilding.getBuildingLevel(), newLevel));
         final MutableBoundingBox guardedRegion = BlockPosUtil.getChunkAlignedBB(guardBuilding.getPosition(), claimRadius);
-        for (final IBuilding building : getBuildings().values())
+        for (final IBuilding building : getBoundsIndex().getBuildingsWithin(guardedRegion))
         {
-            if (guardedRegion.isInside(building.getPosition()))
-            {
-                building.resetGuardBuildingNear();
-            }
+            building.resetGuardBuildingNear();
         }
     }
 
@@ -701,6 +712,7 @@ public class BuildingManager implements IBuildingManager
     private void addBuilding(@NotNull final IBuilding building)
     {
         buildings = new ImmutableMap.Builder<BlockPos, IBuilding>().putAll(buildings).put(building.getID(), building).build();
+        invalidateBoundsIndex();
 
         building.markDirty();
 
@@ -740,7 +752,7 @@ public class BuildingManager implements IBuildingManager
             {
                 if (building.isDirty() || !newSubscribers.isEmpty())
                 {
-                    players.forEach(player -> Network.getNetwork().sendToPlayer(new ColonyViewBuildingViewMessage(building), player));
+                    Network.getNetwork().sendToPlayers(new ColonyViewBuildingViewMessage(building), players);
                 }
             }
         }
@@ -766,7 +778,7 @@ public class BuildingManager implements IBuildingManager
             {
                 if (building instanceof BuildingFarmer)
                 {
-                    players.forEach(player -> Network.getNetwork().sendToPlayer(new ColonyViewBuildingViewMessage(building), player));
+                    Network.getNetwork().sendToPlayers(new ColonyViewBuildingViewMessage(building), players);
                 }
             }
         }
@@ -823,6 +835,66 @@ public class BuildingManager implements IBuildingManager
         {
             colony.getCitizenManager().calculateMaxCitizens();
             markBuildingsDirty();
+            invalidateBoundsIndex();
+        }
+    }
+
+    @NotNull
+    @Override
+    public BuildingBoundsIndex getBoundsIndex()
+    {
+        if (boundsIndexDirty)
+        {
+            final MinecraftServer server = ServerLifecycleHooks.getCurrentServer();
+            if (server != null && server.isSameThread())
+            {
+                rebuildBoundsIndex();
+            }
+        }
+        return boundsIndex;
+    }
+
+    @Override
+    public void onBuildingBoundsChanged(@NotNull final IBuilding building)
+    {
+        if (buildings.get(building.getID()) == building)
+        {
+            invalidateBoundsIndex();
+        }
+    }
+
+    /**
+     * Marks the bounds index outdated and schedules rebuilding it on the server thread. Until then other threads keep reading the last published snapshot.
+     */
+    private void invalidateBoundsIndex()
+    {
+        if (boundsIndexDirty)
+        {
+            return;
         }
+        boundsIndexDirty = true;
+
+        final MinecraftServer server = ServerLifecycleHooks.getCurrentServer();
+        if (server != null)
+        {
+            // Queued instead of executed right away, so a burst of changes like loading the colony only rebuilds once.
+            server.tell(new TickDelayedTask(server.getTickCount(), this::rebuildBoundsIndex));
+        }
+    }
+
+    /**
+     * Rebuilds the bounds index from the current buildings if it is outdated, must run on the server thread as reading the corners of a building may access
+     * the world.
+     */
+    private void rebuildBoundsIndex()
+    {
+        if (!boundsIndexDirty)
+        {
+            return;
+        }
+
+        // Cleared first, so bounds changing while the corners are calculated mark the new snapshot outdated again.
+        boundsIndexDirty = false;
+        boundsIndex = new BuildingBoundsIndex(buildings.values());
     }
 }
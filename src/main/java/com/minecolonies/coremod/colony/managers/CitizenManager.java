@@ -217,7 +217,7 @@ public class CitizenManager implements ICitizenManager
             {
                 if (citizen.isDirty() || !newSubscribers.isEmpty())
                 {
-                    players.forEach(player -> Network.getNetwork().sendToPlayer(new ColonyViewCitizenViewMessage(colony, citizen), player));
+                    Network.getNetwork().sendToPlayers(new ColonyViewCitizenViewMessage(colony, citizen), players);
                 }
             }
         }
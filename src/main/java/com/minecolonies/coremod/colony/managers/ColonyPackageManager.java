@@ -45,6 +45,11 @@ public class ColonyPackageManager implements IColonyPackageManager
      */
     private Set<ServerPlayerEntity> newSubscribers = new HashSet<>();
 
+    /**
+     * Subscribers which missed a request system delta and need a full snapshot.
+     */
+    private final Set<ServerPlayerEntity> requestSystemResyncs = new HashSet<>();
+
     /**
      * Variables taking care of updating the views.
      */
@@ -172,20 +177,50 @@ public class ColonyPackageManager implements IColonyPackageManager
     {
         if (isDirty || !newSubscribers.isEmpty())
         {
-            final PacketBuffer colonyPacketBuffer = new PacketBuffer(Unpooled.buffer());
-            ColonyView.serializeNetworkData(colony, colonyPacketBuffer, !newSubscribers.isEmpty());
-            final Set<ServerPlayerEntity> players = new HashSet<>();
+            final boolean hasNewSubscribers = !newSubscribers.isEmpty();
+            final Set<ServerPlayerEntity> deltaSubscribers = new HashSet<>();
             if (isDirty)
             {
-                players.addAll(closeSubscribers);
+                deltaSubscribers.addAll(closeSubscribers);
             }
-            players.addAll(newSubscribers);
+            deltaSubscribers.removeAll(newSubscribers);
+
+            final Set<ServerPlayerEntity> resyncSubscribers = new HashSet<>(requestSystemResyncs);
+            resyncSubscribers.retainAll(deltaSubscribers);
+            deltaSubscribers.removeAll(resyncSubscribers);
+            requestSystemResyncs.clear();
 
-            players.forEach(player -> Network.getNetwork().sendToPlayer(new ColonyViewMessage(colony, colonyPacketBuffer, newSubscribers.contains(player)), player));
+            // Deltas first, the full snapshots are then taken at the resulting request sync version.
+            if (!deltaSubscribers.isEmpty())
+            {
+                Network.getNetwork().sendToPlayers(new ColonyViewMessage(colony, serializeColonyView(hasNewSubscribers, false), false), deltaSubscribers);
+            }
+            if (!resyncSubscribers.isEmpty())
+            {
+                Network.getNetwork().sendToPlayers(new ColonyViewMessage(colony, serializeColonyView(hasNewSubscribers, true), false), resyncSubscribers);
+            }
+            if (hasNewSubscribers)
+            {
+                Network.getNetwork().sendToPlayers(new ColonyViewMessage(colony, serializeColonyView(true, true), true), newSubscribers);
+            }
         }
         colony.getRequestManager().setDirty(false);
     }
 
+    /**
+     * Serialize the colony view.
+     *
+     * @param hasNewSubscribers true if there is a new subscription.
+     * @param fullRequestSync   true if the request system has to be sent as a full snapshot.
+     * @return the buffer with the view data.
+     */
+    private PacketBuffer serializeColonyView(final boolean hasNewSubscribers, final boolean fullRequestSync)
+    {
+        final PacketBuffer colonyPacketBuffer = new PacketBuffer(Unpooled.buffer());
+        ColonyView.serializeNetworkData(colony, colonyPacketBuffer, hasNewSubscribers, fullRequestSync);
+        return colonyPacketBuffer;
+    }
+
     @Override
     public void sendPermissionsPackets()
     {
@@ -221,7 +256,7 @@ public class ColonyPackageManager implements IColonyPackageManager
                     workOrders.add(workOrder);
                 }
             }
-            players.forEach(player -> Network.getNetwork().sendToPlayer(new ColonyViewWorkOrderMessage(colony, workOrders), player));
+            Network.getNetwork().sendToPlayers(new ColonyViewWorkOrderMessage(colony, workOrders), players);
 
             workManager.setDirty(false);
         }
@@ -238,7 +273,7 @@ public class ColonyPackageManager implements IColonyPackageManager
                 players.addAll(closeSubscribers);
             }
             players.addAll(newSubscribers);
-            players.forEach(player -> Network.getNetwork().sendToPlayer(new ColonyStylesMessage(), player));
+            Network.getNetwork().sendToPlayers(new ColonyStylesMessage(), players);
         }
         Structures.clearDirty();
     }
@@ -264,6 +299,17 @@ public class ColonyPackageManager implements IColonyPackageManager
     {
         newSubscribers.remove(player);
         closeSubscribers.remove(player);
+        requestSystemResyncs.remove(player);
+    }
+
+    @Override
+    public void addRequestSystemResync(@NotNull final ServerPlayerEntity subscriber)
+    {
+        if (closeSubscribers.contains(subscriber))
+        {
+            requestSystemResyncs.add(subscriber);
+            isDirty = true;
+        }
     }
 
     /**
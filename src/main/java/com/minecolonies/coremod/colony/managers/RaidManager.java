@@ -4,6 +4,7 @@ import com.ldtteam.structurize.util.LanguageHandler;
 import com.minecolonies.api.MinecoloniesAPIProxy;
 import com.minecolonies.api.colony.ICitizenData;
 import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.colony.buildings.BuildingBoundsIndex;
 import com.minecolonies.api.colony.buildings.IBuilding;
 import com.minecolonies.api.colony.colonyEvents.EventStatus;
 import com.minecolonies.api.colony.colonyEvents.IColonyEvent;
@@ -46,6 +47,7 @@ import static com.minecolonies.api.util.BlockPosUtil.DOUBLE_AIR_POS_SELECTOR;
 import static com.minecolonies.api.util.BlockPosUtil.SOLID_AIR_POS_SELECTOR;
 import static com.minecolonies.api.util.constant.ColonyConstants.BIG_HORDE_SIZE;
 import static com.minecolonies.api.util.constant.Constants.DEFAULT_BARBARIAN_DIFFICULTY;
+import static com.minecolonies.api.util.constant.Constants.MAX_BUILDING_LEVEL;
 import static com.minecolonies.api.util.constant.NbtTagConstants.TAG_NIGHTS_SINCE_LAST_RAID;
 import static com.minecolonies.api.util.constant.NbtTagConstants.TAG_RAIDABLE;
 
@@ -64,6 +66,11 @@ public class RaidManager implements IRaiderManager
      */
     private static final int MIN_BUILDING_SPAWN_DIST = 35;
 
+    /**
+     * The max distance a building can protect from raider spawns, see {@link #isTooCloseToBuilding(IBuilding, BlockPos)}.
+     */
+    private static final int MAX_BUILDING_SPAWN_DIST = MIN_BUILDING_SPAWN_DIST + MAX_BUILDING_LEVEL * 8;
+
     /**
      * Different biome ids.
      */
@@ -403,8 +410,8 @@ public class RaidManager implements IRaiderManager
     {
         final BlockPos closestBuildingPos = colony.getBuildingManager().getBestBuilding(targetSpawnPoint, IBuilding.class);
         final PathJobRaiderPathing job =
-          new PathJobRaiderPathing(new ArrayList<>(colony.getBuildingManager().getBuildings().values()), colony.getWorld(), closestBuildingPos, targetSpawnPoint, 200);
-        job.getResult().startJob(Pathfinding.getExecutor());
+          new PathJobRaiderPathing(colony.getBuildingManager().getBoundsIndex(), colony.getWorld(), closestBuildingPos, targetSpawnPoint, 200);
+        Pathfinding.enqueue(job);
         return job.getResult();
     }
 
@@ -497,7 +504,7 @@ public class RaidManager implements IRaiderManager
     {
         BlockPos spawnPos = new BlockPos(start);
         BlockPos tempPos = new BlockPos(spawnPos);
-        final Collection<IBuilding> buildings = colony.getBuildingManager().getBuildings().values();
+        final BuildingBoundsIndex buildings = colony.getBuildingManager().getBoundsIndex();
 
         final int xDiff = start.getX() - advancePos.getX();
         final int zDiff = start.getZ() - advancePos.getZ();
@@ -554,45 +561,50 @@ public class RaidManager implements IRaiderManager
     /**
      * Determines whether the given spawn point is allowed.
      *
-     * @param spawnPos the spawn point to check
+     * @param buildings the index of the buildings of the colony.
+     * @param spawnPos  the spawn point to check
      * @return true if valid
      */
-    public static boolean isValidSpawnPoint(final Collection<IBuilding> buildings, final BlockPos spawnPos)
+    public static boolean isValidSpawnPoint(final BuildingBoundsIndex buildings, final BlockPos spawnPos)
     {
-        for (final IBuilding building : buildings)
-        {
-            if (building.getBuildingLevel() == 0)
-            {
-                continue;
-            }
+        return !buildings.anyBuildingInRange(spawnPos, MAX_BUILDING_SPAWN_DIST, building -> isTooCloseToBuilding(building, spawnPos));
+    }
 
-            int minDist = MIN_BUILDING_SPAWN_DIST;
+    /**
+     * Check if the spawn point is too close to the given building.
+     *
+     * @param building the building to check.
+     * @param spawnPos the spawn point to check.
+     * @return true if too close.
+     */
+    private static boolean isTooCloseToBuilding(final IBuilding building, final BlockPos spawnPos)
+    {
+        if (building.getBuildingLevel() == 0)
+        {
+            return false;
+        }
 
-            // Additional raid protection for certain buildings, towers can be used now to deal with unlucky - inwall spawns
-            if (building instanceof BuildingGuardTower)
-            {
-                minDist += building.getBuildingLevel() * 7;
-            }
-            else if (building.hasModule(LivingBuildingModule.class))
-            {
-                minDist += building.getBuildingLevel() * 4;
-            }
-            else if (building instanceof BuildingTownHall)
-            {
-                minDist += building.getBuildingLevel() * 8;
-            }
-            else
-            {
-                minDist += building.getBuildingLevel() * 2;
-            }
+        int minDist = MIN_BUILDING_SPAWN_DIST;
 
-            if (BlockPosUtil.getDistance2D(building.getPosition(), spawnPos) < minDist)
-            {
-                return false;
-            }
+        // Additional raid protection for certain buildings, towers can be used now to deal with unlucky - inwall spawns
+        if (building instanceof BuildingGuardTower)
+        {
+            minDist += building.getBuildingLevel() * 7;
+        }
+        else if (building.hasModule(LivingBuildingModule.class))
+        {
+            minDist += building.getBuildingLevel() * 4;
+        }
+        else if (building instanceof BuildingTownHall)
+        {
+            minDist += building.getBuildingLevel() * 8;
+        }
+        else
+        {
+            minDist += building.getBuildingLevel() * 2;
         }
 
-        return true;
+        return BlockPosUtil.getDistance2D(building.getPosition(), spawnPos) < minDist;
     }
 
     @Override
@@ -17,6 +17,7 @@ import net.minecraft.util.Tuple;
 import net.minecraftforge.common.util.Constants;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.function.Supplier;
@@ -60,6 +61,27 @@ public class StandardDataStoreManager implements IDataStoreManager
         storeMap.remove(id);
     }
 
+    /**
+     * Put a store, replacing the one with the same id if present.
+     *
+     * @param id    the id of the store.
+     * @param store the store.
+     */
+    public void put(final IToken<?> id, final IDataStore store)
+    {
+        storeMap.put(id, store);
+    }
+
+    /**
+     * Get all stores of this manager.
+     *
+     * @return an unmodifiable view of the stores, by id.
+     */
+    public Map<IToken<?>, IDataStore> getStores()
+    {
+        return Collections.unmodifiableMap(storeMap);
+    }
+
     @Override
     public void removeAll()
     {
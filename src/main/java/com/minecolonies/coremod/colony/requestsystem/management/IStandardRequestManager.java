@@ -3,6 +3,7 @@ package com.minecolonies.coremod.colony.requestsystem.management;
 import com.minecolonies.api.colony.requestsystem.data.*;
 import com.minecolonies.api.colony.requestsystem.management.*;
 import com.minecolonies.api.colony.requestsystem.manager.IRequestManager;
+import com.minecolonies.coremod.colony.requestsystem.management.manager.RequestSyncLog;
 import com.minecolonies.coremod.colony.requestsystem.management.manager.StandardRequestManager;
 import org.jetbrains.annotations.NotNull;
 
@@ -37,6 +38,9 @@ public interface IStandardRequestManager extends IRequestManager
 
     IUpdateHandler getUpdateHandler();
 
+    @NotNull
+    RequestSyncLog getSyncLog();
+
     int getCurrentVersion();
 
     void setCurrentVersion(int currentVersion);
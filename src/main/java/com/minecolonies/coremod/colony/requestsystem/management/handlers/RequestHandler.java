@@ -129,24 +129,13 @@ public class RequestHandler implements IRequestHandler
 
         request.setState(new WrappedStaticStateRequestManager(manager), RequestState.ASSIGNING);
 
-        final Set<TypeToken<?>> requestTypes = request.getSuperClasses();
-
-        final List<TypeToken<?>> typeIndexList = new LinkedList<>(requestTypes);
-
-        final Set<IRequestResolver<?>> resolvers = requestTypes.stream()
-                                                     .filter(typeToken -> manager.getRequestableTypeRequestResolverAssignmentDataStore().getAssignments().containsKey(typeToken))
-                                                     .flatMap(type -> manager.getRequestableTypeRequestResolverAssignmentDataStore()
-                                                                        .getAssignments()
-                                                                        .get(type)
-                                                                        .stream()
-                                                                        .map(iToken -> manager.getResolverHandler().getResolver(iToken)))
-                                                     .filter(iRequestResolver -> typeIndexList.contains(iRequestResolver.getRequestType()))
-                                                     .sorted(Comparator.comparingInt((IRequestResolver<?> r) -> -1 * r.getPriority())
-                                                               .thenComparingInt((IRequestResolver<?> r) -> typeIndexList.indexOf(r.getRequestType())))
-                                                     .collect(Collectors.toCollection(LinkedHashSet::new));
-
-        for (@SuppressWarnings(RAWTYPES) final IRequestResolver resolver : resolvers)
+        final List<IRequestResolver<?>> resolvers = manager.getResolverHandler().getResolversForRequest(request);
+        WrappedBlacklistAssignmentRequestManager blacklistManager = null;
+
+        for (int i = 0; i < resolvers.size(); i++)
         {
+            @SuppressWarnings(RAWTYPES) final IRequestResolver resolver = resolvers.get(i);
+
             //Skip when the resolver is in the blacklist.
             if (resolverTokenBlackList.contains(resolver.getId()) || manager.getResolverHandler().isBeingRemoved(resolver.getId()))
             {
@@ -159,7 +148,12 @@ public class RequestHandler implements IRequestHandler
                 continue;
             }
 
-            @Nullable final List<IToken<?>> attemptResult = resolver.attemptResolveRequest(new WrappedBlacklistAssignmentRequestManager(manager, resolverTokenBlackList), request);
+            if (blacklistManager == null)
+            {
+                blacklistManager = new WrappedBlacklistAssignmentRequestManager(manager, resolverTokenBlackList);
+            }
+
+            @Nullable final List<IToken<?>> attemptResult = resolver.attemptResolveRequest(blacklistManager, request);
 
             //Skip if attempt failed (aka attemptResult == null)
             if (attemptResult == null)
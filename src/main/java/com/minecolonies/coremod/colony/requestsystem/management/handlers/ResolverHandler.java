@@ -1,8 +1,10 @@
 package com.minecolonies.coremod.colony.requestsystem.management.handlers;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
 import com.google.common.reflect.TypeToken;
+import com.minecolonies.api.colony.requestsystem.data.IRequestableTypeRequestResolverAssignmentDataStore;
 import com.minecolonies.api.colony.requestsystem.management.IResolverHandler;
 import com.minecolonies.api.colony.requestsystem.manager.IRequestManager;
 import com.minecolonies.api.colony.requestsystem.request.IRequest;
@@ -14,6 +16,8 @@ import com.minecolonies.api.util.ReflectionUtils;
 import com.minecolonies.api.util.constant.TypeConstants;
 import com.minecolonies.coremod.colony.requestsystem.management.IStandardRequestManager;
 import com.minecolonies.coremod.colony.requestsystem.management.manager.wrapped.WrappedStaticStateRequestManager;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
 import org.apache.commons.lang3.Validate;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -35,6 +39,17 @@ public class ResolverHandler implements IResolverHandler
      */
     private List<IToken<?>> tempBlackList = new ArrayList<>();
 
+    /**
+     * The resolvers for each requestable class, sorted by priority. Cleared when resolvers are registered or removed.
+     */
+    private final Map<Class<?>, List<IRequestResolver<?>>> resolversByRequestableType = new HashMap<>();
+
+    /**
+     * The assignment data store the cached resolver lists were built from.
+     */
+    @Nullable
+    private IRequestableTypeRequestResolverAssignmentDataStore indexedAssignments;
+
     public ResolverHandler(final IStandardRequestManager manager)
     {
         this.manager = manager;
@@ -86,6 +101,7 @@ public class ResolverHandler implements IResolverHandler
         }
 
         manager.getRequestResolverIdentitiesDataStore().getIdentities().put(resolver.getId(), resolver);
+        resolversByRequestableType.clear();
 
         final Set<TypeToken<?>> resolverTypes = ReflectionUtils.getSuperClasses(resolver.getRequestType());
         resolverTypes.remove(TypeConstants.OBJECT);
@@ -293,6 +309,7 @@ public class ResolverHandler implements IResolverHandler
     public void removeResolverInternal(final IRequestResolver<?> resolver)
     {
         manager.getRequestResolverIdentitiesDataStore().getIdentities().remove(resolver.getId());
+        resolversByRequestableType.clear();
         final Set<TypeToken<?>> requestTypes = ReflectionUtils.getSuperClasses(resolver.getRequestType());
         requestTypes.remove(TypeConstants.OBJECT);
         requestTypes.forEach(c -> {
@@ -432,6 +449,66 @@ public class ResolverHandler implements IResolverHandler
         manager.getRequestResolverIdentitiesDataStore().getIdentities().values().forEach(resolver -> resolver.onColonyUpdate(manager, shouldTriggerReassign));
     }
 
+    @Override
+    public List<IRequestResolver<?>> getResolversForRequest(final IRequest<?> request)
+    {
+        final IRequestableTypeRequestResolverAssignmentDataStore assignments = manager.getRequestableTypeRequestResolverAssignmentDataStore();
+        if (assignments != indexedAssignments)
+        {
+            resolversByRequestableType.clear();
+            indexedAssignments = assignments;
+        }
+
+        final Class<?> requestableType = request.getRequest().getClass();
+        List<IRequestResolver<?>> resolvers = resolversByRequestableType.get(requestableType);
+        if (resolvers == null)
+        {
+            resolvers = buildResolverList(request.getSuperClasses(), assignments);
+            resolversByRequestableType.put(requestableType, resolvers);
+        }
+        return resolvers;
+    }
+
+    /**
+     * Collect the resolvers registered for any of the given request types. They are ordered by descending priority, ties are broken by how specific the request type
+     * of the resolver is.
+     *
+     * @param requestTypes the super types of the requestable, most specific first.
+     * @param assignments  the resolver assignments per request type.
+     * @return the sorted resolvers, without duplicates.
+     */
+    private List<IRequestResolver<?>> buildResolverList(final Set<TypeToken<?>> requestTypes, final IRequestableTypeRequestResolverAssignmentDataStore assignments)
+    {
+        final Object2IntMap<TypeToken<?>> typeIndex = new Object2IntOpenHashMap<>();
+        for (final TypeToken<?> type : requestTypes)
+        {
+            typeIndex.put(type, typeIndex.size());
+        }
+
+        final List<IRequestResolver<?>> resolvers = new ArrayList<>();
+        for (final TypeToken<?> type : requestTypes)
+        {
+            final Collection<IToken<?>> tokens = assignments.getAssignments().get(type);
+            if (tokens == null)
+            {
+                continue;
+            }
+
+            for (final IToken<?> token : tokens)
+            {
+                final IRequestResolver<?> resolver = getResolver(token);
+                if (typeIndex.containsKey(resolver.getRequestType()))
+                {
+                    resolvers.add(resolver);
+                }
+            }
+        }
+
+        resolvers.sort(Comparator.comparingInt((IRequestResolver<?> r) -> -1 * r.getPriority())
+                         .thenComparingInt((IRequestResolver<?> r) -> typeIndex.getInt(r.getRequestType())));
+        return ImmutableList.copyOf(new LinkedHashSet<>(resolvers));
+    }
+
     @Override
     public boolean isBeingRemoved(final IToken<?> id)
     {
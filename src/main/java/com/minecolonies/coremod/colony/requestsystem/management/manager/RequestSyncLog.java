@@ -0,0 +1,421 @@
+package com.minecolonies.coremod.colony.requestsystem.management.manager;
+
+import com.google.common.collect.BiMap;
+import com.minecolonies.api.colony.requestsystem.data.IDataStore;
+import com.minecolonies.api.colony.requestsystem.factory.IFactoryController;
+import com.minecolonies.api.colony.requestsystem.request.IRequest;
+import com.minecolonies.api.colony.requestsystem.token.IToken;
+import com.minecolonies.coremod.colony.requestsystem.data.StandardDataStoreManager;
+import com.minecolonies.coremod.colony.requestsystem.management.IStandardRequestManager;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import it.unimi.dsi.fastutil.objects.Object2LongMap;
+import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
+import net.minecraft.network.PacketBuffer;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * Versioned change log of the request system, used to keep the client side copies of a request manager in sync with small deltas.
+ * <p>
+ * Every sync pass compares the requests, their resolver assignments and the remaining data stores against a fingerprint of what was sent last, and emits one entry per
+ * created, updated, reassigned or removed element. Entries always carry the current state, so a delta can be applied by every client whose version lies within its range.
+ * A client with any other version has missed something and asks for a full snapshot instead.
+ */
+public class RequestSyncLog
+{
+    /**
+     * Request system sync modes in the colony view.
+     */
+    public static final byte SYNC_NONE  = 0;
+    public static final byte SYNC_FULL  = 1;
+    public static final byte SYNC_DELTA = 2;
+
+    /**
+     * Delta entry types.
+     */
+    private static final byte REQUEST_CREATED    = 0;
+    private static final byte REQUEST_UPDATED    = 1;
+    private static final byte REQUEST_REASSIGNED = 2;
+    private static final byte REQUEST_REMOVED    = 3;
+    private static final byte STORE_UPDATED      = 4;
+    private static final byte STORE_REMOVED      = 5;
+
+    /**
+     * FNV-1a constants for the fingerprints.
+     */
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME  = 0x100000001b3L;
+
+    /**
+     * Source of the initial versions. A new log, or a log of a reset manager, starts at a random version, so no client can accidentally match it.
+     */
+    private static final Random RANDOM = new Random();
+
+    /**
+     * The manager this log tracks.
+     */
+    private final IStandardRequestManager manager;
+
+    /**
+     * The current sync version.
+     */
+    private int version = RANDOM.nextInt();
+
+    /**
+     * Fingerprint of the store and resolver ids of the manager, these only change when the manager is reset.
+     */
+    private long    headerFingerprint = 0;
+    private boolean initialized       = false;
+
+    /**
+     * Fingerprints of the requests and stores as they were last sent.
+     */
+    private final Object2LongMap<IToken<?>> requestFingerprints = new Object2LongOpenHashMap<>();
+    private final Object2LongMap<IToken<?>> storeFingerprints   = new Object2LongOpenHashMap<>();
+
+    /**
+     * The resolver each request was last sent as assigned to.
+     */
+    private Map<IToken<?>, IToken<?>> lastResolvers = new HashMap<>();
+
+    /**
+     * Create the log of a manager.
+     *
+     * @param manager the manager.
+     */
+    public RequestSyncLog(@NotNull final IStandardRequestManager manager)
+    {
+        this.manager = manager;
+    }
+
+    /**
+     * Get the current sync version, the version a full snapshot taken right after {@link #update(IFactoryController)} belongs to.
+     *
+     * @return the version.
+     */
+    public int getVersion()
+    {
+        return version;
+    }
+
+    /**
+     * Bring the log up to date without sending the resulting delta. Clients which did not receive it detect the version gap.
+     *
+     * @param controller the factory controller.
+     */
+    public void update(@NotNull final IFactoryController controller)
+    {
+        final PacketBuffer discard = new PacketBuffer(Unpooled.buffer());
+        writeDelta(controller, discard);
+        discard.release();
+    }
+
+    /**
+     * Collect all changes since the last pass and write them as a delta.
+     *
+     * @param controller the factory controller.
+     * @param buffer     the buffer to write to.
+     */
+    public void writeDelta(@NotNull final IFactoryController controller, @NotNull final PacketBuffer buffer)
+    {
+        final PacketBuffer scratch = new PacketBuffer(Unpooled.buffer());
+        final PacketBuffer entries = new PacketBuffer(Unpooled.buffer());
+
+        final IToken<?> identitiesId = manager.getRequestIdentitiesDataStore().getId();
+        final IToken<?> assignmentsId = manager.getRequestResolverRequestAssignmentDataStore().getId();
+
+        scratch.writeInt(manager.getCurrentVersion());
+        controller.serialize(scratch, identitiesId);
+        controller.serialize(scratch, assignmentsId);
+        controller.serialize(scratch, manager.getRequestResolverIdentitiesDataStore().getId());
+        controller.serialize(scratch, manager.getProviderResolverAssignmentDataStore().getId());
+        controller.serialize(scratch, manager.getRequestableTypeRequestResolverAssignmentDataStore().getId());
+        controller.serialize(scratch, manager.getPlayerResolver().getId());
+        controller.serialize(scratch, manager.getRetryingRequestResolver().getId());
+        final long header = fingerprint(scratch);
+
+        // A reset manager can not be patched, start a new version range so all clients ask for a snapshot.
+        final boolean silent = !initialized || header != headerFingerprint;
+        if (silent)
+        {
+            initialized = true;
+            headerFingerprint = header;
+            version = RANDOM.nextInt();
+            requestFingerprints.clear();
+            storeFingerprints.clear();
+            lastResolvers.clear();
+        }
+
+        int count = 0;
+        count += collectRequests(controller, scratch, entries);
+        count += collectAssignments(controller, entries);
+        count += collectStores(controller, scratch, entries, identitiesId, assignmentsId);
+        scratch.release();
+
+        final int from = version;
+        if (count > 0 && !silent)
+        {
+            version++;
+        }
+
+        buffer.writeInt(from);
+        buffer.writeInt(version);
+        if (silent)
+        {
+            buffer.writeInt(0);
+        }
+        else
+        {
+            buffer.writeInt(entries.readableBytes());
+            buffer.writeBytes(entries, entries.readerIndex(), entries.readableBytes());
+        }
+        entries.release();
+    }
+
+    /**
+     * Collect created, updated and removed requests.
+     *
+     * @param controller the factory controller.
+     * @param scratch    buffer to serialize single requests into.
+     * @param entries    the buffer to write the entries to.
+     * @return the amount of entries.
+     */
+    private int collectRequests(final IFactoryController controller, final PacketBuffer scratch, final PacketBuffer entries)
+    {
+        final BiMap<IToken<?>, IRequest<?>> identities = manager.getRequestIdentitiesDataStore().getIdentities();
+        int count = 0;
+
+        final Iterator<Object2LongMap.Entry<IToken<?>>> iterator = requestFingerprints.object2LongEntrySet().iterator();
+        while (iterator.hasNext())
+        {
+            final IToken<?> token = iterator.next().getKey();
+            if (!identities.containsKey(token))
+            {
+                iterator.remove();
+                entries.writeByte(REQUEST_REMOVED);
+                controller.serialize(entries, token);
+                count++;
+            }
+        }
+
+        for (final Map.Entry<IToken<?>, IRequest<?>> entry : identities.entrySet())
+        {
+            scratch.clear();
+            controller.serialize(scratch, entry.getValue());
+            final long fingerprint = fingerprint(scratch);
+
+            final boolean known = requestFingerprints.containsKey(entry.getKey());
+            if (!known || requestFingerprints.getLong(entry.getKey()) != fingerprint)
+            {
+                requestFingerprints.put(entry.getKey(), fingerprint);
+                entries.writeByte(known ? REQUEST_UPDATED : REQUEST_CREATED);
+                controller.serialize(entries, entry.getKey());
+                entries.writeBytes(scratch, scratch.readerIndex(), scratch.readableBytes());
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Collect requests which were assigned to a different resolver, or unassigned.
+     *
+     * @param controller the factory controller.
+     * @param entries    the buffer to write the entries to.
+     * @return the amount of entries.
+     */
+    private int collectAssignments(final IFactoryController controller, final PacketBuffer entries)
+    {
+        final Map<IToken<?>, IToken<?>> resolvers = new HashMap<>();
+        for (final Map.Entry<IToken<?>, Collection<IToken<?>>> assignment : manager.getRequestResolverRequestAssignmentDataStore().getAssignments().entrySet())
+        {
+            for (final IToken<?> request : assignment.getValue())
+            {
+                resolvers.put(request, assignment.getKey());
+            }
+        }
+
+        int count = 0;
+        for (final Map.Entry<IToken<?>, IToken<?>> entry : resolvers.entrySet())
+        {
+            if (!entry.getValue().equals(lastResolvers.remove(entry.getKey())))
+            {
+                writeReassigned(controller, entries, entry.getKey(), entry.getValue());
+                count++;
+            }
+        }
+
+        // What is left was unassigned since the last pass.
+        for (final IToken<?> request : lastResolvers.keySet())
+        {
+            writeReassigned(controller, entries, request, null);
+            count++;
+        }
+
+        lastResolvers = resolvers;
+        return count;
+    }
+
+    /**
+     * Write a reassignment entry.
+     *
+     * @param controller the factory controller.
+     * @param entries    the buffer to write the entry to.
+     * @param request    the request token.
+     * @param resolver   the new resolver token, or null if unassigned.
+     */
+    private static void writeReassigned(final IFactoryController controller, final PacketBuffer entries, final IToken<?> request, @Nullable final IToken<?> resolver)
+    {
+        entries.writeByte(REQUEST_REASSIGNED);
+        controller.serialize(entries, request);
+        entries.writeBoolean(resolver != null);
+        if (resolver != null)
+        {
+            controller.serialize(entries, resolver);
+        }
+    }
+
+    /**
+     * Collect changed and removed data stores, except the two which are synced per request.
+     *
+     * @param controller    the factory controller.
+     * @param scratch       buffer to serialize single stores into.
+     * @param entries       the buffer to write the entries to.
+     * @param identitiesId  the id of the request identities store.
+     * @param assignmentsId the id of the resolver assignment store.
+     * @return the amount of entries.
+     */
+    private int collectStores(
+      final IFactoryController controller,
+      final PacketBuffer scratch,
+      final PacketBuffer entries,
+      final IToken<?> identitiesId,
+      final IToken<?> assignmentsId)
+    {
+        if (!(manager.getDataStoreManager() instanceof StandardDataStoreManager))
+        {
+            return 0;
+        }
+
+        final Map<IToken<?>, IDataStore> stores = ((StandardDataStoreManager) manager.getDataStoreManager()).getStores();
+        int count = 0;
+
+        final Iterator<Object2LongMap.Entry<IToken<?>>> iterator = storeFingerprints.object2LongEntrySet().iterator();
+        while (iterator.hasNext())
+        {
+            final IToken<?> token = iterator.next().getKey();
+            if (!stores.containsKey(token))
+            {
+                iterator.remove();
+                entries.writeByte(STORE_REMOVED);
+                controller.serialize(entries, token);
+                count++;
+            }
+        }
+
+        for (final Map.Entry<IToken<?>, IDataStore> entry : stores.entrySet())
+        {
+            if (entry.getKey().equals(identitiesId) || entry.getKey().equals(assignmentsId))
+            {
+                continue;
+            }
+
+            scratch.clear();
+            controller.serialize(scratch, entry.getValue());
+            final long fingerprint = fingerprint(scratch);
+
+            if (!storeFingerprints.containsKey(entry.getKey()) || storeFingerprints.getLong(entry.getKey()) != fingerprint)
+            {
+                storeFingerprints.put(entry.getKey(), fingerprint);
+                entries.writeByte(STORE_UPDATED);
+                controller.serialize(entries, entry.getKey());
+                entries.writeBytes(scratch, scratch.readerIndex(), scratch.readableBytes());
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Apply the entries of a delta to the client side copy of a manager.
+     *
+     * @param manager    the client side manager.
+     * @param controller the factory controller.
+     * @param buffer     the entries of the delta.
+     */
+    public static void applyDelta(@NotNull final IStandardRequestManager manager, @NotNull final IFactoryController controller, @NotNull final PacketBuffer buffer)
+    {
+        final BiMap<IToken<?>, IRequest<?>> identities = manager.getRequestIdentitiesDataStore().getIdentities();
+        final Map<IToken<?>, Collection<IToken<?>>> assignments = manager.getRequestResolverRequestAssignmentDataStore().getAssignments();
+
+        while (buffer.isReadable())
+        {
+            final byte type = buffer.readByte();
+            final IToken<?> token = controller.deserialize(buffer);
+            switch (type)
+            {
+                case REQUEST_CREATED:
+                case REQUEST_UPDATED:
+                    identities.forcePut(token, controller.deserialize(buffer));
+                    break;
+                case REQUEST_REASSIGNED:
+                    unassign(assignments, token);
+                    if (buffer.readBoolean())
+                    {
+                        assignments.computeIfAbsent(controller.deserialize(buffer), key -> new ArrayList<>()).add(token);
+                    }
+                    break;
+                case REQUEST_REMOVED:
+                    identities.remove(token);
+                    break;
+                case STORE_UPDATED:
+                    ((StandardDataStoreManager) manager.getDataStoreManager()).put(token, controller.deserialize(buffer));
+                    break;
+                case STORE_REMOVED:
+                    manager.getDataStoreManager().remove(token);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown request sync entry: " + type);
+            }
+        }
+    }
+
+    /**
+     * Remove a request from all resolver assignments.
+     *
+     * @param assignments the assignments.
+     * @param request     the request token.
+     */
+    private static void unassign(final Map<IToken<?>, Collection<IToken<?>>> assignments, final IToken<?> request)
+    {
+        final Iterator<Collection<IToken<?>>> iterator = assignments.values().iterator();
+        while (iterator.hasNext())
+        {
+            final Collection<IToken<?>> requests = iterator.next();
+            if (requests.remove(request) && requests.isEmpty())
+            {
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Calculate the fingerprint of the readable bytes of a buffer.
+     *
+     * @param buffer the buffer.
+     * @return the 64 bit FNV-1a hash.
+     */
+    private static long fingerprint(final ByteBuf buffer)
+    {
+        long hash = FNV_OFFSET;
+        for (int i = buffer.readerIndex(); i < buffer.writerIndex(); i++)
+        {
+            hash ^= buffer.getByte(i) & 0xFF;
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+}
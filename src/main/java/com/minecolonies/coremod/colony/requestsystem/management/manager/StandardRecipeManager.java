@@ -2,19 +2,20 @@ package com.minecolonies.coremod.colony.requestsystem.management.manager;
 
 import com.google.common.collect.BiMap;
 import com.google.common.collect.HashBiMap;
-import com.google.common.collect.ImmutableMap;
 import com.minecolonies.api.colony.requestsystem.StandardFactoryController;
 import com.minecolonies.api.colony.requestsystem.token.IToken;
 import com.minecolonies.api.crafting.IRecipeManager;
 import com.minecolonies.api.crafting.IRecipeStorage;
 import com.minecolonies.api.util.NBTUtils;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.nbt.ListNBT;
+import net.minecraft.tags.ITag;
 import net.minecraftforge.common.util.Constants;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.HashSet;
-import java.util.Set;
+import java.util.*;
 
 public class StandardRecipeManager implements IRecipeManager
 {
@@ -30,9 +31,14 @@ public class StandardRecipeManager implements IRecipeManager
     private final BiMap<IToken<?>, IRecipeStorage> recipes = HashBiMap.create(4096);
 
     /**
-     * Immutable cache.
+     * Unmodifiable view of the recipes.
      */
-    private ImmutableMap<IToken<?>, IRecipeStorage> cache = null;
+    private final Map<IToken<?>, IRecipeStorage> recipesView = Collections.unmodifiableMap(recipes);
+
+    /**
+     * The recipes by the items of their primary and alternate outputs.
+     */
+    private final Map<Item, Set<IToken<?>>> outputIndex = new HashMap<>();
 
 
     /**
@@ -41,13 +47,27 @@ public class StandardRecipeManager implements IRecipeManager
     private final Set<IToken<?>> usedRecipes = new HashSet<>();
 
     @Override
-    public ImmutableMap<IToken<?>, IRecipeStorage> getRecipes()
+    public Map<IToken<?>, IRecipeStorage> getRecipes()
+    {
+        return recipesView;
+    }
+
+    @Override
+    public Set<IToken<?>> getRecipesForOutput(@NotNull final Item item)
+    {
+        final Set<IToken<?>> tokens = outputIndex.get(item);
+        return tokens == null ? Collections.emptySet() : Collections.unmodifiableSet(tokens);
+    }
+
+    @Override
+    public Set<IToken<?>> getRecipesForOutput(@NotNull final ITag<Item> tag)
     {
-        if (cache == null)
+        final Set<IToken<?>> tokens = new HashSet<>();
+        for (final Item item : tag.getValues())
         {
-            cache = ImmutableMap.copyOf(recipes);
+            tokens.addAll(getRecipesForOutput(item));
         }
-        return cache;
+        return tokens;
     }
 
     @Override
@@ -59,9 +79,8 @@ public class StandardRecipeManager implements IRecipeManager
     @Override
     public IToken<?> addRecipe(final IRecipeStorage storage)
     {
-        recipes.put(storage.getToken(), storage);
+        putRecipe(storage);
         registerUse(storage.getToken());
-        cache = null;
         return storage.getToken();
     }
 
@@ -102,7 +121,7 @@ public class StandardRecipeManager implements IRecipeManager
             {
                 try
                 {
-                    recipes.put(recipe.getToken(), recipe);
+                    putRecipe(recipe);
                 }
                 catch (Exception e)
                 {
@@ -110,13 +129,13 @@ public class StandardRecipeManager implements IRecipeManager
                 }
             }
         }
-        cache = null;
     }
 
     @Override
     public void reset()
     {
         recipes.clear();
+        outputIndex.clear();
         usedRecipes.clear();
     }
 
@@ -125,4 +144,66 @@ public class StandardRecipeManager implements IRecipeManager
     {
         usedRecipes.add(token);
     }
+
+    /**
+     * Put a recipe into the map, replacing the output index entries of a recipe it replaces.
+     *
+     * @param storage the recipe.
+     */
+    private void putRecipe(@NotNull final IRecipeStorage storage)
+    {
+        final IRecipeStorage old = recipes.put(storage.getToken(), storage);
+        if (old != null)
+        {
+            updateOutputIndex(old, false);
+        }
+        updateOutputIndex(storage, true);
+    }
+
+    /**
+     * Add or remove the outputs of a recipe to or from the output index.
+     *
+     * @param storage the recipe.
+     * @param add     true to add, false to remove.
+     */
+    private void updateOutputIndex(@NotNull final IRecipeStorage storage, final boolean add)
+    {
+        updateOutputIndex(storage.getToken(), storage.getPrimaryOutput(), add);
+        for (final ItemStack output : storage.getAlternateOutputs())
+        {
+            updateOutputIndex(storage.getToken(), output, add);
+        }
+    }
+
+    /**
+     * Add or remove a single output of a recipe to or from the output index.
+     *
+     * @param token  the token of the recipe.
+     * @param output the output.
+     * @param add    true to add, false to remove.
+     */
+    private void updateOutputIndex(@NotNull final IToken<?> token, @NotNull final ItemStack output, final boolean add)
+    {
+        if (output.isEmpty())
+        {
+            return;
+        }
+
+        if (add)
+        {
+            outputIndex.computeIfAbsent(output.getItem(), item -> new HashSet<>()).add(token);
+        }
+        else
+        {
+            final Set<IToken<?>> tokens = outputIndex.get(output.getItem());
+            if (tokens != null)
+            {
+                tokens.remove(token);
+                if (tokens.isEmpty())
+                {
+                    outputIndex.remove(output.getItem());
+                }
+            }
+        }
+    }
 }
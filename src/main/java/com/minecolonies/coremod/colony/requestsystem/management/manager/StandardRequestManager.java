@@ -106,6 +106,12 @@ public class StandardRequestManager implements IStandardRequestManager
 
     private int version = -1;
 
+    /**
+     * Change log used to sync the client side copies of this manager.
+     */
+    @NotNull
+    private final RequestSyncLog syncLog = new RequestSyncLog(this);
+
     public StandardRequestManager(@NotNull final IColony colony)
     {
         this.colony = colony;
@@ -632,6 +638,13 @@ public class StandardRequestManager implements IStandardRequestManager
         return updateHandler;
     }
 
+    @NotNull
+    @Override
+    public RequestSyncLog getSyncLog()
+    {
+        return syncLog;
+    }
+
     private void updateIfRequired()
     {
         if (version < updateHandler.getCurrentVersion())
@@ -66,7 +66,7 @@ public class PrivateWorkerCraftingProductionResolver extends AbstractCraftingPro
     {
         manager.updateRequestState(request.getId(), RequestState.FINALIZING);
 
-        final IRecipeStorage storage = IColonyManager.getInstance().getRecipeManager().getRecipes().get(request.getRequest().getRecipeID());
+        final IRecipeStorage storage = IColonyManager.getInstance().getRecipeManager().getRecipe(request.getRequest().getRecipeID());
 
         if (storage == null)
         {
@@ -14,6 +14,7 @@ import com.minecolonies.api.colony.requestsystem.requester.IRequester;
 import com.minecolonies.api.colony.requestsystem.token.IToken;
 import com.minecolonies.api.crafting.IRecipeStorage;
 import com.minecolonies.api.crafting.ItemStorage;
+import com.minecolonies.api.crafting.RecipeOutputPredicate;
 import com.minecolonies.api.util.CraftingUtils;
 import com.minecolonies.api.util.InventoryUtils;
 import com.minecolonies.api.util.ItemStackUtils;
@@ -132,7 +133,7 @@ public abstract class AbstractCraftingProductionResolver<C extends AbstractCraft
             return null;
         }
 
-        final IRecipeStorage fullfillableCrafting = module.getFirstFulfillableRecipe(itemStack -> ItemStackUtils.compareItemStacksIgnoreStackSize(itemStack, stack), count, true);
+        final IRecipeStorage fullfillableCrafting = module.getFirstFulfillableRecipe(new RecipeOutputPredicate(stack), count, true);
         if (fullfillableCrafting != null)
         {
             return ImmutableList.of();
@@ -246,7 +247,7 @@ public abstract class AbstractCraftingProductionResolver<C extends AbstractCraft
             manager.updateRequestState(request.getId(), RequestState.FAILED);
             return;
         }
-        final IRecipeStorage storage = module.getFirstFulfillableRecipe(stack -> ItemStackUtils.compareItemStacksIgnoreStackSize(stack, request.getRequest().getStack()), request.getRequest().getCount(), false);
+        final IRecipeStorage storage = module.getFirstFulfillableRecipe(new RecipeOutputPredicate(request.getRequest().getStack()), request.getRequest().getCount(), false);
 
         if (storage == null)
         {
@@ -2,17 +2,16 @@ package com.minecolonies.coremod.colony.workorders;
 
 import com.ldtteam.structurize.management.StructureName;
 import com.ldtteam.structurize.util.LanguageHandler;
-import com.ldtteam.structurize.util.PlacementSettings;
 import com.minecolonies.api.advancements.AdvancementTriggers;
 import com.minecolonies.api.colony.ICitizenData;
 import com.minecolonies.api.colony.IColony;
 import com.minecolonies.api.colony.IColonyTagCapability;
 import com.minecolonies.api.colony.workorders.IWorkManager;
 import com.minecolonies.api.colony.workorders.IWorkOrder;
-import com.minecolonies.api.util.LoadOnlyStructureHandler;
 import com.minecolonies.api.util.Log;
 import com.minecolonies.coremod.colony.Colony;
 import com.minecolonies.coremod.util.AdvancementUtils;
+import com.minecolonies.coremod.util.BlueprintCache;
 import com.minecolonies.coremod.util.ColonyUtils;
 import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.nbt.ListNBT;
@@ -242,6 +241,7 @@ public class WorkManager implements IWorkManager
     public void addWorkOrder(@NotNull final IWorkOrder order, final boolean readingFromNbt)
     {
         dirty = true;
+        colony.markSaveDirty();
 
         if (order instanceof WorkOrderBuildDecoration && !(order instanceof WorkOrderBuildMiner))
         {
@@ -307,10 +307,7 @@ public class WorkManager implements IWorkManager
         final World world = colony.getWorld();
         final Tuple<BlockPos, BlockPos> corners
           = ColonyUtils.calculateCorners(order.getSchematicLocation(),
-          world,
-          new LoadOnlyStructureHandler(world, order.getSchematicLocation(), order.getStructureName(), new PlacementSettings(), true).getBluePrint(),
-          order.getRotation(world),
-          order.isMirrored());
+          BlueprintCache.getBlueprintNow(world, order.getStructureName(), order.getRotation(world), order.isMirrored()));
 
         Set<ChunkPos> chunks = new HashSet<>();
         final int minX = Math.min(corners.getA().getX(), corners.getB().getX()) + 1;
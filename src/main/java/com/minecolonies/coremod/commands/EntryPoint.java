@@ -86,7 +86,10 @@ public class EntryPoint
                                                .addNode(new CommandBackup().build())
                                                .addNode(new CommandResetPlayerSupplies().build())
                                                .addNode(new CommandHelp().build())
-                                               .addNode(new CommandPruneWorld().build());
+                                               .addNode(new CommandPruneWorld().build())
+                                               .addNode(new CommandPathCacheStats().build())
+                                               .addNode(new CommandColonyTickStats().build())
+                                               .addNode(new CommandRebuildCompatibility().build());
 
         /*
          * Root minecolonies alias command tree, all subtrees are added here.
@@ -105,7 +108,10 @@ public class EntryPoint
                                                     .addNode(new CommandBackup().build())
                                                     .addNode(new CommandResetPlayerSupplies().build())
                                                     .addNode(new CommandHelp().build())
-                                                    .addNode(new CommandPruneWorld().build());
+                                                    .addNode(new CommandPruneWorld().build())
+                                               .addNode(new CommandPathCacheStats().build())
+                                               .addNode(new CommandColonyTickStats().build())
+                                               .addNode(new CommandRebuildCompatibility().build());
 
         // Adds all command trees to the dispatcher to register the commands.
         dispatcher.register(minecoloniesRoot.build());
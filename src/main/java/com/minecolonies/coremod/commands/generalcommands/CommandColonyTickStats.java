@@ -0,0 +1,37 @@
+package com.minecolonies.coremod.commands.generalcommands;
+
+import com.minecolonies.coremod.colony.ColonyTickScheduler;
+import com.minecolonies.coremod.commands.commandTypes.IMCOPCommand;
+import com.mojang.brigadier.context.CommandContext;
+import net.minecraft.command.CommandSource;
+import net.minecraft.util.text.StringTextComponent;
+
+/**
+ * Prints the tick times of the colonies, slowest first.
+ */
+public class CommandColonyTickStats implements IMCOPCommand
+{
+    /**
+     * What happens when the command is executed after preConditions are successful.
+     *
+     * @param context the context of the command execution
+     */
+    @Override
+    public int onExecute(final CommandContext<CommandSource> context)
+    {
+        for (final String line : ColonyTickScheduler.getStatistics())
+        {
+            context.getSource().sendSuccess(new StringTextComponent(line), false);
+        }
+        return 1;
+    }
+
+    /**
+     * Name string of the command.
+     */
+    @Override
+    public String getName()
+    {
+        return "colonytickstats";
+    }
+}
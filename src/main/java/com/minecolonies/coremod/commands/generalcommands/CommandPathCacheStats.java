@@ -0,0 +1,36 @@
+package com.minecolonies.coremod.commands.generalcommands;
+
+import com.minecolonies.coremod.commands.commandTypes.IMCOPCommand;
+import com.minecolonies.coremod.entity.pathfinding.PathCache;
+import com.minecolonies.coremod.entity.pathfinding.Pathfinding;
+import com.mojang.brigadier.context.CommandContext;
+import net.minecraft.command.CommandSource;
+import net.minecraft.util.text.StringTextComponent;
+
+/**
+ * Prints the counters of the path cache and the pathfinding queue.
+ */
+public class CommandPathCacheStats implements IMCOPCommand
+{
+    /**
+     * What happens when the command is executed after preConditions are successful.
+     *
+     * @param context the context of the command execution
+     */
+    @Override
+    public int onExecute(final CommandContext<CommandSource> context)
+    {
+        context.getSource().sendSuccess(new StringTextComponent(PathCache.getStatistics()), false);
+        context.getSource().sendSuccess(new StringTextComponent(Pathfinding.getQueueStatistics()), false);
+        return 1;
+    }
+
+    /**
+     * Name string of the command.
+     */
+    @Override
+    public String getName()
+    {
+        return "pathcachestats";
+    }
+}
@@ -0,0 +1,35 @@
+package com.minecolonies.coremod.commands.generalcommands;
+
+import com.minecolonies.api.IMinecoloniesAPI;
+import com.minecolonies.coremod.commands.commandTypes.IMCOPCommand;
+import com.mojang.brigadier.context.CommandContext;
+import net.minecraft.command.CommandSource;
+import net.minecraft.util.text.StringTextComponent;
+
+/**
+ * Discovers all items again, ignoring and replacing the compatibility cache.
+ */
+public class CommandRebuildCompatibility implements IMCOPCommand
+{
+    /**
+     * What happens when the command is executed after preConditions are successful.
+     *
+     * @param context the context of the command execution
+     */
+    @Override
+    public int onExecute(final CommandContext<CommandSource> context)
+    {
+        IMinecoloniesAPI.getInstance().getColonyManager().getCompatibilityManager().discover(context.getSource().getServer().getRecipeManager(), true);
+        context.getSource().sendSuccess(new StringTextComponent("Rebuilt the compatibility cache"), true);
+        return 1;
+    }
+
+    /**
+     * Name string of the command.
+     */
+    @Override
+    public String getName()
+    {
+        return "rebuildcompatibility";
+    }
+}
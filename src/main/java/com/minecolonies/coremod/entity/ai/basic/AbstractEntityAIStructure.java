@@ -34,6 +34,7 @@ import com.minecolonies.coremod.colony.buildings.utils.BuildingBuilderResource;
 import com.minecolonies.coremod.colony.jobs.AbstractJobStructure;
 import com.minecolonies.coremod.entity.ai.util.BuildingStructureHandler;
 import com.minecolonies.coremod.tileentities.TileEntityDecorationController;
+import com.minecolonies.coremod.util.BlueprintCache;
 import net.minecraft.block.AirBlock;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockState;
@@ -52,6 +53,7 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Predicate;
 
 import static com.ldtteam.structurize.placement.AbstractBlueprintIterator.NULL_POS;
@@ -83,6 +85,14 @@ public abstract class AbstractEntityAIStructure<J extends AbstractJobStructure<?
      */
     protected boolean limitReached = false;
 
+    /**
+     * The blueprint currently being prepared and the structure it is prepared for.
+     */
+    @Nullable
+    private CompletableFuture<Blueprint> pendingBlueprint;
+    @Nullable
+    private String                       pendingBlueprintId;
+
     /**
      * Different item check result possibilities.
      */
@@ -145,6 +155,10 @@ public abstract class AbstractEntityAIStructure<J extends AbstractJobStructure<?
            * Select the appropriate State to do next.
            */
           new AITarget(LOAD_STRUCTURE, this::loadRequirements, 5),
+          /*
+           * Wait for the blueprint to be prepared.
+           */
+          new AITarget(PREPARE_STRUCTURE, this::waitForBlueprint, 5),
           /*
            * Select the appropriate State to do next.
            */
@@ -285,6 +299,20 @@ public abstract class AbstractEntityAIStructure<J extends AbstractJobStructure<?
         return BUILDING_STEP;
     }
 
+    /**
+     * Idle until the blueprint of the structure is prepared.
+     *
+     * @return the next state to go to.
+     */
+    private IAIState waitForBlueprint()
+    {
+        if (pendingBlueprint == null || pendingBlueprint.isDone())
+        {
+            return LOAD_STRUCTURE;
+        }
+        return getState();
+    }
+
     /**
      * The next state after structure loading.
      * @return the next state.
@@ -541,16 +569,72 @@ public abstract class AbstractEntityAIStructure<J extends AbstractJobStructure<?
     }
 
     /**
-     * Loads the structure given the name, rotation and position.
+     * Get the blueprint of a structure, it is prepared in the background by the shared blueprint cache. Requests for the same structure return the same future
+     * until the blueprint is consumed.
+     *
+     * @param name        the name to retrieve it.
+     * @param rotateTimes number of times to rotateWithMirror it.
+     * @param isMirrored  is the structure mirrored?
+     * @return the future of the rotated blueprint, completed with null if the structure does not exist.
+     */
+    protected CompletableFuture<Blueprint> requestBlueprint(@NotNull final String name, final int rotateTimes, final boolean isMirrored)
+    {
+        final String id = name + ":" + rotateTimes + ":" + isMirrored;
+        if (pendingBlueprint == null || !id.equals(pendingBlueprintId))
+        {
+            pendingBlueprint = BlueprintCache.getBlueprint(world, name, rotateTimes, isMirrored);
+            pendingBlueprintId = id;
+        }
+        return pendingBlueprint;
+    }
+
+    /**
+     * Take the prepared blueprint of a structure once it is ready.
+     *
+     * @param name        the name to retrieve it.
+     * @param rotateTimes number of times to rotateWithMirror it.
+     * @param isMirrored  is the structure mirrored?
+     * @return the blueprint, null if it is not ready yet or the structure does not exist.
+     */
+    @Nullable
+    protected Blueprint takeBlueprint(@NotNull final String name, final int rotateTimes, final boolean isMirrored)
+    {
+        final CompletableFuture<Blueprint> request = requestBlueprint(name, rotateTimes, isMirrored);
+        if (!request.isDone())
+        {
+            return null;
+        }
+
+        pendingBlueprint = null;
+        pendingBlueprintId = null;
+        return request.getNow(null);
+    }
+
+    /**
+     * Loads the structure given the name, rotation and position. The blueprint is prepared in the background, until it is ready this has to be called again.
      *
      * @param name        the name to retrieve  it.
      * @param rotateTimes number of times to rotateWithMirror it.
      * @param position    the position to set it.
      * @param isMirrored  is the structure mirroed?
      * @param removal     if removal step.
+     * @return false if the blueprint is still being prepared.
      */
-    public void loadStructure(@NotNull final String name, final int rotateTimes, final BlockPos position, final boolean isMirrored, final boolean removal)
+    public boolean loadStructure(@NotNull final String name, final int rotateTimes, final BlockPos position, final boolean isMirrored, final boolean removal)
     {
+        if (!requestBlueprint(name, rotateTimes, isMirrored).isDone())
+        {
+            return false;
+        }
+
+        final Blueprint blueprint = takeBlueprint(name, rotateTimes, isMirrored);
+        if (blueprint == null)
+        {
+            handleSpecificCancelActions();
+            Log.getLogger().warn("Couldn't find structure with name: " + name + " aborting loading procedure");
+            return true;
+        }
+
         final BuildingStructureHandler<J, B> structure;
         IBuilding colonyBuilding = worker.getCitizenColonyHandler().getColony().getBuildingManager().getBuilding(position);
         final TileEntity entity = world.getBlockEntity(position);
@@ -559,7 +643,7 @@ public abstract class AbstractEntityAIStructure<J extends AbstractJobStructure<?
         {
             structure = new BuildingStructureHandler<>(world,
               position,
-              name,
+              blueprint,
               new PlacementSettings(isMirrored ? Mirror.FRONT_BACK : Mirror.NONE, BlockPosUtil.getRotationFromRotations(rotateTimes)),
               this, new BuildingStructureHandler.Stage[] {REMOVE_WATER, REMOVE});
             getOwnBuilding().setTotalStages(2);
@@ -569,7 +653,7 @@ public abstract class AbstractEntityAIStructure<J extends AbstractJobStructure<?
         {
             structure = new BuildingStructureHandler<>(world,
               position,
-              name,
+              blueprint,
               new PlacementSettings(isMirrored ? Mirror.FRONT_BACK : Mirror.NONE, BlockPosUtil.getRotationFromRotations(rotateTimes)),
               this, new BuildingStructureHandler.Stage[] {BUILD_SOLID, CLEAR_WATER, CLEAR_NON_SOLIDS, DECORATE, SPAWN});
             getOwnBuilding().setTotalStages(5);
@@ -578,27 +662,20 @@ public abstract class AbstractEntityAIStructure<J extends AbstractJobStructure<?
         {
             structure = new BuildingStructureHandler<>(world,
               position,
-              name,
+              blueprint,
               new PlacementSettings(isMirrored ? Mirror.FRONT_BACK : Mirror.NONE, BlockPosUtil.getRotationFromRotations(rotateTimes)),
               this, new BuildingStructureHandler.Stage[] {CLEAR, BUILD_SOLID, CLEAR_WATER, CLEAR_NON_SOLIDS, DECORATE, SPAWN});
             getOwnBuilding().setTotalStages(6);
         }
 
-        if (!structure.hasBluePrint())
-        {
-            handleSpecificCancelActions();
-            Log.getLogger().warn("Couldn't find structure with name: " + name + " aborting loading procedure");
-            return;
-        }
-
-        job.setBlueprint(structure.getBluePrint());
-        job.getBlueprint().rotateWithMirror(BlockPosUtil.getRotationFromRotations(rotateTimes), isMirrored ? Mirror.FRONT_BACK : Mirror.NONE, world);
+        job.setBlueprint(blueprint);
         setStructurePlacer(structure);
 
         if (getProgressPos() != null)
         {
             structure.setStage(getProgressPos().getB());
         }
+        return true;
     }
 
     /**
@@ -34,6 +34,7 @@ import org.jetbrains.annotations.Nullable;
 import static com.ldtteam.structurize.placement.AbstractBlueprintIterator.NULL_POS;
 import static com.minecolonies.api.entity.ai.statemachine.states.AIWorkerState.IDLE;
 import static com.minecolonies.api.entity.ai.statemachine.states.AIWorkerState.PICK_UP_RESIDUALS;
+import static com.minecolonies.api.entity.ai.statemachine.states.AIWorkerState.PREPARE_STRUCTURE;
 import static com.minecolonies.api.util.constant.Constants.STACKSIZE;
 import static com.minecolonies.api.util.constant.TranslationConstants.COM_MINECOLONIES_COREMOD_ENTITY_BUILDER_BUILDSTART;
 import static com.minecolonies.api.util.constant.TranslationConstants.COM_MINECOLONIES_COREMOD_ENTITY_BUILDER_DECONSTRUCTION_COMPLETE;
@@ -95,7 +96,11 @@ public abstract class AbstractEntityAIStructureWithWorkOrder<J extends AbstractJ
     {
         if (!job.hasBlueprint() || structurePlacer == null)
         {
-            loadStructure();
+            if (!loadStructure())
+            {
+                return PREPARE_STRUCTURE;
+            }
+
             final WorkOrderBuildDecoration wo = job.getWorkOrder();
             if (wo == null)
             {
@@ -145,14 +150,16 @@ public abstract class AbstractEntityAIStructureWithWorkOrder<J extends AbstractJ
 
     /**
      * Load the struction into the AI.
+     *
+     * @return false if the blueprint is still being prepared.
      */
-    private void loadStructure()
+    private boolean loadStructure()
     {
         final WorkOrderBuildDecoration workOrder = job.getWorkOrder();
 
         if (workOrder == null)
         {
-            return;
+            return true;
         }
 
         final BlockPos pos = workOrder.getSchematicLocation();
@@ -160,15 +167,19 @@ public abstract class AbstractEntityAIStructureWithWorkOrder<J extends AbstractJ
         {
             Log.getLogger().warn("AbstractBuilding does not exist - removing build request");
             worker.getCitizenColonyHandler().getColony().getWorkManager().removeWorkOrder(workOrder);
-            return;
+            return true;
         }
 
         final int tempRotation = workOrder.getRotation(world);
         final boolean removal = workOrder instanceof WorkOrderBuildRemoval;
 
-        loadStructure(workOrder.getStructureName(), tempRotation, pos, workOrder.isMirrored(), removal);
+        if (!loadStructure(workOrder.getStructureName(), tempRotation, pos, workOrder.isMirrored(), removal))
+        {
+            return false;
+        }
         workOrder.setCleared(false);
         workOrder.setRequested(removal);
+        return true;
     }
 
     /**
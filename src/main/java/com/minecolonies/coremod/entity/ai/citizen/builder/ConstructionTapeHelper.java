@@ -1,11 +1,11 @@
 package com.minecolonies.coremod.entity.ai.citizen.builder;
 
-import com.ldtteam.structurize.util.PlacementSettings;
+import com.ldtteam.structures.blueprints.v1.Blueprint;
 import com.minecolonies.api.blocks.ModBlocks;
-import com.minecolonies.api.util.LoadOnlyStructureHandler;
 import com.minecolonies.coremod.MineColonies;
 import com.minecolonies.coremod.blocks.decorative.BlockConstructionTape;
 import com.minecolonies.coremod.colony.workorders.WorkOrderBuildDecoration;
+import com.minecolonies.coremod.util.BlueprintCache;
 import com.minecolonies.coremod.util.ColonyUtils;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockState;
@@ -42,10 +42,7 @@ public final class ConstructionTapeHelper
     {
         final Tuple<BlockPos, BlockPos> corners
           = ColonyUtils.calculateCorners(workOrder.getSchematicLocation(),
-          world,
-          new LoadOnlyStructureHandler(world, workOrder.getSchematicLocation(), workOrder.getStructureName(), new PlacementSettings(), true).getBluePrint(),
-          workOrder.getRotation(world),
-          workOrder.isMirrored());
+          BlueprintCache.getBlueprintNow(world, workOrder.getStructureName(), workOrder.getRotation(world), workOrder.isMirrored()));
         placeConstructionTape(corners, world);
     }
 
@@ -150,13 +147,10 @@ public final class ConstructionTapeHelper
      */
     public static void removeConstructionTape(@NotNull final WorkOrderBuildDecoration workOrder, @NotNull final World world)
     {
-        final LoadOnlyStructureHandler structure =
-          new LoadOnlyStructureHandler(world, workOrder.getSchematicLocation(), workOrder.getStructureName(), new PlacementSettings(), true);
-        if (structure.hasBluePrint())
+        final Blueprint blueprint = BlueprintCache.getBlueprintNow(world, workOrder.getStructureName(), workOrder.getRotation(world), workOrder.isMirrored());
+        if (blueprint != null)
         {
-            final Tuple<BlockPos, BlockPos> corners = ColonyUtils.calculateCorners(workOrder.getSchematicLocation(), world,
-              structure.getBluePrint(), workOrder.getRotation(world), workOrder.isMirrored());
-            removeConstructionTape(corners, world);
+            removeConstructionTape(ColonyUtils.calculateCorners(workOrder.getSchematicLocation(), blueprint), world);
         }
     }
 
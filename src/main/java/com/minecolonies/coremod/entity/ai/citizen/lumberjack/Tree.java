@@ -3,7 +3,6 @@ package com.minecolonies.coremod.entity.ai.citizen.lumberjack;
 import com.minecolonies.api.colony.IColony;
 import com.minecolonies.api.colony.IColonyManager;
 import com.minecolonies.api.colony.IColonyTagCapability;
-import com.minecolonies.api.colony.buildings.IBuilding;
 import com.minecolonies.api.compatibility.Compatibility;
 import com.minecolonies.api.crafting.ItemStorage;
 import com.minecolonies.api.util.BlockPosUtil;
@@ -664,12 +663,9 @@ public class Tree
             topLog = log;
         }
 
-        for (final IBuilding building : colony.getBuildingManager().getBuildings().values())
+        if (colony.getBuildingManager().getBoundsIndex().isInBuilding(log))
         {
-            if (building.isInBuilding(log))
-            {
-                return;
-            }
+            return;
         }
 
         woodBlocks.add(log);
@@ -995,13 +991,6 @@ public class Tree
             return true;
         }
 
-        for (final IBuilding building : colony.getBuildingManager().getBuildings().values())
-        {
-            if (building.isInBuilding(pos))
-            {
-                return false;
-            }
-        }
-        return true;
+        return !colony.getBuildingManager().getBoundsIndex().isInBuilding(pos);
     }
 }
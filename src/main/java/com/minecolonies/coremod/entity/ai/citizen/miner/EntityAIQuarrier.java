@@ -1,5 +1,6 @@
 package com.minecolonies.coremod.entity.ai.citizen.miner;
 
+import com.ldtteam.structures.blueprints.v1.Blueprint;
 import com.ldtteam.structurize.management.Structures;
 import com.ldtteam.structurize.placement.BlockPlacementResult;
 import com.ldtteam.structurize.placement.StructureIterators;
@@ -144,33 +145,38 @@ public class EntityAIQuarrier extends AbstractEntityAIStructureWithWorkOrder<Job
     }
 
     @Override
-    public void loadStructure(@NotNull final String name, final int rotateTimes, final BlockPos position, final boolean isMirrored, final boolean removal)
+    public boolean loadStructure(@NotNull final String name, final int rotateTimes, final BlockPos position, final boolean isMirrored, final boolean removal)
     {
+        if (!requestBlueprint(name, rotateTimes, isMirrored).isDone())
+        {
+            return false;
+        }
+
+        final Blueprint blueprint = takeBlueprint(name, rotateTimes, isMirrored);
+        if (blueprint == null)
+        {
+            handleSpecificCancelActions();
+            Log.getLogger().warn("Couldn't find structure with name: " + name + " aborting loading procedure");
+            return true;
+        }
+
         final BuildingStructureHandler<JobQuarrier, BuildingMiner> structure;
 
         structure = new BuildingStructureHandler<>(world,
           position,
-              name,
+              blueprint,
               new PlacementSettings(isMirrored ? Mirror.FRONT_BACK : Mirror.NONE, BlockPosUtil.getRotationFromRotations(rotateTimes)),
               this, new BuildingStructureHandler.Stage[] {BUILD_SOLID, DECORATE, CLEAR});
             getOwnBuilding().setTotalStages(3);
 
-
-        if (!structure.hasBluePrint())
-        {
-            handleSpecificCancelActions();
-            Log.getLogger().warn("Couldn't find structure with name: " + name + " aborting loading procedure");
-            return;
-        }
-
-        job.setBlueprint(structure.getBluePrint());
-        job.getBlueprint().rotateWithMirror(BlockPosUtil.getRotationFromRotations(rotateTimes), isMirrored ? Mirror.FRONT_BACK : Mirror.NONE, world);
+        job.setBlueprint(blueprint);
         setStructurePlacer(structure);
 
         if (getProgressPos() != null)
         {
             structure.setStage(getProgressPos().getB());
         }
+        return true;
     }
 
     @Override
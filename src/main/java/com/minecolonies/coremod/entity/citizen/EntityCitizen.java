@@ -28,6 +28,7 @@ import com.minecolonies.api.entity.pathfinding.PathResult;
 import com.minecolonies.api.inventory.InventoryCitizen;
 import com.minecolonies.api.inventory.container.ContainerCitizenInventory;
 import com.minecolonies.api.items.ModItems;
+import com.minecolonies.api.research.effects.ResearchEffectSlots;
 import com.minecolonies.api.sounds.EventType;
 import com.minecolonies.api.util.*;
 import com.minecolonies.api.util.constant.TypeConstants;
@@ -114,6 +115,16 @@ public class EntityCitizen extends AbstractEntityCitizen implements IThreatTable
     private static final double MAX_SPEED_FACTOR    = 0.5;
     private static final int    CALL_TO_HELP_AMOUNT = 2;
 
+    /**
+     * Resolved research effect slots of the effects checked every tick.
+     */
+    private static final int RAILS_SLOT        = ResearchEffectSlots.getSlot(RAILS);
+    private static final int VINES_SLOT        = ResearchEffectSlots.getSlot(VINES);
+    private static final int SATLIMIT_SLOT     = ResearchEffectSlots.getSlot(SATLIMIT);
+    private static final int REGENERATION_SLOT = ResearchEffectSlots.getSlot(REGENERATION);
+    private static final int MELEE_ARMOR_SLOT  = ResearchEffectSlots.getSlot(MELEE_ARMOR);
+    private static final int ARCHER_ARMOR_SLOT = ResearchEffectSlots.getSlot(ARCHER_ARMOR);
+
     /**
      * The citizen status handler.
      */
@@ -577,11 +588,11 @@ public class EntityCitizen extends AbstractEntityCitizen implements IThreatTable
             final IColonyView colonyView = IColonyManager.getInstance().getColonyView(citizenColonyHandler.getColonyId(), level.dimension());
             if (colonyView != null)
             {
-                return colonyView.getResearchManager().getResearchEffects().getEffectStrength(RAILS) > 0;
+                return colonyView.getResearchManager().getResearchEffects().getEffectStrength(RAILS_SLOT) > 0;
             }
             return false;
         }
-        return getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(RAILS) > 0;
+        return getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(RAILS_SLOT) > 0;
     }
 
     /**
@@ -596,11 +607,11 @@ public class EntityCitizen extends AbstractEntityCitizen implements IThreatTable
             final IColonyView colonyView = IColonyManager.getInstance().getColonyView(citizenColonyHandler.getColonyId(), level.dimension());
             if (colonyView != null)
             {
-                return colonyView.getResearchManager().getResearchEffects().getEffectStrength(VINES) > 0;
+                return colonyView.getResearchManager().getResearchEffects().getEffectStrength(VINES_SLOT) > 0;
             }
             return false;
         }
-        return getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(VINES) > 0;
+        return getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(VINES_SLOT) > 0;
     }
 
 
@@ -623,12 +634,12 @@ public class EntityCitizen extends AbstractEntityCitizen implements IThreatTable
     {
         if (getHealth() < getMaxHealth())
         {
-            final double limitDecrease = getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(SATLIMIT);
+            final double limitDecrease = getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(SATLIMIT_SLOT);
 
             final double healAmount;
             if (citizenData.getSaturation() >= FULL_SATURATION + limitDecrease)
             {
-                healAmount = 2 * (1.0 + getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(REGENERATION));
+                healAmount = 2 * (1.0 + getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(REGENERATION_SLOT));
             }
             else if (citizenData.getSaturation() < LOW_SATURATION)
             {
@@ -636,7 +647,7 @@ public class EntityCitizen extends AbstractEntityCitizen implements IThreatTable
             }
             else
             {
-                healAmount = 1 * (1.0 + getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(REGENERATION));
+                healAmount = 1 * (1.0 + getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(REGENERATION_SLOT));
             }
 
             heal((float) healAmount);
@@ -1560,11 +1571,11 @@ public class EntityCitizen extends AbstractEntityCitizen implements IThreatTable
     {
         if (citizenJobHandler.getColonyJob() instanceof JobKnight)
         {
-            return (int) (super.getArmorValue() * (1 + citizenColonyHandler.getColony().getResearchManager().getResearchEffects().getEffectStrength(MELEE_ARMOR)));
+            return (int) (super.getArmorValue() * (1 + citizenColonyHandler.getColony().getResearchManager().getResearchEffects().getEffectStrength(MELEE_ARMOR_SLOT)));
         }
         else if (citizenJobHandler.getColonyJob() instanceof JobRanger)
         {
-            return (int) (super.getArmorValue() * (1 + citizenColonyHandler.getColony().getResearchManager().getResearchEffects().getEffectStrength(ARCHER_ARMOR)));
+            return (int) (super.getArmorValue() * (1 + citizenColonyHandler.getColony().getResearchManager().getResearchEffects().getEffectStrength(ARCHER_ARMOR_SLOT)));
         }
         return super.getArmorValue();
     }
@@ -6,6 +6,7 @@ import com.minecolonies.api.colony.interactionhandling.ChatPriority;
 import com.minecolonies.api.colony.interactionhandling.InteractionValidatorRegistry;
 import com.minecolonies.api.entity.citizen.citizenhandlers.ICitizenHappinessHandler;
 import com.minecolonies.api.entity.citizen.happiness.*;
+import com.minecolonies.api.research.effects.ResearchEffectSlots;
 import com.minecolonies.api.util.Tuple;
 import com.minecolonies.coremod.colony.interactionhandling.StandardInteraction;
 import com.minecolonies.coremod.colony.jobs.AbstractJobGuard;
@@ -28,6 +29,11 @@ import static com.minecolonies.api.util.constant.TranslationConstants.NO;
  */
 public class CitizenHappinessHandler implements ICitizenHappinessHandler
 {
+    /**
+     * Resolved research effect slot of the happiness multiplier.
+     */
+    private static final int HAPPINESS_SLOT = ResearchEffectSlots.getSlot(HAPPINESS);
+
     /**
      * The different happiness factor.
      */
@@ -143,7 +149,7 @@ public class CitizenHappinessHandler implements ICitizenHappinessHandler
                 totalWeight += happinessModifier.getWeight();
             }
 
-            final double happinessResult = (total / totalWeight) * (1 + colony.getResearchManager().getResearchEffects().getEffectStrength(HAPPINESS));
+            final double happinessResult = (total / totalWeight) * (1 + colony.getResearchManager().getResearchEffects().getEffectStrength(HAPPINESS_SLOT));
 
             cachedHappiness = Math.min(10.0 * happinessResult, 10);
         }
@@ -1,6 +1,8 @@
 package com.minecolonies.coremod.entity.pathfinding;
 
+import com.minecolonies.api.colony.IColonyTagCapability;
 import com.minecolonies.api.util.WorldUtil;
+import com.minecolonies.coremod.MineColonies;
 import net.minecraft.block.BlockState;
 import net.minecraft.block.Blocks;
 import net.minecraft.entity.Entity;
@@ -19,6 +21,7 @@ import net.minecraft.world.biome.Biome;
 import net.minecraft.world.biome.BiomeManager;
 import net.minecraft.world.border.WorldBorder;
 import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.ChunkSection;
 import net.minecraft.world.chunk.ChunkStatus;
 import net.minecraft.world.chunk.IChunk;
 import net.minecraft.world.gen.Heightmap;
@@ -31,11 +34,30 @@ import javax.annotation.Nullable;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
+import static com.minecolonies.api.colony.IColony.CLOSE_COLONY_CAP;
+
 public class ChunkCache implements IWorldReader
 {
     protected int       chunkX;
     protected int       chunkZ;
     protected Chunk[][] chunkArray;
+    /**
+     * Snapshot sections of the chunks, null if reading from the live chunks.
+     */
+    protected ChunkSection[][][] sectionArray;
+    /**
+     * The lowest and highest snapshot section, the sections outside of them are not part of the snapshot.
+     */
+    protected int                minSection;
+    protected int                maxSection;
+    /**
+     * Id of the colony owning each chunk, 0 if unclaimed or not loaded.
+     */
+    protected int[][]            owningColonies;
+    /**
+     * The change stamp of the chunk portal graph when this view was created.
+     */
+    protected long               changeStamp;
     /**
      * set by !chunk.getAreLevelsEmpty
      */
@@ -53,7 +75,15 @@ public class ChunkCache implements IWorldReader
         int i = posToIn.getX() + subIn >> 4;
         int j = posToIn.getZ() + subIn >> 4;
         this.chunkArray = new Chunk[i - this.chunkX + 1][j - this.chunkZ + 1];
+        this.owningColonies = new int[i - this.chunkX + 1][j - this.chunkZ + 1];
+        this.changeStamp = ChunkPortalGraph.getChangeStamp();
         this.empty = true;
+        if (MineColonies.getConfig().getServer().pathfindingSnapshotChunks.get())
+        {
+            this.sectionArray = new ChunkSection[i - this.chunkX + 1][j - this.chunkZ + 1][];
+            this.minSection = Math.max(0, posFromIn.getY() - subIn >> 4);
+            this.maxSection = Math.min(15, posToIn.getY() + subIn >> 4);
+        }
 
         for (int k = this.chunkX; k <= i; ++k)
         {
@@ -61,7 +91,16 @@ public class ChunkCache implements IWorldReader
             {
                 if (WorldUtil.isEntityChunkLoaded(world, new ChunkPos(k, l)))
                 {
-                    this.chunkArray[k - this.chunkX][l - this.chunkZ] = (Chunk) worldIn.getChunk(k, l, ChunkStatus.FULL, false);
+                    final Chunk chunk = (Chunk) worldIn.getChunk(k, l, ChunkStatus.FULL, false);
+                    this.chunkArray[k - this.chunkX][l - this.chunkZ] = chunk;
+                    if (chunk != null)
+                    {
+                        this.owningColonies[k - this.chunkX][l - this.chunkZ] = chunk.getCapability(CLOSE_COLONY_CAP, null).map(IColonyTagCapability::getOwningColony).orElse(0);
+                        if (sectionArray != null)
+                        {
+                            this.sectionArray[k - this.chunkX][l - this.chunkZ] = ChunkSnapshotCache.getSections(worldIn, chunk, minSection, maxSection);
+                        }
+                    }
                 }
             }
         }
@@ -108,6 +147,14 @@ public class ChunkCache implements IWorldReader
 
             if (i >= 0 && i < this.chunkArray.length && j >= 0 && j < this.chunkArray[i].length)
             {
+                if (sectionArray != null)
+                {
+                    final ChunkSection section = getSnapshotSection(i, j, pos.getY());
+                    return section == null
+                             ? Blocks.AIR.defaultBlockState()
+                             : section.getBlockState(pos.getX() & 15, pos.getY() & 15, pos.getZ() & 15);
+                }
+
                 Chunk chunk = this.chunkArray[i][j];
 
                 if (chunk != null)
@@ -130,6 +177,14 @@ public class ChunkCache implements IWorldReader
 
             if (i >= 0 && i < this.chunkArray.length && j >= 0 && j < this.chunkArray[i].length)
             {
+                if (sectionArray != null)
+                {
+                    final ChunkSection section = getSnapshotSection(i, j, pos.getY());
+                    return section == null
+                             ? Fluids.EMPTY.defaultFluidState()
+                             : section.getFluidState(pos.getX() & 15, pos.getY() & 15, pos.getZ() & 15);
+                }
+
                 Chunk chunk = this.chunkArray[i][j];
 
                 if (chunk != null)
@@ -246,6 +301,63 @@ public class ChunkCache implements IWorldReader
         return null;
     }
 
+    /**
+     * Get the colony owning a chunk, as it was when this view was created.
+     *
+     * @param x the chunk x.
+     * @param z the chunk z.
+     * @return the colony id or 0 if the chunk is unclaimed or not part of the view.
+     */
+    public int getOwningColony(final int x, final int z)
+    {
+        final int i = x - this.chunkX;
+        final int j = z - this.chunkZ;
+        return withinBounds(i, j) ? owningColonies[i][j] : 0;
+    }
+
+    /**
+     * Check if the given sections can be read, which is always the case when reading from the live chunks.
+     *
+     * @param minY the lowest section, clamped to the world height.
+     * @param maxY the highest section, clamped to the world height.
+     * @return true if all of them are part of the snapshot.
+     */
+    public boolean hasSnapshotSections(final int minY, final int maxY)
+    {
+        return sectionArray == null || (Math.max(0, minY) >= minSection && Math.min(15, maxY) <= maxSection);
+    }
+
+    /**
+     * Get the change stamp of the chunk portal graph at the time this view was created.
+     *
+     * @return the stamp.
+     */
+    public long getChangeStamp()
+    {
+        return changeStamp;
+    }
+
+    /**
+     * Get the snapshot section at the given chunk array indices and height.
+     *
+     * @param x the x index in the chunk array.
+     * @param z the z index in the chunk array.
+     * @param y the block y.
+     * @return the section or null if it is empty, outside of the snapshot or the chunk is not loaded.
+     */
+    @Nullable
+    private ChunkSection getSnapshotSection(final int x, final int z, final int y)
+    {
+        final ChunkSection[] sections = sectionArray[x][z];
+        if (sections == null || y >> 4 < minSection || y >> 4 > maxSection)
+        {
+            return null;
+        }
+
+        final ChunkSection section = sections[y >> 4];
+        return ChunkSection.isEmpty(section) ? null : section;
+    }
+
     private boolean withinBounds(int x, int z)
     {
         return x >= 0 && x < chunkArray.length && z >= 0 && z < chunkArray[x].length && chunkArray[x][z] != null;
@@ -0,0 +1,716 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+import com.minecolonies.api.entity.pathfinding.SurfaceType;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import it.unimi.dsi.fastutil.ints.IntSet;
+import it.unimi.dsi.fastutil.longs.*;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.DoorBlock;
+import net.minecraft.block.FenceGateBlock;
+import net.minecraft.util.Direction;
+import net.minecraft.util.RegistryKey;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.SectionPos;
+import net.minecraft.util.math.shapes.VoxelShape;
+import net.minecraft.world.IWorldReader;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.ChunkStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * Coarse portal graph over the claimed chunks of colonies, for hierarchical pathfinding over long distances.
+ * <p>
+ * Every 16x16x16 section of a claimed chunk is a cluster. Its portals are the walkable positions on its borders which continue into a neighbouring section: one
+ * portal per contiguous run at the same height on the four sides, and one portal per component and neighbouring section for the steps up and down through the top
+ * and bottom. Positions of a cluster are connected if a flood fill over the walkable positions of the section connects them. A route found on this graph is turned
+ * into waypoints, and the regular A* search only has to connect consecutive waypoints.
+ * <p>
+ * Clusters are computed lazily by the pathfinding threads, from the snapshot of the job. A block change only drops the few sections whose walkable positions or portals
+ * could read it, and records a change stamp for them, so that clusters computed from snapshots taken before the change are not cached.
+ */
+public final class ChunkPortalGraph
+{
+    /**
+     * Max amount of portals to expand in one coarse search.
+     */
+    private static final int MAX_COARSE_NODES = 4096;
+
+    /**
+     * Lowest and highest feet position considered.
+     */
+    private static final int MIN_Y = 1;
+    private static final int MAX_Y = 254;
+
+    /**
+     * Amount of sections in a chunk column.
+     */
+    private static final int SECTIONS = 16;
+
+    /**
+     * The computed clusters, by dimension and chunk key, indexed by section.
+     */
+    private static final Map<RegistryKey<World>, Long2ObjectMap<Cluster[]>> clusters = new HashMap<>();
+
+    /**
+     * The stamp of the last change of each section, by dimension and section key. Used to discard clusters computed from outdated snapshots.
+     */
+    private static final Map<RegistryKey<World>, Long2LongMap> changes = new HashMap<>();
+
+    /**
+     * Stamp increased with every change.
+     */
+    private static long changeStamp = 0;
+
+    /**
+     * Private constructor to hide the implicit one.
+     */
+    private ChunkPortalGraph()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Find a coarse route between two positions in claimed chunks.
+     *
+     * @param world     the snapshot to read the blocks and claims from.
+     * @param dimension the dimension.
+     * @param start     the start position.
+     * @param end       the destination.
+     * @param legLength the max distance between two waypoints.
+     * @return the waypoints to walk along, ending with the destination, or null if no route was found.
+     */
+    @Nullable
+    public static List<BlockPos> findRoute(
+      @NotNull final ChunkCache world,
+      @NotNull final RegistryKey<World> dimension,
+      @NotNull final BlockPos start,
+      @NotNull final BlockPos end,
+      final int legLength)
+    {
+        final Cluster startCluster = locate(world, dimension, start);
+        final Cluster endCluster = locate(world, dimension, end);
+        if (startCluster == null || endCluster == null || startCluster.sectionKey == endCluster.sectionKey)
+        {
+            return null;
+        }
+
+        final long[] route = searchPortals(world, dimension, start, startCluster, startCluster.findComponent(start), end, endCluster, endCluster.findComponent(end));
+        if (route == null)
+        {
+            return null;
+        }
+
+        // Keep only as many portals as needed so that consecutive waypoints are at most legLength apart.
+        final List<BlockPos> waypoints = new ArrayList<>();
+        final long maxDistSq = (long) legLength * legLength;
+        BlockPos last = start;
+        BlockPos previous = start;
+        for (final long portal : route)
+        {
+            final BlockPos pos = BlockPos.of(portal);
+            if (last.distSqr(pos) > maxDistSq && previous != last)
+            {
+                waypoints.add(previous);
+                last = previous;
+            }
+            previous = pos;
+        }
+
+        if (last.distSqr(end) > maxDistSq && previous != last)
+        {
+            waypoints.add(previous);
+        }
+        waypoints.add(end);
+        return waypoints;
+    }
+
+    /**
+     * Mark the clusters affected by a block change as outdated.
+     * <p>
+     * A block decides if the positions right above and below it are walkable, and the steps through the top and bottom of a section read one more block. So only
+     * the sections two blocks up and down are affected, in the own chunk and in the neighbouring chunk if the block is on its border.
+     *
+     * @param world the world.
+     * @param pos   the changed position.
+     */
+    public static synchronized void onBlockChanged(@NotNull final World world, @NotNull final BlockPos pos)
+    {
+        final int chunkX = pos.getX() >> 4;
+        final int chunkZ = pos.getZ() >> 4;
+        final int localX = pos.getX() & 15;
+        final int localZ = pos.getZ() & 15;
+        final int minSection = (pos.getY() - 2) >> 4;
+        final int maxSection = (pos.getY() + 2) >> 4;
+        for (int sectionY = minSection; sectionY <= maxSection; sectionY++)
+        {
+            invalidate(world.dimension(), chunkX, sectionY, chunkZ);
+            if (localX == 0)
+            {
+                invalidate(world.dimension(), chunkX - 1, sectionY, chunkZ);
+            }
+            else if (localX == 15)
+            {
+                invalidate(world.dimension(), chunkX + 1, sectionY, chunkZ);
+            }
+            if (localZ == 0)
+            {
+                invalidate(world.dimension(), chunkX, sectionY, chunkZ - 1);
+            }
+            else if (localZ == 15)
+            {
+                invalidate(world.dimension(), chunkX, sectionY, chunkZ + 1);
+            }
+        }
+    }
+
+    /**
+     * Drop the clusters and the recorded changes of an unloaded chunk. Snapshots can't contain it anymore, so its changes are not needed either.
+     *
+     * @param world the world.
+     * @param pos   the chunk position.
+     */
+    public static synchronized void onChunkUnloaded(@NotNull final World world, @NotNull final ChunkPos pos)
+    {
+        final Long2ObjectMap<Cluster[]> dimensionClusters = clusters.get(world.dimension());
+        if (dimensionClusters != null)
+        {
+            dimensionClusters.remove(pos.toLong());
+        }
+
+        final Long2LongMap dimensionChanges = changes.get(world.dimension());
+        if (dimensionChanges != null)
+        {
+            for (int sectionY = 0; sectionY < SECTIONS; sectionY++)
+            {
+                dimensionChanges.remove(SectionPos.asLong(pos.x, sectionY, pos.z));
+            }
+        }
+    }
+
+    /**
+     * Drop all clusters of a world.
+     *
+     * @param world the unloaded world.
+     */
+    public static synchronized void onWorldUnloaded(@NotNull final World world)
+    {
+        clusters.remove(world.dimension());
+        changes.remove(world.dimension());
+    }
+
+    /**
+     * Get the current change stamp, taken by the snapshots of the jobs when they are created.
+     *
+     * @return the stamp.
+     */
+    public static synchronized long getChangeStamp()
+    {
+        return changeStamp;
+    }
+
+    /**
+     * Drop the cluster of a section and record the change.
+     *
+     * @param dimension the dimension.
+     * @param chunkX    the chunk x.
+     * @param sectionY  the section y.
+     * @param chunkZ    the chunk z.
+     */
+    private static void invalidate(final RegistryKey<World> dimension, final int chunkX, final int sectionY, final int chunkZ)
+    {
+        if (sectionY < 0 || sectionY >= SECTIONS)
+        {
+            return;
+        }
+
+        final Long2ObjectMap<Cluster[]> dimensionClusters = clusters.get(dimension);
+        final Cluster[] column = dimensionClusters == null ? null : dimensionClusters.get(ChunkPos.asLong(chunkX, chunkZ));
+        if (column != null)
+        {
+            column[sectionY] = null;
+        }
+        changes.computeIfAbsent(dimension, k -> new Long2LongOpenHashMap()).put(SectionPos.asLong(chunkX, sectionY, chunkZ), ++changeStamp);
+    }
+
+    /**
+     * Find the cluster containing the walkable position of an entity at the given position, checking the blocks right above and below as well.
+     *
+     * @return the cluster or null if there is no walkable position in a claimed chunk.
+     */
+    @Nullable
+    private static Cluster locate(final ChunkCache world, final RegistryKey<World> dimension, final BlockPos pos)
+    {
+        for (int dy = 0; dy <= 2; dy++)
+        {
+            Cluster cluster = getCluster(world, dimension, pos.getX(), pos.getY() - dy, pos.getZ());
+            if (cluster != null && cluster.findComponent(pos) >= 0)
+            {
+                return cluster;
+            }
+            cluster = getCluster(world, dimension, pos.getX(), pos.getY() + dy, pos.getZ());
+            if (cluster != null && cluster.findComponent(pos) >= 0)
+            {
+                return cluster;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * A* over the portals, from the start position to the destination.
+     *
+     * @return the portal positions of the route in order, or null if there is none.
+     */
+    @Nullable
+    private static long[] searchPortals(
+      final ChunkCache world,
+      final RegistryKey<World> dimension,
+      final BlockPos start,
+      final Cluster startCluster,
+      final int startComponent,
+      final BlockPos end,
+      final Cluster endCluster,
+      final int endComponent)
+    {
+        final PriorityQueue<CoarseNode> open = new PriorityQueue<>(Comparator.comparingDouble(node -> node.score));
+        final Long2DoubleMap costs = new Long2DoubleOpenHashMap();
+        costs.defaultReturnValue(Double.MAX_VALUE);
+        final Long2LongMap parents = new Long2LongOpenHashMap();
+        final long noParent = start.asLong();
+
+        costs.put(noParent, 0);
+        open.add(new CoarseNode(noParent, startCluster, startComponent, 0, distance(noParent, end.asLong())));
+
+        int expanded = 0;
+        while (!open.isEmpty() && expanded++ < MAX_COARSE_NODES)
+        {
+            if (Thread.currentThread().isInterrupted())
+            {
+                return null;
+            }
+
+            final CoarseNode node = open.poll();
+            if (node.cost > costs.get(node.pos))
+            {
+                continue;
+            }
+
+            if (node.cluster.sectionKey == endCluster.sectionKey && node.component == endComponent)
+            {
+                final LongArrayList route = new LongArrayList();
+                long current = node.pos;
+                while (current != noParent)
+                {
+                    route.add(current);
+                    current = parents.get(current);
+                }
+                final long[] result = route.toLongArray();
+                for (int i = 0, j = result.length - 1; i < j; i++, j--)
+                {
+                    final long temp = result[i];
+                    result[i] = result[j];
+                    result[j] = temp;
+                }
+                return result;
+            }
+
+            final Cluster cluster = node.cluster;
+            for (int i = 0; i < cluster.portals.length; i++)
+            {
+                if (cluster.portalComponents[i] != node.component)
+                {
+                    continue;
+                }
+
+                final long portal = cluster.portals[i];
+                if (portal != node.pos)
+                {
+                    // Walk through the cluster to its other connected portals.
+                    relax(open, costs, parents, node, portal, cluster, node.component, distance(node.pos, portal), end);
+                    continue;
+                }
+
+                // Cross the border into the neighbouring cluster.
+                final long outer = cluster.outerPortals[i];
+                final Cluster neighbour = getCluster(world, dimension, BlockPos.getX(outer), BlockPos.getY(outer), BlockPos.getZ(outer));
+                if (neighbour != null)
+                {
+                    final int outerComponent = neighbour.components.get(outer);
+                    if (outerComponent >= 0)
+                    {
+                        relax(open, costs, parents, node, outer, neighbour, outerComponent, 1, end);
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Queue the given position if it is reached cheaper through the given node.
+     */
+    private static void relax(
+      final PriorityQueue<CoarseNode> open,
+      final Long2DoubleMap costs,
+      final Long2LongMap parents,
+      final CoarseNode from,
+      final long pos,
+      final Cluster cluster,
+      final int component,
+      final double stepCost,
+      final BlockPos end)
+    {
+        final double cost = from.cost + stepCost;
+        if (cost < costs.get(pos))
+        {
+            costs.put(pos, cost);
+            parents.put(pos, from.pos);
+            open.add(new CoarseNode(pos, cluster, component, cost, cost + distance(pos, end.asLong())));
+        }
+    }
+
+    /**
+     * Euclidean distance between two packed positions.
+     */
+    private static double distance(final long from, final long to)
+    {
+        final double x = BlockPos.getX(from) - BlockPos.getX(to);
+        final double y = BlockPos.getY(from) - BlockPos.getY(to);
+        final double z = BlockPos.getZ(from) - BlockPos.getZ(to);
+        return Math.sqrt(x * x + y * y + z * z);
+    }
+
+    /**
+     * Get the cluster of the section containing a position in a claimed chunk, computing it if required.
+     * <p>
+     * A computed cluster is only cached if none of the blocks it read changed after the snapshot was taken.
+     *
+     * @return the cluster or null if the chunk is not claimed, the position is out of height or outside of the snapshot, or the chunk or a neighbour is not
+     * available.
+     */
+    @Nullable
+    private static Cluster getCluster(final ChunkCache world, final RegistryKey<World> dimension, final int x, final int y, final int z)
+    {
+        if (y < MIN_Y || y > MAX_Y)
+        {
+            return null;
+        }
+
+        final int chunkX = x >> 4;
+        final int chunkZ = z >> 4;
+        final int sectionY = y >> 4;
+        if (world.getOwningColony(chunkX, chunkZ) == 0)
+        {
+            return null;
+        }
+
+        final long columnKey = ChunkPos.asLong(chunkX, chunkZ);
+        synchronized (ChunkPortalGraph.class)
+        {
+            final Long2ObjectMap<Cluster[]> dimensionClusters = clusters.get(dimension);
+            final Cluster[] column = dimensionClusters == null ? null : dimensionClusters.get(columnKey);
+            if (column != null && column[sectionY] != null)
+            {
+                return column[sectionY];
+            }
+        }
+
+        // The cluster reads up to two blocks into the sections above and below.
+        if (!world.hasSnapshotSections(sectionY - 1, sectionY + 1)
+              || !isAvailable(world, chunkX - 1, chunkZ)
+              || !isAvailable(world, chunkX + 1, chunkZ)
+              || !isAvailable(world, chunkX, chunkZ - 1)
+              || !isAvailable(world, chunkX, chunkZ + 1))
+        {
+            return null;
+        }
+
+        final Cluster cluster = new Cluster(world, chunkX, sectionY, chunkZ);
+        synchronized (ChunkPortalGraph.class)
+        {
+            final Long2LongMap dimensionChanges = changes.get(dimension);
+            if (dimensionChanges == null || dimensionChanges.get(cluster.sectionKey) <= world.getChangeStamp())
+            {
+                final Long2ObjectMap<Cluster[]> dimensionClusters = clusters.computeIfAbsent(dimension, k -> new Long2ObjectOpenHashMap<>());
+                Cluster[] column = dimensionClusters.get(columnKey);
+                if (column == null)
+                {
+                    column = new Cluster[SECTIONS];
+                    dimensionClusters.put(columnKey, column);
+                }
+                column[sectionY] = cluster;
+            }
+        }
+        return cluster;
+    }
+
+    /**
+     * Check if the chunk is available in the world view.
+     */
+    private static boolean isAvailable(final IWorldReader world, final int chunkX, final int chunkZ)
+    {
+        return world.getChunk(chunkX, chunkZ, ChunkStatus.FULL, false) != null;
+    }
+
+    /**
+     * Check if an entity can stand at the given position, ignoring doors.
+     */
+    private static boolean isWalkable(final IWorldReader world, final BlockPos.Mutable pos)
+    {
+        if (!isOpen(world, pos))
+        {
+            return false;
+        }
+
+        pos.move(Direction.UP);
+        final boolean headFree = isOpen(world, pos);
+        pos.move(Direction.DOWN, 2);
+        final BlockState below = world.getBlockState(pos);
+        final boolean walkable = headFree && world.getFluidState(pos).isEmpty() && SurfaceType.getSurfaceType(world, below, pos) == SurfaceType.WALKABLE;
+        pos.move(Direction.UP);
+        return walkable;
+    }
+
+    /**
+     * Check if a position can be moved through, doors and gates count as open.
+     */
+    private static boolean isOpen(final IWorldReader world, final BlockPos pos)
+    {
+        final BlockState state = world.getBlockState(pos);
+        if (state.isAir() || state.getBlock() instanceof DoorBlock || state.getBlock() instanceof FenceGateBlock)
+        {
+            return true;
+        }
+        final VoxelShape shape = state.getCollisionShape(world, pos);
+        return (shape.isEmpty() || shape.max(Direction.Axis.Y) <= 0.1) && state.getFluidState().isEmpty();
+    }
+
+    /**
+     * The portals of one chunk section and the connectivity between them.
+     */
+    private static final class Cluster
+    {
+        /**
+         * Key of the section.
+         */
+        private final long sectionKey;
+
+        /**
+         * Component id of every walkable position of the section.
+         */
+        private final Long2IntMap components = new Long2IntOpenHashMap();
+
+        /**
+         * The portal positions in this section, the matching positions in the neighbouring section and the component of each portal.
+         */
+        private final long[] portals;
+        private final long[] outerPortals;
+        private final int[]  portalComponents;
+
+        private Cluster(final IWorldReader world, final int chunkX, final int sectionY, final int chunkZ)
+        {
+            sectionKey = SectionPos.asLong(chunkX, sectionY, chunkZ);
+            components.defaultReturnValue(-1);
+
+            final int minX = chunkX << 4;
+            final int minZ = chunkZ << 4;
+            final int bottom = sectionY << 4;
+            final int top = bottom + 15;
+            final int minY = Math.max(MIN_Y, bottom);
+            final int maxY = Math.min(MAX_Y, top);
+            final BlockPos.Mutable pos = new BlockPos.Mutable();
+
+            // Collect the walkable positions.
+            final LongSet walkable = new LongOpenHashSet();
+            for (int x = minX; x < minX + 16; x++)
+            {
+                for (int z = minZ; z < minZ + 16; z++)
+                {
+                    for (int y = minY; y <= maxY; y++)
+                    {
+                        if (isWalkable(world, pos.set(x, y, z)))
+                        {
+                            walkable.add(pos.asLong());
+                        }
+                    }
+                }
+            }
+
+            // Flood fill the components, stepping up or down one block.
+            int nextComponent = 0;
+            final LongArrayList stack = new LongArrayList();
+            for (final long seed : walkable)
+            {
+                if (components.containsKey(seed))
+                {
+                    continue;
+                }
+
+                final int component = nextComponent++;
+                components.put(seed, component);
+                stack.add(seed);
+                while (!stack.isEmpty())
+                {
+                    final long current = stack.removeLong(stack.size() - 1);
+                    for (final Direction direction : Direction.Plane.HORIZONTAL)
+                    {
+                        for (int dy = -1; dy <= 1; dy++)
+                        {
+                            final long neighbour = BlockPos.offset(current, direction.getStepX(), dy, direction.getStepZ());
+                            if (walkable.contains(neighbour) && !components.containsKey(neighbour))
+                            {
+                                components.put(neighbour, component);
+                                stack.add(neighbour);
+                            }
+                        }
+                    }
+                }
+            }
+
+            // Find the portals on all four sides, one per contiguous run at the same height.
+            final LongArrayList tempPortals = new LongArrayList();
+            final LongArrayList tempOuter = new LongArrayList();
+            final IntArrayList tempComponents = new IntArrayList();
+            for (final Direction side : Direction.Plane.HORIZONTAL)
+            {
+                for (int y = minY; y <= maxY; y++)
+                {
+                    int runStart = -1;
+                    for (int i = 0; i <= 16; i++)
+                    {
+                        boolean open = false;
+                        if (i < 16)
+                        {
+                            final long inner = borderPos(side, minX, minZ, i, y);
+                            if (walkable.contains(inner))
+                            {
+                                pos.set(BlockPos.getX(inner) + side.getStepX(), y, BlockPos.getZ(inner) + side.getStepZ());
+                                open = isWalkable(world, pos);
+                            }
+                        }
+
+                        if (open && runStart < 0)
+                        {
+                            runStart = i;
+                        }
+                        else if (!open && runStart >= 0)
+                        {
+                            final long inner = borderPos(side, minX, minZ, (runStart + i - 1) / 2, y);
+                            tempPortals.add(inner);
+                            tempOuter.add(BlockPos.offset(inner, side.getStepX(), 0, side.getStepZ()));
+                            tempComponents.add(components.get(inner));
+                            runStart = -1;
+                        }
+                    }
+                }
+            }
+
+            // Find the steps up through the top and down through the bottom, one per component and neighbouring section.
+            final Long2ObjectMap<IntSet> linked = new Long2ObjectOpenHashMap<>();
+            for (final long inner : walkable)
+            {
+                final int y = BlockPos.getY(inner);
+                final int dy = y == top ? 1 : (y == bottom ? -1 : 0);
+                if (dy == 0 || y + dy < MIN_Y || y + dy > MAX_Y)
+                {
+                    continue;
+                }
+
+                final int component = components.get(inner);
+                for (final Direction direction : Direction.Plane.HORIZONTAL)
+                {
+                    final long outer = BlockPos.offset(inner, direction.getStepX(), dy, direction.getStepZ());
+                    final long outerSection = SectionPos.asLong(BlockPos.getX(outer) >> 4, BlockPos.getY(outer) >> 4, BlockPos.getZ(outer) >> 4);
+                    IntSet linkedComponents = linked.get(outerSection);
+                    if (linkedComponents == null)
+                    {
+                        linkedComponents = new IntOpenHashSet();
+                        linked.put(outerSection, linkedComponents);
+                    }
+
+                    if (!linkedComponents.contains(component) && isWalkable(world, pos.set(BlockPos.getX(outer), BlockPos.getY(outer), BlockPos.getZ(outer))))
+                    {
+                        linkedComponents.add(component);
+                        tempPortals.add(inner);
+                        tempOuter.add(outer);
+                        tempComponents.add(component);
+                    }
+                }
+            }
+
+            portals = tempPortals.toLongArray();
+            outerPortals = tempOuter.toLongArray();
+            portalComponents = tempComponents.toIntArray();
+        }
+
+        /**
+         * Get the position on the border of the chunk towards the given side.
+         */
+        private static long borderPos(final Direction side, final int minX, final int minZ, final int index, final int y)
+        {
+            switch (side)
+            {
+                case NORTH:
+                    return BlockPos.asLong(minX + index, y, minZ);
+                case SOUTH:
+                    return BlockPos.asLong(minX + index, y, minZ + 15);
+                case WEST:
+                    return BlockPos.asLong(minX, y, minZ + index);
+                default:
+                    return BlockPos.asLong(minX + 15, y, minZ + index);
+            }
+        }
+
+        /**
+         * Find the component of a position, checking the blocks right above and below as well.
+         *
+         * @param pos the position.
+         * @return the component or -1 if the position is not walkable.
+         */
+        private int findComponent(final BlockPos pos)
+        {
+            for (int dy = 0; dy <= 2; dy++)
+            {
+                int component = components.get(BlockPos.offset(pos.asLong(), 0, -dy, 0));
+                if (component >= 0)
+                {
+                    return component;
+                }
+                component = components.get(BlockPos.offset(pos.asLong(), 0, dy, 0));
+                if (component >= 0)
+                {
+                    return component;
+                }
+            }
+            return -1;
+        }
+    }
+
+    /**
+     * A position in the open set of the coarse search.
+     */
+    private static final class CoarseNode
+    {
+        private final long    pos;
+        private final Cluster cluster;
+        private final int     component;
+        private final double  cost;
+        private final double  score;
+
+        private CoarseNode(final long pos, final Cluster cluster, final int component, final double cost, final double score)
+        {
+            this.pos = pos;
+            this.cluster = cluster;
+            this.component = component;
+            this.cost = cost;
+            this.score = score;
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.block.BlockState;
+import net.minecraft.util.RegistryKey;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.ChunkSection;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static com.minecolonies.api.util.constant.Constants.TICKS_SECOND;
+
+/**
+ * Shared, copy-on-write snapshots of chunk sections for the pathfinding threads.
+ * <p>
+ * Snapshots are taken on the server thread when a path job is created, and only for the sections within the bounds of the job. Copied sections are never modified
+ * afterwards, so the pathfinding threads only ever read immutable data. Block changes mark the affected section as stale; the next job reading it then copies only that
+ * section into a new array, while jobs that are still running keep their old, consistent array. All other sections are shared by reference between the jobs.
+ */
+public final class ChunkSnapshotCache
+{
+    /**
+     * Snapshots older than this are taken again, in case a block change did not fire an event.
+     */
+    private static final long MAX_SNAPSHOT_AGE = TICKS_SECOND * 30;
+
+    /**
+     * Amount of sections in a chunk column.
+     */
+    private static final int SECTIONS = 16;
+
+    /**
+     * The cached snapshots, by dimension and chunk key.
+     */
+    private static final Map<RegistryKey<World>, Long2ObjectMap<ChunkSnapshot>> snapshots = new HashMap<>();
+
+    /**
+     * Private constructor to hide the implicit one.
+     */
+    private ChunkSnapshotCache()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Get the immutable section snapshot of a chunk, taking or refreshing the given sections if required.
+     *
+     * @param world      the world the chunk is in.
+     * @param chunk      the live chunk.
+     * @param minSection the lowest section to snapshot.
+     * @param maxSection the highest section to snapshot.
+     * @return the sections of the snapshot, must not be modified. Only the requested sections are up to date, the others may be outdated or missing.
+     */
+    @NotNull
+    public static synchronized ChunkSection[] getSections(@NotNull final World world, @NotNull final Chunk chunk, final int minSection, final int maxSection)
+    {
+        final Long2ObjectMap<ChunkSnapshot> dimensionSnapshots = snapshots.computeIfAbsent(world.dimension(), key -> new Long2ObjectOpenHashMap<>());
+        final long key = chunk.getPos().toLong();
+        final long gameTime = world.getGameTime();
+
+        ChunkSnapshot snapshot = dimensionSnapshots.get(key);
+        if (snapshot == null || snapshot.chunk != chunk || gameTime - snapshot.createdAt > MAX_SNAPSHOT_AGE)
+        {
+            snapshot = new ChunkSnapshot(chunk, new ChunkSection[SECTIONS], gameTime);
+            dimensionSnapshots.put(key, snapshot);
+        }
+
+        int missing = 0;
+        for (int i = Math.max(0, minSection); i <= Math.min(SECTIONS - 1, maxSection); i++)
+        {
+            missing |= 1 << i;
+        }
+        missing &= ~snapshot.copiedSections;
+
+        if (missing != 0)
+        {
+            snapshot.sections = copySections(chunk.getSections(), snapshot.sections, missing);
+            snapshot.copiedSections |= missing;
+        }
+
+        return snapshot.sections;
+    }
+
+    /**
+     * Mark the section containing the given position as changed.
+     *
+     * @param world the world.
+     * @param pos   the changed position.
+     */
+    public static synchronized void onBlockChanged(@NotNull final World world, @NotNull final BlockPos pos)
+    {
+        final Long2ObjectMap<ChunkSnapshot> dimensionSnapshots = snapshots.get(world.dimension());
+        if (dimensionSnapshots == null || pos.getY() < 0 || pos.getY() >= 256)
+        {
+            return;
+        }
+
+        final ChunkSnapshot snapshot = dimensionSnapshots.get(ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4));
+        if (snapshot != null)
+        {
+            snapshot.copiedSections &= ~(1 << (pos.getY() >> 4));
+        }
+    }
+
+    /**
+     * Drop the snapshot of an unloaded chunk.
+     *
+     * @param world the world.
+     * @param pos   the chunk position.
+     */
+    public static synchronized void onChunkUnloaded(@NotNull final World world, @NotNull final ChunkPos pos)
+    {
+        final Long2ObjectMap<ChunkSnapshot> dimensionSnapshots = snapshots.get(world.dimension());
+        if (dimensionSnapshots != null)
+        {
+            dimensionSnapshots.remove(pos.toLong());
+        }
+    }
+
+    /**
+     * Drop all snapshots of a world.
+     *
+     * @param world the unloaded world.
+     */
+    public static synchronized void onWorldUnloaded(@NotNull final World world)
+    {
+        snapshots.remove(world.dimension());
+    }
+
+    /**
+     * Copy the given live sections into a new array, sharing all others with the previous snapshot.
+     *
+     * @param live     the live sections of the chunk.
+     * @param previous the previous sections of the snapshot.
+     * @param copied   bitmask of the sections to copy.
+     * @return the new sections array.
+     */
+    private static ChunkSection[] copySections(final ChunkSection[] live, final ChunkSection[] previous, final int copied)
+    {
+        final ChunkSection[] copy = previous.clone();
+        for (int i = 0; i < live.length; i++)
+        {
+            if ((copied & (1 << i)) != 0)
+            {
+                copy[i] = ChunkSection.isEmpty(live[i]) ? null : copySection(live[i]);
+            }
+        }
+        return copy;
+    }
+
+    /**
+     * Copy a single section, block by block straight from its palette, skipping air.
+     *
+     * @param section the live section.
+     * @return the detached copy.
+     */
+    private static ChunkSection copySection(final ChunkSection section)
+    {
+        final ChunkSection copy = new ChunkSection(section.bottomBlockY());
+        for (int y = 0; y < 16; y++)
+        {
+            for (int z = 0; z < 16; z++)
+            {
+                for (int x = 0; x < 16; x++)
+                {
+                    final BlockState state = section.getBlockState(x, y, z);
+                    if (!state.isAir())
+                    {
+                        copy.setBlockState(x, y, z, state, false);
+                    }
+                }
+            }
+        }
+        return copy;
+    }
+
+    /**
+     * Snapshot of the sections of one chunk.
+     */
+    private static final class ChunkSnapshot
+    {
+        /**
+         * The live chunk the snapshot was taken of.
+         */
+        private final Chunk chunk;
+
+        /**
+         * The copied sections, never modified, only replaced by a new array.
+         */
+        private ChunkSection[] sections;
+
+        /**
+         * Game time the snapshot was first taken at.
+         */
+        private final long createdAt;
+
+        /**
+         * Bitmask of the sections which are copied and did not change since.
+         */
+        private int copiedSections = 0;
+
+        private ChunkSnapshot(final Chunk chunk, final ChunkSection[] sections, final long createdAt)
+        {
+            this.chunk = chunk;
+            this.sections = sections;
+            this.createdAt = createdAt;
+        }
+    }
+}
@@ -114,6 +114,11 @@ public class MinecoloniesAdvancedPathNavigate extends AbstractAdvancedPathNaviga
     @Nullable
     public PathResult moveAwayFromXYZ(final BlockPos avoid, final double range, final double speedFactor, final boolean safeDestination)
     {
+        if (!Pathfinding.canAccept(AbstractPathJob.getPriority(ourEntity)))
+        {
+            return rejectPathRequest(new PathResult<>());
+        }
+
         @NotNull final BlockPos start = AbstractPathJob.prepareStart(ourEntity);
 
         return setPathJob(new PathJobMoveAwayFromLocation(CompatibilityUtils.getWorldFromEntity(ourEntity),
@@ -132,6 +137,11 @@ public class MinecoloniesAdvancedPathNavigate extends AbstractAdvancedPathNaviga
             return pathResult;
         }
 
+        if (!Pathfinding.canAccept(PathPriority.IDLE))
+        {
+            return rejectPathRequest(new PathResult<>());
+        }
+
         desiredPos = BlockPos.ZERO;
         final int theRange = (int) (mob.getRandom().nextInt((int) range) + range / 2);
         @NotNull final BlockPos start = AbstractPathJob.prepareStart(ourEntity);
@@ -153,6 +163,11 @@ public class MinecoloniesAdvancedPathNavigate extends AbstractAdvancedPathNaviga
             return pathResult;
         }
 
+        if (!Pathfinding.canAccept(PathPriority.IDLE))
+        {
+            return rejectPathRequest(new PathResult<>());
+        }
+
         desiredPos = BlockPos.ZERO;
         return setPathJob(new PathJobRandomPos(CompatibilityUtils.getWorldFromEntity(ourEntity),
           AbstractPathJob.prepareStart(ourEntity),
@@ -170,6 +185,11 @@ public class MinecoloniesAdvancedPathNavigate extends AbstractAdvancedPathNaviga
             return pathResult;
         }
 
+        if (!Pathfinding.canAccept(PathPriority.IDLE))
+        {
+            return rejectPathRequest(new PathResult<>());
+        }
+
         desiredPos = BlockPos.ZERO;
         final int theRange = (int) (mob.getRandom().nextInt((int) range) + range / 2);
         @NotNull final BlockPos start = AbstractPathJob.prepareStart(ourEntity);
@@ -190,6 +210,11 @@ public class MinecoloniesAdvancedPathNavigate extends AbstractAdvancedPathNaviga
       final BlockPos dest,
       final double speedFactor, final boolean safeDestination)
     {
+        if (!Pathfinding.canAccept(job.getPriority()))
+        {
+            return rejectPathRequest(job.getResult());
+        }
+
         stop();
 
         this.destination = dest;
@@ -213,10 +238,26 @@ public class MinecoloniesAdvancedPathNavigate extends AbstractAdvancedPathNaviga
 
         job.setPathingOptions(getPathingOptions());
         pathResult = job.getResult();
-        pathResult.startJob(Pathfinding.getExecutor());
+        PathCache.startJob(job);
         return pathResult;
     }
 
+    /**
+     * Fail a path request right away because pathfinding is backed up, so the AI retries later. The entry points check this before creating the job, so no world
+     * snapshot is taken for a request which is dropped anyway.
+     *
+     * @param result the result to hand back to the caller.
+     * @param <R>    the type of the result.
+     * @return the cancelled result.
+     */
+    private <R extends PathResult> R rejectPathRequest(@NotNull final R result)
+    {
+        stop();
+        result.cancel();
+        result.setStatus(PathFindingStatus.CANCELLED);
+        return result;
+    }
+
     @Override
     public boolean isDone()
     {
@@ -352,6 +393,11 @@ public class MinecoloniesAdvancedPathNavigate extends AbstractAdvancedPathNaviga
             return pathResult;
         }
 
+        if (!Pathfinding.canAccept(AbstractPathJob.getPriority(ourEntity)))
+        {
+            return rejectPathRequest(new PathResult<>());
+        }
+
         @NotNull final BlockPos start = AbstractPathJob.prepareStart(ourEntity);
         desiredPos = new BlockPos(newX, newY, newZ);
 
@@ -536,7 +582,10 @@ public class MinecoloniesAdvancedPathNavigate extends AbstractAdvancedPathNaviga
     {
         pathResult.getJob().synchToClient(mob);
         moveTo(pathResult.getPath(), getSpeedFactor());
-        pathResult.setStatus(PathFindingStatus.IN_PROGRESS_FOLLOWING);
+        if (pathResult != null)
+        {
+            pathResult.setStatus(PathFindingStatus.IN_PROGRESS_FOLLOWING);
+        }
         return false;
     }
 
@@ -919,6 +968,18 @@ public class MinecoloniesAdvancedPathNavigate extends AbstractAdvancedPathNaviga
 
     public void recomputePath() {}
 
+    /**
+     * Called by the server for every block change sent to the clients which changes a collision shape, including the ones which don't notify their neighbours,
+     * like doors and gates.
+     *
+     * @param pos the changed position.
+     */
+    @Override
+    public void recomputePath(@NotNull final BlockPos pos)
+    {
+        Pathfinding.onBlockChanged(level, pos);
+    }
+
     /**
      * Don't let vanilla rapidly discard paths, set a timeout before its allowed to use stuck.
      */
@@ -946,6 +1007,11 @@ public class MinecoloniesAdvancedPathNavigate extends AbstractAdvancedPathNaviga
     @Override
     public WaterPathResult moveToWater(final int range, final double speed, final List<Tuple<BlockPos, BlockPos>> ponds)
     {
+        if (!Pathfinding.canAccept(AbstractPathJob.getPriority(ourEntity)))
+        {
+            return rejectPathRequest(new WaterPathResult());
+        }
+
         @NotNull final BlockPos start = AbstractPathJob.prepareStart(ourEntity);
         return (WaterPathResult) setPathJob(
           new PathJobFindWater(CompatibilityUtils.getWorldFromEntity(ourEntity),
@@ -959,6 +1025,11 @@ public class MinecoloniesAdvancedPathNavigate extends AbstractAdvancedPathNaviga
     @Override
     public TreePathResult moveToTree(final BlockPos startRestriction, final BlockPos endRestriction, final double speed, final List<ItemStorage> excludedTrees, final int dyntreesize, final IColony colony)
     {
+        if (!Pathfinding.canAccept(AbstractPathJob.getPriority(ourEntity)))
+        {
+            return rejectPathRequest(new TreePathResult());
+        }
+
         @NotNull final BlockPos start = AbstractPathJob.prepareStart(ourEntity);
         final BlockPos buildingPos = ((AbstractEntityCitizen) mob).getCitizenColonyHandler().getWorkBuilding().getPosition();
 
@@ -973,6 +1044,11 @@ public class MinecoloniesAdvancedPathNavigate extends AbstractAdvancedPathNaviga
     @Override
     public TreePathResult moveToTree(final int range, final double speed, final List<ItemStorage> excludedTrees, final int dyntreesize, final IColony colony)
     {
+        if (!Pathfinding.canAccept(AbstractPathJob.getPriority(ourEntity)))
+        {
+            return rejectPathRequest(new TreePathResult());
+        }
+
         @NotNull BlockPos start = AbstractPathJob.prepareStart(ourEntity);
         final BlockPos buildingPos = ((AbstractEntityCitizen) mob).getCitizenColonyHandler().getWorkBuilding().getPosition();
 
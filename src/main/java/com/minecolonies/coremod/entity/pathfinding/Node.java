@@ -94,6 +94,11 @@ public class Node implements Comparable<Node>
      */
     private boolean isReachedByWorker = false;
 
+    /**
+     * Index of the node in the {@link NodeHeap} it is queued in.
+     */
+    int heapIndex = NodeHeap.NOT_IN_HEAP;
+
     /**
      * Create initial Node.
      *
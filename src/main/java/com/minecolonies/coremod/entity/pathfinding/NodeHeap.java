@@ -0,0 +1,214 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+
+/**
+ * Indexed binary min-heap of pathfinding nodes, ordered by {@link Node#compareTo(Node)}.
+ * <p>
+ * Every node remembers its own index in the heap, which makes contains and remove O(1) and O(log n) instead of the linear scans of a {@link java.util.PriorityQueue}.
+ * A node can only be part of one heap at a time.
+ */
+public class NodeHeap
+{
+    /**
+     * Heap index of nodes which are not in the heap.
+     */
+    static final int NOT_IN_HEAP = -1;
+
+    /**
+     * The heap array.
+     */
+    private Node[] heap;
+
+    /**
+     * The number of nodes in the heap.
+     */
+    private int size = 0;
+
+    /**
+     * Create a new heap.
+     *
+     * @param initialCapacity the initial capacity.
+     */
+    public NodeHeap(final int initialCapacity)
+    {
+        heap = new Node[Math.max(1, initialCapacity)];
+    }
+
+    /**
+     * Check if the heap is empty.
+     *
+     * @return true if so.
+     */
+    public boolean isEmpty()
+    {
+        return size == 0;
+    }
+
+    /**
+     * Get the number of nodes in the heap.
+     *
+     * @return the size.
+     */
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+     * Check if the node is currently in this heap.
+     *
+     * @param node the node to check.
+     * @return true if so.
+     */
+    public boolean contains(@NotNull final Node node)
+    {
+        final int index = node.heapIndex;
+        return index >= 0 && index < size && heap[index] == node;
+    }
+
+    /**
+     * Add a node to the heap.
+     *
+     * @param node the node to add, must not be in the heap yet.
+     */
+    public void offer(@NotNull final Node node)
+    {
+        if (size == heap.length)
+        {
+            heap = Arrays.copyOf(heap, size * 2);
+        }
+
+        heap[size] = node;
+        node.heapIndex = size;
+        size++;
+        siftUp(node.heapIndex);
+    }
+
+    /**
+     * Remove and return the smallest node.
+     *
+     * @return the node or null if the heap is empty.
+     */
+    @Nullable
+    public Node poll()
+    {
+        if (size == 0)
+        {
+            return null;
+        }
+
+        final Node result = heap[0];
+        removeAt(0);
+        return result;
+    }
+
+    /**
+     * Remove the given node from the heap.
+     *
+     * @param node the node to remove.
+     * @return true if the node was in the heap.
+     */
+    public boolean remove(@NotNull final Node node)
+    {
+        if (!contains(node))
+        {
+            return false;
+        }
+
+        removeAt(node.heapIndex);
+        return true;
+    }
+
+    /**
+     * Remove the node at the given index and restore the heap order.
+     *
+     * @param index the index.
+     */
+    private void removeAt(final int index)
+    {
+        final Node removed = heap[index];
+        removed.heapIndex = NOT_IN_HEAP;
+        size--;
+
+        if (index == size)
+        {
+            heap[size] = null;
+            return;
+        }
+
+        final Node last = heap[size];
+        heap[size] = null;
+        heap[index] = last;
+        last.heapIndex = index;
+
+        siftDown(index);
+        if (heap[index] == last)
+        {
+            siftUp(index);
+        }
+    }
+
+    /**
+     * Move the node at the index up until its parent is smaller.
+     *
+     * @param index the index to start at.
+     */
+    private void siftUp(int index)
+    {
+        final Node node = heap[index];
+        while (index > 0)
+        {
+            final int parentIndex = (index - 1) >>> 1;
+            final Node parent = heap[parentIndex];
+            if (node.compareTo(parent) >= 0)
+            {
+                break;
+            }
+
+            heap[index] = parent;
+            parent.heapIndex = index;
+            index = parentIndex;
+        }
+
+        heap[index] = node;
+        node.heapIndex = index;
+    }
+
+    /**
+     * Move the node at the index down until both children are bigger.
+     *
+     * @param index the index to start at.
+     */
+    private void siftDown(int index)
+    {
+        final Node node = heap[index];
+        final int half = size >>> 1;
+        while (index < half)
+        {
+            int childIndex = (index << 1) + 1;
+            Node child = heap[childIndex];
+            final int rightIndex = childIndex + 1;
+            if (rightIndex < size && child.compareTo(heap[rightIndex]) > 0)
+            {
+                childIndex = rightIndex;
+                child = heap[rightIndex];
+            }
+
+            if (node.compareTo(child) <= 0)
+            {
+                break;
+            }
+
+            heap[index] = child;
+            child.heapIndex = index;
+            index = childIndex;
+        }
+
+        heap[index] = node;
+        node.heapIndex = index;
+    }
+}
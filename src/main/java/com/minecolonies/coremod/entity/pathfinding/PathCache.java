@@ -0,0 +1,570 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+import com.minecolonies.api.entity.pathfinding.PathResult;
+import com.minecolonies.api.entity.pathfinding.PathingOptions;
+import com.minecolonies.coremod.entity.pathfinding.pathjobs.AbstractPathJob;
+import it.unimi.dsi.fastutil.longs.*;
+import net.minecraft.pathfinding.Path;
+import net.minecraft.pathfinding.PathPoint;
+import net.minecraft.util.RegistryKey;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.SectionPos;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Cache of computed paths, for routes citizens walk over and over again.
+ * <p>
+ * Jobs which provide a {@link Key} are looked up here before being queued. Finished paths are kept in a small LRU cache and dropped as soon as a block along the route changes.
+ * Identical jobs queued while the first one is still computing share its calculation instead of running their own. Every consumer gets its own {@link Path} instance, since
+ * the navigator advances it while following.
+ */
+public final class PathCache
+{
+    /**
+     * Max amount of cached paths.
+     */
+    private static final int MAX_ENTRIES = 512;
+
+    /**
+     * Max age of a cached path, as a safety net for block changes which do not notify neighbours.
+     */
+    private static final long MAX_AGE_NANOS = TimeUnit.SECONDS.toNanos(60);
+
+    /**
+     * The cached paths in access order, the eldest entry is evicted first.
+     */
+    private static final Map<Key, CachedPath> cache = new LinkedHashMap<Key, CachedPath>(MAX_ENTRIES, 0.75F, true)
+    {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<Key, CachedPath> eldest)
+        {
+            if (size() > MAX_ENTRIES)
+            {
+                unindex(eldest.getKey(), eldest.getValue());
+                return true;
+            }
+            return false;
+        }
+    };
+
+    /**
+     * The keys of the cached paths passing through each chunk section.
+     */
+    private static final Long2ObjectMap<Set<Key>> keysBySection = new Long2ObjectOpenHashMap<>();
+
+    /**
+     * Calculations which are currently queued or running.
+     */
+    private static final Map<Key, SharedCalculation> calculations = new HashMap<>();
+
+    /**
+     * Last block change stamp of each chunk section, only tracked as long as a calculation started before the change is queued or running.
+     */
+    private static final Long2LongMap sectionChanges = new Long2LongOpenHashMap();
+
+    /**
+     * Stamp increased with every block change.
+     */
+    private static long changeStamp = 0;
+
+    /**
+     * Statistics.
+     */
+    private static long hits          = 0;
+    private static long misses        = 0;
+    private static long coalesced     = 0;
+    private static long invalidations = 0;
+    private static long savedNanos    = 0;
+
+    /**
+     * Private constructor to hide the implicit one.
+     */
+    private PathCache()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Start the given job, answering it from the cache or from an identical running calculation if possible.
+     *
+     * @param job the job to start.
+     */
+    public static synchronized void startJob(@NotNull final AbstractPathJob job)
+    {
+        final PathResult result = job.getResult();
+        final Key key = job.getCacheKey();
+        if (key == null)
+        {
+            result.startJob(Pathfinding.submit(job, job));
+            return;
+        }
+
+        final CachedPath cached = cache.get(key);
+        if (cached != null)
+        {
+            if (System.nanoTime() - cached.createdAt <= MAX_AGE_NANOS)
+            {
+                hits++;
+                savedNanos += cached.computeNanos;
+                result.setPathReachesDestination(cached.path.canReach());
+                result.startJob(CompletableFuture.completedFuture(copyPath(cached.path)));
+                return;
+            }
+            remove(key);
+        }
+
+        SharedCalculation calculation = calculations.get(key);
+        if (calculation == null || calculation.task.isCancelled())
+        {
+            misses++;
+            calculation = new SharedCalculation(key, job, changeStamp);
+            calculations.put(key, calculation);
+            final SharedCalculation submitted = calculation;
+            calculation.task = Pathfinding.submit(job, calculation, () -> onCalculationCancelled(submitted));
+        }
+        else
+        {
+            coalesced++;
+        }
+
+        calculation.references++;
+        result.startJob(new PathView(calculation, result));
+    }
+
+    /**
+     * Drop all cached paths passing through the given position.
+     *
+     * @param world the world.
+     * @param pos   the changed position.
+     */
+    public static synchronized void onBlockChanged(@NotNull final World world, @NotNull final BlockPos pos)
+    {
+        final long section = SectionPos.asLong(pos.getX() >> 4, pos.getY() >> 4, pos.getZ() >> 4);
+        changeStamp++;
+        if (!calculations.isEmpty())
+        {
+            sectionChanges.put(section, changeStamp);
+        }
+
+        final Set<Key> keys = keysBySection.get(section);
+        if (keys == null)
+        {
+            return;
+        }
+
+        final long changed = pos.asLong();
+        for (final Key key : new ArrayList<>(keys))
+        {
+            final CachedPath cached = cache.get(key);
+            if (cached != null && key.dimension == world.dimension() && cached.positions.contains(changed))
+            {
+                invalidations++;
+                remove(key);
+            }
+        }
+    }
+
+    /**
+     * Drop all cached paths of a world.
+     *
+     * @param world the unloaded world.
+     */
+    public static synchronized void onWorldUnloaded(@NotNull final World world)
+    {
+        for (final Key key : new ArrayList<>(cache.keySet()))
+        {
+            if (key.dimension == world.dimension())
+            {
+                remove(key);
+            }
+        }
+    }
+
+    /**
+     * Get a readable summary of the cache statistics.
+     *
+     * @return the summary.
+     */
+    public static synchronized String getStatistics()
+    {
+        return String.format("Path cache: %d entries, %d hits, %d misses, %d coalesced, %d invalidations, %.2fs of pathfinding saved",
+          cache.size(),
+          hits,
+          misses,
+          coalesced,
+          invalidations,
+          savedNanos / (double) TimeUnit.SECONDS.toNanos(1));
+    }
+
+    /**
+     * Called by a calculation when it finished.
+     *
+     * @param calculation the calculation.
+     * @param path        the computed path, or null.
+     * @param nanos       the time it took to compute.
+     */
+    private static synchronized void onCalculationDone(final SharedCalculation calculation, @Nullable final Path path, final long nanos)
+    {
+        calculation.computeNanos = nanos;
+        if (calculations.get(calculation.key) == calculation)
+        {
+            calculations.remove(calculation.key);
+        }
+
+        if (path != null && path.getNodeCount() > 0 && !calculation.task.isCancelled())
+        {
+            final CachedPath cached = new CachedPath(copyPath(path), nanos);
+            if (!changedSince(cached.sections, calculation.startStamp))
+            {
+                remove(calculation.key);
+                cache.put(calculation.key, cached);
+                for (final long section : cached.sections)
+                {
+                    keysBySection.computeIfAbsent(section, k -> new HashSet<>()).add(calculation.key);
+                }
+            }
+        }
+
+        pruneSectionChanges();
+    }
+
+    /**
+     * Called by the cancelling thread when a calculation was cancelled, rejected or evicted from the queue before it finished.
+     *
+     * @param calculation the calculation.
+     */
+    private static synchronized void onCalculationCancelled(final SharedCalculation calculation)
+    {
+        if (calculations.get(calculation.key) == calculation)
+        {
+            calculations.remove(calculation.key);
+        }
+        pruneSectionChanges();
+    }
+
+    /**
+     * Called when a consumer of a shared calculation cancelled, cancels the calculation when nobody is waiting for it anymore.
+     *
+     * @param calculation the calculation.
+     */
+    private static synchronized void release(final SharedCalculation calculation)
+    {
+        if (--calculation.references <= 0 && !calculation.task.isDone())
+        {
+            calculation.task.cancel(true);
+        }
+    }
+
+    /**
+     * Drop the section changes no queued or running calculation started before.
+     */
+    private static void pruneSectionChanges()
+    {
+        if (calculations.isEmpty())
+        {
+            sectionChanges.clear();
+            return;
+        }
+
+        long oldest = Long.MAX_VALUE;
+        for (final SharedCalculation calculation : calculations.values())
+        {
+            oldest = Math.min(oldest, calculation.startStamp);
+        }
+
+        final LongIterator iterator = sectionChanges.values().iterator();
+        while (iterator.hasNext())
+        {
+            if (iterator.nextLong() <= oldest)
+            {
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Check if any of the sections changed since the given stamp.
+     *
+     * @param sections the sections.
+     * @param stamp    the stamp.
+     * @return true if so.
+     */
+    private static boolean changedSince(final LongSet sections, final long stamp)
+    {
+        for (final long section : sections)
+        {
+            if (sectionChanges.get(section) > stamp)
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Remove a cached path.
+     *
+     * @param key the key of the path.
+     */
+    private static void remove(final Key key)
+    {
+        final CachedPath removed = cache.remove(key);
+        if (removed != null)
+        {
+            unindex(key, removed);
+        }
+    }
+
+    /**
+     * Remove the section index entries of a cached path.
+     *
+     * @param key    the key of the path.
+     * @param cached the path.
+     */
+    private static void unindex(final Key key, final CachedPath cached)
+    {
+        for (final long section : cached.sections)
+        {
+            final Set<Key> keys = keysBySection.get(section);
+            if (keys != null && keys.remove(key) && keys.isEmpty())
+            {
+                keysBySection.remove(section);
+            }
+        }
+    }
+
+    /**
+     * Create a new path with the same points, which can be followed independently.
+     *
+     * @param path the path to copy.
+     * @return the copy.
+     */
+    private static Path copyPath(final Path path)
+    {
+        final List<PathPoint> points = new ArrayList<>(path.getNodeCount());
+        for (int i = 0; i < path.getNodeCount(); i++)
+        {
+            points.add(path.getNode(i));
+        }
+        return new Path(points, path.getTarget(), path.canReach());
+    }
+
+    /**
+     * Identifies jobs which always produce the same path in the same world.
+     */
+    public static final class Key
+    {
+        private final RegistryKey<World> dimension;
+        private final long               start;
+        private final long               end;
+        private final int                range;
+        private final PathingOptions     options;
+        private final int                hash;
+
+        /**
+         * Create a new key.
+         *
+         * @param dimension the dimension of the job.
+         * @param start     the start position.
+         * @param end       the destination.
+         * @param range     the search range.
+         * @param options   the pathing options, copied.
+         */
+        public Key(
+          @NotNull final RegistryKey<World> dimension,
+          @NotNull final BlockPos start,
+          @NotNull final BlockPos end,
+          final int range,
+          @NotNull final PathingOptions options)
+        {
+            this.dimension = dimension;
+            this.start = start.asLong();
+            this.end = end.asLong();
+            this.range = range;
+            this.options = options.copy();
+            this.hash = Objects.hash(dimension, this.start, this.end, range, this.options);
+        }
+
+        @Override
+        public boolean equals(final Object o)
+        {
+            if (this == o)
+            {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass())
+            {
+                return false;
+            }
+
+            final Key key = (Key) o;
+            return start == key.start
+                     && end == key.end
+                     && range == key.range
+                     && dimension == key.dimension
+                     && options.equals(key.options);
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return hash;
+        }
+    }
+
+    /**
+     * A finished path in the cache.
+     */
+    private static final class CachedPath
+    {
+        /**
+         * The path, never followed itself.
+         */
+        private final Path path;
+
+        /**
+         * The positions the path depends on: the walked blocks, the blocks below and the head space.
+         */
+        private final LongSet positions = new LongOpenHashSet();
+
+        /**
+         * The sections of the positions.
+         */
+        private final LongSet sections = new LongOpenHashSet();
+
+        /**
+         * The time it took to compute the path.
+         */
+        private final long computeNanos;
+
+        /**
+         * When the path was cached.
+         */
+        private final long createdAt = System.nanoTime();
+
+        private CachedPath(final Path path, final long computeNanos)
+        {
+            this.path = path;
+            this.computeNanos = computeNanos;
+
+            for (int i = 0; i < path.getNodeCount(); i++)
+            {
+                final PathPoint point = path.getNode(i);
+                for (int y = point.y - 1; y <= point.y + 1; y++)
+                {
+                    positions.add(BlockPos.asLong(point.x, y, point.z));
+                    sections.add(SectionPos.asLong(point.x >> 4, y >> 4, point.z >> 4));
+                }
+            }
+        }
+    }
+
+    /**
+     * A calculation shared by all identical jobs queued while it runs.
+     */
+    private static final class SharedCalculation implements Callable<Path>
+    {
+        private final Key             key;
+        private final AbstractPathJob job;
+        private final long            startStamp;
+        private       Future<Path>    task;
+        private       int             references   = 0;
+        private       long            computeNanos = 0;
+
+        private SharedCalculation(final Key key, final AbstractPathJob job, final long startStamp)
+        {
+            this.key = key;
+            this.job = job;
+            this.startStamp = startStamp;
+        }
+
+        @Override
+        public Path call()
+        {
+            final long start = System.nanoTime();
+            final Path path = job.call();
+            onCalculationDone(this, path, System.nanoTime() - start);
+            return path;
+        }
+    }
+
+    /**
+     * The view of one job on a shared calculation.
+     */
+    private static final class PathView implements Future<Path>
+    {
+        private final    SharedCalculation calculation;
+        private final    PathResult        result;
+        private volatile boolean           cancelled = false;
+
+        private PathView(final SharedCalculation calculation, final PathResult result)
+        {
+            this.calculation = calculation;
+            this.result = result;
+        }
+
+        @Override
+        public boolean cancel(final boolean mayInterruptIfRunning)
+        {
+            if (cancelled || calculation.task.isDone())
+            {
+                return false;
+            }
+
+            cancelled = true;
+            release(calculation);
+            return true;
+        }
+
+        @Override
+        public boolean isCancelled()
+        {
+            return cancelled;
+        }
+
+        @Override
+        public boolean isDone()
+        {
+            return cancelled || calculation.task.isDone();
+        }
+
+        @Override
+        public Path get() throws InterruptedException, ExecutionException
+        {
+            return toResult(calculation.task.get());
+        }
+
+        @Override
+        public Path get(final long timeout, @NotNull final TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException
+        {
+            return toResult(calculation.task.get(timeout, unit));
+        }
+
+        /**
+         * Hand out a private copy of the shared path.
+         *
+         * @param path the shared path.
+         * @return the copy, or null.
+         */
+        private Path toResult(@Nullable final Path path)
+        {
+            if (path == null)
+            {
+                return null;
+            }
+
+            if (calculation.job.getResult() != result)
+            {
+                result.setPathReachesDestination(path.canReach());
+            }
+            return copyPath(path);
+        }
+    }
+}
@@ -0,0 +1,522 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import net.minecraft.pathfinding.Path;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded work queue of the pathfinding executor.
+ * <p>
+ * Jobs are taken by priority first and round-robin between colonies within a priority, so a single busy colony can not starve the others. A queued job is dropped as soon as
+ * it was cancelled and its entity asked for a new path. When the queue is full, a new job evicts the oldest job of a lower priority, or is rejected if there is none.
+ */
+public class PathJobQueue extends AbstractQueue<Runnable> implements BlockingQueue<Runnable>
+{
+    /**
+     * The max amount of queued jobs.
+     */
+    private final int capacity;
+
+    /**
+     * The queued jobs of each priority, by colony id in round-robin order.
+     */
+    private final List<LinkedHashMap<Integer, ArrayDeque<PathTask>>> queues = new ArrayList<>();
+
+    /**
+     * The latest queued job of each entity, by entity id.
+     */
+    private final Int2ObjectMap<PathTask> latestByEntity = new Int2ObjectOpenHashMap<>();
+
+    /**
+     * Lock guarding all state.
+     */
+    private final ReentrantLock lock     = new ReentrantLock();
+    private final Condition     notEmpty = lock.newCondition();
+
+    /**
+     * The amount of queued jobs.
+     */
+    private int size = 0;
+
+    /**
+     * The amount of jobs dropped or rejected since the queue was created.
+     */
+    private long dropped = 0;
+
+    /**
+     * Create a new queue.
+     *
+     * @param capacity the max amount of queued jobs.
+     */
+    public PathJobQueue(final int capacity)
+    {
+        this.capacity = capacity;
+        for (int i = 0; i < PathPriority.values().length; i++)
+        {
+            queues.add(new LinkedHashMap<>());
+        }
+    }
+
+    /**
+     * Check if a new job of the given priority should be queued at all. Lower priorities are refused earlier, so there is always room left for combat.
+     *
+     * @param priority the priority of the job.
+     * @return true if the job can be queued.
+     */
+    public boolean canAccept(@NotNull final PathPriority priority)
+    {
+        final int queued = size();
+        switch (priority)
+        {
+            case COMBAT:
+                return true;
+            case WORK:
+                return queued < capacity * 9 / 10;
+            default:
+                return queued < capacity / 2;
+        }
+    }
+
+    /**
+     * Get the amount of jobs dropped because they were stale or the queue was full.
+     *
+     * @return the amount.
+     */
+    public long getDropped()
+    {
+        lock.lock();
+        try
+        {
+            return dropped;
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean offer(@NotNull final Runnable runnable)
+    {
+        if (!(runnable instanceof PathTask))
+        {
+            throw new IllegalArgumentException("Only path tasks can be queued");
+        }
+
+        final PathTask task = (PathTask) runnable;
+        lock.lock();
+        try
+        {
+            if (task.entityId != PathTask.NO_ENTITY)
+            {
+                final PathTask previous = latestByEntity.get(task.entityId);
+                if (previous != null && previous.isCancelled() && removeTask(previous))
+                {
+                    dropped++;
+                }
+            }
+
+            if (size >= capacity && !evictLowerThan(task.priority))
+            {
+                return false;
+            }
+
+            if (task.entityId != PathTask.NO_ENTITY)
+            {
+                latestByEntity.put(task.entityId, task);
+            }
+            queues.get(task.priority.ordinal()).computeIfAbsent(task.colonyId, id -> new ArrayDeque<>()).addLast(task);
+            size++;
+            notEmpty.signal();
+            return true;
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Runnable poll()
+    {
+        lock.lock();
+        try
+        {
+            return dequeue();
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Runnable take() throws InterruptedException
+    {
+        lock.lockInterruptibly();
+        try
+        {
+            Runnable next;
+            while ((next = dequeue()) == null)
+            {
+                notEmpty.await();
+            }
+            return next;
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Runnable poll(final long timeout, @NotNull final TimeUnit unit) throws InterruptedException
+    {
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try
+        {
+            Runnable next;
+            while ((next = dequeue()) == null)
+            {
+                if (nanos <= 0)
+                {
+                    return null;
+                }
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            return next;
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Runnable peek()
+    {
+        lock.lock();
+        try
+        {
+            for (final LinkedHashMap<Integer, ArrayDeque<PathTask>> queue : queues)
+            {
+                if (!queue.isEmpty())
+                {
+                    return queue.values().iterator().next().peekFirst();
+                }
+            }
+            return null;
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void put(@NotNull final Runnable runnable)
+    {
+        if (!offer(runnable))
+        {
+            throw new IllegalStateException("Pathfinding queue full");
+        }
+    }
+
+    @Override
+    public boolean offer(final Runnable runnable, final long timeout, @NotNull final TimeUnit unit)
+    {
+        return offer(runnable);
+    }
+
+    @Override
+    public int remainingCapacity()
+    {
+        return capacity - size();
+    }
+
+    @Override
+    public int size()
+    {
+        lock.lock();
+        try
+        {
+            return size;
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean remove(final Object o)
+    {
+        if (!(o instanceof PathTask))
+        {
+            return false;
+        }
+
+        lock.lock();
+        try
+        {
+            return removeTask((PathTask) o);
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int drainTo(@NotNull final Collection<? super Runnable> collection)
+    {
+        return drainTo(collection, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public int drainTo(@NotNull final Collection<? super Runnable> collection, final int maxElements)
+    {
+        lock.lock();
+        try
+        {
+            int drained = 0;
+            Runnable next;
+            while (drained < maxElements && (next = dequeue()) != null)
+            {
+                collection.add(next);
+                drained++;
+            }
+            return drained;
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    @NotNull
+    @Override
+    public Iterator<Runnable> iterator()
+    {
+        final List<Runnable> snapshot = new ArrayList<>();
+        lock.lock();
+        try
+        {
+            for (final LinkedHashMap<Integer, ArrayDeque<PathTask>> queue : queues)
+            {
+                for (final ArrayDeque<PathTask> colonyQueue : queue.values())
+                {
+                    snapshot.addAll(colonyQueue);
+                }
+            }
+        }
+        finally
+        {
+            lock.unlock();
+        }
+
+        final Iterator<Runnable> iterator = snapshot.iterator();
+        return new Iterator<Runnable>()
+        {
+            private Runnable current;
+
+            @Override
+            public boolean hasNext()
+            {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public Runnable next()
+            {
+                current = iterator.next();
+                return current;
+            }
+
+            @Override
+            public void remove()
+            {
+                PathJobQueue.this.remove(current);
+            }
+        };
+    }
+
+    /**
+     * Take the next job which was not cancelled, must hold the lock.
+     *
+     * @return the job or null if there is none.
+     */
+    private PathTask dequeue()
+    {
+        for (final LinkedHashMap<Integer, ArrayDeque<PathTask>> queue : queues)
+        {
+            while (!queue.isEmpty())
+            {
+                final Iterator<Map.Entry<Integer, ArrayDeque<PathTask>>> iterator = queue.entrySet().iterator();
+                final Map.Entry<Integer, ArrayDeque<PathTask>> entry = iterator.next();
+                final ArrayDeque<PathTask> colonyQueue = entry.getValue();
+                final PathTask task = colonyQueue.pollFirst();
+                iterator.remove();
+                if (!colonyQueue.isEmpty())
+                {
+                    // Move the colony to the back of the line.
+                    queue.put(entry.getKey(), colonyQueue);
+                }
+
+                size--;
+                forget(task);
+                if (!task.isCancelled())
+                {
+                    return task;
+                }
+                dropped++;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Evict the oldest job of the lowest priority below the given one, from the colony with the most queued jobs. Must hold the lock.
+     *
+     * @param priority the priority of the job which needs room.
+     * @return true if a job was evicted.
+     */
+    private boolean evictLowerThan(final PathPriority priority)
+    {
+        for (int i = queues.size() - 1; i > priority.ordinal(); i--)
+        {
+            ArrayDeque<PathTask> largest = null;
+            for (final ArrayDeque<PathTask> colonyQueue : queues.get(i).values())
+            {
+                if (largest == null || colonyQueue.size() > largest.size())
+                {
+                    largest = colonyQueue;
+                }
+            }
+
+            if (largest != null)
+            {
+                final PathTask evicted = largest.peekFirst();
+                removeTask(evicted);
+                evicted.cancel(false);
+                dropped++;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Remove a specific job from the queue. Must hold the lock.
+     *
+     * @param task the job.
+     * @return true if it was queued.
+     */
+    private boolean removeTask(final PathTask task)
+    {
+        final LinkedHashMap<Integer, ArrayDeque<PathTask>> queue = queues.get(task.priority.ordinal());
+        final ArrayDeque<PathTask> colonyQueue = queue.get(task.colonyId);
+        if (colonyQueue == null || !colonyQueue.remove(task))
+        {
+            return false;
+        }
+
+        if (colonyQueue.isEmpty())
+        {
+            queue.remove(task.colonyId);
+        }
+        size--;
+        forget(task);
+        return true;
+    }
+
+    /**
+     * Remove the entity mapping of a job which left the queue. Must hold the lock.
+     *
+     * @param task the job.
+     */
+    private void forget(final PathTask task)
+    {
+        if (task.entityId != PathTask.NO_ENTITY && latestByEntity.get(task.entityId) == task)
+        {
+            latestByEntity.remove(task.entityId);
+        }
+    }
+
+    /**
+     * A queued path calculation.
+     */
+    public static class PathTask extends FutureTask<Path>
+    {
+        /**
+         * Entity id of jobs without an entity.
+         */
+        public static final int NO_ENTITY = Integer.MIN_VALUE;
+
+        private final PathPriority priority;
+        private final int          colonyId;
+        private final int          entityId;
+
+        /**
+         * Run on the cancelling thread when the task is cancelled, rejected or evicted, may be null.
+         */
+        @Nullable
+        private final Runnable onCancelled;
+
+        /**
+         * Create a new task.
+         *
+         * @param calculation the calculation to run.
+         * @param priority    the priority.
+         * @param colonyId    the colony the job is for, 0 if none.
+         * @param entityId    the id of the entity the job is for, or {@link #NO_ENTITY}.
+         */
+        public PathTask(@NotNull final Callable<Path> calculation, @NotNull final PathPriority priority, final int colonyId, final int entityId)
+        {
+            this(calculation, priority, colonyId, entityId, null);
+        }
+
+        /**
+         * Create a new task.
+         *
+         * @param calculation the calculation to run.
+         * @param priority    the priority.
+         * @param colonyId    the colony the job is for, 0 if none.
+         * @param entityId    the id of the entity the job is for, or {@link #NO_ENTITY}.
+         * @param onCancelled run when the task is cancelled, rejected or evicted, may be null.
+         */
+        public PathTask(
+          @NotNull final Callable<Path> calculation,
+          @NotNull final PathPriority priority,
+          final int colonyId,
+          final int entityId,
+          @Nullable final Runnable onCancelled)
+        {
+            super(calculation);
+            this.priority = priority;
+            this.colonyId = colonyId;
+            this.entityId = entityId;
+            this.onCancelled = onCancelled;
+        }
+
+        @Override
+        protected void done()
+        {
+            if (onCancelled != null && isCancelled())
+            {
+                onCancelled.run();
+            }
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+/**
+ * Scheduling priority of path jobs, queued jobs of a higher priority always run first.
+ */
+public enum PathPriority
+{
+    /**
+     * Guards, raiders and entities fleeing or chasing something.
+     */
+    COMBAT,
+
+    /**
+     * Regular work and errands.
+     */
+    WORK,
+
+    /**
+     * Idle wandering, dropped first when the queue is full.
+     */
+    IDLE
+}
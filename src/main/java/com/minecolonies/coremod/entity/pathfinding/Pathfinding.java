@@ -1,5 +1,7 @@
 package com.minecolonies.coremod.entity.pathfinding;
 
+import com.minecolonies.api.entity.citizen.AbstractEntityCitizen;
+import com.minecolonies.api.entity.mobs.AbstractEntityMinecoloniesMob;
 import com.minecolonies.api.util.Log;
 import com.minecolonies.coremod.MineColonies;
 import com.minecolonies.coremod.entity.pathfinding.pathjobs.AbstractPathJob;
@@ -14,11 +16,16 @@ import net.minecraft.client.renderer.Tessellator;
 import net.minecraft.client.renderer.entity.EntityRendererManager;
 import net.minecraft.client.renderer.vertex.DefaultVertexFormats;
 import net.minecraft.entity.Entity;
+import net.minecraft.entity.LivingEntity;
+import net.minecraft.pathfinding.Path;
+import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.vector.Matrix4f;
 import net.minecraft.util.math.vector.Vector3d;
+import net.minecraft.world.World;
 import net.minecraftforge.api.distmarker.Dist;
 import net.minecraftforge.api.distmarker.OnlyIn;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.lwjgl.opengl.GL11;
 
 import java.util.ConcurrentModificationException;
@@ -31,8 +38,13 @@ import java.util.concurrent.*;
  */
 public final class Pathfinding
 {
-    private static final BlockingQueue<Runnable> jobQueue = new LinkedBlockingDeque<>();
-    private static       ThreadPoolExecutor      executor;
+    /**
+     * Max amount of queued path jobs.
+     */
+    private static final int MAX_QUEUED_JOBS = 1024;
+
+    private static final PathJobQueue       jobQueue = new PathJobQueue(MAX_QUEUED_JOBS);
+    private static       ThreadPoolExecutor executor;
 
     /**
      * Set of visited nodes.
@@ -71,7 +83,7 @@ public final class Pathfinding
     }
 
     /**
-     * Creates a new thread pool for pathfinding jobs
+     * Creates a new thread pool for pathfinding jobs. Its queue only takes path tasks, use {@link #submit} to queue jobs.
      *
      * @return the threadpool executor.
      */
@@ -79,11 +91,85 @@ public final class Pathfinding
     {
         if (executor == null)
         {
-            executor = new ThreadPoolExecutor(1, MineColonies.getConfig().getServer().pathfindingMaxThreadCount.get(), 10, TimeUnit.SECONDS, jobQueue, new MinecoloniesThreadFactory());
+            final int threads = MineColonies.getConfig().getServer().pathfindingMaxThreadCount.get();
+            executor = new ThreadPoolExecutor(threads, threads, 10, TimeUnit.SECONDS, jobQueue, new MinecoloniesThreadFactory(), (runnable, pool) -> ((Future<?>) runnable).cancel(false));
+            executor.allowCoreThreadTimeOut(true);
         }
         return executor;
     }
 
+    /**
+     * Check if a new job of the given priority should be queued, or if the queue is too backed up for it.
+     *
+     * @param priority the priority of the job.
+     * @return true if it can be queued.
+     */
+    public static boolean canAccept(@NotNull final PathPriority priority)
+    {
+        return jobQueue.canAccept(priority);
+    }
+
+    /**
+     * Get a readable summary of the job queue state.
+     *
+     * @return the summary.
+     */
+    public static String getQueueStatistics()
+    {
+        return String.format("Path queue: %d queued, %d dropped", jobQueue.size(), jobQueue.getDropped());
+    }
+
+    /**
+     * Queue a calculation for the given job. Jobs rejected because the queue is full are cancelled.
+     *
+     * @param job         the job, determines priority, colony and entity.
+     * @param calculation the calculation to run for it.
+     * @return the future of the calculation.
+     */
+    public static Future<Path> submit(@NotNull final AbstractPathJob job, @NotNull final Callable<Path> calculation)
+    {
+        return submit(job, calculation, null);
+    }
+
+    /**
+     * Queue a calculation for the given job. Jobs rejected because the queue is full are cancelled.
+     *
+     * @param job         the job, determines priority, colony and entity.
+     * @param calculation the calculation to run for it.
+     * @param onCancelled run by the cancelling thread if the calculation is cancelled, rejected or evicted before it finished, may be null.
+     * @return the future of the calculation.
+     */
+    public static Future<Path> submit(@NotNull final AbstractPathJob job, @NotNull final Callable<Path> calculation, @Nullable final Runnable onCancelled)
+    {
+        final LivingEntity entity = job.getEntity();
+        final PathJobQueue.PathTask task = new PathJobQueue.PathTask(calculation,
+          job.getPriority(),
+          getColonyId(entity),
+          entity == null ? PathJobQueue.PathTask.NO_ENTITY : entity.getId(),
+          onCancelled);
+        getExecutor().execute(task);
+        return task;
+    }
+
+    /**
+     * Get the colony to schedule the jobs of an entity for.
+     *
+     * @param entity the entity.
+     * @return the colony id or 0.
+     */
+    private static int getColonyId(@Nullable final LivingEntity entity)
+    {
+        if (entity instanceof AbstractEntityCitizen)
+        {
+            return ((AbstractEntityCitizen) entity).getCitizenColonyHandler().getColonyId();
+        }
+        if (entity instanceof AbstractEntityMinecoloniesMob && ((AbstractEntityMinecoloniesMob) entity).getColony() != null)
+        {
+            return ((AbstractEntityMinecoloniesMob) entity).getColony().getID();
+        }
+        return 0;
+    }
+
     /**
      * Stops all running threads in this thread pool
      */
@@ -106,7 +192,20 @@ public final class Pathfinding
      */
     public static void enqueue(@NotNull final AbstractPathJob job)
     {
-        job.getResult().startJob(getExecutor());
+        PathCache.startJob(job);
+    }
+
+    /**
+     * Mark the pathfinding data depending on a changed block as outdated.
+     *
+     * @param world the world.
+     * @param pos   the changed position.
+     */
+    public static void onBlockChanged(@NotNull final World world, @NotNull final BlockPos pos)
+    {
+        ChunkSnapshotCache.onBlockChanged(world, pos);
+        PathCache.onBlockChanged(world, pos);
+        ChunkPortalGraph.onBlockChanged(world, pos);
     }
 
     /**
@@ -3,6 +3,8 @@ package com.minecolonies.coremod.entity.pathfinding.pathjobs;
 import com.ldtteam.structurize.blocks.decorative.BlockFloatingCarpet;
 import com.minecolonies.api.blocks.decorative.AbstractBlockMinecoloniesConstructionTape;
 import com.minecolonies.api.blocks.huts.AbstractBlockMinecoloniesDefault;
+import com.minecolonies.api.entity.citizen.AbstractEntityCitizen;
+import com.minecolonies.api.entity.mobs.AbstractEntityMinecoloniesMob;
 import com.minecolonies.api.entity.pathfinding.AbstractAdvancedPathNavigate;
 import com.minecolonies.api.entity.pathfinding.PathResult;
 import com.minecolonies.api.entity.pathfinding.PathingOptions;
@@ -13,12 +15,19 @@ import com.minecolonies.api.util.Log;
 import com.minecolonies.coremod.MineColonies;
 import com.minecolonies.coremod.Network;
 import com.minecolonies.coremod.blocks.BlockDecorationController;
+import com.minecolonies.coremod.colony.jobs.AbstractJobGuard;
 import com.minecolonies.coremod.entity.pathfinding.ChunkCache;
 import com.minecolonies.coremod.entity.pathfinding.Node;
+import com.minecolonies.coremod.entity.pathfinding.NodeHeap;
+import com.minecolonies.coremod.entity.mobs.EntityMercenary;
+import com.minecolonies.coremod.entity.pathfinding.PathCache;
 import com.minecolonies.coremod.entity.pathfinding.PathPointExtended;
+import com.minecolonies.coremod.entity.pathfinding.PathPriority;
 import com.minecolonies.coremod.network.messages.client.SyncPathMessage;
 import com.minecolonies.coremod.network.messages.client.SyncPathReachedMessage;
 import com.minecolonies.coremod.util.WorkerUtil;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import net.minecraft.block.*;
 import net.minecraft.block.material.Material;
 import net.minecraft.entity.LivingEntity;
@@ -84,12 +93,32 @@ public abstract class AbstractPathJob implements Callable<Path>
     /**
      * Queue of all open nodes.
      */
-    private final Queue<Node> nodesOpen = new PriorityQueue<>(500);
+    private final NodeHeap nodesOpen = new NodeHeap(500);
 
     /**
-     * Queue of all the visited nodes.
+     * Map of all the visited nodes, by node key.
      */
-    private final Map<Integer, Node> nodesVisited = new HashMap<>();
+    private final Int2ObjectMap<Node> nodesVisited = new Int2ObjectOpenHashMap<>(1024);
+
+    /**
+     * Reused delta between the current node and its parent while walking it.
+     */
+    private final BlockPos.Mutable walkDelta = new BlockPos.Mutable();
+
+    /**
+     * Reused candidate position of a walk step, only copied once a new node is created for it.
+     */
+    private final BlockPos.Mutable walkPos = new BlockPos.Mutable();
+
+    /**
+     * Reused delta of a walk step, after the y fix up.
+     */
+    private final BlockPos.Mutable walkStep = new BlockPos.Mutable();
+
+    /**
+     * Reused position below the candidate of a walk step.
+     */
+    private final BlockPos.Mutable walkBelow = new BlockPos.Mutable();
 
     //  Debug Rendering
     protected        boolean            debugDrawEnabled     = false;
@@ -166,15 +195,25 @@ public abstract class AbstractPathJob implements Callable<Path>
      */
     public AbstractPathJob(final World world, @NotNull final BlockPos start, @NotNull final BlockPos end, final int range, final PathResult result, final LivingEntity entity)
     {
-        final int minX = Math.min(start.getX(), end.getX()) - (range / 2);
-        final int minZ = Math.min(start.getZ(), end.getZ()) - (range / 2);
-        final int maxX = Math.max(start.getX(), end.getX()) + (range / 2);
-        final int maxZ = Math.max(start.getZ(), end.getZ()) + (range / 2);
+        this(createChunkCache(world, start, end, range), start, end, range, result, entity);
+    }
 
+    /**
+     * AbstractPathJob constructor, reading from an existing world view. Used to run partial searches within the view of another job.
+     *
+     * @param world  the world view within which to path.
+     * @param start  the start position from which to path from.
+     * @param end    the end position to path to
+     * @param range  maximum path range.
+     * @param result path result.
+     * @param entity the entity.
+     */
+    protected AbstractPathJob(final IWorldReader world, @NotNull final BlockPos start, @NotNull final BlockPos end, final int range, final PathResult result, final LivingEntity entity)
+    {
         this.restrictionType = AbstractAdvancedPathNavigate.RestrictionType.NONE;
         this.hardXzRestriction = false;
 
-        this.world = new ChunkCache(world, new BlockPos(minX, MIN_Y, minZ), new BlockPos(maxX, MAX_Y, maxZ), range);
+        this.world = world;
 
         this.start = new BlockPos(start);
         this.end = end;
@@ -259,7 +298,7 @@ public abstract class AbstractPathJob implements Callable<Path>
         this.restrictionType = restrictionType;
         this.hardXzRestriction = hardRestriction;
 
-        this.world = new ChunkCache(world, new BlockPos(minX, MIN_Y, minZ), new BlockPos(maxX, MAX_Y, maxZ), range);
+        this.world = new ChunkCache(world, new BlockPos(minX, Math.min(minY, start.getY()), minZ), new BlockPos(maxX, Math.max(maxY, start.getY()), maxZ), range);
 
         this.start = start;
 
@@ -280,6 +319,27 @@ public abstract class AbstractPathJob implements Callable<Path>
         this.entity = new WeakReference<>(entity);
     }
 
+    /**
+     * Create the world view for a job between the two positions.
+     *
+     * @param world the world.
+     * @param start the start position.
+     * @param end   the end position.
+     * @param range the path range.
+     * @return the chunk cache.
+     */
+    private static ChunkCache createChunkCache(final World world, final BlockPos start, final BlockPos end, final int range)
+    {
+        final int minX = Math.min(start.getX(), end.getX()) - (range / 2);
+        final int minZ = Math.min(start.getZ(), end.getZ()) - (range / 2);
+        final int maxX = Math.max(start.getX(), end.getX()) + (range / 2);
+        final int maxZ = Math.max(start.getZ(), end.getZ()) + (range / 2);
+        final int minY = Math.min(start.getY(), end.getY()) - (range / 2);
+        final int maxY = Math.max(start.getY(), end.getY()) + (range / 2);
+
+        return new ChunkCache(world, new BlockPos(minX, minY, minZ), new BlockPos(maxX, maxY, maxZ), range);
+    }
+
     /**
      * Sync the path of a given mob to the client.
      * @param mob the tracked mob.
@@ -559,6 +619,19 @@ public abstract class AbstractPathJob implements Callable<Path>
         return cost;
     }
 
+    /**
+     * Check if a position is exactly the given amount of blocks above or below another one, without creating new positions.
+     *
+     * @param pos     the position to check.
+     * @param origin  the origin position.
+     * @param yOffset the y offset from the origin.
+     * @return true if pos equals origin offset by yOffset.
+     */
+    private static boolean isOffsetBy(@NotNull final BlockPos pos, @NotNull final BlockPos origin, final int yOffset)
+    {
+        return pos.getX() == origin.getX() && pos.getY() == origin.getY() + yOffset && pos.getZ() == origin.getZ();
+    }
+
     private static boolean nodeClosed(@Nullable final Node node)
     {
         return node != null && node.isClosed();
@@ -628,8 +701,9 @@ public abstract class AbstractPathJob implements Callable<Path>
             handleDebugOptions(currentNode);
             currentNode.setClosed();
 
+            final BlockPos below = currentNode.pos.below();
             final boolean isViablePosition =
-              isInRestrictedArea(currentNode.pos) && getSurfaceType(world, world.getBlockState(currentNode.pos.below()), currentNode.pos.below()) == SurfaceType.WALKABLE;
+              isInRestrictedArea(currentNode.pos) && getSurfaceType(world, world.getBlockState(below), below) == SurfaceType.WALKABLE;
             if (isViablePosition && isAtDestination(currentNode))
             {
                 bestNode = currentNode;
@@ -686,10 +760,12 @@ public abstract class AbstractPathJob implements Callable<Path>
 
     private void walkCurrentNode(@NotNull final Node currentNode)
     {
-        BlockPos dPos = BLOCKPOS_IDENTITY;
+        final BlockPos.Mutable dPos = walkDelta.set(BLOCKPOS_IDENTITY);
         if (currentNode.parent != null)
         {
-            dPos = currentNode.pos.subtract(currentNode.parent.pos);
+            dPos.set(currentNode.pos.getX() - currentNode.parent.pos.getX(),
+              currentNode.pos.getY() - currentNode.parent.pos.getY(),
+              currentNode.pos.getZ() - currentNode.parent.pos.getZ());
         }
 
         //  On a ladder, we can go 1 straight-up
@@ -705,7 +781,7 @@ public abstract class AbstractPathJob implements Callable<Path>
         }
 
         // Only explore downwards when dropping
-        if ((currentNode.parent == null || !currentNode.parent.pos.equals(currentNode.pos.below())) && currentNode.isCornerNode())
+        if ((currentNode.parent == null || !isOffsetBy(currentNode.parent.pos, currentNode.pos, -1)) && currentNode.isCornerNode())
         {
             walk(currentNode, BLOCKPOS_DOWN);
             return;
@@ -948,12 +1024,13 @@ public abstract class AbstractPathJob implements Callable<Path>
      * "Walk" from the parent in the direction specified by the delta, determining the new x,y,z position for such a move and adding or updating a node, as appropriate.
      *
      * @param parent Node being walked from.
-     * @param dPos   Delta from parent, expected in range of [-1..1].
+     * @param delta  Delta from parent, expected in range of [-1..1].
      * @return true if a node was added or updated when attempting to move in the given direction.
      */
-    protected final boolean walk(@NotNull final Node parent, @NotNull BlockPos dPos)
+    protected final boolean walk(@NotNull final Node parent, @NotNull final BlockPos delta)
     {
-        BlockPos pos = parent.pos.offset(dPos);
+        final BlockPos.Mutable dPos = walkStep.set(delta);
+        final BlockPos.Mutable pos = walkPos.set(parent.pos.getX() + dPos.getX(), parent.pos.getY() + dPos.getY(), parent.pos.getZ() + dPos.getZ());
 
         //  Can we traverse into this node?  Fix the y up
         final int newY = getGroundHeight(parent, pos);
@@ -971,28 +1048,28 @@ public abstract class AbstractPathJob implements Callable<Path>
                 return false;
             }
 
+            final int dY = newY - pos.getY();
             // if the new position is above the current node, we're taking the node directly above
-            if (!parent.isCornerNode() && newY - parent.pos.getY() > 0 && (parent.parent == null || !parent.parent.pos.equals(parent.pos.offset(new BlockPos(0,
-              newY - pos.getY(),
-              0)))))
+            if (!parent.isCornerNode() && newY - parent.pos.getY() > 0 && (parent.parent == null || !isOffsetBy(parent.parent.pos, parent.pos, dY)))
             {
-                dPos = new BlockPos(0, newY - pos.getY(), 0);
-                pos = parent.pos.offset(dPos);
+                dPos.set(0, dY, 0);
+                pos.set(parent.pos.getX(), parent.pos.getY() + dY, parent.pos.getZ());
                 corner = true;
             }
             // If we're going down, take the air-corner before going to the lower node
-            else if (!parent.isCornerNode() && newY - parent.pos.getY() < 0 && (dPos.getX() != 0 || dPos.getZ() != 0) && (parent.parent == null || !parent.pos.below()
-                                                                                                                                               .equals(parent.parent.pos)))
+            else if (!parent.isCornerNode() && newY - parent.pos.getY() < 0 && (dPos.getX() != 0 || dPos.getZ() != 0) && (parent.parent == null || !isOffsetBy(parent.parent.pos,
+              parent.pos,
+              -1)))
             {
-                dPos = new BlockPos(dPos.getX(), 0, dPos.getZ());
-                pos = parent.pos.offset(dPos);
+                dPos.setY(0);
+                pos.set(parent.pos.getX() + dPos.getX(), parent.pos.getY(), parent.pos.getZ() + dPos.getZ());
                 corner = true;
             }
             // Fix up normal y
             else
             {
-                dPos = dPos.offset(0, newY - pos.getY(), 0);
-                pos = new BlockPos(pos.getX(), newY, pos.getZ());
+                dPos.setY(dPos.getY() + dY);
+                pos.setY(newY);
             }
         }
 
@@ -1013,8 +1090,9 @@ public abstract class AbstractPathJob implements Callable<Path>
 
         final boolean swimStart = isSwimming && !parent.isSwimming();
         final BlockState state = world.getBlockState(pos);
-        final boolean onRoad = WorkerUtil.isPathBlock(world.getBlockState(pos.below()).getBlock());
-        final boolean onRails = pathingOptions.canUseRails() && world.getBlockState(corner ? pos.below() : pos).getBlock() instanceof AbstractRailBlock;
+        final BlockPos below = walkBelow.set(pos.getX(), pos.getY() - 1, pos.getZ());
+        final boolean onRoad = WorkerUtil.isPathBlock(world.getBlockState(below).getBlock());
+        final boolean onRails = pathingOptions.canUseRails() && world.getBlockState(corner ? below : pos).getBlock() instanceof AbstractRailBlock;
         final boolean railsExit = !onRails && parent != null && parent.isOnRails();
         //  Cost may have changed due to a jump up or drop
         final double stepCost = computeCost(dPos, isSwimming, onRoad, onRails, railsExit, swimStart, corner, state, pos);
@@ -1024,7 +1102,7 @@ public abstract class AbstractPathJob implements Callable<Path>
 
         if (node == null)
         {
-            node = createNode(parent, pos, nodeKey, isSwimming, heuristic, cost, score);
+            node = createNode(parent, pos.immutable(), nodeKey, isSwimming, heuristic, cost, score);
             node.setOnRails(onRails);
             node.setCornerNode(corner);
         }
@@ -1047,7 +1125,7 @@ public abstract class AbstractPathJob implements Callable<Path>
     {
         if (allowJumpPointSearchTypeWalk && node.getHeuristic() <= parent.getHeuristic())
         {
-            walk(node, dPos);
+            walk(node, dPos.immutable());
         }
     }
 
@@ -1410,6 +1488,81 @@ public abstract class AbstractPathJob implements Callable<Path>
         return isLadder(world.getBlockState(pos).getBlock(), pos);
     }
 
+    /**
+     * Get the pathing options of this job.
+     *
+     * @return the options.
+     */
+    protected PathingOptions getPathingOptions()
+    {
+        return pathingOptions;
+    }
+
+    /**
+     * Get the amount of nodes the search visited so far.
+     *
+     * @return the amount of visited nodes.
+     */
+    protected int getTotalNodesVisited()
+    {
+        return totalNodesVisited;
+    }
+
+    /**
+     * Get the entity this job is for.
+     *
+     * @return the entity or null if there is none or it was unloaded.
+     */
+    @Nullable
+    public LivingEntity getEntity()
+    {
+        return entity.get();
+    }
+
+    /**
+     * Get the scheduling priority of this job. Guards, raiders, mercenaries and entities which were just attacked path with combat priority.
+     *
+     * @return the priority.
+     */
+    public PathPriority getPriority()
+    {
+        return getPriority(entity.get());
+    }
+
+    /**
+     * Get the scheduling priority of a regular job of an entity, see {@link #getPriority()}. Used to check if a job would be accepted before creating it.
+     *
+     * @param living the entity or null if there is none.
+     * @return the priority.
+     */
+    public static PathPriority getPriority(@Nullable final LivingEntity living)
+    {
+        if (living == null)
+        {
+            return PathPriority.WORK;
+        }
+
+        if (living instanceof AbstractEntityMinecoloniesMob
+              || living instanceof EntityMercenary
+              || living.getLastHurtByMob() != null
+              || (living instanceof AbstractEntityCitizen && ((AbstractEntityCitizen) living).getCitizenJobHandler().getColonyJob() instanceof AbstractJobGuard))
+        {
+            return PathPriority.COMBAT;
+        }
+        return PathPriority.WORK;
+    }
+
+    /**
+     * Get the key to cache the result of this job with, see {@link PathCache}.
+     *
+     * @return the key or null if the result of this job must not be cached.
+     */
+    @Nullable
+    public PathCache.Key getCacheKey()
+    {
+        return null;
+    }
+
     /**
      * Sets the pathing options
      *
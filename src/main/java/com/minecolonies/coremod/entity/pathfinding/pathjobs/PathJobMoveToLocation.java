@@ -1,16 +1,26 @@
 package com.minecolonies.coremod.entity.pathfinding.pathjobs;
 
+import com.minecolonies.api.entity.pathfinding.PathResult;
 import com.minecolonies.api.util.Log;
 import com.minecolonies.coremod.MineColonies;
+import com.minecolonies.coremod.entity.pathfinding.ChunkCache;
+import com.minecolonies.coremod.entity.pathfinding.ChunkPortalGraph;
 import com.minecolonies.coremod.entity.pathfinding.Node;
+import com.minecolonies.coremod.entity.pathfinding.PathCache;
 import net.minecraft.entity.LivingEntity;
 import net.minecraft.pathfinding.Path;
+import net.minecraft.pathfinding.PathPoint;
+import net.minecraft.util.RegistryKey;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.vector.Vector3i;
+import net.minecraft.world.IWorldReader;
 import net.minecraft.world.World;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static com.minecolonies.api.util.constant.PathingConstants.DEBUG_VERBOSITY_NONE;
 
 /**
@@ -21,10 +31,34 @@ public class PathJobMoveToLocation extends AbstractPathJob
     private static final float    DESTINATION_SLACK_NONE     = 0.1F;
     // 1^2 + 1^2 + 1^2 + (epsilon of 0.1F)
     private static final float    DESTINATION_SLACK_ADJACENT = (float) Math.sqrt(2f);
+
+    /**
+     * Min horizontal distance to try a hierarchical search.
+     */
+    private static final int HIERARCHICAL_MIN_DISTANCE = 48;
+
+    /**
+     * Max distance between two waypoints of a hierarchical search.
+     */
+    private static final int HIERARCHICAL_LEG_LENGTH = 32;
+
+    /**
+     * Max search range of one leg of a hierarchical search, its square is the node budget of the leg.
+     */
+    private static final int HIERARCHICAL_LEG_RANGE = HIERARCHICAL_LEG_LENGTH * 2;
+
     @NotNull
     private final        BlockPos destination;
+    /**
+     * The dimension the job runs in.
+     */
+    private final        RegistryKey<World> dimension;
     // 0 = exact match
     private              float    destinationSlack           = DESTINATION_SLACK_NONE;
+    /**
+     * Whether this job may split itself up along the chunk portal graph, false for the legs of such a search.
+     */
+    private final        boolean  allowHierarchical;
 
     /**
      * Prepares the PathJob for the path finding system.
@@ -40,6 +74,44 @@ public class PathJobMoveToLocation extends AbstractPathJob
         super(world, start, end, range, entity);
 
         this.destination = new BlockPos(end);
+        this.dimension = world.dimension();
+        this.allowHierarchical = true;
+    }
+
+    /**
+     * Prepares a leg of a hierarchical search, reading from the world view of the parent job.
+     *
+     * @param world     world view of the parent job.
+     * @param start     starting location.
+     * @param end       target location.
+     * @param range     max search range.
+     * @param entity    the entity.
+     * @param dimension the dimension of the parent job.
+     */
+    private PathJobMoveToLocation(
+      final IWorldReader world,
+      @NotNull final BlockPos start,
+      @NotNull final BlockPos end,
+      final int range,
+      final LivingEntity entity,
+      final RegistryKey<World> dimension)
+    {
+        super(world, start, end, range, new PathResult<AbstractPathJob>(), entity);
+
+        this.destination = new BlockPos(end);
+        this.dimension = dimension;
+        this.allowHierarchical = false;
+    }
+
+    @Nullable
+    @Override
+    public PathCache.Key getCacheKey()
+    {
+        if (debugDrawEnabled)
+        {
+            return null;
+        }
+        return new PathCache.Key(dimension, start, destination, maxRange, getPathingOptions());
     }
 
     /**
@@ -63,9 +135,86 @@ public class PathJobMoveToLocation extends AbstractPathJob
             destinationSlack = DESTINATION_SLACK_ADJACENT;
         }
 
+        if (allowHierarchical && world instanceof ChunkCache && MineColonies.getConfig().getServer().pathfindingHierarchical.get() && isLongDistance())
+        {
+            final Path path = searchHierarchical();
+            if (path != null)
+            {
+                return path;
+            }
+        }
+
         return super.search();
     }
 
+    /**
+     * Check if the destination is far enough away to try a hierarchical search.
+     *
+     * @return true if so.
+     */
+    private boolean isLongDistance()
+    {
+        final long xDiff = destination.getX() - start.getX();
+        final long zDiff = destination.getZ() - start.getZ();
+        return xDiff * xDiff + zDiff * zDiff > (long) HIERARCHICAL_MIN_DISTANCE * HIERARCHICAL_MIN_DISTANCE;
+    }
+
+    /**
+     * Find a route over the chunk portal graph and connect its waypoints with regular searches.
+     * <p>
+     * Each leg is capped to the budget of {@link #HIERARCHICAL_LEG_RANGE} and all legs together to the budget of this job, so a failing attempt costs at most one
+     * regular search before the fallback.
+     *
+     * @return the full path, or null if there is no coarse route, a leg could not be connected or the budget ran out.
+     */
+    @Nullable
+    private Path searchHierarchical()
+    {
+        final List<BlockPos> waypoints = ChunkPortalGraph.findRoute((ChunkCache) world, dimension, start, destination, HIERARCHICAL_LEG_LENGTH);
+        if (waypoints == null)
+        {
+            return null;
+        }
+
+        final List<PathPoint> points = new ArrayList<>();
+        final int legRange = Math.min(maxRange, HIERARCHICAL_LEG_RANGE);
+        long budget = (long) maxRange * maxRange;
+        BlockPos legStart = start;
+        for (final BlockPos waypoint : waypoints)
+        {
+            if (budget < (long) legRange * legRange)
+            {
+                return null;
+            }
+
+            final PathJobMoveToLocation leg = new PathJobMoveToLocation(world, legStart, waypoint, legRange, entity.get(), dimension);
+            leg.setPathingOptions(getPathingOptions());
+            final Path legPath = leg.search();
+            budget -= leg.getTotalNodesVisited();
+            if (legPath == null || !legPath.canReach() || legPath.getNodeCount() == 0)
+            {
+                return null;
+            }
+
+            // Each leg starts where the previous one ended, skip the duplicate point.
+            for (int i = points.isEmpty() ? 0 : 1; i < legPath.getNodeCount(); i++)
+            {
+                points.add(legPath.getNode(i));
+            }
+
+            final PathPoint last = legPath.getNode(legPath.getNodeCount() - 1);
+            legStart = new BlockPos(last.x, last.y, last.z);
+        }
+
+        if (MineColonies.getConfig().getServer().pathfindingDebugVerbosity.get() > DEBUG_VERBOSITY_NONE)
+        {
+            Log.getLogger().info(String.format("Hierarchical path with %d legs and %d points", waypoints.size(), points.size()));
+        }
+
+        result.setPathReachesDestination(true);
+        return new Path(points, destination, true);
+    }
+
     @Override
     protected BlockPos getPathTargetPos(final Node finalNode)
     {
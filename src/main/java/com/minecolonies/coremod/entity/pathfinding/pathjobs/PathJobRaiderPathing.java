@@ -1,6 +1,6 @@
 package com.minecolonies.coremod.entity.pathfinding.pathjobs;
 
-import com.minecolonies.api.colony.buildings.IBuilding;
+import com.minecolonies.api.colony.buildings.BuildingBoundsIndex;
 import com.minecolonies.api.entity.pathfinding.PathingOptions;
 import com.minecolonies.api.entity.pathfinding.SurfaceType;
 import com.minecolonies.coremod.colony.managers.RaidManager;
@@ -13,8 +13,6 @@ import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.List;
-
 import static com.minecolonies.api.entity.pathfinding.PathingStuckHandler.HORIZONTAL_DIRS;
 
 /**
@@ -28,9 +26,9 @@ public class PathJobRaiderPathing extends AbstractPathJob
     private final double THROUGH_BLOCK_COST = 30;
 
     /**
-     * Buildings to avoid
+     * Index of the buildings to avoid
      */
-    private final List<IBuilding> buildings;
+    private final BuildingBoundsIndex buildings;
 
     /**
      * Targeted position
@@ -43,7 +41,7 @@ public class PathJobRaiderPathing extends AbstractPathJob
     private double addCost = 1.0;
 
     public PathJobRaiderPathing(
-      final List<IBuilding> buildings,
+      final BuildingBoundsIndex buildings,
       final World world,
       @NotNull final BlockPos start, final BlockPos targetSpawnPoint, final int range)
     {
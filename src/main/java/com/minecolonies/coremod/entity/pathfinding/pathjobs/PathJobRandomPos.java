@@ -7,6 +7,7 @@ import com.minecolonies.api.util.BlockPosUtil;
 import com.minecolonies.api.util.Log;
 import com.minecolonies.coremod.MineColonies;
 import com.minecolonies.coremod.entity.pathfinding.Node;
+import com.minecolonies.coremod.entity.pathfinding.PathPriority;
 import net.minecraft.entity.LivingEntity;
 import net.minecraft.pathfinding.Path;
 import net.minecraft.util.Direction;
@@ -170,4 +171,10 @@ public class PathJobRandomPos extends AbstractPathJob
     {
         return destination != null && pos != null && range == maxDistToDest && destination.equals(pos);
     }
+
+    @Override
+    public PathPriority getPriority()
+    {
+        return PathPriority.IDLE;
+    }
 }
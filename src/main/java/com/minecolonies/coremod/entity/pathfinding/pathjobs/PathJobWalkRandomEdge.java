@@ -1,6 +1,7 @@
 package com.minecolonies.coremod.entity.pathfinding.pathjobs;
 
 import com.minecolonies.coremod.entity.pathfinding.Node;
+import com.minecolonies.coremod.entity.pathfinding.PathPriority;
 import net.minecraft.entity.LivingEntity;
 import net.minecraft.util.Direction;
 import net.minecraft.util.math.BlockPos;
@@ -57,4 +58,10 @@ public class PathJobWalkRandomEdge extends AbstractPathJob
     {
         return start.distManhattan(n.pos);
     }
+
+    @Override
+    public PathPriority getPriority()
+    {
+        return PathPriority.IDLE;
+    }
 }
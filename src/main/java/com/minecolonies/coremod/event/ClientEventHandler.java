@@ -10,7 +10,6 @@ import com.ldtteam.structurize.blocks.interfaces.IBlueprintDataProvider;
 import com.ldtteam.structurize.management.StructureName;
 import com.ldtteam.structurize.management.Structures;
 import com.ldtteam.structurize.network.messages.SchematicRequestMessage;
-import com.ldtteam.structurize.placement.structure.IStructureHandler;
 import com.ldtteam.structurize.util.PlacementSettings;
 import com.ldtteam.structurize.util.RenderUtils;
 import com.minecolonies.api.IMinecoloniesAPI;
@@ -32,6 +31,7 @@ import com.minecolonies.api.util.LoadOnlyStructureHandler;
 import com.minecolonies.api.util.constant.Constants;
 import com.minecolonies.api.util.constant.TranslationConstants;
 import com.minecolonies.coremod.MineColonies;
+import com.minecolonies.coremod.client.render.BuildingPreviewCache;
 import com.minecolonies.coremod.colony.buildings.AbstractBuildingGuards;
 import com.minecolonies.coremod.colony.buildings.views.EmptyView;
 import com.minecolonies.coremod.colony.buildings.workerbuildings.PostBox;
@@ -52,7 +52,6 @@ import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.tileentity.TileEntity;
-import net.minecraft.util.Mirror;
 import net.minecraft.util.ResourceLocation;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.text.*;
@@ -62,16 +61,17 @@ import net.minecraftforge.client.event.RenderWorldLastEvent;
 import net.minecraftforge.client.event.sound.PlaySoundEvent;
 import net.minecraftforge.common.util.Lazy;
 import net.minecraftforge.event.entity.player.ItemTooltipEvent;
+import net.minecraftforge.event.world.WorldEvent;
 import net.minecraftforge.eventbus.api.EventPriority;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 import net.minecraftforge.fml.ModList;
 import net.minecraftforge.fml.server.ServerLifecycleHooks;
-import org.antlr.v4.runtime.misc.Triple;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
 import java.util.function.Supplier;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import static com.minecolonies.api.util.constant.CitizenConstants.WAYPOINT_STRING;
@@ -102,11 +102,6 @@ public class ClientEventHandler
      */
     private static Blueprint partolPointTemplate;
 
-    /**
-     * The cached map of blueprints of nearby buildings that are rendered.
-     */
-    private static Map<BlockPos, Triple<Blueprint, BlockPos, BlockPos>> blueprintCache = new HashMap<>();
-
     /**
      * Render buffers.
      */
@@ -120,6 +115,16 @@ public class ClientEventHandler
      */
     private static final Lazy<Map<String, BuildingEntry>> crafterToBuilding = Lazy.of(ClientEventHandler::buildCrafterToBuildingMap);
 
+    /**
+     * Pattern of the level suffix of a schematic name.
+     */
+    private static final Pattern LEVEL_SUFFIX = Pattern.compile("\\d$");
+
+    /**
+     * The resolved preview structure names of nearby buildings, by building position.
+     */
+    private static final Map<BlockPos, PreviewName> previewNames = new HashMap<>();
+
     /**
      * Set of already requested structures.
      */
@@ -221,6 +226,21 @@ public class ClientEventHandler
         }
     }
 
+    /**
+     * Drop the building previews of an unloaded client world.
+     *
+     * @param event the unload event.
+     */
+    @SubscribeEvent
+    public static void onWorldUnload(final WorldEvent.Unload event)
+    {
+        if (event.getWorld() instanceof ClientWorld)
+        {
+            BuildingPreviewCache.onWorldUnloaded((ClientWorld) event.getWorld());
+            previewNames.clear();
+        }
+    }
+
     /**
      * Display crafter recipe-related information on the client.
      * @param colony   The colony to check against, if one is present.
@@ -387,101 +407,167 @@ public class ClientEventHandler
         }
 
         final BlockPos activePosition = Settings.instance.getPosition();
-        final Map<BlockPos, Triple<Blueprint, BlockPos, BlockPos>> newCache = new HashMap<>();
-        for (final IBuildingView buildingView : colony.getBuildings())
+        if (!MinecoloniesAPIProxy.getInstance().getConfig().getClient().neighborbuildingrendering.get())
+        {
+            return;
+        }
 
+        for (final IBuildingView buildingView : colony.getBuildings())
         {
-            if (MinecoloniesAPIProxy.getInstance().getConfig().getClient().neighborbuildingrendering.get())
+            if (buildingView.getBuildingType() == ModBuildings.postBox || buildingView.getBuildingType() == ModBuildings.stash)
+            {
+                continue;
+            }
+            final BlockPos currentPosition = buildingView.getPosition();
+
+            if (!activePosition.closerThan(currentPosition, PREVIEW_RANGE))
             {
-                if (buildingView.getBuildingType() == ModBuildings.postBox || buildingView.getBuildingType() == ModBuildings.stash)
+                continue;
+            }
+
+            final String structureName = getPreviewStructureName(world, buildingView);
+            final BuildingPreviewCache.Preview preview =
+              BuildingPreviewCache.getPreview(world, buildingView.getID(), structureName, buildingView.getRotation(), buildingView.isMirrored());
+
+            if (preview.getState() == BuildingPreviewCache.State.MISSING)
+            {
+                if (alreadyRequestedStructures.contains(structureName))
                 {
                     continue;
                 }
-                final BlockPos currentPosition = buildingView.getPosition();
+                alreadyRequestedStructures.add(structureName);
 
-                if (activePosition.closerThan(currentPosition, PREVIEW_RANGE))
+                Log.getLogger().error("Couldn't find schematic: " + structureName + " requesting to server if possible.");
+                if (ServerLifecycleHooks.getCurrentServer() == null)
                 {
-                    if (blueprintCache.containsKey(currentPosition))
-                    {
-                        newCache.put(currentPosition, blueprintCache.get(currentPosition));
-                        continue;
-                    }
-
-                    final TileEntity tile = world.getBlockEntity(buildingView.getID());
-                    String schematicName = buildingView.getSchematicName();
-                    if (tile instanceof IBlueprintDataProvider)
-                    {
-                        if (!((IBlueprintDataProvider) tile).getSchematicName().isEmpty())
-                        {
-                            schematicName = ((IBlueprintDataProvider) tile).getSchematicName().replaceAll("\\d$", "");
-                        }
-                    }
-
-                    final StructureName sn = new StructureName(Structures.SCHEMATICS_PREFIX,
-                      buildingView.getStyle(),
-                      schematicName + buildingView.getBuildingMaxLevel());
+                    Network.getNetwork().sendToServer(new SchematicRequestMessage(structureName));
+                }
+                continue;
+            }
 
-                    final String structureName = sn.toString();
-                    final String md5 = Structures.getMD5(structureName);
+            if (preview.getState() == BuildingPreviewCache.State.LOADING)
+            {
+                // Only mark the hut until the preview is prepared.
+                RenderUtils.renderBox(currentPosition, currentPosition, 0, 0, 1, 1.0F, 0.002D, event.getMatrixStack(), linesWithCullAndDepth.get());
+                continue;
+            }
 
-                    final IStructureHandler wrapper = new LoadOnlyStructureHandler(world,
-                      buildingView.getID(),
-                      structureName,
-                      new PlacementSettings(),
-                      true);
-                    if (!wrapper.hasBluePrint() || !wrapper.isCorrectMD5(md5))
-                    {
-                        if (alreadyRequestedStructures.contains(structureName))
-                        {
-                            continue;
-                        }
-                        alreadyRequestedStructures.add(structureName);
-
-                        Log.getLogger().error("Couldn't find schematic: " + structureName + " requesting to server if possible.");
-                        if (ServerLifecycleHooks.getCurrentServer() == null)
-                        {
-                            Network.getNetwork().sendToServer(new SchematicRequestMessage(structureName));
-                        }
-                        continue;
-                    }
+            if (buildingView.getBuildingLevel() < buildingView.getBuildingMaxLevel())
+            {
+                StructureClientHandler.renderStructureAtPos(preview.getBlueprint(),
+                  event.getPartialTicks(),
+                  currentPosition,
+                  event.getMatrixStack());
+            }
 
-                    final Blueprint blueprint = wrapper.getBluePrint();
-                    final Mirror mirror = buildingView.isMirrored() ? Mirror.FRONT_BACK : Mirror.NONE;
-                    blueprint.rotateWithMirror(BlockPosUtil.getRotationFromRotations(buildingView.getRotation()), mirror, world);
+            RenderUtils.renderBox(currentPosition.offset(preview.getStartOffset()),
+              currentPosition.offset(preview.getEndOffset()),
+              0, 0, 1, 1.0F, 0.002D, event.getMatrixStack(), linesWithCullAndDepth.get());
+        }
+    }
 
-                    final BlockPos primaryOffset = blueprint.getPrimaryBlockOffset();
-                    final BlockPos boxStartPos = currentPosition.subtract(primaryOffset);
-                    final BlockPos size = new BlockPos(blueprint.getSizeX(), blueprint.getSizeY(), blueprint.getSizeZ());
-                    final BlockPos boxEndPos = boxStartPos.offset(size).subtract(new BlockPos(1, 1, 1));
-                    blueprint.setRenderSource(buildingView.getID());
+    /**
+     * Get the name of the structure to preview for a building, resolved again only when its schematic, level or style changed.
+     *
+     * @param world        the world.
+     * @param buildingView the building.
+     * @return the structure name.
+     */
+    @NotNull
+    private static String getPreviewStructureName(final ClientWorld world, final IBuildingView buildingView)
+    {
+        final PreviewName cached = previewNames.get(buildingView.getID());
+        if (cached != null && cached.matches(buildingView))
+        {
+            return cached.structureName;
+        }
 
-                    if (buildingView.getBuildingLevel() < buildingView.getBuildingMaxLevel())
-                    {
-                        newCache.put(currentPosition, new Triple(blueprint, boxStartPos, boxEndPos));
-                    }
-                    else
-                    {
-                        newCache.put(currentPosition, new Triple<>(null, boxStartPos, boxEndPos));
-                    }
-                }
+        final TileEntity tile = world.getBlockEntity(buildingView.getID());
+        String schematicName = buildingView.getSchematicName();
+        boolean fromTile = false;
+        if (tile instanceof IBlueprintDataProvider)
+        {
+            if (!((IBlueprintDataProvider) tile).getSchematicName().isEmpty())
+            {
+                schematicName = LEVEL_SUFFIX.matcher(((IBlueprintDataProvider) tile).getSchematicName()).replaceAll("");
+                fromTile = true;
             }
         }
 
-        blueprintCache = newCache;
+        final StructureName sn = new StructureName(Structures.SCHEMATICS_PREFIX,
+          buildingView.getStyle(),
+          schematicName + buildingView.getBuildingMaxLevel());
+
+        final String structureName = sn.toString();
+        previewNames.put(buildingView.getID(), new PreviewName(buildingView, structureName, fromTile));
+        return structureName;
+    }
 
-        for (final Map.Entry<BlockPos, Triple<Blueprint, BlockPos, BlockPos>> nearbyBuilding : blueprintCache.entrySet())
+    /**
+     * The resolved preview structure name of a building, together with the building state it was resolved for.
+     */
+    private static final class PreviewName
+    {
+        /**
+         * The schematic name of the building view.
+         */
+        private final String schematicName;
+
+        /**
+         * The style of the building.
+         */
+        private final String style;
+
+        /**
+         * The level of the building.
+         */
+        private final int level;
+
+        /**
+         * The max level of the building.
+         */
+        private final int maxLevel;
+
+        /**
+         * If the name was taken from the hut tile entity, otherwise it is resolved again until the tile entity is loaded.
+         */
+        private final boolean fromTile;
+
+        /**
+         * The resolved structure name.
+         */
+        private final String structureName;
+
+        /**
+         * Create a new resolved name.
+         *
+         * @param buildingView  the building.
+         * @param structureName the resolved structure name.
+         * @param fromTile      if the name was taken from the hut tile entity.
+         */
+        private PreviewName(final IBuildingView buildingView, final String structureName, final boolean fromTile)
         {
-            final Triple<Blueprint, BlockPos, BlockPos> buildingData = nearbyBuilding.getValue();
-            final BlockPos position = nearbyBuilding.getKey();
-            if (buildingData.a != null)
-            {
-                StructureClientHandler.renderStructureAtPos(buildingData.a,
-                  event.getPartialTicks(),
-                  position,
-                  event.getMatrixStack());
-            }
+            this.schematicName = buildingView.getSchematicName();
+            this.style = buildingView.getStyle();
+            this.level = buildingView.getBuildingLevel();
+            this.maxLevel = buildingView.getBuildingMaxLevel();
+            this.fromTile = fromTile;
+            this.structureName = structureName;
+        }
 
-            RenderUtils.renderBox(buildingData.b, buildingData.c, 0, 0, 1, 1.0F, 0.002D, event.getMatrixStack(), linesWithCullAndDepth.get());
+        /**
+         * Check if the name is still valid for a building.
+         *
+         * @param buildingView the building.
+         * @return true if its schematic, level and style did not change.
+         */
+        private boolean matches(final IBuildingView buildingView)
+        {
+            return fromTile
+                     && level == buildingView.getBuildingLevel()
+                     && maxLevel == buildingView.getBuildingMaxLevel()
+                     && Objects.equals(style, buildingView.getStyle())
+                     && Objects.equals(schematicName, buildingView.getSchematicName());
         }
     }
 
@@ -30,15 +30,22 @@ import com.minecolonies.coremod.colony.interactionhandling.RecruitmentInteractio
 import com.minecolonies.coremod.colony.jobs.AbstractJobGuard;
 import com.minecolonies.coremod.commands.EntryPoint;
 import com.minecolonies.coremod.entity.citizen.EntityCitizen;
+import com.minecolonies.coremod.entity.pathfinding.ChunkPortalGraph;
+import com.minecolonies.coremod.entity.pathfinding.ChunkSnapshotCache;
+import com.minecolonies.coremod.entity.pathfinding.MinecoloniesAdvancedPathNavigate;
+import com.minecolonies.coremod.entity.pathfinding.PathCache;
+import com.minecolonies.coremod.entity.pathfinding.Pathfinding;
 import com.minecolonies.coremod.entity.mobs.EntityMercenary;
 import com.minecolonies.coremod.event.capabilityproviders.MinecoloniesChunkCapabilityProvider;
 import com.minecolonies.coremod.event.capabilityproviders.MinecoloniesWorldCapabilityProvider;
 import com.minecolonies.coremod.event.capabilityproviders.MinecoloniesWorldColonyManagerCapabilityProvider;
 import com.minecolonies.coremod.items.ItemBannerRallyGuards;
 import com.minecolonies.coremod.loot.SupplyLoot;
+import com.minecolonies.coremod.network.SyncedDataCache;
 import com.minecolonies.coremod.network.messages.client.OpenSuggestionWindowMessage;
 import com.minecolonies.coremod.network.messages.client.UpdateChunkCapabilityMessage;
 import com.minecolonies.coremod.network.messages.client.UpdateChunkRangeCapabilityMessage;
+import com.minecolonies.coremod.util.BlueprintCache;
 import com.minecolonies.coremod.util.ChunkClientDataHelper;
 import com.minecolonies.coremod.util.ChunkDataHelper;
 import net.minecraft.block.*;
@@ -96,7 +103,6 @@ import org.jetbrains.annotations.NotNull;
 
 import java.time.LocalDateTime;
 import java.time.Month;
-import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -246,6 +252,26 @@ public class EventHandler
         {
             ChunkDataHelper.unloadChunk((Chunk) event.getChunk(), (ServerWorld) event.getWorld());
         }
+        if (event.getWorld() instanceof World)
+        {
+            ChunkSnapshotCache.onChunkUnloaded((World) event.getWorld(), event.getChunk().getPos());
+            ChunkPortalGraph.onChunkUnloaded((World) event.getWorld(), event.getChunk().getPos());
+        }
+    }
+
+    /**
+     * Called when a block changed and notifies its neighbours, marks the pathfinding data of the block as outdated. Changes which don't notify their neighbours
+     * are caught by {@link MinecoloniesAdvancedPathNavigate#recomputePath(BlockPos)}.
+     *
+     * @param event the event.
+     */
+    @SubscribeEvent
+    public static void onBlockNeighborNotify(@NotNull final BlockEvent.NeighborNotifyEvent event)
+    {
+        if (event.getWorld() instanceof World)
+        {
+            Pathfinding.onBlockChanged((World) event.getWorld(), event.getPos());
+        }
     }
 
     /**
@@ -422,14 +448,9 @@ public class EventHandler
             return;
         }
 
-        for (final BlockPos buildingPos : closeColonyCap.getAllClaimingBuildings().getOrDefault(closeColonyCap.getOwningColony(), Collections.emptySet()))
+        if (newColony.getBuildingManager().getBoundsIndex().getBuildingAt(pos, building -> building.getBuildingLevel() >= 1) != null)
         {
-            final IBuilding building = newColony.getBuildingManager().getBuilding(buildingPos);
-            if (building != null && building.getBuildingLevel() >= 1 && building.isInBuilding(pos))
-            {
-                event.setResult(Event.Result.DENY);
-                break;
-            }
+            event.setResult(Event.Result.DENY);
         }
     }
 
@@ -497,6 +518,7 @@ public class EventHandler
                 colony.getPackageManager().removeCloseSubscriber(player);
                 colony.getPackageManager().removeImportantColonyPlayer(player);
             }
+            SyncedDataCache.forget(player);
         }
     }
 
@@ -838,6 +860,13 @@ public class EventHandler
         {
             IColonyManager.getInstance().onWorldUnload((World) event.getWorld());
         }
+        if (event.getWorld() instanceof World)
+        {
+            ChunkSnapshotCache.onWorldUnloaded((World) event.getWorld());
+            PathCache.onWorldUnloaded((World) event.getWorld());
+            ChunkPortalGraph.onWorldUnloaded((World) event.getWorld());
+            BlueprintCache.onWorldUnloaded((World) event.getWorld());
+        }
         if (event.getWorld().isClientSide())
         {
             IColonyManager.getInstance().resetColonyViews();
@@ -8,12 +8,14 @@ import com.minecolonies.coremod.datalistener.ResearchListener;
 import com.minecolonies.coremod.entity.pathfinding.Pathfinding;
 import com.minecolonies.coremod.network.messages.client.ColonyStylesMessage;
 import com.minecolonies.coremod.network.messages.client.ServerUUIDMessage;
+import com.minecolonies.coremod.util.ColonyBackupStore;
 import net.minecraft.entity.player.ServerPlayerEntity;
 import net.minecraftforge.event.AddReloadListenerEvent;
 import net.minecraftforge.event.TickEvent;
 import net.minecraftforge.event.entity.player.PlayerEvent;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 import net.minecraftforge.fml.event.server.FMLServerAboutToStartEvent;
+import net.minecraftforge.fml.event.server.FMLServerStoppedEvent;
 import net.minecraftforge.fml.event.server.FMLServerStoppingEvent;
 import org.jetbrains.annotations.NotNull;
 
@@ -72,4 +74,15 @@ public class FMLEventHandler
     {
         Pathfinding.shutdown();
     }
+
+    /**
+     * Wait for the backup taken when the worlds were unloaded, the backup thread does not survive the shutdown.
+     *
+     * @param event the event.
+     */
+    @SubscribeEvent
+    public static void onServerFullyStopped(@NotNull final FMLServerStoppedEvent event)
+    {
+        ColonyBackupStore.flush();
+    }
 }
@@ -6,6 +6,7 @@ import com.google.common.collect.Maps;
 import com.minecolonies.api.network.IMessage;
 import com.minecolonies.api.util.Log;
 import com.minecolonies.api.util.constant.Constants;
+import com.minecolonies.coremod.MineColonies;
 import com.minecolonies.coremod.colony.crafting.CustomRecipeManagerMessage;
 import com.minecolonies.coremod.network.messages.PermissionsMessage;
 import com.minecolonies.coremod.network.messages.client.*;
@@ -31,10 +32,11 @@ import com.minecolonies.coremod.network.messages.server.colony.building.worker.B
 import com.minecolonies.coremod.network.messages.server.colony.building.worker.ChangeRecipePriorityMessage;
 import com.minecolonies.coremod.network.messages.server.colony.building.worker.RecallCitizenMessage;
 import com.minecolonies.coremod.network.messages.server.colony.citizen.*;
+import com.minecolonies.coremod.network.messages.splitting.SplitPacketCompression;
 import com.minecolonies.coremod.network.messages.splitting.SplitPacketMessage;
 import com.minecolonies.coremod.research.GlobalResearchTreeMessage;
 import io.netty.buffer.ByteBuf;
-import io.netty.buffer.Unpooled;
+import io.netty.buffer.PooledByteBufAllocator;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.player.ServerPlayerEntity;
 import net.minecraft.network.PacketBuffer;
@@ -50,7 +52,7 @@ import net.minecraftforge.fml.network.PacketDistributor;
 import net.minecraftforge.fml.network.PacketDistributor.TargetPoint;
 import net.minecraftforge.fml.network.simple.SimpleChannel;
 
-import java.util.Arrays;
+import java.util.Collection;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -63,6 +65,16 @@ import java.util.function.Supplier;
  */
 public class NetworkChannel
 {
+    /**
+     * Version of the split message format, part of the channel version so both sides always agree on it.
+     */
+    private static final String PROTOCOL_VERSION = "2";
+
+    /**
+     * Max size of a single split message part: 90% of the max packet size.
+     */
+    private static final int MAX_PACKET_SIZE = 943718;
+
     /**
      * Forge network channel
      */
@@ -81,7 +93,7 @@ public class NetworkChannel
     /**
      * Cache of partially received messages, this holds the data untill it is processed.
      */
-    private final Cache<Integer, Map<Integer, byte[]>> messageCache = CacheBuilder.newBuilder()
+    private final Cache<Integer, Map<Integer, ByteBuf>> messageCache = CacheBuilder.newBuilder()
                                                                         .expireAfterAccess(1, TimeUnit.MINUTES)
                                                                         .concurrencyLevel(8)
                                                                         .build();
@@ -99,7 +111,7 @@ public class NetworkChannel
      */
     public NetworkChannel(final String channelName)
     {
-        final String modVersion = ModList.get().getModContainerById(Constants.MOD_ID).get().getModInfo().getVersion().toString();
+        final String modVersion = ModList.get().getModContainerById(Constants.MOD_ID).get().getModInfo().getVersion().toString() + "-" + PROTOCOL_VERSION;
         rawChannel = NetworkRegistry.newSimpleChannel(new ResourceLocation(Constants.MOD_ID, channelName), () -> modVersion, str -> str.equals(modVersion), str -> str.equals(modVersion));
     }
 
@@ -206,6 +218,7 @@ public class NetworkChannel
         registerMessage(++idx, ResetFilterableItemMessage.class, ResetFilterableItemMessage::new);
         registerMessage(++idx, CourierHiringModeMessage.class, CourierHiringModeMessage::new);
         registerMessage(++idx, QuarryHiringModeMessage.class, QuarryHiringModeMessage::new);
+        registerMessage(++idx, RequestSystemResyncMessage.class, RequestSystemResyncMessage::new);
 
         //Client side only
         registerMessage(++idx, BlockParticleEffectMessage.class, BlockParticleEffectMessage::new);
@@ -242,6 +255,10 @@ public class NetworkChannel
 
         // Crafter Recipe-related messages
         registerMessage(++idx, CustomRecipeManagerMessage.class, CustomRecipeManagerMessage::new);
+
+        // Hash-keyed synchronization of the research tree and custom recipes
+        registerMessage(++idx, SyncedDataHashMessage.class, SyncedDataHashMessage::new);
+        registerMessage(++idx, RequestSyncedDataMessage.class, RequestSyncedDataMessage::new);
     }
 
     private void setupInternalMessages()
@@ -293,6 +310,22 @@ public class NetworkChannel
         handleSplitting(msg, s -> rawChannel.send(PacketDistributor.PLAYER.with(() -> player), s));
     }
 
+    /**
+     * Sends the same message to several players, serializing it only once.
+     *
+     * @param msg     message to send
+     * @param players target players
+     */
+    public void sendToPlayers(final IMessage msg, final Collection<ServerPlayerEntity> players)
+    {
+        if (players.isEmpty())
+        {
+            return;
+        }
+
+        handleSplitting(msg, s -> players.forEach(player -> rawChannel.send(PacketDistributor.PLAYER.with(() -> player), s)));
+    }
+
     /**
      * Sends the message to the origin of a different message based on the networking context given.
      *
@@ -405,41 +438,59 @@ public class NetworkChannel
             throw new IllegalArgumentException("The message is unknown to this channel!");
         }
 
-        //Write the message into a buffer and copy that buffer into a byte array for processing.
-        final ByteBuf buffer = Unpooled.buffer();
-        final PacketBuffer innerPacketBuffer = new PacketBuffer(buffer);
-        msg.toBytes(innerPacketBuffer);
-        final byte[] data = buffer.array();
-        buffer.release();
-
-        //Some tracking variables.
-        //Max packet size: 90% of maximum.
-        final int max_packet_size = 943718; //This is 90% of max packet size.
-        //The current index in the data array.
-        int currentIndex = 0;
-        //The current index for the split packets.
-        int packetIndex = 0;
-        //The communication id.
-        final int comId = messageCounter.getAndIncrement();
-
-        //Loop while data is available.
-        while (currentIndex < data.length)
+        //Write the message into a pooled buffer, only the written part of it is sent.
+        ByteBuf data = PooledByteBufAllocator.DEFAULT.directBuffer();
+        try
         {
-            //Tell the network message entry that we are splitting a packet.
-            this.getMessagesTypes().get(messageId).onSplitting(packetIndex);
-
-            final int extra = Math.min(max_packet_size, data.length - currentIndex);
-            //Extract the sub data array.
-            final byte[] subPacketData = Arrays.copyOfRange(data, currentIndex, currentIndex + extra);
+            msg.toBytes(new PacketBuffer(data));
 
-            //Construct the wrapping packet.
-            final SplitPacketMessage splitPacketMessage = new SplitPacketMessage(comId, packetIndex++, (currentIndex + extra) >= data.length, messageId, subPacketData);
+            //Compress big messages if that saves anything.
+            int uncompressedSize = 0;
+            if (MineColonies.getConfig().getCommon().networkCompression.get()
+                  && data.readableBytes() >= MineColonies.getConfig().getCommon().networkCompressionThreshold.get()
+                  && data.readableBytes() <= SplitPacketCompression.MAX_UNCOMPRESSED_SIZE)
+            {
+                final ByteBuf compressed = SplitPacketCompression.compress(data);
+                if (compressed.readableBytes() < data.readableBytes())
+                {
+                    uncompressedSize = data.readableBytes();
+                    data.release();
+                    data = compressed;
+                }
+                else
+                {
+                    compressed.release();
+                }
+            }
 
-            //Send the wrapping packet.
-            splitMessageConsumer.accept(splitPacketMessage);
+            //The current index for the split packets.
+            int packetIndex = 0;
+            //The communication id.
+            final int comId = messageCounter.getAndIncrement();
 
-            //Move our working index.
-            currentIndex += extra;
+            //Send at least one part, even for an empty message.
+            do
+            {
+                //Tell the network message entry that we are splitting a packet.
+                this.getMessagesTypes().get(messageId).onSplitting(packetIndex);
+
+                //Slice the next part off the data, without copying it.
+                final ByteBuf subPacketData = data.readRetainedSlice(Math.min(MAX_PACKET_SIZE, data.readableBytes()));
+                try
+                {
+                    //Construct and send the wrapping packet, which encodes the slice right away.
+                    splitMessageConsumer.accept(new SplitPacketMessage(comId, packetIndex++, !data.isReadable(), uncompressedSize, messageId, subPacketData));
+                }
+                finally
+                {
+                    subPacketData.release();
+                }
+            }
+            while (data.isReadable());
+        }
+        finally
+        {
+            data.release();
         }
     }
 
@@ -448,7 +499,7 @@ public class NetworkChannel
      *
      * @return The message cache.
      */
-    public Cache<Integer, Map<Integer, byte[]>> getMessageCache()
+    public Cache<Integer, Map<Integer, ByteBuf>> getMessageCache()
     {
         return messageCache;
     }
@@ -0,0 +1,407 @@
+package com.minecolonies.coremod.network;
+
+import com.google.common.hash.Hashing;
+import com.minecolonies.api.network.IMessage;
+import com.minecolonies.api.research.IGlobalResearchTree;
+import com.minecolonies.api.util.Log;
+import com.minecolonies.coremod.Network;
+import com.minecolonies.coremod.colony.crafting.CustomRecipeManager;
+import com.minecolonies.coremod.colony.crafting.CustomRecipeManagerMessage;
+import com.minecolonies.coremod.research.GlobalResearchTree;
+import com.minecolonies.coremod.network.messages.client.SyncedDataHashMessage;
+import com.minecolonies.coremod.research.GlobalResearchTreeMessage;
+import io.netty.buffer.Unpooled;
+import net.minecraft.entity.player.ServerPlayerEntity;
+import net.minecraft.network.PacketBuffer;
+import net.minecraftforge.fml.loading.FMLPaths;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+import static com.minecolonies.api.util.constant.Constants.MOD_ID;
+
+/**
+ * Caches the large data sets the server sends on login, the global research tree and the custom recipes.
+ * <p>
+ * The server serializes each data set once after it changed and only sends its hash on login. Clients keep the received data sets on disk by hash, apply a
+ * cached copy if they have one and only request the full data from the server if they don't. The server answers each announced hash at most once per player.
+ */
+public final class SyncedDataCache
+{
+    /**
+     * Name of the client cache folder.
+     */
+    private static final String CACHE_FOLDER = "networkcache";
+
+    /**
+     * Suffix of the cached files.
+     */
+    private static final String FILE_SUFFIX = ".bin";
+
+    /**
+     * Suffix of the temporary files.
+     */
+    private static final String TMP_SUFFIX = ".tmp";
+
+    /**
+     * Max amount of cached files per data set, the oldest are removed first.
+     */
+    private static final int MAX_FILES = 4;
+
+    /**
+     * Format of valid hashes, anything else sent by a server is never used as file name.
+     */
+    private static final Pattern HASH_PATTERN = Pattern.compile("[0-9a-f]{64}");
+
+    /**
+     * The hashes announced to each player which were not requested yet, server side.
+     */
+    private static final Map<UUID, Map<Type, String>> pendingAnnouncements = new ConcurrentHashMap<>();
+
+    /**
+     * Private constructor to hide the implicit one.
+     */
+    private SyncedDataCache()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * The data sets synchronized through this cache.
+     */
+    public enum Type
+    {
+        RESEARCH_TREE("research",
+          () -> ((GlobalResearchTree) IGlobalResearchTree.getInstance()).getNetworkPayload(),
+          GlobalResearchTreeMessage::new,
+          buf -> IGlobalResearchTree.getInstance().handleGlobalResearchTreeMessage(buf)),
+        CUSTOM_RECIPES("recipes",
+          () -> CustomRecipeManager.getInstance().getNetworkPayload(),
+          CustomRecipeManagerMessage::new,
+          buf -> CustomRecipeManager.getInstance().handleCustomRecipeManagerMessage(buf));
+
+        /**
+         * Name of the cache folder of the data set.
+         */
+        private final String folder;
+
+        /**
+         * Gets the serialized data set on the server.
+         */
+        private final Supplier<Payload> payloadSupplier;
+
+        /**
+         * Creates the message sending the full data set.
+         */
+        private final Function<PacketBuffer, IMessage> messageFactory;
+
+        /**
+         * Applies the data set on the client.
+         */
+        private final Consumer<PacketBuffer> handler;
+
+        Type(
+          final String folder,
+          final Supplier<Payload> payloadSupplier,
+          final Function<PacketBuffer, IMessage> messageFactory,
+          final Consumer<PacketBuffer> handler)
+        {
+            this.folder = folder;
+            this.payloadSupplier = payloadSupplier;
+            this.messageFactory = messageFactory;
+            this.handler = handler;
+        }
+
+        /**
+         * Get the serialized data set, server side.
+         *
+         * @return the payload.
+         */
+        @NotNull
+        public Payload getPayload()
+        {
+            return payloadSupplier.get();
+        }
+
+        /**
+         * Create the message carrying the full data set, server side.
+         *
+         * @return the message.
+         */
+        @NotNull
+        public IMessage createMessage()
+        {
+            return messageFactory.apply(getPayload().toBuffer());
+        }
+
+        /**
+         * Apply a received or cached data set, client side.
+         *
+         * @param buf the serialized data set.
+         */
+        public void apply(@NotNull final PacketBuffer buf)
+        {
+            handler.accept(buf);
+        }
+    }
+
+    /**
+     * A data set serialized for the network, together with its hash.
+     */
+    public static final class Payload
+    {
+        /**
+         * The serialized data.
+         */
+        private final byte[] data;
+
+        /**
+         * The hash of the data.
+         */
+        private final String hash;
+
+        /**
+         * Create a new payload.
+         *
+         * @param data the serialized data.
+         */
+        private Payload(@NotNull final byte[] data)
+        {
+            this.data = data;
+            this.hash = hash(data);
+        }
+
+        /**
+         * Serialize a data set.
+         *
+         * @param serializer writes the data set to a buffer.
+         * @return the payload.
+         */
+        @NotNull
+        public static Payload serialize(@NotNull final Consumer<PacketBuffer> serializer)
+        {
+            final PacketBuffer buf = new PacketBuffer(Unpooled.buffer());
+            try
+            {
+                serializer.accept(buf);
+                final byte[] data = new byte[buf.readableBytes()];
+                buf.readBytes(data);
+                return new Payload(data);
+            }
+            finally
+            {
+                buf.release();
+            }
+        }
+
+        /**
+         * Get the hash of the data.
+         *
+         * @return the hash.
+         */
+        @NotNull
+        public String getHash()
+        {
+            return hash;
+        }
+
+        /**
+         * Get a read only view of the data.
+         *
+         * @return a buffer wrapping the data.
+         */
+        @NotNull
+        public PacketBuffer toBuffer()
+        {
+            return new PacketBuffer(Unpooled.wrappedBuffer(data).asReadOnly());
+        }
+    }
+
+    /**
+     * Send the hash of a data set to a player and remember it, so the player may request the full data once, server side.
+     *
+     * @param type   the data set.
+     * @param player the player.
+     */
+    public static void announce(@NotNull final Type type, @NotNull final ServerPlayerEntity player)
+    {
+        final String hash = type.getPayload().getHash();
+        pendingAnnouncements.computeIfAbsent(player.getUUID(), id -> new ConcurrentHashMap<>()).put(type, hash);
+        Network.getNetwork().sendToPlayer(new SyncedDataHashMessage(type, hash), player);
+    }
+
+    /**
+     * Check if a player may request the full data of a data set, and clear the announcement if so, server side.
+     *
+     * @param type   the data set.
+     * @param player the requesting player.
+     * @return true if the data set was announced to the player and not requested since.
+     */
+    public static boolean consumeAnnouncement(@NotNull final Type type, @NotNull final ServerPlayerEntity player)
+    {
+        final Map<Type, String> announced = pendingAnnouncements.get(player.getUUID());
+        return announced != null && announced.remove(type) != null;
+    }
+
+    /**
+     * Drop the announcements of a player which logged out, server side.
+     *
+     * @param player the player.
+     */
+    public static void forget(@NotNull final ServerPlayerEntity player)
+    {
+        pendingAnnouncements.remove(player.getUUID());
+    }
+
+    /**
+     * Read a cached data set, client side.
+     *
+     * @param type the data set.
+     * @param hash the hash sent by the server.
+     * @return the cached data or null if it is not cached.
+     */
+    @Nullable
+    public static byte[] read(@NotNull final Type type, @NotNull final String hash)
+    {
+        if (!HASH_PATTERN.matcher(hash).matches())
+        {
+            return null;
+        }
+
+        final Path file = getFolder(type).resolve(hash + FILE_SUFFIX);
+        if (!Files.exists(file))
+        {
+            return null;
+        }
+
+        try
+        {
+            final byte[] data = Files.readAllBytes(file);
+            if (!hash.equals(hash(data)))
+            {
+                Log.getLogger().warn("Cached " + type.folder + " data " + file + " is corrupted, requesting it again");
+                Files.deleteIfExists(file);
+                return null;
+            }
+
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+            return data;
+        }
+        catch (final IOException e)
+        {
+            Log.getLogger().warn("Could not read cached " + type.folder + " data " + file, e);
+            return null;
+        }
+    }
+
+    /**
+     * Store a received data set, client side.
+     *
+     * @param type the data set.
+     * @param buf  the received data, its reader index is left untouched.
+     */
+    public static void store(@NotNull final Type type, @NotNull final PacketBuffer buf)
+    {
+        final byte[] data = new byte[buf.readableBytes()];
+        buf.getBytes(buf.readerIndex(), data);
+
+        final Path folder = getFolder(type);
+        final Path file = folder.resolve(hash(data) + FILE_SUFFIX);
+        final Path tmpFile = folder.resolve(file.getFileName() + TMP_SUFFIX);
+        try
+        {
+            Files.createDirectories(folder);
+            Files.write(tmpFile, data);
+            Files.move(tmpFile, file, StandardCopyOption.REPLACE_EXISTING);
+            prune(folder);
+        }
+        catch (final IOException e)
+        {
+            Log.getLogger().warn("Could not cache " + type.folder + " data " + file, e);
+        }
+    }
+
+    /**
+     * Remove the least recently used files of a data set over the limit.
+     *
+     * @param folder the folder of the data set.
+     * @throws IOException if listing or deleting the files fails.
+     */
+    private static void prune(@NotNull final Path folder) throws IOException
+    {
+        final List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(folder, "*" + FILE_SUFFIX))
+        {
+            for (final Path file : stream)
+            {
+                files.add(file);
+            }
+        }
+
+        files.sort(Comparator.comparingLong(SyncedDataCache::getLastModified));
+        for (int i = 0; i < files.size() - MAX_FILES; i++)
+        {
+            Files.deleteIfExists(files.get(i));
+        }
+    }
+
+    /**
+     * Get when a cached file was last used.
+     *
+     * @param file the file.
+     * @return the time in milliseconds, 0 if unknown.
+     */
+    private static long getLastModified(@NotNull final Path file)
+    {
+        try
+        {
+            return Files.getLastModifiedTime(file).toMillis();
+        }
+        catch (final IOException e)
+        {
+            return 0;
+        }
+    }
+
+    /**
+     * Get the cache folder of a data set.
+     *
+     * @param type the data set.
+     * @return the folder.
+     */
+    @NotNull
+    private static Path getFolder(@NotNull final Type type)
+    {
+        return FMLPaths.GAMEDIR.get().resolve(MOD_ID).resolve(CACHE_FOLDER).resolve(type.folder);
+    }
+
+    /**
+     * Hash serialized data.
+     *
+     * @param data the data.
+     * @return the hex encoded hash.
+     */
+    @NotNull
+    private static String hash(@NotNull final byte[] data)
+    {
+        return Hashing.sha256().hashBytes(data).toString();
+    }
+}
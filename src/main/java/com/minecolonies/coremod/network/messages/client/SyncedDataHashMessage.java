@@ -0,0 +1,92 @@
+package com.minecolonies.coremod.network.messages.client;
+
+import com.minecolonies.api.network.IMessage;
+import com.minecolonies.coremod.Network;
+import com.minecolonies.coremod.network.SyncedDataCache;
+import com.minecolonies.coremod.network.messages.server.RequestSyncedDataMessage;
+import io.netty.buffer.Unpooled;
+import net.minecraft.client.Minecraft;
+import net.minecraft.network.PacketBuffer;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.api.distmarker.OnlyIn;
+import net.minecraftforge.fml.LogicalSide;
+import net.minecraftforge.fml.network.NetworkEvent;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Tells the client the hash of a synchronized data set, the client applies its cached copy or requests the full data.
+ */
+public class SyncedDataHashMessage implements IMessage
+{
+    /**
+     * The data set.
+     */
+    private SyncedDataCache.Type type;
+
+    /**
+     * The hash of the current data.
+     */
+    private String hash;
+
+    /**
+     * Empty constructor used when registering the message.
+     */
+    public SyncedDataHashMessage()
+    {
+        super();
+    }
+
+    /**
+     * Announce the current hash of a data set.
+     *
+     * @param type the data set.
+     * @param hash the hash of the data.
+     */
+    public SyncedDataHashMessage(final SyncedDataCache.Type type, final String hash)
+    {
+        this.type = type;
+        this.hash = hash;
+    }
+
+    @Override
+    public void fromBytes(@NotNull final PacketBuffer buf)
+    {
+        type = buf.readEnum(SyncedDataCache.Type.class);
+        hash = buf.readUtf(32767);
+    }
+
+    @Override
+    public void toBytes(@NotNull final PacketBuffer buf)
+    {
+        buf.writeEnum(type);
+        buf.writeUtf(hash);
+    }
+
+    @Nullable
+    @Override
+    public LogicalSide getExecutionSide()
+    {
+        return LogicalSide.CLIENT;
+    }
+
+    @OnlyIn(Dist.CLIENT)
+    @Override
+    public void onExecute(final NetworkEvent.Context ctxIn, final boolean isLogicalServer)
+    {
+        if (Minecraft.getInstance().level == null)
+        {
+            return;
+        }
+
+        final byte[] data = SyncedDataCache.read(type, hash);
+        if (data == null)
+        {
+            Network.getNetwork().sendToServer(new RequestSyncedDataMessage(type));
+        }
+        else
+        {
+            type.apply(new PacketBuffer(Unpooled.wrappedBuffer(data)));
+        }
+    }
+}
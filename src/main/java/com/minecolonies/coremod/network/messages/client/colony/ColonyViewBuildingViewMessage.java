@@ -68,7 +68,7 @@ public class ColonyViewBuildingViewMessage implements IMessage
         buf.writeInt(colonyId);
         buf.writeBlockPos(buildingId);
         buf.writeUtf(dimension.location().toString());
-        buf.writeBytes(buildingData);
+        buf.writeBytes(buildingData, buildingData.readerIndex(), buildingData.readableBytes());
     }
 
     @Nullable
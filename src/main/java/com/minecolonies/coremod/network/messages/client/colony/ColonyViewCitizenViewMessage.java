@@ -68,7 +68,7 @@ public class ColonyViewCitizenViewMessage implements IMessage
         buf.writeInt(colonyId);
         buf.writeInt(citizenId);
         buf.writeUtf(dimension.location().toString());
-        buf.writeBytes(citizenBuffer);
+        buf.writeBytes(citizenBuffer, citizenBuffer.readerIndex(), citizenBuffer.readableBytes());
     }
 
     @Nullable
@@ -80,7 +80,7 @@ public class ColonyViewMessage implements IMessage
         buf.writeInt(colonyId);
         buf.writeBoolean(isNewSubscription);
         buf.writeUtf(dim.location().toString());
-        buf.writeBytes(colonyBuffer);
+        buf.writeBytes(colonyBuffer, colonyBuffer.readerIndex(), colonyBuffer.readableBytes());
     }
 
     @Nullable
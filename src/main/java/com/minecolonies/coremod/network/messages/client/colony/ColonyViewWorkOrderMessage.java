@@ -68,7 +68,7 @@ public class ColonyViewWorkOrderMessage implements IMessage
     {
         buf.writeInt(colonyId);
         buf.writeUtf(dimension.location().toString());
-        buf.writeBytes(workOrderBuffer);
+        buf.writeBytes(workOrderBuffer, workOrderBuffer.readerIndex(), workOrderBuffer.readableBytes());
     }
 
     @Nullable
@@ -0,0 +1,69 @@
+package com.minecolonies.coremod.network.messages.server;
+
+import com.minecolonies.api.network.IMessage;
+import com.minecolonies.coremod.Network;
+import com.minecolonies.coremod.network.SyncedDataCache;
+import net.minecraft.entity.player.ServerPlayerEntity;
+import net.minecraft.network.PacketBuffer;
+import net.minecraftforge.fml.LogicalSide;
+import net.minecraftforge.fml.network.NetworkEvent;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Requests the full data of a synchronized data set the client has not cached. Only answered once per announced hash.
+ */
+public class RequestSyncedDataMessage implements IMessage
+{
+    /**
+     * The data set.
+     */
+    private SyncedDataCache.Type type;
+
+    /**
+     * Empty constructor used when registering the message.
+     */
+    public RequestSyncedDataMessage()
+    {
+        super();
+    }
+
+    /**
+     * Request a data set.
+     *
+     * @param type the data set.
+     */
+    public RequestSyncedDataMessage(final SyncedDataCache.Type type)
+    {
+        this.type = type;
+    }
+
+    @Override
+    public void fromBytes(@NotNull final PacketBuffer buf)
+    {
+        type = buf.readEnum(SyncedDataCache.Type.class);
+    }
+
+    @Override
+    public void toBytes(@NotNull final PacketBuffer buf)
+    {
+        buf.writeEnum(type);
+    }
+
+    @Nullable
+    @Override
+    public LogicalSide getExecutionSide()
+    {
+        return LogicalSide.SERVER;
+    }
+
+    @Override
+    public void onExecute(final NetworkEvent.Context ctxIn, final boolean isLogicalServer)
+    {
+        final ServerPlayerEntity player = ctxIn.getSender();
+        if (player != null && SyncedDataCache.consumeAnnouncement(type, player))
+        {
+            Network.getNetwork().sendToPlayer(type.createMessage(), player);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.minecolonies.coremod.network.messages.server.colony;
+
+import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.colony.IColonyView;
+import com.minecolonies.api.colony.permissions.Action;
+import com.minecolonies.coremod.network.messages.server.AbstractColonyServerMessage;
+import net.minecraft.entity.player.ServerPlayerEntity;
+import net.minecraft.network.PacketBuffer;
+import net.minecraftforge.fml.network.NetworkEvent;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Message sent by a client which missed a request system update and needs a full snapshot of it.
+ */
+public class RequestSystemResyncMessage extends AbstractColonyServerMessage
+{
+    /**
+     * Empty public constructor.
+     */
+    public RequestSystemResyncMessage()
+    {
+        super();
+    }
+
+    /**
+     * Creates the message for a colony.
+     *
+     * @param colony view of the colony which is out of sync.
+     */
+    public RequestSystemResyncMessage(@NotNull final IColonyView colony)
+    {
+        super(colony);
+    }
+
+    @Nullable
+    @Override
+    public Action permissionNeeded()
+    {
+        return null;
+    }
+
+    @Override
+    protected void fromBytesOverride(@NotNull final PacketBuffer buf)
+    {
+        // Noop
+    }
+
+    @Override
+    protected void toBytesOverride(@NotNull final PacketBuffer buf)
+    {
+        // Noop
+    }
+
+    @Override
+    protected void onExecute(final NetworkEvent.Context ctxIn, final boolean isLogicalServer, final IColony colony)
+    {
+        final ServerPlayerEntity player = ctxIn.getSender();
+        if (player != null)
+        {
+            colony.getPackageManager().addRequestSystemResync(player);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.minecolonies.coremod.network.messages.splitting;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Deflate compression of split message payloads.
+ */
+public final class SplitPacketCompression
+{
+    /**
+     * Size of the intermediate output chunks while deflating.
+     */
+    private static final int CHUNK_SIZE = 64 * 1024;
+
+    /**
+     * Largest message compressed by the sender, and so the largest declared size a receiver accepts.
+     */
+    public static final int MAX_UNCOMPRESSED_SIZE = 32 * 1024 * 1024;
+
+    /**
+     * Private constructor to hide the implicit one.
+     */
+    private SplitPacketCompression()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Compress the readable bytes of a buffer, without changing its reader index.
+     *
+     * @param data the buffer.
+     * @return a new heap buffer with the deflated data, must be released by the caller.
+     */
+    @NotNull
+    public static ByteBuf compress(@NotNull final ByteBuf data)
+    {
+        final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        final ByteBuf compressed = Unpooled.buffer(data.readableBytes() / 2);
+        try
+        {
+            deflater.setInput(ByteBufUtil.getBytes(data));
+            deflater.finish();
+
+            final byte[] chunk = new byte[CHUNK_SIZE];
+            while (!deflater.finished())
+            {
+                final int written = deflater.deflate(chunk);
+                compressed.writeBytes(chunk, 0, written);
+            }
+            return compressed;
+        }
+        finally
+        {
+            deflater.end();
+        }
+    }
+
+    /**
+     * Decompress the readable bytes of a buffer.
+     *
+     * @param data             the deflated data.
+     * @param uncompressedSize the size of the original data.
+     * @return a new heap buffer with the original data.
+     * @throws DataFormatException if the data is corrupt or the declared size is out of bounds.
+     */
+    @NotNull
+    public static ByteBuf decompress(@NotNull final ByteBuf data, final int uncompressedSize) throws DataFormatException
+    {
+        if (uncompressedSize <= 0 || uncompressedSize > MAX_UNCOMPRESSED_SIZE)
+        {
+            throw new DataFormatException("Invalid split packet payload size " + uncompressedSize);
+        }
+
+        final Inflater inflater = new Inflater();
+        try
+        {
+            inflater.setInput(ByteBufUtil.getBytes(data));
+
+            final byte[] result = new byte[uncompressedSize];
+            int read = 0;
+            while (read < uncompressedSize && !inflater.finished())
+            {
+                final int inflated = inflater.inflate(result, read, uncompressedSize - read);
+                if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary()))
+                {
+                    throw new DataFormatException("Truncated split packet payload");
+                }
+                read += inflated;
+            }
+
+            if (read != uncompressedSize || !inflater.finished())
+            {
+                throw new DataFormatException("Split packet payload size mismatch");
+            }
+            return Unpooled.wrappedBuffer(result);
+        }
+        finally
+        {
+            inflater.end();
+        }
+    }
+}
@@ -1,7 +1,6 @@
 package com.minecolonies.coremod.network.messages.splitting;
 
 import com.google.common.collect.Maps;
-import com.google.common.primitives.Bytes;
 import com.minecolonies.api.network.IMessage;
 import com.minecolonies.api.util.Log;
 import com.minecolonies.coremod.Network;
@@ -14,6 +13,7 @@ import net.minecraftforge.fml.network.NetworkEvent;
 
 import java.util.Map;
 import java.util.concurrent.ExecutionException;
+import java.util.zip.DataFormatException;
 
 /**
  * Represents a class that wrappers other messages in byte form and is used to split the wrapped messages data into several chunks.
@@ -41,9 +41,14 @@ public class SplitPacketMessage implements IMessage
     private int innerMessageId = -1;
 
     /**
-     * The payload.
+     * The size of the wrapped message before compression, or 0 if it is not compressed.
      */
-    private byte[] payload;
+    private int uncompressedSize = 0;
+
+    /**
+     * The payload. A slice of the sender's buffer when sending, owned by the sender.
+     */
+    private ByteBuf payload;
 
     /**
      * The network receiving constructor.
@@ -52,11 +57,28 @@ public class SplitPacketMessage implements IMessage
     {
     }
 
-    public SplitPacketMessage(final int communicationId, final int packetIndex, final boolean terminator, final int innerMessageId, final byte[] payload)
+    /**
+     * Creates a part of a split message.
+     *
+     * @param communicationId  the id of the wrapped message.
+     * @param packetIndex      the index of this part.
+     * @param terminator       true if this is the last part.
+     * @param uncompressedSize the size of the wrapped message before compression, or 0 if it is not compressed.
+     * @param innerMessageId   the message type id of the wrapped message.
+     * @param payload          the data of this part, not modified or released by this message.
+     */
+    public SplitPacketMessage(
+      final int communicationId,
+      final int packetIndex,
+      final boolean terminator,
+      final int uncompressedSize,
+      final int innerMessageId,
+      final ByteBuf payload)
     {
         this.communicationId = communicationId;
         this.packetIndex = packetIndex;
         this.terminator = terminator;
+        this.uncompressedSize = uncompressedSize;
         this.innerMessageId = innerMessageId;
         this.payload = payload;
     }
@@ -67,8 +89,10 @@ public class SplitPacketMessage implements IMessage
         buf.writeVarInt(this.communicationId);
         buf.writeVarInt(this.packetIndex);
         buf.writeBoolean(this.terminator);
+        buf.writeVarInt(this.uncompressedSize);
         buf.writeVarInt(this.innerMessageId);
-        buf.writeByteArray(this.payload);
+        buf.writeVarInt(this.payload.readableBytes());
+        buf.writeBytes(this.payload, this.payload.readerIndex(), this.payload.readableBytes());
     }
 
     @Override
@@ -77,8 +101,9 @@ public class SplitPacketMessage implements IMessage
         this.communicationId = buf.readVarInt();
         this.packetIndex = buf.readVarInt();
         this.terminator = buf.readBoolean();
+        this.uncompressedSize = buf.readVarInt();
         this.innerMessageId = buf.readVarInt();
-        this.payload = buf.readByteArray();
+        this.payload = Unpooled.wrappedBuffer(buf.readByteArray());
     }
 
     @Override
@@ -99,12 +124,13 @@ public class SplitPacketMessage implements IMessage
             }
 
             //No need to sync again, since we are now the last packet to arrive.
-            //All data gets sorted and appended.
-            final byte[] packetData = Network.getNetwork().getMessageCache().get(this.communicationId, Maps::newConcurrentMap).entrySet()
-                                        .stream()
-                                        .sorted(Map.Entry.comparingByKey())
-                                        .map(Map.Entry::getValue)
-                                        .reduce(new byte[0], Bytes::concat);
+            //All parts get sorted and are read as one buffer, without copying them together.
+            final ByteBuf[] parts = Network.getNetwork().getMessageCache().get(this.communicationId, Maps::newConcurrentMap).entrySet()
+                                      .stream()
+                                      .sorted(Map.Entry.comparingByKey())
+                                      .map(Map.Entry::getValue)
+                                      .toArray(ByteBuf[]::new);
+            Network.getNetwork().getMessageCache().invalidate(this.communicationId);
 
             //Grab the entry from the inner message id.
             final NetworkChannel.NetworkingMessageEntry<?> messageEntry = Network.getNetwork().getMessagesTypes().get(this.innerMessageId);
@@ -113,7 +139,13 @@ public class SplitPacketMessage implements IMessage
             final IMessage message = messageEntry.getCreator().get();
 
             //Create a new buffer that reads from the packet data and then deserialize the inner message.
-            final ByteBuf buffer = Unpooled.wrappedBuffer(packetData);
+            ByteBuf buffer = Unpooled.wrappedBuffer(parts);
+            if (this.uncompressedSize != 0)
+            {
+                final ByteBuf compressed = buffer;
+                buffer = SplitPacketCompression.decompress(compressed, this.uncompressedSize);
+                compressed.release();
+            }
             message.fromBytes(new PacketBuffer(buffer));
             buffer.release();
 
@@ -127,7 +159,7 @@ public class SplitPacketMessage implements IMessage
             // boolean param MUST equals true if packet arrived at logical server
             ctxIn.enqueueWork(() -> message.onExecute(ctxIn, packetOrigin.equals(LogicalSide.CLIENT)));
         }
-        catch (ExecutionException e)
+        catch (ExecutionException | DataFormatException e)
         {
             Log.getLogger().error("Failed to handle split packet.", e);
         }
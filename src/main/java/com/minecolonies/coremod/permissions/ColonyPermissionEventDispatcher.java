@@ -0,0 +1,391 @@
+package com.minecolonies.coremod.permissions;
+
+import com.minecolonies.api.blocks.AbstractBlockHut;
+import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.colony.IColonyManager;
+import com.minecolonies.api.colony.IColonyTagCapability;
+import com.minecolonies.api.colony.buildings.IBuilding;
+import com.minecolonies.api.colony.permissions.Explosions;
+import com.minecolonies.api.util.EntityUtils;
+import com.minecolonies.coremod.MineColonies;
+import com.minecolonies.coremod.colony.Colony;
+import com.minecolonies.coremod.entity.citizen.EntityCitizen;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMaps;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.monster.IMob;
+import net.minecraft.entity.monster.MonsterEntity;
+import net.minecraft.entity.passive.horse.LlamaEntity;
+import net.minecraft.entity.player.ServerPlayerEntity;
+import net.minecraft.util.EntityDamageSource;
+import net.minecraft.util.RegistryKey;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.BlockRayTraceResult;
+import net.minecraft.util.math.EntityRayTraceResult;
+import net.minecraft.world.IWorld;
+import net.minecraft.world.World;
+import net.minecraftforge.event.entity.item.ItemTossEvent;
+import net.minecraftforge.event.entity.living.LivingHurtEvent;
+import net.minecraftforge.event.entity.player.*;
+import net.minecraftforge.event.world.BlockEvent;
+import net.minecraftforge.event.world.ExplosionEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+import static com.minecolonies.api.colony.IColony.CLOSE_COLONY_CAP;
+
+/**
+ * Single event bus listener for all colony permission checks.
+ * <p>
+ * Instead of registering one {@link ColonyPermissionEventHandler} per colony, the owning colony is resolved once per event from the chunk's {@link IColonyTagCapability} and
+ * the event is only forwarded to the handler of that colony.
+ */
+public final class ColonyPermissionEventDispatcher
+{
+    /**
+     * The registered handlers, per dimension and colony id.
+     */
+    private static final Map<RegistryKey<World>, Int2ObjectMap<ColonyPermissionEventHandler>> handlers = new ConcurrentHashMap<>();
+
+    /**
+     * Private constructor to hide the implicit one.
+     */
+    private ColonyPermissionEventDispatcher()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Register the permission handler of a colony, replaces the previous one of the same colony.
+     *
+     * @param colony  the colony.
+     * @param handler the handler of the colony.
+     */
+    public static void register(@NotNull final Colony colony, @NotNull final ColonyPermissionEventHandler handler)
+    {
+        handlers.computeIfAbsent(colony.getDimension(), key -> Int2ObjectMaps.synchronize(new Int2ObjectOpenHashMap<>())).put(colony.getID(), handler);
+    }
+
+    /**
+     * Unregister the permission handler of a colony.
+     *
+     * @param colony the colony.
+     */
+    public static void unregister(@NotNull final Colony colony)
+    {
+        final Int2ObjectMap<ColonyPermissionEventHandler> dimensionHandlers = handlers.get(colony.getDimension());
+        if (dimensionHandlers != null)
+        {
+            dimensionHandlers.remove(colony.getID());
+        }
+    }
+
+    /**
+     * Get the permission handler of the colony owning the chunk at the given position.
+     *
+     * @param world the world to check in.
+     * @param pos   the position to check.
+     * @return the handler or null if the position is not owned by a colony with a registered handler.
+     */
+    @Nullable
+    private static ColonyPermissionEventHandler getHandler(@Nullable final IWorld world, @Nullable final BlockPos pos)
+    {
+        if (!(world instanceof World) || pos == null)
+        {
+            return null;
+        }
+
+        final Int2ObjectMap<ColonyPermissionEventHandler> dimensionHandlers = handlers.get(((World) world).dimension());
+        if (dimensionHandlers == null || dimensionHandlers.isEmpty())
+        {
+            return null;
+        }
+
+        final int owningColony = ((World) world).getChunkAt(pos).getCapability(CLOSE_COLONY_CAP, null).map(IColonyTagCapability::getOwningColony).orElse(0);
+        if (owningColony == 0)
+        {
+            return null;
+        }
+        return dimensionHandlers.get(owningColony);
+    }
+
+    /**
+     * Get the permission handler of the colony at the position of an entity.
+     *
+     * @param entity the entity.
+     * @return the handler or null if the entity is not within a colony.
+     */
+    @Nullable
+    private static ColonyPermissionEventHandler getHandler(@NotNull final Entity entity)
+    {
+        return getHandler(entity.getCommandSenderWorld(), new BlockPos(entity.position()));
+    }
+
+    /**
+     * BlockEvent.PlaceEvent handler.
+     *
+     * @param event BlockEvent.PlaceEvent
+     */
+    @SubscribeEvent
+    public static void on(final BlockEvent.EntityPlaceEvent event)
+    {
+        final ColonyPermissionEventHandler handler = getHandler(event.getWorld(), event.getPos());
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+    }
+
+    /**
+     * BlockEvent.BreakEvent handler.
+     * Huts are forwarded to the colony owning the building, even if it is outside of the colony borders.
+     *
+     * @param event BlockEvent.BreakEvent
+     */
+    @SubscribeEvent
+    public static void on(final BlockEvent.BreakEvent event)
+    {
+        if (!MineColonies.getConfig().getServer().enableColonyProtection.get() || event.getWorld().isClientSide())
+        {
+            return;
+        }
+
+        ColonyPermissionEventHandler handler = null;
+        if (event.getState().getBlock() instanceof AbstractBlockHut)
+        {
+            @Nullable final IBuilding building = IColonyManager.getInstance().getBuilding(event.getPlayer().level, event.getPos());
+            if (building != null && building.getColony() instanceof Colony)
+            {
+                handler = ((Colony) building.getColony()).getEventHandler();
+            }
+        }
+        else
+        {
+            handler = getHandler(event.getPlayer().getCommandSenderWorld(), event.getPos());
+        }
+
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+    }
+
+    /**
+     * ExplosionEvent.Detonate handler.
+     * Removes all blocks and entities from the explosion that are within any protected colony.
+     *
+     * @param event ExplosionEvent.Detonate
+     */
+    @SubscribeEvent
+    public static void on(final ExplosionEvent.Detonate event)
+    {
+        if (MineColonies.getConfig().getServer().turnOffExplosionsInColonies.get() == Explosions.DAMAGE_EVERYTHING)
+        {
+            return;
+        }
+
+        final World eventWorld = event.getWorld();
+        final Predicate<BlockPos> getBlocksInColony = pos -> getHandler(eventWorld, pos) != null;
+        Predicate<Entity> getEntitiesInColony = entity -> (!(entity instanceof IMob) || (entity instanceof LlamaEntity)) && getHandler(entity) != null;
+        switch (MineColonies.getConfig().getServer().turnOffExplosionsInColonies.get())
+        {
+            case DAMAGE_NOTHING:
+                // if any entity is in colony -> remove from list
+                getEntitiesInColony = entity -> getHandler(entity) != null;
+                // intentional fall-through to next case.
+            case DAMAGE_PLAYERS:
+                // if non-mob or llama entity is in colony -> remove from list
+                final Predicate<Entity> entitiesToRemove = getEntitiesInColony;
+                event.getAffectedEntities().removeIf(entity -> !(entity instanceof ServerPlayerEntity) && entitiesToRemove.test(entity));
+                // intentional fall-through to next case.
+            case DAMAGE_ENTITIES:
+                // if block is in colony -> remove from list
+                event.getAffectedBlocks().removeIf(getBlocksInColony);
+                break;
+            case DAMAGE_EVERYTHING:
+            default:
+                break;
+        }
+    }
+
+    /**
+     * ExplosionEvent.Start handler.
+     *
+     * @param event ExplosionEvent.Start
+     */
+    @SubscribeEvent
+    public static void on(final ExplosionEvent.Start event)
+    {
+        final ColonyPermissionEventHandler handler = getHandler(event.getWorld(), new BlockPos(event.getExplosion().getPosition()));
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+    }
+
+    /**
+     * PlayerInteractEvent handler.
+     *
+     * @param event PlayerInteractEvent
+     */
+    @SubscribeEvent
+    public static void on(final PlayerInteractEvent event)
+    {
+        final ColonyPermissionEventHandler handler = getHandler(event.getWorld(), event.getPos());
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+    }
+
+    /**
+     * PlayerInteractEvent.EntityInteract handler.
+     *
+     * @param event PlayerInteractEvent.EntityInteract
+     */
+    @SubscribeEvent
+    public static void on(final PlayerInteractEvent.EntityInteract event)
+    {
+        final ColonyPermissionEventHandler handler = getHandler(event.getPlayer().getCommandSenderWorld(), event.getPos());
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+    }
+
+    /**
+     * PlayerInteractEvent.EntityInteractSpecific handler.
+     *
+     * @param event PlayerInteractEvent.EntityInteractSpecific
+     */
+    @SubscribeEvent
+    public static void on(final PlayerInteractEvent.EntityInteractSpecific event)
+    {
+        final ColonyPermissionEventHandler handler = getHandler(event.getPlayer().getCommandSenderWorld(), event.getPos());
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+    }
+
+    /**
+     * ItemTossEvent handler.
+     *
+     * @param event ItemTossEvent
+     */
+    @SubscribeEvent
+    public static void on(final ItemTossEvent event)
+    {
+        final ColonyPermissionEventHandler handler = getHandler(event.getPlayer());
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+    }
+
+    /**
+     * ItemEntityPickupEvent handler.
+     *
+     * @param event ItemEntityPickupEvent
+     */
+    @SubscribeEvent
+    public static void on(final EntityItemPickupEvent event)
+    {
+        final ColonyPermissionEventHandler handler = getHandler(event.getPlayer());
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+    }
+
+    /**
+     * FillBucketEvent handler.
+     *
+     * @param event FillBucketEvent
+     */
+    @SubscribeEvent
+    public static void on(final FillBucketEvent event)
+    {
+        BlockPos targetBlockPos = new BlockPos(event.getPlayer().position());
+        if (event.getTarget() instanceof BlockRayTraceResult)
+        {
+            targetBlockPos = ((BlockRayTraceResult) event.getTarget()).getBlockPos();
+        }
+        else if (event.getTarget() instanceof EntityRayTraceResult)
+        {
+            targetBlockPos = new BlockPos(((EntityRayTraceResult) event.getTarget()).getEntity().position());
+        }
+
+        final ColonyPermissionEventHandler handler = getHandler(event.getPlayer().getCommandSenderWorld(), targetBlockPos);
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+    }
+
+    /**
+     * ArrowLooseEvent handler.
+     *
+     * @param event ArrowLooseEvent
+     */
+    @SubscribeEvent
+    public static void on(final ArrowLooseEvent event)
+    {
+        final ColonyPermissionEventHandler handler = getHandler(event.getPlayer());
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+    }
+
+    /**
+     * LivingHurtEvent handler.
+     * Forwarded to the colony of the attacking citizen.
+     *
+     * @param event LivingHurtEvent
+     */
+    @SubscribeEvent
+    public static void on(final LivingHurtEvent event)
+    {
+        if (!(event.getEntity() instanceof ServerPlayerEntity)
+              || !(event.getSource() instanceof EntityDamageSource)
+              || !(event.getSource().getEntity() instanceof EntityCitizen))
+        {
+            return;
+        }
+
+        final IColony colony = ((EntityCitizen) event.getSource().getEntity()).getCitizenColonyHandler().getColony();
+        if (colony instanceof Colony && ((Colony) colony).getEventHandler() != null)
+        {
+            ((Colony) colony).getEventHandler().on(event);
+        }
+    }
+
+    /**
+     * AttackEntityEvent handler.
+     *
+     * @param event AttackEntityEvent
+     */
+    @SubscribeEvent
+    public static void on(final AttackEntityEvent event)
+    {
+        if (event.getTarget() instanceof MonsterEntity)
+        {
+            return;
+        }
+
+        final ColonyPermissionEventHandler handler = getHandler(EntityUtils.getPlayerOfFakePlayer(event.getPlayer(), event.getPlayer().getCommandSenderWorld()));
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+    }
+}
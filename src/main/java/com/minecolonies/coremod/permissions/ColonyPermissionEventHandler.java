@@ -26,9 +26,7 @@ import net.minecraft.block.BlockState;
 import net.minecraft.block.ContainerBlock;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.MobEntity;
-import net.minecraft.entity.monster.IMob;
 import net.minecraft.entity.monster.MonsterEntity;
-import net.minecraft.entity.passive.horse.LlamaEntity;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.entity.player.ServerPlayerEntity;
 import net.minecraft.item.ItemStack;
@@ -46,19 +44,16 @@ import net.minecraftforge.event.entity.player.*;
 import net.minecraftforge.event.world.BlockEvent;
 import net.minecraftforge.event.world.ExplosionEvent;
 import net.minecraftforge.eventbus.api.Event;
-import net.minecraftforge.eventbus.api.SubscribeEvent;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.UUID;
-import java.util.function.Predicate;
-import java.util.stream.Collectors;
 
 /**
  * This class handles all permission checks on events and cancels them if needed.
+ * Events are forwarded by the {@link ColonyPermissionEventDispatcher} to the handler of the colony they take place in.
  */
 public class ColonyPermissionEventHandler
 {
@@ -87,7 +82,6 @@ public class ColonyPermissionEventHandler
      *
      * @param event BlockEvent.PlaceEvent
      */
-    @SubscribeEvent
     public void on(final BlockEvent.EntityPlaceEvent event)
     {
         final Action action = event.getPlacedBlock().getBlock() instanceof AbstractBlockHut ? Action.PLACE_HUTS : Action.PLACE_BLOCKS;
@@ -187,7 +181,6 @@ public class ColonyPermissionEventHandler
      *
      * @param event BlockEvent.BreakEvent
      */
-    @SubscribeEvent
     public void on(final BlockEvent.BreakEvent event)
     {
         final IWorld world = event.getWorld();
@@ -231,56 +224,11 @@ public class ColonyPermissionEventHandler
         }
     }
 
-    /**
-     * ExplosionEvent.Detonate handler.
-     *
-     * @param event ExplosionEvent.Detonate
-     */
-    @SubscribeEvent
-    public void on(final ExplosionEvent.Detonate event)
-    {
-        if (MineColonies.getConfig().getServer().turnOffExplosionsInColonies.get() == Explosions.DAMAGE_EVERYTHING)
-        {
-            return;
-        }
-
-        final World eventWorld = event.getWorld();
-        final Predicate<BlockPos> getBlocksInColony = pos -> colony.isCoordInColony(eventWorld, pos);
-        Predicate<Entity> getEntitiesInColony = entity -> (!(entity instanceof IMob) || (entity instanceof LlamaEntity))
-                                                            && colony.isCoordInColony(entity.getCommandSenderWorld(), new BlockPos(entity.position()));
-        switch(MineColonies.getConfig().getServer().turnOffExplosionsInColonies.get())
-        {
-            case DAMAGE_NOTHING:
-                // if any entity is in colony -> remove from list
-                getEntitiesInColony = entity -> colony.isCoordInColony(entity.getCommandSenderWorld(), new BlockPos(entity.position()));
-                // intentional fall-through to next case.
-            case DAMAGE_PLAYERS:
-                // if non-mob or llama entity is in colony -> remove from list
-                final List<Entity> entitiesToRemove = event.getAffectedEntities().stream()
-                                                          .filter(getEntitiesInColony)
-                                                          .filter(entity -> !(entity instanceof ServerPlayerEntity))
-                                                          .collect(Collectors.toList());
-                event.getAffectedEntities().removeAll(entitiesToRemove);
-                // intentional fall-through to next case.
-            case DAMAGE_ENTITIES:
-                // if block is in colony -> remove from list
-                final List<BlockPos> blocksToRemove = event.getAffectedBlocks().stream()
-                                                        .filter(getBlocksInColony)
-                                                        .collect(Collectors.toList());
-                event.getAffectedBlocks().removeAll(blocksToRemove);
-                break;
-            case DAMAGE_EVERYTHING:
-            default:
-                break;
-        }
-    }
-
     /**
      * ExplosionEvent.Start handler.
      *
-     * @param event ExplosionEvent.Detonate
+     * @param event ExplosionEvent.Start
      */
-    @SubscribeEvent
     public void on(final ExplosionEvent.Start event)
     {
         if (MineColonies.getConfig().getServer().enableColonyProtection.get()
@@ -298,7 +246,6 @@ public class ColonyPermissionEventHandler
      *
      * @param event PlayerInteractEvent
      */
-    @SubscribeEvent
     public void on(final PlayerInteractEvent event)
     {
         if (colony.isCoordInColony(event.getWorld(), event.getPos())
@@ -384,7 +331,6 @@ public class ColonyPermissionEventHandler
      *
      * @param event PlayerInteractEvent
      */
-    @SubscribeEvent
     public void on(final PlayerInteractEvent.EntityInteract event)
     {
         if (isFreeToInteractWith(null, event.getPos())
@@ -441,7 +387,6 @@ public class ColonyPermissionEventHandler
      *
      * @param event PlayerInteractEvent
      */
-    @SubscribeEvent
     public void on(final PlayerInteractEvent.EntityInteractSpecific event)
     {
         if (isFreeToInteractWith(null, event.getPos())
@@ -459,7 +404,6 @@ public class ColonyPermissionEventHandler
      *
      * @param event ItemTossEvent
      */
-    @SubscribeEvent
     public void on(final ItemTossEvent event)
     {
         if (checkEventCancelation(Action.TOSS_ITEM, event.getPlayer(), event.getPlayer().getCommandSenderWorld(), event, new BlockPos(event.getPlayer().position())))
@@ -475,7 +419,6 @@ public class ColonyPermissionEventHandler
      *
      * @param event ItemEntityPickupEvent
      */
-    @SubscribeEvent
     public void on(final EntityItemPickupEvent event)
     {
         checkEventCancelation(Action.PICKUP_ITEM, event.getPlayer(), event.getPlayer().getCommandSenderWorld(), event, new BlockPos(event.getPlayer().position()));
@@ -488,7 +431,6 @@ public class ColonyPermissionEventHandler
      *
      * @param event ItemEntityPickupEvent
      */
-    @SubscribeEvent
     public void on(final FillBucketEvent event)
     {
         @Nullable BlockPos targetBlockPos = null;
@@ -510,7 +452,6 @@ public class ColonyPermissionEventHandler
      *
      * @param event ItemEntityPickupEvent
      */
-    @SubscribeEvent
     public void on(final ArrowLooseEvent event)
     {
         checkEventCancelation(Action.SHOOT_ARROW, event.getPlayer(), event.getPlayer().getCommandSenderWorld(), event, new BlockPos(event.getPlayer().position()));
@@ -524,7 +465,6 @@ public class ColonyPermissionEventHandler
      * this here is handling players getting hurt by citizens.
      * @param event
      */
-    @SubscribeEvent
     public void on(final LivingHurtEvent event)
     {
         if (event.getEntity() instanceof ServerPlayerEntity
@@ -545,7 +485,6 @@ public class ColonyPermissionEventHandler
      *
      * @param event ItemEntityPickupEvent
      */
-    @SubscribeEvent
     public void on(final AttackEntityEvent event)
     {
         if (event.getTarget() instanceof MonsterEntity)
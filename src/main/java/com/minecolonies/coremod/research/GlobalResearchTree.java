@@ -10,10 +10,10 @@ import com.minecolonies.api.research.IGlobalResearchBranch;
 import com.minecolonies.api.research.IGlobalResearchTree;
 import com.minecolonies.api.research.IResearchRequirement;
 import com.minecolonies.api.research.effects.IResearchEffect;
+import com.minecolonies.api.research.effects.ResearchEffectSlots;
 import com.minecolonies.api.util.Log;
-import com.minecolonies.coremod.Network;
+import com.minecolonies.coremod.network.SyncedDataCache;
 import com.mojang.brigadier.exceptions.CommandSyntaxException;
-import io.netty.buffer.Unpooled;
 import net.minecraft.entity.player.ServerPlayerEntity;
 import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
@@ -57,6 +57,12 @@ public class GlobalResearchTree implements IGlobalResearchTree
      */
     private final Map<ResourceLocation, Set<IGlobalResearch>> researchEffectsIds = new HashMap<>();
 
+    /**
+     * The tree serialized for the clients, built on first use after each change.
+     */
+    @Nullable
+    private SyncedDataCache.Payload networkPayload;
+
     @Override
     public IGlobalResearch getResearch(final ResourceLocation branch, final ResourceLocation id) { return researchTree.get(branch).get(id); }
 
@@ -96,6 +102,7 @@ public class GlobalResearchTree implements IGlobalResearchTree
     @Override
     public void addResearch(final ResourceLocation branch, final IGlobalResearch research, final boolean isReloadedWithWorld)
     {
+        networkPayload = null;
         final Map<ResourceLocation, IGlobalResearch> branchMap;
         if (researchTree.containsKey(branch))
         {
@@ -121,6 +128,7 @@ public class GlobalResearchTree implements IGlobalResearchTree
         for (IResearchEffect<?> effect : research.getEffects())
         {
             researchEffectsIds.computeIfAbsent(effect.getId(), id -> new HashSet<>()).add(research);
+            ResearchEffectSlots.getSlot(effect.getId());
         }
         if (research.isAutostart())
         {
@@ -131,6 +139,7 @@ public class GlobalResearchTree implements IGlobalResearchTree
     @Override
     public void addBranchData(final ResourceLocation branchId, final IGlobalResearchBranch branchData)
     {
+        networkPayload = null;
         this.branchDatas.put(branchId, branchData);
     }
 
@@ -180,6 +189,7 @@ public class GlobalResearchTree implements IGlobalResearchTree
     @Override
     public void reset()
     {
+        networkPayload = null;
         for(ResourceLocation reset : reloadableResearch)
         {
             for(Map.Entry<ResourceLocation, Map<ResourceLocation, IGlobalResearch>> branch : researchTree.entrySet())
@@ -225,10 +235,22 @@ public class GlobalResearchTree implements IGlobalResearchTree
     @Override
     public void sendGlobalResearchTreePackets(final ServerPlayerEntity player)
     {
-        final PacketBuffer researchTreePacketBuffer = new PacketBuffer(Unpooled.buffer());
-        serializeNetworkData(researchTreePacketBuffer);
+        SyncedDataCache.announce(SyncedDataCache.Type.RESEARCH_TREE, player);
+    }
 
-        Network.getNetwork().sendToPlayer(new GlobalResearchTreeMessage(researchTreePacketBuffer), player);
+    /**
+     * Get the tree serialized for the clients, serializing it only if it changed since the last time.
+     *
+     * @return the serialized tree.
+     */
+    @NotNull
+    public SyncedDataCache.Payload getNetworkPayload()
+    {
+        if (networkPayload == null)
+        {
+            networkPayload = SyncedDataCache.Payload.serialize(this::serializeNetworkData);
+        }
+        return networkPayload;
     }
 
     public void serializeNetworkData(final PacketBuffer buf)
@@ -253,6 +275,7 @@ public class GlobalResearchTree implements IGlobalResearchTree
     @Override
     public IMessage handleGlobalResearchTreeMessage(final PacketBuffer buf)
     {
+        networkPayload = null;
         researchTree.clear();
         branchDatas.clear();
         researchEffectsIds.clear();
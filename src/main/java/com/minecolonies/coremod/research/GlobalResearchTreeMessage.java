@@ -2,6 +2,7 @@ package com.minecolonies.coremod.research;
 
 import com.minecolonies.api.network.IMessage;
 import com.minecolonies.api.research.IGlobalResearchTree;
+import com.minecolonies.coremod.network.SyncedDataCache;
 import net.minecraft.client.Minecraft;
 import net.minecraft.network.PacketBuffer;
 import net.minecraftforge.api.distmarker.Dist;
@@ -12,7 +13,7 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 /**
- * The message used to synchronize global research trees from a server to a remote client.
+ * The message carrying the full data used to synchronize global research trees from a server to a remote client.
  */
 public class GlobalResearchTreeMessage implements IMessage
 {
@@ -65,6 +66,7 @@ public class GlobalResearchTreeMessage implements IMessage
     {
         if (Minecraft.getInstance().level != null)
         {
+            SyncedDataCache.store(SyncedDataCache.Type.RESEARCH_TREE, treeBuffer);
             IGlobalResearchTree.getInstance().handleGlobalResearchTreeMessage(treeBuffer);
         }
         treeBuffer.release();
@@ -2,9 +2,11 @@ package com.minecolonies.coremod.research;
 
 import com.minecolonies.api.research.effects.IResearchEffect;
 import com.minecolonies.api.research.effects.IResearchEffectManager;
+import com.minecolonies.api.research.effects.ResearchEffectSlots;
 import net.minecraft.util.ResourceLocation;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -18,6 +20,11 @@ public class ResearchEffectManager implements IResearchEffectManager
      */
     private final Map<ResourceLocation, IResearchEffect<?>> effectMap = new HashMap<>();
 
+    /**
+     * The strength of the global research effects, indexed by their {@link ResearchEffectSlots} slot.
+     */
+    private double[] strengths = new double[ResearchEffectSlots.getSlotCount()];
+
     @Override
     public <W extends IResearchEffect<?>> W getEffect(final ResourceLocation id, @NotNull final Class<W> type)
     {
@@ -32,14 +39,14 @@ public class ResearchEffectManager implements IResearchEffectManager
     @Override
     public double getEffectStrength(final ResourceLocation id)
     {
-        if(effectMap.containsKey(id))
-        {
-            if(effectMap.get(id) instanceof GlobalResearchEffect)
-            {
-                return ((GlobalResearchEffect)effectMap.get(id)).getEffect();
-            }
-        }
-        return 0;
+        return getEffectStrength(ResearchEffectSlots.getSlot(id));
+    }
+
+    @Override
+    public double getEffectStrength(final int slot)
+    {
+        final double[] current = strengths;
+        return slot < current.length ? current[slot] : 0;
     }
 
     @Override
@@ -51,11 +58,13 @@ public class ResearchEffectManager implements IResearchEffectManager
             if (effect.overrides(effectInMap))
             {
                 effectMap.put(effect.getId(), effect);
+                updateStrength(effect);
             }
         }
         else
         {
             effectMap.put(effect.getId(), effect);
+            updateStrength(effect);
         }
     }
 
@@ -63,5 +72,21 @@ public class ResearchEffectManager implements IResearchEffectManager
     public void removeAllEffects()
     {
         effectMap.clear();
+        Arrays.fill(strengths, 0);
+    }
+
+    /**
+     * Update the strength slot of a newly applied effect.
+     *
+     * @param effect the effect.
+     */
+    private void updateStrength(final IResearchEffect<?> effect)
+    {
+        final int slot = ResearchEffectSlots.getSlot(effect.getId());
+        if (slot >= strengths.length)
+        {
+            strengths = Arrays.copyOf(strengths, Math.max(slot + 1, ResearchEffectSlots.getSlotCount()));
+        }
+        strengths[slot] = effect instanceof GlobalResearchEffect ? ((GlobalResearchEffect) effect).getEffect() : 0;
     }
 }
@@ -1,6 +1,8 @@
 package com.minecolonies.coremod.tileentities;
 
 import com.ldtteam.structurize.util.LanguageHandler;
+import com.minecolonies.api.colony.buildings.IBuilding;
+import com.minecolonies.api.crafting.ItemStorage;
 import com.minecolonies.api.inventory.InventoryCitizen;
 import com.minecolonies.api.tileentities.AbstractTileEntityRack;
 import com.minecolonies.api.tileentities.AbstractTileEntityWareHouse;
@@ -57,19 +59,27 @@ public class TileEntityWareHouse extends AbstractTileEntityWareHouse
     @Override
     public boolean hasMatchingItemStackInWarehouse(@NotNull final ItemStack itemStack, final int count, final boolean ignoreNBT, final boolean ignoreDamage, final int leftOver)
     {
-        int totalCountFound = 0 - leftOver;
-        for (@NotNull final BlockPos pos : getBuilding().getContainers())
+        final IBuilding building = getBuilding();
+        if (building == null)
         {
-            if (WorldUtil.isBlockLoaded(level, pos))
+            return false;
+        }
+
+        final List<TileEntity> unindexed = InventoryUtils.indexBuildingContainers(building);
+        int totalCountFound = building.getItemIndex().getCount(new ItemStorage(itemStack, ignoreDamage, ignoreNBT)) - leftOver;
+        if (totalCountFound >= count)
+        {
+            return true;
+        }
+
+        for (final TileEntity entity : unindexed)
+        {
+            if (entity instanceof TileEntityRack && !((AbstractTileEntityRack) entity).isEmpty())
             {
-                final TileEntity entity = getLevel().getBlockEntity(pos);
-                if (entity instanceof TileEntityRack && !((AbstractTileEntityRack) entity).isEmpty())
+                totalCountFound += ((AbstractTileEntityRack) entity).getCount(itemStack, ignoreDamage, ignoreNBT);
+                if (totalCountFound >= count)
                 {
-                    totalCountFound += ((AbstractTileEntityRack) entity).getCount(itemStack, ignoreDamage, ignoreNBT);
-                    if (totalCountFound >= count)
-                    {
-                        return true;
-                    }
+                    return true;
                 }
             }
         }
@@ -88,11 +98,25 @@ public class TileEntityWareHouse extends AbstractTileEntityWareHouse
     {
         List<Tuple<ItemStack, BlockPos>> found = new ArrayList<>();
         
-        if (getBuilding() != null)
+        final IBuilding building = getBuilding();
+        if (building != null)
         {
-            for (@NotNull final BlockPos pos : getBuilding().getContainers())
+            final List<TileEntity> unindexed = InventoryUtils.indexBuildingContainers(building);
+            for (@NotNull final BlockPos pos : building.getItemIndex().getLocations(itemStackSelectionPredicate))
             {
                 final TileEntity entity = getLevel().getBlockEntity(pos);
+                if (entity instanceof TileEntityRack)
+                {
+                    for (final ItemStack stack : (InventoryUtils.filterItemHandler(((TileEntityRack) entity).getInventory(), itemStackSelectionPredicate)))
+                    {
+                        found.add(new Tuple<>(stack, pos));
+                    }
+                }
+            }
+
+            for (final TileEntity entity : unindexed)
+            {
+                final BlockPos pos = entity.getBlockPos();
                 if (entity instanceof TileEntityRack && !((AbstractTileEntityRack) entity).isEmpty() && ((AbstractTileEntityRack) entity).getItemCount(itemStackSelectionPredicate) > 0)
                 {
                     final TileEntityRack rack = (TileEntityRack) entity;
@@ -26,7 +26,6 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
-import java.text.SimpleDateFormat;
 import java.util.*;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
@@ -58,6 +57,12 @@ public final class BackUpHelper
     public static        long lastBackupTime          = 0;
     private static final long MAX_TIME_TO_NEXT_BACKUP = 1000 * 60 * 5;
 
+    /**
+     * The two bytes every gzip stream starts with.
+     */
+    private static final int GZIP_MAGIC_FIRST  = 0x1f;
+    private static final int GZIP_MAGIC_SECOND = 0x8b;
+
     /**
      * Private constructor to hide implicit one.
      */
@@ -69,9 +74,10 @@ public final class BackUpHelper
     }
 
     /**
-     * Backup the colony
+     * Backup the colony data. The colonies are snapshotted on the calling thread, waiting for their files to be written and the backup itself both happen on the
+     * backup thread of the {@link ColonyBackupStore}, so the calling thread never blocks on disk io.
      *
-     * @return true if succesful.
+     * @return true if the backup was queued.
      */
     public static boolean backupColonyData()
     {
@@ -81,78 +87,60 @@ public final class BackUpHelper
         }
         lastBackupTime = System.currentTimeMillis();
 
-        BackUpHelper.saveColonies();
-        try (FileOutputStream fos = new FileOutputStream(getBackupSaveLocation(new Date())))
+        try
         {
+            BackUpHelper.saveColonies();
             @NotNull final File saveDir =
               new File(ServerLifecycleHooks.getCurrentServer().getWorldPath(FolderName.ROOT).toFile(), FILENAME_MINECOLONIES_PATH);
-            final ZipOutputStream zos = new ZipOutputStream(fos);
 
+            // Which colonies exist is decided now, the files are only looked at once the queued saves are written.
+            final Map<String, String> colonyPaths = new LinkedHashMap<>();
+            final Set<String> existingColonies = new HashSet<>();
             for (final RegistryKey<World> dimensionType : ServerLifecycleHooks.getCurrentServer().levels.keySet())
             {
                 for (int i = 1; i <= IColonyManager.getInstance().getTopColonyId() + 1; i++)
                 {
-                    @NotNull final File file = new File(saveDir, getFolderForDimension(dimensionType.location()) + String.format(FILENAME_COLONY, i));
-                    @NotNull final File fileDeleted = new File(saveDir, getFolderForDimension(dimensionType.location()) + String.format(FILENAME_COLONY_DELETED, i));
+                    final String path = getFolderForDimension(dimensionType.location()) + String.format(FILENAME_COLONY, i);
+                    colonyPaths.put(path, getFolderForDimension(dimensionType.location()) + String.format(FILENAME_COLONY_DELETED, i));
+                    if (IColonyManager.getInstance().getColonyByDimension(i, dimensionType) != null)
+                    {
+                        existingColonies.add(path);
+                    }
+                }
+            }
+            final String managerPath = getSaveLocation().getName();
+            final Date date = new Date();
+
+            ColonyBackupStore.backup(saveDir, () -> {
+                ColonySaveWriter.flush();
+
+                final List<String> paths = new ArrayList<>();
+                for (final Map.Entry<String, String> entry : colonyPaths.entrySet())
+                {
+                    @NotNull final File file = new File(saveDir, entry.getKey());
+                    @NotNull final File fileDeleted = new File(saveDir, entry.getValue());
                     if (file.exists())
                     {
-                        // mark existing files
-                        if (IColonyManager.getInstance().getColonyByDimension(i, dimensionType) == null)
+                        if (existingColonies.contains(entry.getKey()))
                         {
-                            markColonyDeleted(i, dimensionType);
-                            addToZipFile(getFolderForDimension(dimensionType.location()) + String.format(FILENAME_COLONY_DELETED, i), zos, saveDir);
+                            paths.add(entry.getKey());
                         }
                         else
                         {
-                            addToZipFile(getFolderForDimension(dimensionType.location()) + String.format(FILENAME_COLONY, i), zos, saveDir);
+                            // mark existing files
+                            ColonySaveWriter.forget(file);
+                            renameToDeleted(file, fileDeleted);
+                            paths.add(entry.getValue());
                         }
                     }
                     else if (fileDeleted.exists())
                     {
-                        addToZipFile(getFolderForDimension(dimensionType.location()) + String.format(FILENAME_COLONY_DELETED, i), zos, saveDir);
+                        paths.add(entry.getValue());
                     }
                 }
-            }
-            addToZipFile(getSaveLocation().getName(), zos, saveDir);
-            zos.close();
-
-            File[] files = saveDir.listFiles();
-
-            if (files == null)
-            {
-                return true;
-            }
-
-            final List<File> fileList = new ArrayList<>();
-
-            for (final File current : files)
-            {
-                if (current.isDirectory() || !current.exists() || !current.getName().contains("colonies-"))
-                {
-                    continue;
-                }
-
-                fileList.add(current);
-            }
-
-            if (fileList.size() <= MineColonies.getConfig().getServer().maxkeptbackups.get())
-            {
-                return true;
-            }
-
-            fileList.sort(Comparator.comparingLong(File::lastModified));
-
-            int deleteCount = fileList.size() - MineColonies.getConfig().getServer().maxkeptbackups.get();
-            for (File current : fileList)
-            {
-                if (deleteCount <= 0)
-                {
-                    break;
-                }
-
-                deleteCount--;
-                current.delete();
-            }
+                paths.add(managerPath);
+                return paths;
+            }, date);
         }
         catch (final Exception e)
         {
@@ -219,33 +207,6 @@ public final class BackUpHelper
         }
     }
 
-    /**
-     * Get save location for Minecolonies backup data, from the world/save directory.
-     *
-     * @param date the current time.
-     * @return Save file for minecolonies.
-     */
-    @NotNull
-    private static File getBackupSaveLocation(final Date date)
-    {
-        @NotNull final File saveDir =
-          new File(ServerLifecycleHooks.getCurrentServer().getWorldPath(FolderName.ROOT).toFile(), FILENAME_MINECOLONIES_PATH);
-        return new File(saveDir, String.format(FILENAME_MINECOLONIES_BACKUP, new SimpleDateFormat("yyyy-MM-dd_HH.mm.ss").format(date)));
-    }
-
-    /**
-     * Add zip to file.
-     *
-     * @param fileName the file name.
-     * @param zos      the output stream.
-     * @param folder   the folder.
-     */
-    private static void addToZipFile(final String fileName, final ZipOutputStream zos, final File folder)
-    {
-        final File file = new File(folder, fileName);
-        addFileToZipWithPath(fileName, zos, file);
-    }
-
     /**
      * Add the file to the given zip, with the path
      *
@@ -315,6 +276,13 @@ public final class BackUpHelper
         {
             if (file != null && file.exists())
             {
+                if (isCompressed(file))
+                {
+                    try (FileInputStream stream = new FileInputStream(file))
+                    {
+                        return CompressedStreamTools.readCompressed(stream);
+                    }
+                }
                 return CompressedStreamTools.read(file);
             }
         }
@@ -326,7 +294,23 @@ public final class BackUpHelper
     }
 
     /**
-     * Save all the Colonies.
+     * Check if a file starts with the gzip header, colony files written by the {@link ColonySaveWriter} are compressed.
+     *
+     * @param file the file to check.
+     * @return true if so.
+     * @throws IOException if the file can't be read.
+     */
+    private static boolean isCompressed(@NotNull final File file) throws IOException
+    {
+        try (FileInputStream stream = new FileInputStream(file))
+        {
+            return stream.read() == GZIP_MAGIC_FIRST && stream.read() == GZIP_MAGIC_SECOND;
+        }
+    }
+
+    /**
+     * Save all the Colonies. Colonies which did not change since their last save are not written again. The colony files are written in the background by the
+     * {@link ColonySaveWriter}, this does not wait for them.
      */
     public static void saveColonies()
     {
@@ -335,15 +319,30 @@ public final class BackUpHelper
 
         @NotNull final File file = getSaveLocation();
         saveNBTToPath(file, compound);
-        @NotNull final File saveDir = new File(ServerLifecycleHooks.getCurrentServer().getWorldPath(FolderName.ROOT).toFile(), FILENAME_MINECOLONIES_PATH);
         for (final IColony colony : IColonyManager.getInstance().getAllColonies())
         {
-            final CompoundNBT colonyCompound = new CompoundNBT();
-            colony.write(colonyCompound);
-            saveNBTToPath(new File(saveDir, getFolderForDimension(colony.getDimension().location()) + String.format(FILENAME_COLONY, colony.getID())), colonyCompound);
+            final CompoundNBT colonyCompound = colony.getColonyTag();
+            if (colonyCompound != null)
+            {
+                ColonySaveWriter.save(getColonyFile(colony.getID(), colony.getDimension().location()), colonyCompound);
+            }
         }
     }
 
+    /**
+     * Get the file a colony is saved to.
+     *
+     * @param colonyId  the id of the colony.
+     * @param dimension the dimension of the colony.
+     * @return the file.
+     */
+    @NotNull
+    public static File getColonyFile(final int colonyId, @NotNull final ResourceLocation dimension)
+    {
+        @NotNull final File saveDir = new File(ServerLifecycleHooks.getCurrentServer().getWorldPath(FolderName.ROOT).toFile(), FILENAME_MINECOLONIES_PATH);
+        return new File(saveDir, getFolderForDimension(dimension) + String.format(FILENAME_COLONY, colonyId));
+    }
+
     /**
      * Marks a colony's backup file as deleted.
      *
@@ -355,11 +354,25 @@ public final class BackUpHelper
         @NotNull final File saveDir =
           new File(ServerLifecycleHooks.getCurrentServer().getWorldPath(FolderName.ROOT).toFile(), FILENAME_MINECOLONIES_PATH);
         final File toDelete = new File(saveDir, getFolderForDimension(dimensionID.location()) + String.format(FILENAME_COLONY, colonyID));
+        ColonySaveWriter.forget(toDelete);
+        final File deleted = new File(saveDir, getFolderForDimension(dimensionID.location()) + String.format(FILENAME_COLONY_DELETED, colonyID));
+
+        // Renamed on the backup thread, after running backups are done reading the file.
+        ColonyBackupStore.execute(() -> renameToDeleted(toDelete, deleted));
+    }
+
+    /**
+     * Rename the file of a deleted colony, runs on the backup thread.
+     *
+     * @param toDelete the colony file.
+     * @param deleted  the file marking it deleted.
+     */
+    private static void renameToDeleted(@NotNull final File toDelete, @NotNull final File deleted)
+    {
         if (toDelete.exists())
         {
-            final String fileName = getFolderForDimension(dimensionID.location()) + String.format(FILENAME_COLONY_DELETED, colonyID);
-            new File(saveDir, fileName).delete();
-            toDelete.renameTo(new File(saveDir, fileName));
+            deleted.delete();
+            toDelete.renameTo(deleted);
         }
     }
 
@@ -395,6 +408,7 @@ public final class BackUpHelper
 
     /**
      * Load the colony backup by colony, also works for backups of deleted colonies.
+     * If no colony file is left, the latest backup snapshot is looked up in the background and the colony is restored a little later.
      *
      * @param colonyId    of the colony.
      * @param dimension   the colony dimension.
@@ -406,19 +420,46 @@ public final class BackUpHelper
         @NotNull final File saveDir = new File(ServerLifecycleHooks.getCurrentServer().getWorldPath(FolderName.ROOT).toFile(), FILENAME_MINECOLONIES_PATH);
         @NotNull final File backupFile = new File(saveDir, getFolderForDimension(dimension.location()) + String.format(FILENAME_COLONY, colonyId));
         CompoundNBT compound = loadNBTFromPath(backupFile);
-        if (compound == null)
+        if (compound == null && loadDeleted)
+        {
+            compound = loadNBTFromPath(new File(saveDir, String.format(getFolderForDimension(dimension.location()) + String.format(FILENAME_COLONY_DELETED, colonyId))));
+        }
+        if (compound != null)
         {
-            if (loadDeleted)
+            restoreColony(colonyId, dimension, compound, claimChunks);
+            return;
+        }
+
+        // Fall back to the latest backed up state of the colony, looked up on the backup thread and restored on the server thread.
+        final MinecraftServer server = ServerLifecycleHooks.getCurrentServer();
+        ColonyBackupStore.execute(() -> {
+            CompoundNBT backup = loadNBTFromPath(ColonyBackupStore.findLatest(saveDir, getFolderForDimension(dimension.location()) + String.format(FILENAME_COLONY, colonyId)));
+            if (backup == null && loadDeleted)
             {
-                compound = loadNBTFromPath(new File(saveDir, String.format(getFolderForDimension(dimension.location()) + String.format(FILENAME_COLONY_DELETED, colonyId))));
+                backup = loadNBTFromPath(ColonyBackupStore.findLatest(saveDir, getFolderForDimension(dimension.location()) + String.format(FILENAME_COLONY_DELETED, colonyId)));
             }
-            if (compound == null)
+
+            if (backup == null)
             {
                 Log.getLogger().warn("Can't find NBT of colony: " + colonyId + " at location: " + backupFile);
                 return;
             }
-        }
 
+            final CompoundNBT found = backup;
+            server.execute(() -> restoreColony(colonyId, dimension, found, claimChunks));
+        });
+    }
+
+    /**
+     * Restore a colony from its loaded save data, on the server thread.
+     *
+     * @param colonyId    of the colony.
+     * @param dimension   the colony dimension.
+     * @param compound    the save data of the colony.
+     * @param claimChunks if chunks shall be claimed on loading.
+     */
+    private static void restoreColony(final int colonyId, final RegistryKey<World> dimension, @NotNull final CompoundNBT compound, final boolean claimChunks)
+    {
         IColony colony = IColonyManager.getInstance().getColonyByDimension(colonyId, dimension);
         if (colony != null)
         {
@@ -536,7 +577,8 @@ public final class BackUpHelper
                 }
             }
 
-            // Save colony.dat backup
+            // Save colony.dat backup, the export command waits for its queued write.
+            ColonySaveWriter.flush();
             final File file = new File(saveDir, getFolderForDimension(colony.getDimension().location()) + String.format(FILENAME_COLONY, colony.getID()));
             final File fileDeleted = new File(saveDir, getFolderForDimension(colony.getDimension().location()) + String.format(FILENAME_COLONY_DELETED, colony.getID()));
             if (file.exists())
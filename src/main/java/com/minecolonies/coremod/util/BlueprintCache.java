@@ -0,0 +1,289 @@
+package com.minecolonies.coremod.util;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.ldtteam.structures.blueprints.v1.Blueprint;
+import com.ldtteam.structurize.management.Structures;
+import com.ldtteam.structurize.util.PlacementSettings;
+import com.minecolonies.api.util.BlockPosUtil;
+import com.minecolonies.api.util.LoadOnlyStructureHandler;
+import com.minecolonies.api.util.Log;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.Mirror;
+import net.minecraft.util.RegistryKey;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Shared cache of loaded, rotated and mirrored blueprints.
+ * <p>
+ * Blueprints are read and parsed on a background thread and kept by dimension, schematic name, md5, rotation and mirror, so all builders, miners and
+ * work orders working on the same structure in the same world share one prepared instance. Rotating creates the entities and tile entities of the blueprint
+ * against the world, so it is handed back to the thread owning the world, and the blueprints of a world are dropped when it unloads. The cache is bounded by the total volume of the cached blueprints, the least recently used are
+ * dropped first. Cached blueprints are shared and must never be rotated or otherwise modified by their users.
+ */
+public final class BlueprintCache
+{
+    /**
+     * Max total volume of the cached blueprints, in blocks.
+     */
+    private static final long MAX_CACHED_BLOCKS = 8_000_000L;
+
+    /**
+     * The prepared blueprints.
+     */
+    private static final Cache<Key, Blueprint> cache = CacheBuilder.newBuilder()
+                                                         .maximumWeight(MAX_CACHED_BLOCKS)
+                                                         .weigher((Key key, Blueprint blueprint) -> blueprint.getSizeX() * blueprint.getSizeY() * blueprint.getSizeZ())
+                                                         .build();
+
+    /**
+     * The blueprints currently being prepared.
+     */
+    private static final Map<Key, CompletableFuture<Blueprint>> loading = new ConcurrentHashMap<>();
+
+    /**
+     * The loader thread, only reads and parses the schematic files.
+     */
+    private static final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        final Thread thread = new Thread(runnable, "Minecolonies Blueprint Loader");
+        thread.setDaemon(true);
+        thread.setUncaughtExceptionHandler((thread1, throwable) -> Log.getLogger().error("Minecolonies Blueprint Loader errored! ", throwable));
+        return thread;
+    });
+
+    /**
+     * Private constructor to hide the implicit one.
+     */
+    private BlueprintCache()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Get a prepared blueprint, loading it in the background if it is not cached yet.
+     *
+     * @param world       the world.
+     * @param name        the name of the structure.
+     * @param rotateTimes number of times to rotate it.
+     * @param isMirrored  if it is mirrored.
+     * @return the future of the blueprint, completed with null if the structure does not exist.
+     */
+    @NotNull
+    public static CompletableFuture<Blueprint> getBlueprint(@NotNull final World world, @NotNull final String name, final int rotateTimes, final boolean isMirrored)
+    {
+        final Key key = new Key(world, name, rotateTimes, isMirrored);
+        final Blueprint blueprint = cache.getIfPresent(key);
+        if (blueprint != null)
+        {
+            return CompletableFuture.completedFuture(blueprint);
+        }
+
+        return loading.computeIfAbsent(key, k -> CompletableFuture.supplyAsync(() -> read(world, k), executor)
+                                                   .handleAsync((structure, throwable) -> finish(world, k, structure, throwable), getWorldExecutor(world)));
+    }
+
+    /**
+     * Get a prepared blueprint right away, loading it on the calling thread if it is not cached yet.
+     * <p>
+     * A background load of the same blueprint is not waited for, it might be queued behind other loads.
+     *
+     * @param world       the world.
+     * @param name        the name of the structure.
+     * @param rotateTimes number of times to rotate it.
+     * @param isMirrored  if it is mirrored.
+     * @return the blueprint or null if the structure does not exist.
+     */
+    @Nullable
+    public static Blueprint getBlueprintNow(@NotNull final World world, @NotNull final String name, final int rotateTimes, final boolean isMirrored)
+    {
+        final Key key = new Key(world, name, rotateTimes, isMirrored);
+        final Blueprint blueprint = cache.getIfPresent(key);
+        if (blueprint != null)
+        {
+            return blueprint;
+        }
+
+        final LoadOnlyStructureHandler structure = read(world, key);
+        return structure == null ? null : prepare(world, key, structure);
+    }
+
+    /**
+     * Drop the blueprints prepared against a world which is unloaded.
+     *
+     * @param world the world.
+     */
+    public static void onWorldUnloaded(@NotNull final World world)
+    {
+        final RegistryKey<World> dimension = world.dimension();
+        cache.asMap().keySet().removeIf(key -> key.dimension.equals(dimension));
+        loading.keySet().removeIf(key -> key.dimension.equals(dimension));
+    }
+
+    /**
+     * Read and parse the schematic of a blueprint.
+     *
+     * @param world the world, only handed to the structure handler.
+     * @param key   the key of the blueprint.
+     * @return the loaded structure or null if the structure does not exist.
+     */
+    @Nullable
+    private static LoadOnlyStructureHandler read(@NotNull final World world, @NotNull final Key key)
+    {
+        try
+        {
+            final LoadOnlyStructureHandler structure = new LoadOnlyStructureHandler(world, BlockPos.ZERO, key.name, new PlacementSettings(), true);
+            return structure.hasBluePrint() ? structure : null;
+        }
+        catch (final RuntimeException e)
+        {
+            Log.getLogger().error("Failed to load structure: " + key.name, e);
+            return null;
+        }
+    }
+
+    /**
+     * Finish a background load on the thread owning the world.
+     *
+     * @param world     the world.
+     * @param key       the key of the blueprint.
+     * @param structure the loaded structure, null if it does not exist.
+     * @param throwable the failure of the background read, if any.
+     * @return the blueprint or null if the structure does not exist or the world was unloaded meanwhile.
+     */
+    @Nullable
+    private static Blueprint finish(@NotNull final World world, @NotNull final Key key, @Nullable final LoadOnlyStructureHandler structure, @Nullable final Throwable throwable)
+    {
+        if (loading.remove(key) == null)
+        {
+            // The world was unloaded while loading.
+            return null;
+        }
+
+        if (throwable != null)
+        {
+            Log.getLogger().error("Failed to load structure: " + key.name, throwable);
+            return null;
+        }
+        return structure == null ? null : prepare(world, key, structure);
+    }
+
+    /**
+     * Rotate and cache a loaded blueprint, must run on the thread owning the world.
+     *
+     * @param world     the world.
+     * @param key       the key of the blueprint.
+     * @param structure the loaded structure.
+     * @return the blueprint or null if rotating it failed.
+     */
+    @Nullable
+    private static Blueprint prepare(@NotNull final World world, @NotNull final Key key, @NotNull final LoadOnlyStructureHandler structure)
+    {
+        try
+        {
+            final Blueprint blueprint = structure.getBluePrint();
+            blueprint.rotateWithMirror(BlockPosUtil.getRotationFromRotations(key.rotateTimes), key.isMirrored ? Mirror.FRONT_BACK : Mirror.NONE, world);
+            cache.put(key, blueprint);
+            return blueprint;
+        }
+        catch (final RuntimeException e)
+        {
+            Log.getLogger().error("Failed to prepare structure: " + key.name, e);
+            return null;
+        }
+    }
+
+    /**
+     * Get the executor running tasks on the thread owning a world.
+     *
+     * @param world the world.
+     * @return the executor of its server, or a direct executor if there is none.
+     */
+    @NotNull
+    private static Executor getWorldExecutor(@NotNull final World world)
+    {
+        final MinecraftServer server = world.getServer();
+        return server == null ? Runnable::run : server;
+    }
+
+    /**
+     * The key of a prepared blueprint.
+     */
+    private static final class Key
+    {
+        /**
+         * The dimension of the world the blueprint is prepared against.
+         */
+        private final RegistryKey<World> dimension;
+
+        /**
+         * The name of the structure.
+         */
+        private final String name;
+
+        /**
+         * The md5 of the structure, so changed structures are loaded again.
+         */
+        private final String md5;
+
+        /**
+         * Number of times it is rotated.
+         */
+        private final int rotateTimes;
+
+        /**
+         * If it is mirrored.
+         */
+        private final boolean isMirrored;
+
+        /**
+         * Create a new key.
+         *
+         * @param world       the world it is prepared against.
+         * @param name        the name of the structure.
+         * @param rotateTimes number of times it is rotated.
+         * @param isMirrored  if it is mirrored.
+         */
+        private Key(@NotNull final World world, @NotNull final String name, final int rotateTimes, final boolean isMirrored)
+        {
+            this.dimension = world.dimension();
+            this.name = name;
+            this.md5 = Structures.getMD5(name);
+            this.rotateTimes = rotateTimes;
+            this.isMirrored = isMirrored;
+        }
+
+        @Override
+        public boolean equals(final Object o)
+        {
+            if (this == o)
+            {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass())
+            {
+                return false;
+            }
+            final Key key = (Key) o;
+            return rotateTimes == key.rotateTimes && isMirrored == key.isMirrored && dimension.equals(key.dimension) && name.equals(key.name) && Objects.equals(md5, key.md5);
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return Objects.hash(dimension, name, md5, rotateTimes, isMirrored);
+        }
+    }
+}
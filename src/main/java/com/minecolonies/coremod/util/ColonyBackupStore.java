@@ -0,0 +1,484 @@
+package com.minecolonies.coremod.util;
+
+import com.google.common.hash.Hashing;
+import com.google.common.hash.HashingInputStream;
+import com.minecolonies.api.util.Log;
+import com.minecolonies.coremod.MineColonies;
+import net.minecraft.nbt.CompoundNBT;
+import net.minecraft.nbt.CompressedStreamTools;
+import net.minecraft.nbt.ListNBT;
+import net.minecraftforge.common.util.Constants;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.text.SimpleDateFormat;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+import static com.minecolonies.api.util.constant.ColonyManagerConstants.FILENAME_MINECOLONIES_BACKUP;
+
+/**
+ * Incremental backup store for the colony save files.
+ * <p>
+ * Every backup is a small snapshot file listing the saved files with the hash of their content. The content itself is stored once per distinct hash in the object
+ * folder, so files which did not change since the last backup cost no copy at all. Files whose size and modification time match the previous snapshot are not
+ * even read again. Old snapshots are pruned according to the configured retention and objects no snapshot references anymore are removed afterwards.
+ * <p>
+ * All disk work happens on a single background thread, the server thread only decides which files belong to a snapshot.
+ */
+public final class ColonyBackupStore
+{
+    /**
+     * Folder of the store, inside the minecolonies save folder.
+     */
+    private static final String BACKUP_FOLDER = "backups";
+
+    /**
+     * Folder of the stored file contents.
+     */
+    private static final String OBJECT_FOLDER = "objects";
+
+    /**
+     * Folder of the snapshot files.
+     */
+    private static final String SNAPSHOT_FOLDER = "snapshots";
+
+    /**
+     * Snapshot filename scheme.
+     */
+    private static final String FILENAME_SNAPSHOT = "colonies-%s.dat";
+
+    /**
+     * Suffix of the snapshot files.
+     */
+    private static final String SNAPSHOT_SUFFIX = ".dat";
+
+    /**
+     * Suffix of unreadable snapshots moved out of the way.
+     */
+    private static final String CORRUPT_SUFFIX = ".corrupt";
+
+    /**
+     * Suffix of the temporary files.
+     */
+    private static final String TMP_SUFFIX = ".tmp";
+
+    /**
+     * Max time to wait for a running backup.
+     */
+    private static final long FLUSH_TIMEOUT_SECONDS = 300;
+
+    /**
+     * Snapshot nbt tags.
+     */
+    private static final String TAG_FILES    = "files";
+    private static final String TAG_PATH     = "path";
+    private static final String TAG_HASH     = "hash";
+    private static final String TAG_SIZE     = "size";
+    private static final String TAG_MODIFIED = "modified";
+    private static final String TAG_TIME     = "time";
+
+    /**
+     * The single backup thread, keeps backups in order and off the server thread.
+     */
+    private static final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        final Thread thread = new Thread(runnable, "Minecolonies Backup");
+        thread.setDaemon(true);
+        thread.setUncaughtExceptionHandler((thread1, throwable) -> Log.getLogger().error("Minecolonies Backup errored! ", throwable));
+        return thread;
+    });
+
+    /**
+     * Private constructor to hide the implicit one.
+     */
+    private ColonyBackupStore()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Queue a backup of the given files.
+     *
+     * @param saveDir the minecolonies save folder.
+     * @param paths   supplies the paths of the files to back up, relative to the save folder. Called on the backup thread right before the snapshot is taken.
+     * @param date    the time of the backup.
+     */
+    public static void backup(@NotNull final File saveDir, @NotNull final Supplier<List<String>> paths, @NotNull final Date date)
+    {
+        executor.execute(() -> writeSnapshot(saveDir, paths.get(), date));
+    }
+
+    /**
+     * Run a task on the backup thread, after all backups queued so far.
+     *
+     * @param task the task.
+     */
+    public static void execute(@NotNull final Runnable task)
+    {
+        executor.execute(task);
+    }
+
+    /**
+     * Block until queued backups are done, called when the server stopped so the last backup is complete.
+     */
+    public static void flush()
+    {
+        try
+        {
+            executor.submit(() -> {}).get(FLUSH_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        }
+        catch (final InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+        }
+        catch (final ExecutionException | TimeoutException e)
+        {
+            Log.getLogger().error("Waiting for colony backups to finish failed", e);
+        }
+    }
+
+    /**
+     * Find the content of a file in the most recent snapshot containing it. Must run on the backup thread, see {@link #execute(Runnable)}.
+     *
+     * @param saveDir the minecolonies save folder.
+     * @param path    the path of the file, relative to the save folder.
+     * @return the stored content, or null if no snapshot contains the file.
+     */
+    @Nullable
+    public static File findLatest(@NotNull final File saveDir, @NotNull final String path)
+    {
+        final String key = normalize(path);
+        final List<File> snapshots = getSnapshots(saveDir);
+        for (int i = snapshots.size() - 1; i >= 0; i--)
+        {
+            final CompoundNBT snapshot = BackUpHelper.loadNBTFromPath(snapshots.get(i));
+            if (snapshot == null)
+            {
+                continue;
+            }
+
+            for (final CompoundNBT entry : getEntries(snapshot))
+            {
+                if (entry.getString(TAG_PATH).equals(key))
+                {
+                    final File object = getObjectFile(saveDir, entry.getString(TAG_HASH));
+                    if (object.exists())
+                    {
+                        return object;
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Write a snapshot of the given files, runs on the backup thread.
+     *
+     * @param saveDir the minecolonies save folder.
+     * @param paths   the paths of the files, relative to the save folder.
+     * @param date    the time of the backup.
+     */
+    private static void writeSnapshot(@NotNull final File saveDir, @NotNull final List<String> paths, @NotNull final Date date)
+    {
+        // Size and modification time of unchanged files match the last snapshot, their hash can be reused without reading them.
+        final Map<String, CompoundNBT> previous = new HashMap<>();
+        final List<File> snapshots = getSnapshots(saveDir);
+        if (!snapshots.isEmpty())
+        {
+            final CompoundNBT last = BackUpHelper.loadNBTFromPath(snapshots.get(snapshots.size() - 1));
+            if (last != null)
+            {
+                for (final CompoundNBT entry : getEntries(last))
+                {
+                    previous.put(entry.getString(TAG_PATH), entry);
+                }
+            }
+        }
+
+        final ListNBT files = new ListNBT();
+        for (final String path : paths)
+        {
+            final File file = new File(saveDir, path);
+            if (!file.exists())
+            {
+                continue;
+            }
+
+            final String key = normalize(path);
+            final long size = file.length();
+            final long modified = file.lastModified();
+            final CompoundNBT old = previous.get(key);
+
+            final String hash;
+            if (old != null && old.getLong(TAG_SIZE) == size && old.getLong(TAG_MODIFIED) == modified && getObjectFile(saveDir, old.getString(TAG_HASH)).exists())
+            {
+                hash = old.getString(TAG_HASH);
+            }
+            else
+            {
+                hash = storeObject(saveDir, file);
+                if (hash == null)
+                {
+                    continue;
+                }
+            }
+
+            final CompoundNBT entry = new CompoundNBT();
+            entry.putString(TAG_PATH, key);
+            entry.putString(TAG_HASH, hash);
+            entry.putLong(TAG_SIZE, size);
+            entry.putLong(TAG_MODIFIED, modified);
+            files.add(entry);
+        }
+
+        final CompoundNBT snapshot = new CompoundNBT();
+        snapshot.putLong(TAG_TIME, date.getTime());
+        snapshot.put(TAG_FILES, files);
+
+        final String name = String.format(FILENAME_SNAPSHOT, new SimpleDateFormat("yyyy-MM-dd_HH.mm.ss").format(date));
+        if (writeSnapshotFile(new File(new File(new File(saveDir, BACKUP_FOLDER), SNAPSHOT_FOLDER), name), snapshot))
+        {
+            prune(saveDir);
+        }
+    }
+
+    /**
+     * Write a snapshot file through a temporary file, so a crash never leaves a truncated snapshot behind.
+     *
+     * @param file     the snapshot file.
+     * @param snapshot the snapshot.
+     * @return true if it was written.
+     */
+    private static boolean writeSnapshotFile(@NotNull final File file, @NotNull final CompoundNBT snapshot)
+    {
+        final File tmpFile = new File(file.getPath() + TMP_SUFFIX);
+        try
+        {
+            file.getParentFile().mkdirs();
+            try (FileOutputStream stream = new FileOutputStream(tmpFile))
+            {
+                CompressedStreamTools.writeCompressed(snapshot, stream);
+                stream.getFD().sync();
+            }
+
+            try
+            {
+                Files.move(tmpFile.toPath(), file.toPath(), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            }
+            catch (final AtomicMoveNotSupportedException e)
+            {
+                Files.move(tmpFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+            return true;
+        }
+        catch (final IOException e)
+        {
+            Log.getLogger().error("Exception when writing colony backup snapshot " + file, e);
+            tmpFile.delete();
+            return false;
+        }
+    }
+
+    /**
+     * Copy the content of a file into the object folder, unless it is there already.
+     *
+     * @param saveDir the minecolonies save folder.
+     * @param file    the file to store.
+     * @return the hash of the content, or null if the file could not be stored.
+     */
+    @Nullable
+    private static String storeObject(@NotNull final File saveDir, @NotNull final File file)
+    {
+        final File objectDir = new File(new File(saveDir, BACKUP_FOLDER), OBJECT_FOLDER);
+        final File tmpFile = new File(objectDir, file.getName() + TMP_SUFFIX);
+        try
+        {
+            objectDir.mkdirs();
+
+            // Hash while copying, so every changed file is read only once.
+            final String hash;
+            try (HashingInputStream stream = new HashingInputStream(Hashing.sha256(), new FileInputStream(file)))
+            {
+                Files.copy(stream, tmpFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+                hash = stream.hash().toString();
+            }
+
+            final File object = getObjectFile(saveDir, hash);
+            if (object.exists())
+            {
+                Files.delete(tmpFile.toPath());
+            }
+            else
+            {
+                object.getParentFile().mkdirs();
+                Files.move(tmpFile.toPath(), object.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+            return hash;
+        }
+        catch (final IOException e)
+        {
+            Log.getLogger().warn("Error backing up " + file, e);
+            tmpFile.delete();
+            return null;
+        }
+    }
+
+    /**
+     * Delete the snapshots exceeding the configured amount, the objects only they referenced and old zip backups.
+     *
+     * @param saveDir the minecolonies save folder.
+     */
+    private static void prune(@NotNull final File saveDir)
+    {
+        final int maxKept = MineColonies.getConfig().getServer().maxkeptbackups.get();
+
+        final List<File> snapshots = getSnapshots(saveDir);
+        while (snapshots.size() > maxKept)
+        {
+            snapshots.remove(0).delete();
+        }
+
+        final Set<String> referenced = new HashSet<>();
+        for (final File snapshotFile : snapshots)
+        {
+            final CompoundNBT snapshot = BackUpHelper.loadNBTFromPath(snapshotFile);
+            if (snapshot == null)
+            {
+                // Snapshots are written atomically, an unreadable one is damaged. Move it aside so it doesn't keep objects alive forever.
+                Log.getLogger().warn("Colony backup snapshot " + snapshotFile + " is unreadable, moving it aside");
+                final File corrupt = new File(snapshotFile.getPath() + CORRUPT_SUFFIX);
+                corrupt.delete();
+                if (!snapshotFile.renameTo(corrupt))
+                {
+                    snapshotFile.delete();
+                }
+                continue;
+            }
+
+            for (final CompoundNBT entry : getEntries(snapshot))
+            {
+                referenced.add(entry.getString(TAG_HASH));
+            }
+        }
+
+        final File[] buckets = new File(new File(saveDir, BACKUP_FOLDER), OBJECT_FOLDER).listFiles(File::isDirectory);
+        if (buckets != null)
+        {
+            for (final File bucket : buckets)
+            {
+                final File[] objects = bucket.listFiles();
+                if (objects == null)
+                {
+                    continue;
+                }
+
+                for (final File object : objects)
+                {
+                    if (!referenced.contains(object.getName()))
+                    {
+                        object.delete();
+                    }
+                }
+            }
+        }
+
+        pruneZipBackups(saveDir, maxKept);
+    }
+
+    /**
+     * Delete the full zip backups of older versions exceeding the configured amount.
+     *
+     * @param saveDir the minecolonies save folder.
+     * @param maxKept the amount of backups to keep.
+     */
+    private static void pruneZipBackups(@NotNull final File saveDir, final int maxKept)
+    {
+        final String prefix = FILENAME_MINECOLONIES_BACKUP.substring(0, FILENAME_MINECOLONIES_BACKUP.indexOf('%'));
+        final File[] files = saveDir.listFiles(file -> file.isFile() && file.getName().startsWith(prefix));
+        if (files == null || files.length <= maxKept)
+        {
+            return;
+        }
+
+        Arrays.sort(files, Comparator.comparingLong(File::lastModified));
+        for (int i = 0; i < files.length - maxKept; i++)
+        {
+            files[i].delete();
+        }
+    }
+
+    /**
+     * Get all snapshot files, oldest first.
+     *
+     * @param saveDir the minecolonies save folder.
+     * @return the snapshot files.
+     */
+    @NotNull
+    private static List<File> getSnapshots(@NotNull final File saveDir)
+    {
+        final File[] files = new File(new File(saveDir, BACKUP_FOLDER), SNAPSHOT_FOLDER).listFiles(file -> file.isFile() && file.getName().endsWith(SNAPSHOT_SUFFIX));
+        if (files == null)
+        {
+            return new ArrayList<>();
+        }
+
+        // The date format of the names sorts chronologically.
+        final List<File> snapshots = new ArrayList<>(Arrays.asList(files));
+        snapshots.sort(Comparator.comparing(File::getName));
+        return snapshots;
+    }
+
+    /**
+     * Get the file entries of a snapshot.
+     *
+     * @param snapshot the snapshot.
+     * @return the entries.
+     */
+    @NotNull
+    private static List<CompoundNBT> getEntries(@NotNull final CompoundNBT snapshot)
+    {
+        final ListNBT files = snapshot.getList(TAG_FILES, Constants.NBT.TAG_COMPOUND);
+        final List<CompoundNBT> entries = new ArrayList<>(files.size());
+        for (int i = 0; i < files.size(); i++)
+        {
+            entries.add(files.getCompound(i));
+        }
+        return entries;
+    }
+
+    /**
+     * Get the file of a stored content.
+     *
+     * @param saveDir the minecolonies save folder.
+     * @param hash    the hash of the content.
+     * @return the file.
+     */
+    @NotNull
+    private static File getObjectFile(@NotNull final File saveDir, @NotNull final String hash)
+    {
+        return new File(new File(new File(new File(saveDir, BACKUP_FOLDER), OBJECT_FOLDER), hash.substring(0, 2)), hash);
+    }
+
+    /**
+     * Use the same separator in snapshots on every platform.
+     *
+     * @param path the relative path.
+     * @return the normalized path.
+     */
+    @NotNull
+    private static String normalize(@NotNull final String path)
+    {
+        return path.replace(File.separatorChar, '/');
+    }
+}
@@ -0,0 +1,157 @@
+package com.minecolonies.coremod.util;
+
+import com.minecolonies.api.util.Log;
+import net.minecraft.nbt.CompoundNBT;
+import net.minecraft.nbt.CompressedStreamTools;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.concurrent.*;
+
+/**
+ * Writes colony save files on a background thread.
+ * <p>
+ * The NBT snapshots are built on the server thread and handed over here, only compression and disk io happen off thread. Each file is written to a temporary file,
+ * synced to disk and then moved over the old one, so a crash never leaves a half written colony behind. Newer snapshots of a file replace queued older ones.
+ */
+public final class ColonySaveWriter
+{
+    /**
+     * Max time to wait for pending writes when flushing.
+     */
+    private static final long FLUSH_TIMEOUT_SECONDS = 60;
+
+    /**
+     * Suffix of the temporary files.
+     */
+    private static final String TMP_SUFFIX = ".tmp";
+
+    /**
+     * The snapshots waiting to be written, by file.
+     */
+    private static final Map<File, CompoundNBT> pending = new ConcurrentHashMap<>();
+
+    /**
+     * The last snapshot handed over for each file, entries are dropped again when writing them fails.
+     */
+    private static final Map<File, CompoundNBT> lastSaved = new ConcurrentHashMap<>();
+
+    /**
+     * The single writer thread, keeps the writes in order.
+     */
+    private static final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        final Thread thread = new Thread(runnable, "Minecolonies Colony Writer");
+        thread.setDaemon(true);
+        thread.setUncaughtExceptionHandler((thread1, throwable) -> Log.getLogger().error("Minecolonies Colony Writer errored! ", throwable));
+        return thread;
+    });
+
+    /**
+     * Private constructor to hide the implicit one.
+     */
+    private ColonySaveWriter()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Queue a snapshot to be written. Does nothing if the same snapshot was queued for the file before, which happens for colonies which did not change since the
+     * last save. The snapshot must not be modified afterwards.
+     *
+     * @param file     the destination file.
+     * @param compound the snapshot.
+     */
+    public static void save(@NotNull final File file, @NotNull final CompoundNBT compound)
+    {
+        if (lastSaved.get(file) == compound)
+        {
+            return;
+        }
+        lastSaved.put(file, compound);
+
+        if (pending.put(file, compound) == null)
+        {
+            executor.execute(() -> write(file));
+        }
+    }
+
+    /**
+     * Drop a file from the writer, waiting for queued writes to it, so it can be renamed or deleted safely.
+     *
+     * @param file the file.
+     */
+    public static void forget(@NotNull final File file)
+    {
+        lastSaved.remove(file);
+        if (pending.containsKey(file))
+        {
+            flush();
+        }
+    }
+
+    /**
+     * Block until all queued snapshots are on disk.
+     */
+    public static void flush()
+    {
+        try
+        {
+            executor.submit(() -> {}).get(FLUSH_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        }
+        catch (final InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+        }
+        catch (final ExecutionException | TimeoutException e)
+        {
+            Log.getLogger().error("Waiting for colony saves to finish failed", e);
+        }
+    }
+
+    /**
+     * Write the latest snapshot of a file, runs on the writer thread.
+     *
+     * @param file the file.
+     */
+    private static void write(@NotNull final File file)
+    {
+        final CompoundNBT compound = pending.remove(file);
+        if (compound == null)
+        {
+            return;
+        }
+
+        final File tmpFile = new File(file.getPath() + TMP_SUFFIX);
+        try
+        {
+            file.getParentFile().mkdirs();
+            try (FileOutputStream stream = new FileOutputStream(tmpFile))
+            {
+                CompressedStreamTools.writeCompressed(compound, stream);
+                stream.getFD().sync();
+            }
+
+            try
+            {
+                Files.move(tmpFile.toPath(), file.toPath(), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            }
+            catch (final AtomicMoveNotSupportedException e)
+            {
+                Files.move(tmpFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        catch (final IOException e)
+        {
+            Log.getLogger().error("Exception when saving colony to " + file, e);
+            lastSaved.remove(file, compound);
+        }
+    }
+}
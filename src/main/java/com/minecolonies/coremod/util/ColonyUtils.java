@@ -45,6 +45,23 @@ public final class ColonyUtils
         }
 
         blueprint.rotateWithMirror(BlockPosUtil.getRotationFromRotations(rotation), isMirrored ? Mirror.FRONT_BACK : Mirror.NONE, world);
+        return calculateCorners(pos, blueprint);
+    }
+
+    /**
+     * Calculated the corner of a building from an already rotated and mirrored blueprint.
+     *
+     * @param pos       the central position.
+     * @param blueprint the rotated blueprint, may be shared as it is not modified.
+     * @return a tuple with the required corners.
+     */
+    public static Tuple<BlockPos, BlockPos> calculateCorners(final BlockPos pos, final Blueprint blueprint)
+    {
+        if (blueprint == null)
+        {
+            return new Tuple<>(pos, pos);
+        }
+
         final BlockPos zeroPos = pos.subtract(blueprint.getPrimaryBlockOffset());
 
         final BlockPos pos1 = new BlockPos(zeroPos.getX(), zeroPos.getY(), zeroPos.getZ());